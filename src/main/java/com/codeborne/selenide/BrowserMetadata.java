@@ -0,0 +1,73 @@
+package com.codeborne.selenide;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+
+/**
+ * Information about a browser session that doesn't change while the session lives:
+ * browser, capabilities, user agent and JavaScript support.
+ *
+ * User agent and capabilities are requested from webdriver on first demand and then cached.
+ * A new instance should be created whenever webdriver is (re-)created.
+ */
+public class BrowserMetadata {
+  private final Browser browser;
+  private final WebDriver webDriver;
+  private final boolean supportsJavascript;
+  private volatile String userAgent;
+  private volatile Capabilities capabilities;
+
+  public BrowserMetadata(Browser browser, WebDriver webDriver) {
+    this.browser = browser;
+    this.webDriver = webDriver;
+    this.supportsJavascript = webDriver instanceof JavascriptExecutor;
+  }
+
+  public Browser browser() {
+    return browser;
+  }
+
+  public boolean supportsJavascript() {
+    return supportsJavascript;
+  }
+
+  /**
+   * @return true if this metadata describes given webdriver instance
+   */
+  public boolean isFor(WebDriver webDriver) {
+    return this.webDriver == webDriver;
+  }
+
+  public String userAgent() {
+    String result = userAgent;
+    if (result == null) {
+      result = (String) ((JavascriptExecutor) webDriver).executeScript("return navigator.userAgent;");
+      userAgent = result;
+    }
+    return result;
+  }
+
+  /**
+   * @return capabilities of webdriver (or empty capabilities if webdriver doesn't provide them)
+   */
+  public Capabilities capabilities() {
+    Capabilities result = capabilities;
+    if (result == null) {
+      result = readCapabilities(webDriver);
+      capabilities = result;
+    }
+    return result;
+  }
+
+  private static Capabilities readCapabilities(WebDriver webDriver) {
+    WebDriver driver = webDriver;
+    while (!(driver instanceof HasCapabilities) && driver instanceof WrapsDriver) {
+      driver = ((WrapsDriver) driver).getWrappedDriver();
+    }
+    return driver instanceof HasCapabilities ? ((HasCapabilities) driver).getCapabilities() : new ImmutableCapabilities();
+  }
+}
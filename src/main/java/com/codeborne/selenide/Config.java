@@ -18,11 +18,14 @@ public interface Config {
   String baseUrl();
   long timeout();
   long pollingInterval();
+  String pollingStrategy();
   boolean holdBrowserOpen();
   boolean reopenBrowserOnFail();
   boolean clickViaJs();
+  boolean actionsViaJs();
   boolean screenshots();
   boolean savePageSource();
+  boolean deduplicateScreenshots();
   String reportsFolder();
   String reportsUrl();
   boolean fastSetValue();
@@ -30,8 +33,14 @@ public interface Config {
   SelectorMode selectorMode();
   AssertionMode assertionMode();
   FileDownloadMode fileDownload();
+  String downloadsFolder();
   boolean proxyEnabled();
   String proxyHost();
   int proxyPort();
+  int proxyCacheSize();
+  String proxyCacheFolder();
+  boolean sharedProxy();
+  HarCapture harCapture();
+  int harMaxBodySize();
 
 }
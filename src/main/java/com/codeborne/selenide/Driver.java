@@ -5,6 +5,8 @@ import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.interactions.Actions;
 
+import java.io.File;
+
 public interface Driver {
   Config config();
   Browser browser();
@@ -14,8 +16,24 @@ public interface Driver {
   WebDriver getAndCheckWebDriver();
   void close();
 
+  /**
+   * @return cached information about current browser session, or null if webdriver has not been started
+   */
+  default BrowserMetadata metadata() {
+    return hasWebDriverStarted() ? new BrowserMetadata(browser(), getWebDriver()) : null;
+  }
+
+  /**
+   * @return folder where browser saves downloaded files (see {@link FileDownloadMode#FOLDER}),
+   * or null if browser has not been configured to download files to a folder
+   */
+  default File browserDownloadsFolder() {
+    return null;
+  }
+
   default boolean supportsJavascript() {
-    return hasWebDriverStarted() && getWebDriver() instanceof JavascriptExecutor;
+    BrowserMetadata metadata = metadata();
+    return metadata != null && metadata.supportsJavascript();
   }
 
   @SuppressWarnings("unchecked")
@@ -35,7 +53,8 @@ public interface Driver {
   }
 
   default String getUserAgent() {
-    return executeJavaScript("return navigator.userAgent;");
+    BrowserMetadata metadata = metadata();
+    return metadata != null ? metadata.userAgent() : executeJavaScript("return navigator.userAgent;");
   }
 
   default String source() {
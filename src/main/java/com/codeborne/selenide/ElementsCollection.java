@@ -6,9 +6,11 @@ import com.codeborne.selenide.impl.Cleanup;
 import com.codeborne.selenide.impl.CollectionElement;
 import com.codeborne.selenide.impl.CollectionElementByCondition;
 import com.codeborne.selenide.impl.Describe;
+import com.codeborne.selenide.impl.FailureArtifacts;
 import com.codeborne.selenide.impl.FilteringCollection;
 import com.codeborne.selenide.impl.HeadOfCollection;
 import com.codeborne.selenide.impl.LastCollectionElement;
+import com.codeborne.selenide.impl.PollingStrategies;
 import com.codeborne.selenide.impl.SelenideElementIterator;
 import com.codeborne.selenide.impl.SelenideElementListIterator;
 import com.codeborne.selenide.impl.TailOfCollection;
@@ -103,6 +105,7 @@ public class ElementsCollection extends AbstractList<SelenideElement> {
     validateAssertionMode(driver().config());
 
     SelenideLog log = SelenideLogger.beginStep(collection.description(), "should " + prefix, (Object[]) conditions);
+    FailureArtifacts.stepStarted();
     try {
       for (CollectionCondition condition : conditions) {
         waitUntil(condition, timeoutMs);
@@ -117,19 +120,34 @@ public class ElementsCollection extends AbstractList<SelenideElement> {
         case SOFT:
           return this;
         default:
-          throw wrappedError;
+          throw FailureArtifacts.thrown(wrappedError);
       }
     }
     catch (RuntimeException e) {
       SelenideLogger.commitStep(log, e);
       throw e;
     }
+    finally {
+      FailureArtifacts.stepFinished();
+    }
   }
 
   protected void waitUntil(CollectionCondition condition, long timeoutMs) {
+    Stopwatch stopwatch = new Stopwatch(timeoutMs, PollingStrategies.of(driver().config()),
+      () -> collection.description() + " should " + condition.getClass().getSimpleName());
+    boolean satisfied = false;
+    try {
+      waitUntil(condition, stopwatch, timeoutMs);
+      satisfied = true;
+    }
+    finally {
+      stopwatch.finished(satisfied);
+    }
+  }
+
+  private void waitUntil(CollectionCondition condition, Stopwatch stopwatch, long timeoutMs) {
     Exception lastError = null;
     List<WebElement> actualElements = null;
-    Stopwatch stopwatch = new Stopwatch(timeoutMs);
     do {
       try {
         actualElements = collection.getElements();
@@ -154,7 +172,7 @@ public class ElementsCollection extends AbstractList<SelenideElement> {
 
         throw outOfCollection;
       }
-      sleep(driver().config().pollingInterval());
+      sleep(stopwatch.nextDelay(driver().config().pollingInterval()));
     }
     while (!stopwatch.isTimeoutReached());
     condition.fail(collection, actualElements, lastError, timeoutMs);
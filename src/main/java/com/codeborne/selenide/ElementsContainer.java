@@ -1,5 +1,9 @@
 package com.codeborne.selenide;
 
+import com.codeborne.selenide.commands.FillForm;
+
+import java.util.Map;
+
 public abstract class ElementsContainer {
   private SelenideElement self;
 
@@ -14,4 +18,14 @@ public abstract class ElementsContainer {
   public void setSelf(SelenideElement self) {
     this.self = self;
   }
+
+  /**
+   * Fill many fields of this container with a single JavaScript call, retrying only the fields that failed.
+   *
+   * @param fields values by CSS selectors of fields (relative to this container)
+   * @see SelenideDriver#fillForm(Map)
+   */
+  public void fillForm(Map<String, ?> fields) {
+    self.execute(new FillForm(fields));
+  }
 }
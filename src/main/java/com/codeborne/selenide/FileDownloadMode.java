@@ -13,5 +13,13 @@ public enum FileDownloadMode {
    * Works for any elements (e.g. form submission).
    * Doesn't work if you are using custom webdriver without selenide proxy server.
    */
-  PROXY
+  PROXY,
+
+  /**
+   * Download files to a folder of browser (see {@link Config#downloadsFolder()}).
+   * Works for any elements (e.g. form submission) and doesn't need proxy server.
+   * Works only for local Chrome and Firefox: other browsers fail to open with {@link IllegalArgumentException}.
+   * Every browser session gets its own subfolder, which is deleted on close if nothing has been downloaded.
+   */
+  FOLDER
 }
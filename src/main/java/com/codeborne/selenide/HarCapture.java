@@ -0,0 +1,27 @@
+package com.codeborne.selenide;
+
+/**
+ * What Selenide proxy server records to HAR files (see {@link Config#harCapture()})
+ */
+public enum HarCapture {
+  /**
+   * Don't record traffic
+   */
+  NONE,
+
+  /**
+   * Record methods, urls, statuses and timings of requests, without headers and bodies
+   */
+  URLS,
+
+  /**
+   * Record requests and responses with their headers, but without bodies
+   */
+  HEADERS,
+
+  /**
+   * Record requests and responses with headers and bodies.
+   * Text bodies longer than {@link Config#harMaxBodySize()} are truncated, binary bodies are not recorded.
+   */
+  BODIES
+}
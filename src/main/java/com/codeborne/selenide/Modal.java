@@ -2,6 +2,7 @@ package com.codeborne.selenide;
 
 import com.codeborne.selenide.ex.DialogTextMismatch;
 import com.codeborne.selenide.ex.UIAssertionError;
+import com.codeborne.selenide.impl.FailureArtifacts;
 import org.openqa.selenium.Alert;
 
 public class Modal {
@@ -56,7 +57,7 @@ public class Modal {
   private static void checkDialogText(Driver driver, String expectedDialogText, String actualDialogText) {
     if (expectedDialogText != null && !expectedDialogText.equals(actualDialogText)) {
       DialogTextMismatch assertionError = new DialogTextMismatch(driver, actualDialogText, expectedDialogText);
-      throw UIAssertionError.wrap(driver, assertionError, driver.config().timeout());
+      throw FailureArtifacts.thrown(UIAssertionError.wrap(driver, assertionError, driver.config().timeout()));
     }
   }
 }
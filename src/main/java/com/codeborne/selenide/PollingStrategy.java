@@ -0,0 +1,36 @@
+package com.codeborne.selenide;
+
+/**
+ * Decides how long to sleep between checks of a condition (see {@link Config#pollingStrategy()}).
+ *
+ * One instance serves all waits of all threads, so implementations must be thread-safe.
+ * Implementation must have a public no-args constructor.
+ */
+public interface PollingStrategy {
+  /**
+   * @param subject         what is being waited for, e.g. {@code "#login shouldBe visible"}
+   * @param poll            number of the coming sleep within current wait (starting from 1)
+   * @param elapsedMs       time passed since start of the wait (in milliseconds)
+   * @param pollingInterval configured polling interval (in milliseconds)
+   * @return how long to sleep before the next check (in milliseconds)
+   */
+  long nextDelay(String subject, int poll, long elapsedMs, long pollingInterval);
+
+  /**
+   * Called when a wait is over, if it has polled at least once (i.e. the first check was not successful)
+   *
+   * @param subject   what was waited for
+   * @param polls     number of sleeps between checks
+   * @param elapsedMs duration of the wait (in milliseconds)
+   * @param satisfied true if the condition was met, false if the wait failed
+   */
+  default void finished(String subject, int polls, long elapsedMs, boolean satisfied) {
+  }
+
+  /**
+   * @return false if the strategy doesn't use {@code subject}: then it's not computed, and null is passed instead
+   */
+  default boolean usesSubject() {
+    return true;
+  }
+}
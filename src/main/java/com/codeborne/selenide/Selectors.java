@@ -1,5 +1,6 @@
 package com.codeborne.selenide;
 
+import com.codeborne.selenide.impl.TextNodesSelector;
 import org.openqa.selenium.By;
 import org.openqa.selenium.support.ui.Quotes;
 
@@ -32,6 +33,30 @@ public class Selectors {
     return new ByText(elementText);
   }
 
+  /**
+   * Same as {@link #withText(String)}, but evaluated by JavaScript in browser instead of XPath.
+   * It's much faster on pages with many elements.
+   *
+   * @param elementText Text to search inside element
+   * @return selenium By criteria
+   * @see TextNodesSelector
+   */
+  public static By withTextJs(String elementText) {
+    return new WithTextJs(elementText);
+  }
+
+  /**
+   * Same as {@link #byText(String)}, but evaluated by JavaScript in browser instead of XPath.
+   * It's much faster on pages with many elements.
+   *
+   * @param elementText Text that searched element should have
+   * @return selenium By criteria
+   * @see TextNodesSelector
+   */
+  public static By byTextJs(String elementText) {
+    return new ByTextJs(elementText);
+  }
+
   /**
    * Find elements having attribute with given value.
    *
@@ -99,7 +124,7 @@ public class Selectors {
       return "by text: " + elementText;
     }
 
-    String getXPath() {
+    public String getXPath() {
       return super.toString().replace("By.xpath: ", "");
     }
   }
@@ -117,10 +142,33 @@ public class Selectors {
       return "with text: " + elementText;
     }
 
-    String getXPath() {
+    public String getXPath() {
       return super.toString().replace("By.xpath: ", "");
     }
   }
+
+  public static class ByTextJs extends TextNodesSelector {
+    public ByTextJs(String elementText) {
+      super(elementText, true);
+    }
+
+    @Override
+    public String toString() {
+      return "by text: " + elementText;
+    }
+  }
+
+  public static class WithTextJs extends TextNodesSelector {
+    public WithTextJs(String elementText) {
+      super(elementText, false);
+    }
+
+    @Override
+    public String toString() {
+      return "with text: " + elementText;
+    }
+  }
+
   /**
    * @see By#name(java.lang.String)
    * @since 3.1
@@ -24,12 +24,15 @@ public class SelenideConfig implements Config {
   private String baseUrl = System.getProperty("selenide.baseUrl", "http://localhost:8080");
   private long timeout = Long.parseLong(System.getProperty("selenide.timeout", "4000"));
   private long pollingInterval = Long.parseLong(System.getProperty("selenide.pollingInterval", "200"));
+  private String pollingStrategy = System.getProperty("selenide.pollingStrategy", "fixed");
   private boolean holdBrowserOpen = Boolean.getBoolean("selenide.holdBrowserOpen");
   private boolean reopenBrowserOnFail = Boolean.parseBoolean(System.getProperty("selenide.reopenBrowserOnFail", "true"));
   private boolean clickViaJs = Boolean.parseBoolean(System.getProperty("selenide.clickViaJs", "false"));
+  private boolean actionsViaJs = Boolean.parseBoolean(System.getProperty("selenide.actionsViaJs", "false"));
   private boolean screenshots = Boolean.parseBoolean(System.getProperty("selenide.screenshots", "true"));
 
   private boolean savePageSource = Boolean.parseBoolean(System.getProperty("selenide.savePageSource", "true"));
+  private boolean deduplicateScreenshots = Boolean.parseBoolean(System.getProperty("selenide.deduplicateScreenshots", "false"));
   private String reportsFolder = System.getProperty("selenide.reportsFolder", "build/reports/tests");
   private String reportsUrl = new CiReportUrl().getReportsUrl(System.getProperty("selenide.reportsUrl"));
   private boolean fastSetValue = Boolean.parseBoolean(System.getProperty("selenide.fastSetValue", "false"));
@@ -37,9 +40,61 @@ public class SelenideConfig implements Config {
   private SelectorMode selectorMode = CSS;
   private AssertionMode assertionMode = STRICT;
   private FileDownloadMode fileDownload = FileDownloadMode.valueOf(System.getProperty("selenide.fileDownload", HTTPGET.name()));
+  private String downloadsFolder = System.getProperty("selenide.downloadsFolder", "build/downloads");
   private boolean proxyEnabled = Boolean.parseBoolean(System.getProperty("selenide.proxyEnabled", "false"));
   private String proxyHost = System.getProperty("selenide.proxyHost", "");
   private int proxyPort = Integer.parseInt(System.getProperty("selenide.proxyPort", "0"));
+  private int proxyCacheSize = Integer.parseInt(System.getProperty("selenide.proxyCacheSize", "0"));
+  private String proxyCacheFolder = System.getProperty("selenide.proxyCacheFolder", "build/proxy-cache");
+  private boolean sharedProxy = Boolean.parseBoolean(System.getProperty("selenide.sharedProxy", "false"));
+  private HarCapture harCapture = HarCapture.valueOf(System.getProperty("selenide.harCapture", HarCapture.NONE.name()));
+  private int harMaxBodySize = Integer.parseInt(System.getProperty("selenide.harMaxBodySize", "64"));
+
+  /**
+   * @return a new config with the same settings, which can be changed without changing this config
+   */
+  SelenideConfig copy() {
+    SelenideConfig copy = new SelenideConfig();
+    copy.browser = browser;
+    copy.headless = headless;
+    copy.remote = remote;
+    copy.browserSize = browserSize;
+    copy.browserVersion = browserVersion;
+    copy.browserPosition = browserPosition;
+    copy.startMaximized = startMaximized;
+    copy.driverManagerEnabled = driverManagerEnabled;
+    copy.browserBinary = browserBinary;
+    copy.pageLoadStrategy = pageLoadStrategy;
+    copy.browserCapabilities = new DesiredCapabilities(browserCapabilities);
+    copy.baseUrl = baseUrl;
+    copy.timeout = timeout;
+    copy.pollingInterval = pollingInterval;
+    copy.pollingStrategy = pollingStrategy;
+    copy.holdBrowserOpen = holdBrowserOpen;
+    copy.reopenBrowserOnFail = reopenBrowserOnFail;
+    copy.clickViaJs = clickViaJs;
+    copy.actionsViaJs = actionsViaJs;
+    copy.screenshots = screenshots;
+    copy.savePageSource = savePageSource;
+    copy.deduplicateScreenshots = deduplicateScreenshots;
+    copy.reportsFolder = reportsFolder;
+    copy.reportsUrl = reportsUrl;
+    copy.fastSetValue = fastSetValue;
+    copy.versatileSetValue = versatileSetValue;
+    copy.selectorMode = selectorMode;
+    copy.assertionMode = assertionMode;
+    copy.fileDownload = fileDownload;
+    copy.downloadsFolder = downloadsFolder;
+    copy.proxyEnabled = proxyEnabled;
+    copy.proxyHost = proxyHost;
+    copy.proxyPort = proxyPort;
+    copy.proxyCacheSize = proxyCacheSize;
+    copy.proxyCacheFolder = proxyCacheFolder;
+    copy.sharedProxy = sharedProxy;
+    copy.harCapture = harCapture;
+    copy.harMaxBodySize = harMaxBodySize;
+    return copy;
+  }
 
   @Override
   public String baseUrl() {
@@ -71,6 +126,16 @@ public class SelenideConfig implements Config {
     return this;
   }
 
+  @Override
+  public String pollingStrategy() {
+    return pollingStrategy;
+  }
+
+  public SelenideConfig pollingStrategy(String pollingStrategy) {
+    this.pollingStrategy = pollingStrategy;
+    return this;
+  }
+
   @Override
   public boolean holdBrowserOpen() {
     return holdBrowserOpen;
@@ -101,6 +166,16 @@ public class SelenideConfig implements Config {
     return this;
   }
 
+  @Override
+  public boolean actionsViaJs() {
+    return actionsViaJs;
+  }
+
+  public SelenideConfig actionsViaJs(boolean actionsViaJs) {
+    this.actionsViaJs = actionsViaJs;
+    return this;
+  }
+
   @Override
   public boolean screenshots() {
     return screenshots;
@@ -121,6 +196,16 @@ public class SelenideConfig implements Config {
     return this;
   }
 
+  @Override
+  public boolean deduplicateScreenshots() {
+    return deduplicateScreenshots;
+  }
+
+  public SelenideConfig deduplicateScreenshots(boolean deduplicateScreenshots) {
+    this.deduplicateScreenshots = deduplicateScreenshots;
+    return this;
+  }
+
   @Override
   public String reportsFolder() {
     return reportsFolder;
@@ -191,6 +276,16 @@ public class SelenideConfig implements Config {
     return this;
   }
 
+  @Override
+  public String downloadsFolder() {
+    return downloadsFolder;
+  }
+
+  public SelenideConfig downloadsFolder(String downloadsFolder) {
+    this.downloadsFolder = downloadsFolder;
+    return this;
+  }
+
   @Override
   public boolean proxyEnabled() {
     return proxyEnabled;
@@ -221,6 +316,56 @@ public class SelenideConfig implements Config {
     return this;
   }
 
+  @Override
+  public int proxyCacheSize() {
+    return proxyCacheSize;
+  }
+
+  public SelenideConfig proxyCacheSize(int proxyCacheSize) {
+    this.proxyCacheSize = proxyCacheSize;
+    return this;
+  }
+
+  @Override
+  public String proxyCacheFolder() {
+    return proxyCacheFolder;
+  }
+
+  public SelenideConfig proxyCacheFolder(String proxyCacheFolder) {
+    this.proxyCacheFolder = proxyCacheFolder;
+    return this;
+  }
+
+  @Override
+  public boolean sharedProxy() {
+    return sharedProxy;
+  }
+
+  public SelenideConfig sharedProxy(boolean sharedProxy) {
+    this.sharedProxy = sharedProxy;
+    return this;
+  }
+
+  @Override
+  public HarCapture harCapture() {
+    return harCapture;
+  }
+
+  public SelenideConfig harCapture(HarCapture harCapture) {
+    this.harCapture = harCapture;
+    return this;
+  }
+
+  @Override
+  public int harMaxBodySize() {
+    return harMaxBodySize;
+  }
+
+  public SelenideConfig harMaxBodySize(int harMaxBodySize) {
+    this.harMaxBodySize = harMaxBodySize;
+    return this;
+  }
+
   @Override
   public String browser() {
     return browser;
@@ -5,6 +5,8 @@ import com.codeborne.selenide.drivercommands.Navigator;
 import com.codeborne.selenide.drivercommands.WebDriverWrapper;
 import com.codeborne.selenide.impl.DownloadFileWithHttpRequest;
 import com.codeborne.selenide.impl.ElementFinder;
+import com.codeborne.selenide.impl.FormFiller;
+import com.codeborne.selenide.impl.PollingStrategies;
 import com.codeborne.selenide.impl.SelenidePageFactory;
 import com.codeborne.selenide.proxy.SelenideProxyServer;
 import org.openqa.selenium.By;
@@ -12,11 +14,13 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.events.WebDriverEventListener;
 
+import javax.annotation.Nullable;
 import java.io.File;
 import java.io.IOException;
 import java.net.URL;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import static com.codeborne.selenide.impl.WebElementWrapper.wrap;
 import static java.util.Collections.emptyList;
@@ -171,7 +175,7 @@ public class SelenideDriver {
   }
 
   public SelenideWait Wait() {
-    return new SelenideWait(getWebDriver(), config().timeout(), config().pollingInterval());
+    return new SelenideWait(getWebDriver(), config().timeout(), config().pollingInterval(), PollingStrategies.of(config()));
   }
 
   public void zoom(double factor) {
@@ -242,6 +246,16 @@ public class SelenideDriver {
     return findAll(criteria);
   }
 
+  /**
+   * Elements inside given (nested) frames: browser is switched to the frames only when needed
+   *
+   * @param frames ids/names of frames, starting from the top-level document (none for the top-level document itself)
+   * @see SelenideFrame
+   */
+  public SelenideFrame inFrame(String... frames) {
+    return new SelenideFrame(driver(), frames);
+  }
+
   public SelenideElement getSelectedRadio(By radioField) {
     for (WebElement radio : $$(radioField)) {
       if (radio.getAttribute("checked") != null) {
@@ -251,6 +265,17 @@ public class SelenideDriver {
     return null;
   }
 
+  /**
+   * Fill many form fields with a single JavaScript call, retrying only the fields that failed.
+   * Text is then typed into text fields, or set by the same JavaScript call if {@link Config#fastSetValue()} is enabled.
+   *
+   * @param fields values by CSS selectors of fields (see {@link FormFiller} for supported values)
+   * @throws com.codeborne.selenide.ex.FieldsNotFilled if some fields could not be filled during timeout
+   */
+  public void fillForm(Map<String, ?> fields) {
+    new FormFiller(driver(), fields).fill(config().timeout(), config().pollingInterval());
+  }
+
   public Modal modal() {
     return new Modal(driver());
   }
@@ -287,6 +312,32 @@ public class SelenideDriver {
     return driver().getUserAgent();
   }
 
+  /**
+   * Wait until browser has no pending requests during {@code quietPeriod} milliseconds.
+   * Requires proxy to be enabled: requests are tracked by Selenide proxy server.
+   *
+   * @throws org.openqa.selenium.TimeoutException if network has not become idle during {@code timeout} milliseconds
+   */
+  public void waitForNetworkIdle(long quietPeriod, long timeout) {
+    waitForNetworkIdle(quietPeriod, timeout, null, null);
+  }
+
+  /**
+   * Wait until browser has no pending requests during {@code quietPeriod} milliseconds,
+   * taking into account only requests with urls matching {@code includeUrls} and not matching {@code excludeUrls}
+   *
+   * @param includeUrls regular expression to search in url, or null to track all requests
+   * @param excludeUrls regular expression to search in url, e.g. to ignore long-polling requests, or null
+   * @see SelenideProxyServer#waitForNetworkIdle(long, long, String, String)
+   */
+  public void waitForNetworkIdle(long quietPeriod, long timeout, @Nullable String includeUrls, @Nullable String excludeUrls) {
+    SelenideProxyServer proxy = getProxy();
+    if (proxy == null) {
+      throw new IllegalStateException("Cannot wait for network idle: proxy server is not enabled. Setup proxyEnabled");
+    }
+    proxy.waitForNetworkIdle(quietPeriod, timeout, includeUrls, excludeUrls);
+  }
+
   public File download(String url) throws IOException {
     return download(url, config.timeout());
   }
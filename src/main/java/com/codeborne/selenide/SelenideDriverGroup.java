@@ -0,0 +1,243 @@
+package com.codeborne.selenide;
+
+import com.codeborne.selenide.logevents.LogEventListener;
+import com.codeborne.selenide.logevents.SelenideLogger;
+
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Runs the same scenario in several browsers at once.
+ *
+ * <p>Sample:</p>
+ * <pre>{@code
+ * try (SelenideDriverGroup browsers = new SelenideDriverGroup(
+ *        new SelenideConfig().browser("chrome"), new SelenideConfig().browser("firefox"))) {
+ *   browsers.run(browser -> {
+ *     browser.open("/login");
+ *     browser.$("#username").shouldBe(visible);
+ *   });
+ * }
+ * }</pre>
+ *
+ * Every browser has its own {@link SelenideDriver} with a copy of its config (given configs are not changed).
+ * Reports (screenshots etc.) of every browser are saved to a separate subfolder of its {@link Config#reportsFolder()}.
+ *
+ * Scenarios are executed in parallel threads, but not more than the number of available processors.
+ * {@link SelenideLogger} listeners are bound to a thread, so listeners added in the test thread don't get events of
+ * the scenarios. Use {@link #addListener(String, Supplier)} to add a separate listener for every browser.
+ */
+public class SelenideDriverGroup implements Closeable {
+  private static final AtomicInteger groupCounter = new AtomicInteger();
+
+  private final Map<String, SelenideDriver> drivers;
+  private final Map<String, Supplier<? extends LogEventListener>> listeners = new LinkedHashMap<>();
+  private final ExecutorService executor;
+
+  public SelenideDriverGroup(SelenideConfig... configs) {
+    this(asList(configs), Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * @param maxParallel max number of scenarios executed at the same time
+   */
+  public SelenideDriverGroup(List<SelenideConfig> configs, int maxParallel) {
+    this(drivers(configs), maxParallel);
+  }
+
+  SelenideDriverGroup(Map<String, SelenideDriver> drivers, int maxParallel) {
+    if (drivers.isEmpty()) {
+      throw new IllegalArgumentException("No browsers given");
+    }
+    if (maxParallel < 1) {
+      throw new IllegalArgumentException("Max number of parallel scenarios should be positive, but was: " + maxParallel);
+    }
+    this.drivers = drivers;
+    this.executor = executor(Math.min(drivers.size(), maxParallel));
+  }
+
+  private static Map<String, SelenideDriver> drivers(List<SelenideConfig> configs) {
+    Map<String, Integer> browsers = new HashMap<>();
+    for (SelenideConfig config : configs) {
+      browsers.merge(config.browser(), 1, Integer::sum);
+    }
+
+    Map<String, SelenideDriver> drivers = new LinkedHashMap<>();
+    for (SelenideConfig config : configs) {
+      String name = browsers.get(config.browser()) == 1 ? config.browser() : config.browser() + "-" + (drivers.size() + 1);
+      drivers.put(name, new SelenideDriver(config.copy().reportsFolder(config.reportsFolder() + File.separator + name)));
+    }
+    return drivers;
+  }
+
+  private static ExecutorService executor(int threads) {
+    int group = groupCounter.incrementAndGet();
+    AtomicInteger threadCounter = new AtomicInteger();
+    return Executors.newFixedThreadPool(threads, runnable -> {
+      Thread thread = new Thread(runnable, "selenide-group-" + group + "-" + threadCounter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * @return browsers of this group by their names (browser name, with index if the same browser is used more than once)
+   */
+  public Map<String, SelenideDriver> drivers() {
+    return drivers;
+  }
+
+  /**
+   * Add a {@link SelenideLogger} listener to every scenario: {@code listener} is called once per browser and scenario
+   *
+   * @param name unique name of listener
+   */
+  public SelenideDriverGroup addListener(String name, Supplier<? extends LogEventListener> listener) {
+    listeners.put(name, listener);
+    return this;
+  }
+
+  /**
+   * Execute the scenario in all browsers and wait until all of them are finished
+   *
+   * @throws AssertionError if the scenario has failed in some of browsers (with all the failures)
+   */
+  public void run(Consumer<SelenideDriver> scenario) {
+    List<Result> failures = new ArrayList<>();
+    for (Result result : runAll(scenario)) {
+      if (!result.isPassed()) failures.add(result);
+    }
+    if (failures.isEmpty()) return;
+
+    StringBuilder message = new StringBuilder();
+    message.append("Scenario failed in ").append(failures.size()).append(" of ").append(drivers.size()).append(" browsers:");
+    for (Result failure : failures) {
+      message.append("\n\n").append(failure);
+    }
+    AssertionError error = new AssertionError(message.toString(), failures.get(0).error());
+    for (Result failure : failures.subList(1, failures.size())) {
+      error.addSuppressed(failure.error());
+    }
+    throw error;
+  }
+
+  /**
+   * Execute the scenario in all browsers and wait until all of them are finished
+   *
+   * @return results in the same order as browsers (the scenario errors are not thrown)
+   */
+  public List<Result> runAll(Consumer<SelenideDriver> scenario) {
+    List<Future<Result>> futures = new ArrayList<>(drivers.size());
+    for (Map.Entry<String, SelenideDriver> driver : drivers.entrySet()) {
+      futures.add(executor.submit(() -> execute(driver.getKey(), driver.getValue(), scenario)));
+    }
+
+    List<Result> results = new ArrayList<>(futures.size());
+    try {
+      for (Future<Result> future : futures) {
+        results.add(future.get());
+      }
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      futures.forEach(future -> future.cancel(true));
+      throw new RuntimeException(e);
+    }
+    catch (ExecutionException e) {
+      throw new RuntimeException(e.getCause());
+    }
+    return unmodifiableList(results);
+  }
+
+  private Result execute(String name, SelenideDriver driver, Consumer<SelenideDriver> scenario) {
+    long start = System.currentTimeMillis();
+    try {
+      for (Map.Entry<String, Supplier<? extends LogEventListener>> listener : listeners.entrySet()) {
+        SelenideLogger.addListener(listener.getKey(), listener.getValue().get());
+      }
+      scenario.accept(driver);
+      return new Result(name, driver, null, System.currentTimeMillis() - start);
+    }
+    catch (RuntimeException | AssertionError e) {
+      return new Result(name, driver, e, System.currentTimeMillis() - start);
+    }
+    finally {
+      SelenideLogger.removeAllListeners();
+    }
+  }
+
+  /**
+   * Close all browsers of the group
+   */
+  @Override
+  public void close() {
+    executor.shutdownNow();
+    for (SelenideDriver driver : drivers.values()) {
+      driver.close();
+    }
+  }
+
+  /**
+   * Result of the scenario in one browser
+   */
+  public static class Result {
+    private final String name;
+    private final SelenideDriver driver;
+    private final Throwable error;
+    private final long durationMs;
+
+    Result(String name, SelenideDriver driver, @Nullable Throwable error, long durationMs) {
+      this.name = name;
+      this.driver = driver;
+      this.error = error;
+      this.durationMs = durationMs;
+    }
+
+    public String name() {
+      return name;
+    }
+
+    public SelenideDriver driver() {
+      return driver;
+    }
+
+    /**
+     * @return the error thrown by the scenario, or null if it has passed
+     */
+    @Nullable
+    public Throwable error() {
+      return error;
+    }
+
+    public long durationMs() {
+      return durationMs;
+    }
+
+    public boolean isPassed() {
+      return error == null;
+    }
+
+    @Override
+    public String toString() {
+      return error == null ?
+        String.format("%s: passed in %s ms", name, durationMs) :
+        String.format("%s: failed in %s ms: %s", name, durationMs, error);
+    }
+  }
+}
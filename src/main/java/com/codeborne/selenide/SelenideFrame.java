@@ -0,0 +1,96 @@
+package com.codeborne.selenide;
+
+import com.codeborne.selenide.impl.BySelectorCollection;
+import com.codeborne.selenide.impl.ElementFinder;
+import com.codeborne.selenide.impl.FrameSwitcher;
+import org.openqa.selenium.By;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Elements inside given (nested) frames.
+ *
+ * Unlike {@link SelenideTargetLocator#innerFrame(String...)}, elements remember their frames:
+ * browser is switched to the frames right before searching the element, and only if it's not there yet.
+ * So, repeated actions with elements of the same frame don't switch frames at all,
+ * and elements of different frames can be used in any order.
+ *
+ * <p>Sample: {@code inFrame("editor", "preview").$("h1").shouldHave(text("Hello"));}</p>
+ *
+ * Elements found by {@code $()} (without frame) are searched in the top-level document even after using elements of a frame:
+ * browser is switched back from the frame right before searching them. Frames entered explicitly
+ * via {@link #switchTo()} or {@link SelenideTargetLocator#innerFrame(String...)} are not left automatically.
+ */
+public class SelenideFrame {
+  private final Driver driver;
+  private final List<String> path;
+
+  SelenideFrame(Driver driver, String... frames) {
+    this.driver = driver;
+    this.path = unmodifiableList(new ArrayList<>(asList(frames)));
+  }
+
+  /**
+   * @return ids/names of frames, starting from the top-level document
+   */
+  public List<String> path() {
+    return path;
+  }
+
+  /**
+   * Frame inside this frame
+   */
+  public SelenideFrame frame(String... frames) {
+    List<String> nested = new ArrayList<>(path);
+    nested.addAll(asList(frames));
+    return new SelenideFrame(driver, nested.toArray(new String[0]));
+  }
+
+  public SelenideElement $(String cssSelector) {
+    return $(By.cssSelector(cssSelector));
+  }
+
+  public SelenideElement $(String cssSelector, int index) {
+    return $(By.cssSelector(cssSelector), index);
+  }
+
+  public SelenideElement $x(String xpathExpression) {
+    return $(By.xpath(xpathExpression));
+  }
+
+  public SelenideElement $(By seleniumSelector) {
+    return $(seleniumSelector, 0);
+  }
+
+  public SelenideElement $(By seleniumSelector, int index) {
+    return ElementFinder.wrapInFrame(driver, path, seleniumSelector, index);
+  }
+
+  public ElementsCollection $$(String cssSelector) {
+    return $$(By.cssSelector(cssSelector));
+  }
+
+  public ElementsCollection $$x(String xpathExpression) {
+    return $$(By.xpath(xpathExpression));
+  }
+
+  public ElementsCollection $$(By seleniumSelector) {
+    return new ElementsCollection(new BySelectorCollection(driver, path, null, seleniumSelector));
+  }
+
+  /**
+   * Switch browser to this frame (if it's not there yet)
+   */
+  public void switchTo() {
+    FrameSwitcher.of(driver.getWebDriver()).switchTo(path);
+  }
+
+  @Override
+  public String toString() {
+    return "frame " + path;
+  }
+}
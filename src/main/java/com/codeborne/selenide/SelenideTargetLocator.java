@@ -1,5 +1,8 @@
 package com.codeborne.selenide;
 
+import com.codeborne.selenide.impl.FrameSwitcher;
+import com.codeborne.selenide.impl.PollingStrategies;
+import com.codeborne.selenide.impl.WindowRegistry;
 import org.openqa.selenium.Alert;
 import org.openqa.selenium.By;
 import org.openqa.selenium.InvalidArgumentException;
@@ -14,10 +17,9 @@ import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedCondition;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 
+import static java.util.Arrays.asList;
 import static org.openqa.selenium.support.ui.ExpectedConditions.alertIsPresent;
 import static org.openqa.selenium.support.ui.ExpectedConditions.frameToBeAvailableAndSwitchToIt;
 
@@ -34,6 +36,7 @@ public class SelenideTargetLocator implements TargetLocator {
 
   @Override
   public WebDriver frame(int index) {
+    frames().reset();
     try {
       return Wait().until(frameToBeAvailableAndSwitchToIt(index));
     } catch (NoSuchElementException | TimeoutException e) {
@@ -47,6 +50,7 @@ public class SelenideTargetLocator implements TargetLocator {
 
   @Override
   public WebDriver frame(String nameOrId) {
+    frames().reset();
     try {
       return Wait().until(frameToBeAvailableAndSwitchToIt(nameOrId));
     } catch (NoSuchElementException | TimeoutException e) {
@@ -58,6 +62,7 @@ public class SelenideTargetLocator implements TargetLocator {
 
   @Override
   public WebDriver frame(WebElement frameElement) {
+    frames().reset();
     try {
       return Wait().until(frameToBeAvailableAndSwitchToIt(frameElement));
     } catch (NoSuchElementException | TimeoutException e) {
@@ -77,12 +82,15 @@ public class SelenideTargetLocator implements TargetLocator {
 
   @Override
   public WebDriver parentFrame() {
+    frames().reset();
     return delegate.parentFrame();
   }
 
   @Override
   public WebDriver defaultContent() {
-    return delegate.defaultContent();
+    WebDriver result = delegate.defaultContent();
+    frames().switchedToDefaultContent();
+    return result;
   }
 
   @Override
@@ -103,18 +111,19 @@ public class SelenideTargetLocator implements TargetLocator {
    * Switch to the inner frame (last child frame in given sequence)
    */
   public WebDriver innerFrame(String... frames) {
+    frames().reset();
     delegate.defaultContent();
 
     for (String frame : frames) {
       try {
-        String selector = String.format("frame#%1$s,frame[name=%1$s],iframe#%1$s,iframe[name=%1$s]", frame);
-        Wait().until(frameToBeAvailableAndSwitchToIt_fixed(By.cssSelector(selector)));
+        Wait().until(frameToBeAvailableAndSwitchToIt_fixed(FrameSwitcher.frameSelector(frame)));
       }
       catch (NoSuchElementException | TimeoutException e) {
         throw new NoSuchFrameException("No frame found with id/name = " + frame, e);
       }
     }
 
+    frames().switchedTo(asList(frames));
     return webDriver;
   }
 
@@ -138,15 +147,22 @@ public class SelenideTargetLocator implements TargetLocator {
     };
   }
 
+  /**
+   * Titles of all windows are re-read on the 1st, 2nd, 4th, 8th... poll (in case they have changed after loading),
+   * other polls use cached titles.
+   */
   private static ExpectedCondition<WebDriver> windowToBeAvailableAndSwitchToIt(String nameOrHandleOrTitle) {
     return new ExpectedCondition<WebDriver>() {
+      private int polls;
+
       @Override
       public WebDriver apply(WebDriver driver) {
+        polls++;
         try {
           return driver.switchTo().window(nameOrHandleOrTitle);
         } catch (NoSuchWindowException windowWithNameOrHandleNotFound) {
           try {
-            return windowByTitle(driver, nameOrHandleOrTitle);
+            return windowByTitle(driver, nameOrHandleOrTitle, (polls & (polls - 1)) == 0);
           } catch (NoSuchWindowException e) {
             return null;
           }
@@ -165,7 +181,7 @@ public class SelenideTargetLocator implements TargetLocator {
       @Override
       public WebDriver apply(WebDriver driver) {
         try {
-          List<String> windowHandles = new ArrayList<>(driver.getWindowHandles());
+          List<String> windowHandles = WindowRegistry.of(driver).handles();
           return driver.switchTo().window(windowHandles.get(index));
         } catch (IndexOutOfBoundsException windowWithIndexNotFound) {
           return null;
@@ -186,7 +202,9 @@ public class SelenideTargetLocator implements TargetLocator {
    */
   public WebDriver window(int index) {
     try {
-      return Wait().until(windowToBeAvailableAndSwitchToIt(index));
+      WebDriver result = Wait().until(windowToBeAvailableAndSwitchToIt(index));
+      frames().switchedToDefaultContent();
+      return result;
     }
     catch (TimeoutException e) {
       throw new NoSuchWindowException("No window found with index: " + index, e);
@@ -200,29 +218,44 @@ public class SelenideTargetLocator implements TargetLocator {
   @Override
   public WebDriver window(String nameOrHandleOrTitle) {
     try {
-      return Wait().until(windowToBeAvailableAndSwitchToIt(nameOrHandleOrTitle));
+      WebDriver result = Wait().until(windowToBeAvailableAndSwitchToIt(nameOrHandleOrTitle));
+      frames().switchedToDefaultContent();
+      return result;
     } catch (TimeoutException e) {
+      if (WindowRegistry.of(webDriver).switchToWindowWithTitle(nameOrHandleOrTitle, true)) {
+        frames().switchedToDefaultContent();
+        return webDriver;
+      }
       throw new NoSuchWindowException("No window found with name or handle or title: " + nameOrHandleOrTitle, e);
     }
   }
 
   /**
-   * Switch to window/tab by name/handle/title except some windows handles
+   * Switch to window/tab by title.
+   * Titles of windows are cached (see {@link WindowRegistry}), so it doesn't switch to every window on every call.
+   * If window is not found, focus stays on the current window.
+   *
    * @param title title of window/tab
    */
   protected static WebDriver windowByTitle(WebDriver driver, String title) {
-    Set<String> windowHandles = driver.getWindowHandles();
+    return windowByTitle(driver, title, false);
+  }
 
-    for (String windowHandle : windowHandles) {
-      driver.switchTo().window(windowHandle);
-      if (title.equals(driver.getTitle())) {
-        return driver;
-      }
+  /**
+   * @param fullScan if true, re-read titles of all windows (they might have changed after loading)
+   */
+  private static WebDriver windowByTitle(WebDriver driver, String title, boolean fullScan) {
+    if (WindowRegistry.of(driver).switchToWindowWithTitle(title, fullScan)) {
+      return driver;
     }
     throw new NoSuchWindowException("Window with title not found: " + title);
   }
 
+  private FrameSwitcher frames() {
+    return FrameSwitcher.of(webDriver);
+  }
+
   private SelenideWait Wait() {
-    return new SelenideWait(webDriver, config.timeout(), config.pollingInterval());
+    return new SelenideWait(webDriver, config.timeout(), config.pollingInterval(), PollingStrategies.of(config));
   }
 }
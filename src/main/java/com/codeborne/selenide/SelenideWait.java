@@ -2,14 +2,74 @@ package com.codeborne.selenide;
 
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.ui.FluentWait;
+import org.openqa.selenium.support.ui.Sleeper;
 
+import javax.annotation.Nullable;
+import java.time.Clock;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.function.Function;
 
 public class SelenideWait extends FluentWait<WebDriver> {
+  private final long timeout;
+  private final PollingStrategy polling;
+  private final PollingSleeper sleeper;
+
   public SelenideWait(WebDriver input, long timeout, long pollingInterval) {
-    super(input);
+    this(input, timeout, pollingInterval, null);
+  }
+
+  /**
+   * @param polling decides how long to sleep between checks (if null, sleeps {@code pollingInterval})
+   */
+  public SelenideWait(WebDriver input, long timeout, long pollingInterval, @Nullable PollingStrategy polling) {
+    this(input, timeout, pollingInterval, polling, new PollingSleeper(pollingInterval));
+  }
+
+  private SelenideWait(WebDriver input, long timeout, long pollingInterval, PollingStrategy polling, PollingSleeper sleeper) {
+    super(input, Clock.systemDefaultZone(), sleeper);
+    this.timeout = timeout;
+    this.polling = polling;
+    this.sleeper = sleeper;
     withTimeout(Duration.of(timeout, ChronoUnit.MILLIS));
     pollingEvery(Duration.of(pollingInterval, ChronoUnit.MILLIS));
   }
+
+  @Override
+  public <V> V until(Function<? super WebDriver, V> isTrue) {
+    if (polling == null) {
+      return super.until(isTrue);
+    }
+    Stopwatch stopwatch = new Stopwatch(timeout, polling, isTrue::toString);
+    sleeper.stopwatch.set(stopwatch);
+    boolean satisfied = false;
+    try {
+      V result = super.until(isTrue);
+      satisfied = true;
+      return result;
+    }
+    finally {
+      sleeper.stopwatch.remove();
+      stopwatch.finished(satisfied);
+    }
+  }
+
+  /**
+   * Asks the polling strategy of the current wait how long to sleep.
+   * FluentWait always passes its fixed polling interval to the sleeper, so the interval is ignored here.
+   */
+  private static class PollingSleeper implements Sleeper {
+    private final ThreadLocal<Stopwatch> stopwatch = new ThreadLocal<>();
+    private final long pollingInterval;
+
+    private PollingSleeper(long pollingInterval) {
+      this.pollingInterval = pollingInterval;
+    }
+
+    @Override
+    public void sleep(Duration duration) throws InterruptedException {
+      Stopwatch current = stopwatch.get();
+      Thread.sleep(current == null ? duration.toMillis() : current.nextDelay(pollingInterval));
+    }
+  }
 }
@@ -1,25 +1,98 @@
 package com.codeborne.selenide;
 
+import com.codeborne.selenide.impl.PollingStatistics;
+
+import java.util.function.Supplier;
+
 import static java.lang.System.nanoTime;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 public class Stopwatch {
+  private final long startTimeNano;
   private final long endTimeNano;
+  private final PollingStrategy polling;
+  private final Supplier<String> subjectSupplier;
+  private String subject;
+  private int polls;
 
   public Stopwatch(long timeoutMs) {
-    this.endTimeNano = nanoTime() + MILLISECONDS.toNanos(timeoutMs);
+    this(timeoutMs, null, (Supplier<String>) null);
+  }
+
+  /**
+   * @param polling decides how long {@link #sleep(long)} sleeps
+   * @param subject what is being waited for (passed to {@code polling})
+   */
+  public Stopwatch(long timeoutMs, PollingStrategy polling, String subject) {
+    this(timeoutMs, polling, () -> subject);
+  }
+
+  /**
+   * @param polling decides how long {@link #sleep(long)} sleeps
+   * @param subject what is being waited for: computed only if {@code polling} uses it
+   *                (see {@link PollingStrategy#usesSubject()})
+   */
+  public Stopwatch(long timeoutMs, PollingStrategy polling, Supplier<String> subject) {
+    this.startTimeNano = nanoTime();
+    this.endTimeNano = startTimeNano + MILLISECONDS.toNanos(timeoutMs);
+    this.polling = polling;
+    this.subjectSupplier = subject;
   }
 
   public boolean isTimeoutReached() {
     return nanoTime() > endTimeNano;
   }
 
+  /**
+   * Sleep before the next check.
+   * If the stopwatch has a polling strategy, it decides how long to sleep (but not after the timeout).
+   *
+   * @param milliseconds configured polling interval
+   */
   public void sleep(long milliseconds) {
     try {
-      Thread.sleep(milliseconds);
+      Thread.sleep(nextDelay(milliseconds));
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
       throw new RuntimeException(e);
     }
   }
+
+  /**
+   * @param pollingInterval configured polling interval
+   * @return how long to sleep before the next check
+   */
+  public long nextDelay(long pollingInterval) {
+    if (polling == null) return pollingInterval;
+
+    polls++;
+    long delay = polling.nextDelay(subject(), polls, elapsedMs(), pollingInterval);
+    return Math.max(0, Math.min(delay, NANOSECONDS.toMillis(endTimeNano - nanoTime()) + 1));
+  }
+
+  /**
+   * Report end of the wait to the polling strategy and to {@link PollingStatistics},
+   * but only if the wait has polled (i.e. the first check was not successful):
+   * checks successful at once say nothing about how long the condition takes.
+   *
+   * @param satisfied true if the condition was met, false if the wait failed
+   */
+  public void finished(boolean satisfied) {
+    if (polling != null && polls > 0) {
+      polling.finished(subject(), polls, elapsedMs(), satisfied);
+      PollingStatistics.getInstance().record(polls, satisfied);
+    }
+  }
+
+  private String subject() {
+    if (subject == null && subjectSupplier != null && polling.usesSubject()) {
+      subject = subjectSupplier.get();
+    }
+    return subject;
+  }
+
+  private long elapsedMs() {
+    return NANOSECONDS.toMillis(nanoTime() - startTimeNano);
+  }
 }
@@ -5,10 +5,14 @@ import org.openqa.selenium.logging.LogEntry;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Level;
+import java.util.regex.Pattern;
 
 import static java.util.Collections.emptyList;
 
 public class WebDriverLogs {
+  public static final int DEFAULT_COLLECTOR_CAPACITY = 10_000;
+  public static final long DEFAULT_COLLECTOR_INTERVAL_MS = 1000;
+
   private final Driver driver;
 
   WebDriverLogs(Driver driver) {
@@ -23,6 +27,67 @@ public class WebDriverLogs {
     return listToString(getLogEntries(logType, logLevel));
   }
 
+  /**
+   * Start collecting logs of given type.
+   * Same as {@link #startCollecting(String, Level, Pattern, int, long)} with default capacity and interval.
+   */
+  public WebDriverLogsCollector startCollecting(String logType, Level logLevel) {
+    return startCollecting(logType, logLevel, null);
+  }
+
+  /**
+   * Same as {@link #startCollecting(String, Level, Pattern, int, long)} with default capacity and interval.
+   */
+  public WebDriverLogsCollector startCollecting(String logType, Level logLevel, Pattern pattern) {
+    return startCollecting(logType, logLevel, pattern, DEFAULT_COLLECTOR_CAPACITY, DEFAULT_COLLECTOR_INTERVAL_MS);
+  }
+
+  /**
+   * Start collecting logs of given type.
+   * Logs are drained in background thread, see {@link WebDriverLogsCollector}.
+   * Only one collector per webdriver and log type is started: if it's already running, the running one is returned.
+   *
+   * <pre>
+   *   getWebDriverLogs().startCollecting(LogType.BROWSER, Level.WARNING, Pattern.compile("Uncaught"));
+   *   ...
+   *   List&lt;String&gt; errors = getWebDriverLogs().collected(LogType.BROWSER);
+   * </pre>
+   *
+   * @param logType type of logs, e.g. {@link org.openqa.selenium.logging.LogType#BROWSER}
+   * @param logLevel minimal level of collected entries
+   * @param pattern if not null, only entries with messages containing this pattern are collected
+   * @param capacity max number of collected entries (the oldest entries are dropped)
+   * @param intervalMs how often webdriver logs are drained (must be positive)
+   */
+  public WebDriverLogsCollector startCollecting(String logType, Level logLevel, Pattern pattern, int capacity, long intervalMs) {
+    return WebDriverLogsCollector.start(driver.getWebDriver(), logType, logLevel, pattern, capacity, intervalMs);
+  }
+
+  /**
+   * Drains new entries and returns all entries collected so far
+   * (see {@link #startCollecting(String, Level, Pattern, int, long)}),
+   * or empty list if logs of given type are not collected.
+   */
+  public List<String> collected(String logType) {
+    WebDriverLogsCollector collector = findCollector(logType);
+    if (collector == null) {
+      return emptyList();
+    }
+    collector.drain();
+    return collector.logs();
+  }
+
+  public void stopCollecting(String logType) {
+    WebDriverLogsCollector collector = findCollector(logType);
+    if (collector != null) {
+      collector.stop();
+    }
+  }
+
+  private WebDriverLogsCollector findCollector(String logType) {
+    return driver.hasWebDriverStarted() ? WebDriverLogsCollector.find(driver.getWebDriver(), logType) : null;
+  }
+
   private List<LogEntry> getLogEntries(String logType, Level logLevel) {
     try {
       return driver.getWebDriver().manage().logs().get(logType).filter(logLevel);
@@ -0,0 +1,196 @@
+package com.codeborne.selenide;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.logging.LogEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.regex.Pattern;
+
+import static java.util.Collections.synchronizedMap;
+import static java.util.Collections.unmodifiableList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Drains webdriver logs of given type (e.g. "browser" or "performance") in a background thread
+ * into a bounded in-memory buffer, so that test threads don't wait for log transfer.
+ *
+ * Logs are drained every {@code intervalMs}, on {@link WebDriverLogs#collected(String)} and before
+ * the webdriver is closed by Selenide. Only the log command is sent from the background thread:
+ * like other commands of a remote webdriver (see {@link com.codeborne.selenide.impl.RemoteFileUploader}),
+ * it's a separate http request to the same session. Drains of one collector never run concurrently.
+ *
+ * Entries are filtered by level and (optionally) by pattern when they are received, and only the last
+ * {@code capacity} entries are kept. Reading collected entries with {@link #logs()} doesn't call webdriver.
+ *
+ * NB! Webdriver returns every log entry only once. While collector is running,
+ * {@link WebDriverLogs#logs(String)} will return only entries not yet drained by the collector.
+ */
+public class WebDriverLogsCollector {
+  private static final Logger log = LoggerFactory.getLogger(WebDriverLogsCollector.class);
+
+  private static final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "selenide-webdriver-logs-collector");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private static final Map<WebDriver, Map<String, WebDriverLogsCollector>> collectors = synchronizedMap(new WeakHashMap<>());
+
+  private final WeakReference<WebDriver> webDriver;
+  private final String logType;
+  private final Level logLevel;
+  private final Pattern pattern;
+  private final int capacity;
+  private final ConcurrentLinkedDeque<String> entries = new ConcurrentLinkedDeque<>();
+  private final AtomicInteger size = new AtomicInteger();
+  private final AtomicLong droppedEntries = new AtomicLong();
+  private volatile boolean running = true;
+  private volatile ScheduledFuture<?> task;
+
+  WebDriverLogsCollector(WebDriver webDriver, String logType, Level logLevel, Pattern pattern, int capacity) {
+    this.webDriver = new WeakReference<>(webDriver);
+    this.logType = logType;
+    this.logLevel = logLevel;
+    this.pattern = pattern;
+    this.capacity = capacity;
+  }
+
+  static WebDriverLogsCollector start(WebDriver webDriver, String logType, Level logLevel, Pattern pattern,
+                                      int capacity, long intervalMs) {
+    Map<String, WebDriverLogsCollector> driverCollectors = collectors.computeIfAbsent(webDriver, d -> new ConcurrentHashMap<>());
+    return driverCollectors.computeIfAbsent(logType, type -> {
+      WebDriverLogsCollector collector = new WebDriverLogsCollector(webDriver, logType, logLevel, pattern, capacity);
+      collector.task = executor.scheduleWithFixedDelay(collector::drain, intervalMs, intervalMs, MILLISECONDS);
+      log.info("Started collecting {} logs of {}", logType, webDriver);
+      return collector;
+    });
+  }
+
+  static WebDriverLogsCollector find(WebDriver webDriver, String logType) {
+    Map<String, WebDriverLogsCollector> driverCollectors = collectors.get(webDriver);
+    return driverCollectors == null ? null : driverCollectors.get(logType);
+  }
+
+  /**
+   * Drain the last entries and stop all collectors of given webdriver.
+   * Called by Selenide before closing the webdriver. Collected entries are still available via {@link #logs()}.
+   */
+  public static void stopAll(WebDriver webDriver) {
+    Map<String, WebDriverLogsCollector> driverCollectors = collectors.remove(webDriver);
+    if (driverCollectors != null) {
+      for (WebDriverLogsCollector collector : driverCollectors.values()) {
+        collector.drain();
+        collector.stop();
+      }
+    }
+  }
+
+  synchronized void drain() {
+    if (!running) {
+      return;
+    }
+    WebDriver driver = webDriver.get();
+    if (driver == null) {
+      stop();
+      return;
+    }
+    try {
+      for (LogEntry entry : driver.manage().logs().get(logType)) {
+        if (accepts(entry)) {
+          add(entry.toString());
+        }
+      }
+    }
+    catch (UnsupportedOperationException e) {
+      log.warn("Webdriver {} does not support {} logs", driver, logType);
+      stop();
+    }
+    catch (WebDriverException e) {
+      log.info("Stop collecting {} logs of {}: {}", logType, driver, e.toString());
+      stop();
+    }
+    catch (RuntimeException e) {
+      log.warn("Failed to drain {} logs of {}", logType, driver, e);
+    }
+  }
+
+  private boolean accepts(LogEntry entry) {
+    return entry.getLevel().intValue() >= logLevel.intValue()
+      && (pattern == null || pattern.matcher(entry.getMessage()).find());
+  }
+
+  private void add(String entry) {
+    entries.addLast(entry);
+    if (size.incrementAndGet() > capacity && entries.pollFirst() != null) {
+      size.decrementAndGet();
+      droppedEntries.incrementAndGet();
+    }
+  }
+
+  /**
+   * @return entries collected so far (the oldest first)
+   */
+  public List<String> logs() {
+    return unmodifiableList(new ArrayList<>(entries));
+  }
+
+  /**
+   * Returns collected entries and removes them from the buffer
+   */
+  public List<String> poll() {
+    List<String> result = new ArrayList<>(size.get());
+    for (String entry = entries.pollFirst(); entry != null; entry = entries.pollFirst()) {
+      size.decrementAndGet();
+      result.add(entry);
+    }
+    return result;
+  }
+
+  /**
+   * @return number of entries removed from the buffer because it was full
+   */
+  public long droppedEntries() {
+    return droppedEntries.get();
+  }
+
+  public boolean isRunning() {
+    return running;
+  }
+
+  public void stop() {
+    running = false;
+    ScheduledFuture<?> scheduled = task;
+    if (scheduled != null) {
+      scheduled.cancel(false);
+    }
+    WebDriver driver = webDriver.get();
+    Map<String, WebDriverLogsCollector> driverCollectors = driver == null ? null : collectors.get(driver);
+    if (driverCollectors != null) {
+      driverCollectors.remove(logType, this);
+      if (driverCollectors.isEmpty()) {
+        collectors.remove(driver, driverCollectors);
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s logs collector {level: %s, pattern: %s, collected: %s, dropped: %s}",
+      logType, logLevel, pattern, size.get(), droppedEntries.get());
+  }
+}
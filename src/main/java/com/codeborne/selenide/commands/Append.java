@@ -6,10 +6,17 @@ import com.codeborne.selenide.impl.WebElementSource;
 import org.openqa.selenium.WebElement;
 
 public class Append implements Command<WebElement> {
+  private final SetValueByJs setValueByJs = new SetValueByJs();
+
   @Override
   public WebElement execute(SelenideElement proxy, WebElementSource locator, Object[] args) {
+    String text = (String) args[0];
+    if (locator.driver().config().fastSetValue() && setValueByJs.append(locator, text) == SetValueByJs.Result.DONE) {
+      return proxy;
+    }
+
     WebElement input = locator.getWebElement();
-    input.sendKeys((String) args[0]);
+    input.sendKeys(text);
     return proxy;
   }
 }
@@ -7,22 +7,32 @@ import com.codeborne.selenide.impl.WebElementSource;
 import java.io.IOException;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class Commands {
-  private static Commands collection;
+  private static volatile Commands collection;
 
   private final Map<String, Command> commands = new ConcurrentHashMap<>(128);
-
-  public static synchronized Commands getInstance() {
-    if (collection == null) {
-      collection = new Commands();
-      collection.resetDefaults();
+  private final AtomicInteger version = new AtomicInteger();
+
+  public static Commands getInstance() {
+    Commands instance = collection;
+    if (instance == null) {
+      synchronized (Commands.class) {
+        if (collection == null) {
+          Commands commands = new Commands();
+          commands.resetDefaults();
+          collection = commands;
+        }
+        instance = collection;
+      }
     }
-    return collection;
+    return instance;
   }
 
   public final synchronized void resetDefaults() {
     commands.clear();
+    version.incrementAndGet();
     addFindCommands();
     addClickCommands();
     addModifyCommands();
@@ -133,15 +143,28 @@ public class Commands {
 
   public void add(String method, Command command) {
     commands.put(method, command);
+    version.incrementAndGet();
   }
 
-  @SuppressWarnings("unchecked")
-  public <T> T execute(Object proxy, WebElementSource webElementSource, String methodName, Object[] args)
-      throws IOException {
-    Command command = commands.get(methodName);
+  /**
+   * @return number which changes every time when commands are added or reset:
+   * a command returned by {@link #get(String)} can be reused while the version is the same
+   */
+  public int version() {
+    return version.get();
+  }
+
+  public Command<?> get(String methodName) {
+    Command<?> command = commands.get(methodName);
     if (command == null) {
       throw new IllegalArgumentException("Unknown Selenide method: " + methodName);
     }
-    return (T) command.execute((SelenideElement) proxy, webElementSource, args);
+    return command;
+  }
+
+  @SuppressWarnings("unchecked")
+  public <T> T execute(Object proxy, WebElementSource webElementSource, String methodName, Object[] args)
+      throws IOException {
+    return (T) get(methodName).execute((SelenideElement) proxy, webElementSource, args);
   }
 }
@@ -3,6 +3,7 @@ package com.codeborne.selenide.commands;
 import com.codeborne.selenide.Command;
 import com.codeborne.selenide.Config;
 import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.impl.DownloadFileToFolder;
 import com.codeborne.selenide.impl.DownloadFileWithHttpRequest;
 import com.codeborne.selenide.impl.DownloadFileWithProxyServer;
 import com.codeborne.selenide.impl.WebElementSource;
@@ -14,6 +15,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
 
+import static com.codeborne.selenide.FileDownloadMode.FOLDER;
 import static com.codeborne.selenide.FileDownloadMode.HTTPGET;
 
 public class DownloadFile implements Command<File> {
@@ -21,14 +23,20 @@ public class DownloadFile implements Command<File> {
 
   private final DownloadFileWithHttpRequest downloadFileWithHttpRequest;
   private final DownloadFileWithProxyServer downloadFileWithProxyServer;
+  private final DownloadFileToFolder downloadFileToFolder;
 
   public DownloadFile() {
-    this(new DownloadFileWithHttpRequest(), new DownloadFileWithProxyServer());
+    this(new DownloadFileWithHttpRequest(), new DownloadFileWithProxyServer(), new DownloadFileToFolder());
   }
 
   DownloadFile(DownloadFileWithHttpRequest httpget, DownloadFileWithProxyServer proxy) {
+    this(httpget, proxy, new DownloadFileToFolder());
+  }
+
+  DownloadFile(DownloadFileWithHttpRequest httpget, DownloadFileWithProxyServer proxy, DownloadFileToFolder folder) {
     downloadFileWithHttpRequest = httpget;
     downloadFileWithProxyServer = proxy;
+    downloadFileToFolder = folder;
   }
 
   @Override
@@ -42,6 +50,9 @@ public class DownloadFile implements Command<File> {
       log.debug("selenide.fileDownload = {} download file via http get", System.getProperty("selenide.fileDownload"));
       return downloadFileWithHttpRequest.download(linkWithHref.driver(), link, timeout);
     }
+    if (config.fileDownload() == FOLDER) {
+      return downloadFileToFolder.download(linkWithHref, link, timeout);
+    }
     if (!config.proxyEnabled()) {
       throw new IllegalStateException("Cannot download file: proxy server is not enabled. Setup proxyEnabled");
     }
@@ -1,7 +1,9 @@
 package com.codeborne.selenide.commands;
 
 import com.codeborne.selenide.Command;
+import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.ex.InvalidStateException;
 import com.codeborne.selenide.impl.ElementFinder;
 import com.codeborne.selenide.impl.WebElementSource;
 import com.codeborne.selenide.impl.WebElementWrapper;
@@ -12,21 +14,85 @@ import org.openqa.selenium.interactions.Actions;
 import static com.codeborne.selenide.Condition.visible;
 
 public class DragAndDropTo implements Command<SelenideElement> {
+  /**
+   * Dispatches HTML5 drag and drop events: "dragstart" and "drag" on source element,
+   * "dragenter", "dragover" and "drop" on target element, and "dragend" on source element.
+   *
+   * Target is either element or css selector. Returns null on success, or the reason why target cannot be used.
+   */
+  static final String DRAG_AND_DROP =
+    "var source = arguments[0];\n" +
+    "var target = typeof arguments[1] === 'string' ? document.querySelector(arguments[1]) : arguments[1];\n" +
+    "if (!target) return 'not found';\n" +
+    "if (!(target.offsetWidth || target.offsetHeight || target.getClientRects().length)) return 'not visible';\n" +
+    "var dataTransfer = typeof DataTransfer === 'function' ? new DataTransfer() : {\n" +
+    "  data: {}, types: [], dropEffect: 'move', effectAllowed: 'all', files: [],\n" +
+    "  setData: function(type, value) { this.data[type] = value; this.types.push(type); },\n" +
+    "  getData: function(type) { return this.data[type]; },\n" +
+    "  clearData: function() { this.data = {}; this.types = []; },\n" +
+    "  setDragImage: function() {}\n" +
+    "};\n" +
+    "function fire(element, type) {\n" +
+    "  var rect = element.getBoundingClientRect();\n" +
+    "  var init = {bubbles: true, cancelable: true, view: window, dataTransfer: dataTransfer,\n" +
+    "    clientX: rect.left + rect.width / 2, clientY: rect.top + rect.height / 2};\n" +
+    "  var event = null;\n" +
+    "  try { event = new DragEvent(type, init); } catch (e) { event = null; }\n" +
+    "  if (!event || !event.dataTransfer) {\n" +
+    "    event = document.createEvent('CustomEvent');\n" +
+    "    event.initCustomEvent(type, true, true, null);\n" +
+    "    event.dataTransfer = dataTransfer;\n" +
+    "    event.clientX = init.clientX;\n" +
+    "    event.clientY = init.clientY;\n" +
+    "  }\n" +
+    "  element.dispatchEvent(event);\n" +
+    "}\n" +
+    "fire(source, 'dragstart');\n" +
+    "fire(source, 'drag');\n" +
+    "fire(target, 'dragenter');\n" +
+    "fire(target, 'dragover');\n" +
+    "fire(target, 'drop');\n" +
+    "fire(source, 'dragend');\n" +
+    "return null;";
+
   @Override
   public SelenideElement execute(SelenideElement proxy, WebElementSource locator, Object[] args) {
-    SelenideElement target;
-    if (args[0] instanceof String) {
-      target = ElementFinder.wrap(locator.driver(), By.cssSelector((String) args[0]));
+    if (!(args[0] instanceof String) && !(args[0] instanceof WebElement)) {
+      throw new IllegalArgumentException("Unknown target type: " + args[0] +
+        " (only String or WebElement are supported)");
     }
-    else if (args[0] instanceof WebElement) {
-      target = WebElementWrapper.wrap(locator.driver(), (WebElement) args[0]);
+    if (locator.driver().config().actionsViaJs()) {
+      dragAndDropViaJs(locator.driver(), locator.getWebElement(), args[0]);
     }
     else {
-      throw new IllegalArgumentException("Unknown target type: " + args[0] +
-        " (only String or WebElement are supported)");
+      SelenideElement target = target(locator.driver(), args[0]);
+      target.shouldBe(visible);
+      new Actions(locator.driver().getWebDriver()).dragAndDrop(locator.getWebElement(), target).perform();
     }
-    target.shouldBe(visible);
-    new Actions(locator.driver().getWebDriver()).dragAndDrop(locator.getWebElement(), target).perform();
     return proxy;
   }
+
+  private SelenideElement target(Driver driver, Object target) {
+    return target instanceof String ?
+      ElementFinder.wrap(driver, By.cssSelector((String) target)) :
+      WebElementWrapper.wrap(driver, (WebElement) target);
+  }
+
+  /**
+   * Drag and drop by one JavaScript call. Only if target is not found or not visible yet,
+   * waits for it (like webdriver actions do) and repeats.
+   *
+   * @throws InvalidStateException if the repeated call still cannot use the target
+   */
+  private void dragAndDropViaJs(Driver driver, WebElement source, Object target) {
+    String problem = driver.executeJavaScript(DRAG_AND_DROP, source, target);
+    if (problem != null) {
+      SelenideElement targetElement = target(driver, target);
+      targetElement.shouldBe(visible);
+      problem = driver.executeJavaScript(DRAG_AND_DROP, source, targetElement.getWrappedElement());
+      if (problem != null) {
+        throw new InvalidStateException(driver, "Cannot drag and drop to " + targetElement + ": target is " + problem);
+      }
+    }
+  }
 }
@@ -0,0 +1,36 @@
+package com.codeborne.selenide.commands;
+
+import com.codeborne.selenide.Command;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.impl.FormFiller;
+import com.codeborne.selenide.impl.WebElementSource;
+
+import java.util.Map;
+
+/**
+ * Fills fields inside of the element with a single JavaScript call (see {@link FormFiller}).
+ *
+ * The same instance is re-executed by Selenide on failure, and every retry only fills the fields that failed.
+ */
+public class FillForm implements Command<SelenideElement> {
+  private final Map<String, ?> fields;
+  private FormFiller formFiller;
+
+  public FillForm(Map<String, ?> fields) {
+    this.fields = fields;
+  }
+
+  @Override
+  public SelenideElement execute(SelenideElement proxy, WebElementSource locator, Object[] args) {
+    if (formFiller == null) {
+      formFiller = new FormFiller(locator.driver(), fields);
+    }
+    formFiller.fillOnce(locator.getWebElement());
+    return proxy;
+  }
+
+  @Override
+  public String toString() {
+    return "fill form " + fields;
+  }
+}
@@ -7,7 +7,6 @@ import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.impl.WebElementSource;
 import com.codeborne.selenide.impl.WebElementsCollection;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.ui.Select;
 
 import java.util.List;
 
@@ -17,7 +16,7 @@ public class GetSelectedOptions implements Command<ElementsCollection> {
     return new ElementsCollection(new WebElementsCollection() {
       @Override
       public List<WebElement> getElements() {
-        return new Select(selectElement.getWebElement()).getAllSelectedOptions();
+        return new JsSelect(selectElement).allSelectedOptions();
       }
 
       @Override
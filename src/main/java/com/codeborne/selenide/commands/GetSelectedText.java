@@ -6,18 +6,26 @@ import com.codeborne.selenide.impl.WebElementSource;
 import org.openqa.selenium.WebElement;
 
 public class GetSelectedText implements Command<String> {
-  private GetSelectedOption getSelectedOption;
+  private final GetSelectedOption getSelectedOption;
 
+  /**
+   * @deprecated Selected text is read together with the selected option in a single JavaScript call.
+   * Use {@link #GetSelectedText()}: given command is called instead of this JavaScript.
+   */
+  @Deprecated
   public GetSelectedText(GetSelectedOption getSelectedOption) {
     this.getSelectedOption = getSelectedOption;
   }
 
   public GetSelectedText() {
-    this.getSelectedOption = new GetSelectedOption();
+    this.getSelectedOption = null;
   }
 
   @Override
   public String execute(SelenideElement proxy, WebElementSource selectElement, Object[] args) {
+    if (getSelectedOption == null) {
+      return new JsSelect(selectElement).firstSelectedText();
+    }
     WebElement option = getSelectedOption.execute(proxy, selectElement, NO_ARGS);
     return option == null ? null : option.getText();
   }
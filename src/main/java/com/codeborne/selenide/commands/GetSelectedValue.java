@@ -8,18 +8,26 @@ import org.openqa.selenium.WebElement;
 import java.io.IOException;
 
 public class GetSelectedValue implements Command<String> {
-  private Command<SelenideElement> getSelectedOption;
+  private final Command<SelenideElement> getSelectedOption;
 
   public GetSelectedValue() {
-    this.getSelectedOption = new GetSelectedOption();
+    this.getSelectedOption = null;
   }
 
+  /**
+   * @deprecated Selected value is read together with the selected option in a single JavaScript call.
+   * Use {@link #GetSelectedValue()}: given command is called instead of this JavaScript.
+   */
+  @Deprecated
   public GetSelectedValue(Command<SelenideElement> getSelectedOption) {
     this.getSelectedOption = getSelectedOption;
   }
 
   @Override
   public String execute(SelenideElement proxy, WebElementSource selectElement, Object[] args) throws IOException {
+    if (getSelectedOption == null) {
+      return new JsSelect(selectElement).firstSelectedValue();
+    }
     WebElement option = getSelectedOption.execute(proxy, selectElement, args);
     return option == null ? null : option.getAttribute("value");
   }
@@ -7,10 +7,38 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
 
 public class Hover implements Command<SelenideElement> {
+  /**
+   * Dispatches the events which browser sends when mouse moves from the previously hovered element to this element.
+   * NB! CSS ":hover" styles are not applied by synthetic events.
+   */
+  static final String HOVER =
+    "var element = arguments[0];\n" +
+    "function fire(target, types) {\n" +
+    "  var rect = target.getBoundingClientRect();\n" +
+    "  var x = rect.left + rect.width / 2, y = rect.top + rect.height / 2;\n" +
+    "  for (var i = 0; i < types.length; i++) {\n" +
+    "    var type = types[i];\n" +
+    "    var options = {bubbles: !/enter|leave/.test(type), cancelable: true, view: window, clientX: x, clientY: y};\n" +
+    "    if (type.indexOf('pointer') !== 0) target.dispatchEvent(new MouseEvent(type, options));\n" +
+    "    else if (typeof PointerEvent === 'function') target.dispatchEvent(new PointerEvent(type, options));\n" +
+    "  }\n" +
+    "}\n" +
+    "var previous = document.selenideHoveredElement;\n" +
+    "if (previous && previous !== element && document.contains(previous)) {\n" +
+    "  fire(previous, ['pointerout', 'pointerleave', 'mouseout', 'mouseleave']);\n" +
+    "}\n" +
+    "document.selenideHoveredElement = element;\n" +
+    "fire(element, ['pointerover', 'pointerenter', 'mouseover', 'mouseenter', 'pointermove', 'mousemove']);";
+
   @Override
   public SelenideElement execute(SelenideElement proxy, WebElementSource locator, Object[] args) {
     WebElement element = locator.getWebElement();
-    new Actions(locator.driver().getWebDriver()).moveToElement(element).perform();
+    if (locator.driver().config().actionsViaJs()) {
+      locator.driver().executeJavaScript(HOVER, element);
+    }
+    else {
+      new Actions(locator.driver().getWebDriver()).moveToElement(element).perform();
+    }
     return proxy;
   }
 }
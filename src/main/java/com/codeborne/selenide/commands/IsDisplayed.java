@@ -12,7 +12,7 @@ public class IsDisplayed implements Command<Boolean> {
   @Override
   public Boolean execute(SelenideElement proxy, WebElementSource locator, Object[] args) {
     try {
-      WebElement element = locator.getWebElement();
+      WebElement element = locator.findIfPresent();
       return element != null && element.isDisplayed();
     } catch (WebDriverException | ElementNotFound elementNotFound) {
       if (Cleanup.of.isInvalidSelectorError(elementNotFound)) {
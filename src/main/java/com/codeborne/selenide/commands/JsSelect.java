@@ -0,0 +1,161 @@
+package com.codeborne.selenide.commands;
+
+import com.codeborne.selenide.ex.ElementNotFound;
+import com.codeborne.selenide.impl.WebElementSource;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.UnexpectedTagNameException;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.codeborne.selenide.Condition.exist;
+import static com.codeborne.selenide.impl.Events.FIRE_EVENTS;
+import static java.util.Arrays.asList;
+
+/**
+ * Replacement for {@link org.openqa.selenium.support.ui.Select} that works with all options in a single JavaScript call,
+ * instead of calling {@code getText}, {@code isSelected} and {@code click} for every option.
+ *
+ * Matching rules and error messages are the same as in {@link org.openqa.selenium.support.ui.Select}:
+ * options are matched by text with normalized spaces, and if no option matches a text containing spaces,
+ * by visible text (e.g. with {@code &nbsp;} instead of space).
+ */
+class JsSelect {
+  private static final String JS_CODE = FIRE_EVENTS +
+    "var select = arguments[0], operation = arguments[1], values = arguments[2];\n" +
+    "var tag = select.tagName.toLowerCase();\n" +
+    "if (tag != 'select') return {tag: tag};\n" +
+    "var options = select.options;\n" +
+    "var normalize = function(text) {return text.replace(/[ \\t\\n\\r]+/g, ' ').replace(/^ | $/g, '');};\n" +
+    "var visibleText = function(option) {return normalize((option.innerText || option.text).replace(/\\u00a0/g, ' '));};\n" +
+    "if (operation == 'selected') {\n" +
+    "  var result = {options: [], texts: [], values: []};\n" +
+    "  for (var i = 0; i < options.length; i++) {\n" +
+    "    if (!options[i].selected) continue;\n" +
+    "    result.options.push(options[i]);\n" +
+    "    result.texts.push(visibleText(options[i]));\n" +
+    "    result.values.push(options[i].getAttribute('value'));\n" +
+    "  }\n" +
+    "  return result;\n" +
+    "}\n" +
+    "var matches = function(option, value) {\n" +
+    "  if (operation == 'text') return normalize(option.textContent) == value;\n" +
+    "  if (operation == 'index') return option.index == value;\n" +
+    "  if (operation == 'value') return option.getAttribute('value') == value;\n" +
+    "  return normalize(option.textContent).indexOf(value) != -1;\n" +
+    "};\n" +
+    "var matchesVisibleText = function(option, value) {return visibleText(option) == value;};\n" +
+    "var selectMatching = function(matches, value) {\n" +
+    "  var found = false;\n" +
+    "  for (var j = 0; j < options.length; j++) {\n" +
+    "    if (!matches(options[j], value)) continue;\n" +
+    "    found = true;\n" +
+    "    if (!options[j].selected && !options[j].disabled && !select.disabled) {\n" +
+    "      options[j].selected = true;\n" +
+    "      fireEvents(select, ['input', 'change']);\n" +
+    "    }\n" +
+    "    if (!select.multiple) break;\n" +
+    "  }\n" +
+    "  return found;\n" +
+    "};\n" +
+    "for (var i = 0; i < values.length; i++) {\n" +
+    "  var found = selectMatching(matches, values[i]) ||\n" +
+    "    operation == 'text' && values[i].indexOf(' ') != -1 && selectMatching(matchesVisibleText, values[i]);\n" +
+    "  if (!found) return {notFound: i};\n" +
+    "}\n" +
+    "return {};";
+
+  private final WebElementSource selectField;
+
+  JsSelect(WebElementSource selectField) {
+    this.selectField = selectField;
+  }
+
+  void selectByTexts(String... texts) {
+    Integer notFound = select("text", (Object[]) texts);
+    if (notFound != null) {
+      String text = texts[notFound];
+      throw new ElementNotFound(selectField.driver(), selectField.getSearchCriteria() + "/option[text:" + text + ']', exist,
+        new NoSuchElementException("Cannot locate element with text: " + text));
+    }
+  }
+
+  void selectByIndexes(int... indexes) {
+    Integer[] values = new Integer[indexes.length];
+    for (int i = 0; i < indexes.length; i++) {
+      values[i] = indexes[i];
+    }
+    Integer notFound = select("index", (Object[]) values);
+    if (notFound != null) {
+      int index = indexes[notFound];
+      throw new ElementNotFound(selectField.driver(), selectField.getSearchCriteria() + "/option[index:" + index + ']', exist,
+        new NoSuchElementException("Cannot locate option with index: " + index));
+    }
+  }
+
+  void selectByValues(String... values) {
+    Integer notFound = select("value", (Object[]) values);
+    if (notFound != null) {
+      String value = values[notFound];
+      throw new ElementNotFound(selectField.driver(), selectField.getSearchCriteria() + "/option[value:" + value + ']', exist,
+        new NoSuchElementException("Cannot locate option with value: " + value));
+    }
+  }
+
+  void selectContainingText(String text) {
+    if (select("containing", text) != null) {
+      throw new NoSuchElementException("Cannot locate option containing text: " + text);
+    }
+  }
+
+  /**
+   * @return index of the first value that has no matching option, or null if all values have been selected
+   */
+  private Integer select(String operation, Object... values) {
+    Map<String, Object> result = execute(operation, values);
+    Number notFound = (Number) result.get("notFound");
+    return notFound == null ? null : notFound.intValue();
+  }
+
+  /**
+   * @throws NoSuchElementException if no options are selected (same as {@code Select.getFirstSelectedOption()})
+   */
+  WebElement firstSelectedOption() {
+    return firstSelected("options");
+  }
+
+  String firstSelectedText() {
+    return firstSelected("texts");
+  }
+
+  String firstSelectedValue() {
+    return firstSelected("values");
+  }
+
+  List<WebElement> allSelectedOptions() {
+    return selected("options");
+  }
+
+  private <T> T firstSelected(String key) {
+    List<T> selected = selected(key);
+    if (selected.isEmpty()) {
+      throw new NoSuchElementException("No options are selected");
+    }
+    return selected.get(0);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> List<T> selected(String key) {
+    return (List<T>) execute("selected").get(key);
+  }
+
+  private Map<String, Object> execute(String operation, Object... values) {
+    Map<String, Object> result = selectField.driver().executeJavaScript(JS_CODE,
+      selectField.getWebElement(), operation, asList(values));
+    if (result.containsKey("tag")) {
+      throw new UnexpectedTagNameException("select", (String) result.get("tag"));
+    }
+    return result;
+  }
+}
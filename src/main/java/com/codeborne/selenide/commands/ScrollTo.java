@@ -3,14 +3,19 @@ package com.codeborne.selenide.commands;
 import com.codeborne.selenide.Command;
 import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.impl.WebElementSource;
-import org.openqa.selenium.Point;
 import org.openqa.selenium.WebElement;
 
 public class ScrollTo implements Command<WebElement> {
+  /**
+   * Scrolls window to the top left corner of the element (the same location as {@link WebElement#getLocation()})
+   */
+  static final String SCROLL_TO =
+    "var rect = arguments[0].getBoundingClientRect();\n" +
+    "window.scrollTo(Math.floor(rect.left + window.pageXOffset), Math.floor(rect.top + window.pageYOffset));";
+
   @Override
   public WebElement execute(SelenideElement proxy, WebElementSource locator, Object[] args) {
-    Point location = locator.getWebElement().getLocation();
-    locator.driver().executeJavaScript("window.scrollTo(" + location.getX() + ", " + location.getY() + ')');
+    locator.driver().executeJavaScript(SCROLL_TO, locator.getWebElement());
     return proxy;
   }
 }
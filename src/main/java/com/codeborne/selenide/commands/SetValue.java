@@ -1,17 +1,19 @@
 package com.codeborne.selenide.commands;
 
 import com.codeborne.selenide.Command;
-import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.Config;
 import com.codeborne.selenide.SelenideElement;
-import com.codeborne.selenide.ex.InvalidStateException;
 import com.codeborne.selenide.impl.WebElementSource;
 import org.openqa.selenium.WebElement;
 
-import static com.codeborne.selenide.impl.Events.events;
+import static com.codeborne.selenide.commands.SetValueByJs.Result.RADIO;
+import static com.codeborne.selenide.commands.SetValueByJs.Result.SELECT;
+import static com.codeborne.selenide.commands.SetValueByJs.Result.SKIPPED;
 
 public class SetValue implements Command<WebElement> {
   private SelectOptionByValue selectOptionByValue;
   private SelectRadio selectRadio;
+  private final SetValueByJs setValueByJs = new SetValueByJs();
 
   public SetValue() {
     this.selectOptionByValue = new SelectOptionByValue();
@@ -26,53 +28,51 @@ public class SetValue implements Command<WebElement> {
   @Override
   public WebElement execute(SelenideElement proxy, WebElementSource locator, Object[] args) {
     String text = (String) args[0];
-    WebElement element = locator.findAndAssertElementIsInteractable();
+    SetValueByJs.Result result = fastSetValue(locator, text);
 
-    if (locator.driver().config().versatileSetValue()
-      && "select".equalsIgnoreCase(element.getTagName())) {
+    if (result == SKIPPED) {
+      WebElement element = locator.findAndAssertElementIsInteractable();
+      result = versatileInput(locator.driver().config(), element);
+      if (result == SKIPPED) {
+        setValueForTextInput(element, text);
+      }
+    }
+
+    if (result == SELECT) {
       selectOptionByValue.execute(proxy, locator, args);
-      return proxy;
     }
-    if (locator.driver().config().versatileSetValue()
-      && "input".equalsIgnoreCase(element.getTagName()) && "radio".equals(element.getAttribute("type"))) {
+    else if (result == RADIO) {
       selectRadio.execute(proxy, locator, args);
-      return proxy;
     }
-
-    setValueForTextInput(locator.driver(), element, text);
     return proxy;
   }
 
-  private void setValueForTextInput(Driver driver, WebElement element, String text) {
-    if (text == null || text.isEmpty()) {
-      element.clear();
+  private SetValueByJs.Result fastSetValue(WebElementSource locator, String text) {
+    return text != null && !text.isEmpty() && locator.driver().config().fastSetValue() ?
+      setValueByJs.setValue(locator, text) : SKIPPED;
+  }
+
+  /**
+   * @return SELECT or RADIO if value should be selected instead of typed (see {@link Config#versatileSetValue()}),
+   * otherwise SKIPPED
+   */
+  private SetValueByJs.Result versatileInput(Config config, WebElement element) {
+    if (!config.versatileSetValue()) {
+      return SKIPPED;
     }
-    else if (driver.config().fastSetValue()) {
-      String error = setValueByJs(driver, element, text);
-      if (error != null) throw new InvalidStateException(driver, error);
-      else {
-        events.fireEvent(driver, element, "keydown", "keypress", "input", "keyup", "change");
-      }
+    if ("select".equalsIgnoreCase(element.getTagName())) {
+      return SELECT;
     }
-    else {
-      element.clear();
-      element.sendKeys(text);
+    if ("input".equalsIgnoreCase(element.getTagName()) && "radio".equals(element.getAttribute("type"))) {
+      return RADIO;
     }
+    return SKIPPED;
   }
 
-  private String setValueByJs(Driver driver, WebElement element, String text) {
-    return driver.executeJavaScript(
-        "return (function(webelement, text) {" +
-            "if (webelement.getAttribute('readonly') != undefined) return 'Cannot change value of readonly element';" +
-            "if (webelement.getAttribute('disabled') != undefined) return 'Cannot change value of disabled element';" +
-            "webelement.focus();" +
-            "var maxlength = webelement.getAttribute('maxlength') == null ? -1 : parseInt(webelement.getAttribute('maxlength'));" +
-            "webelement.value = " +
-            "maxlength == -1 ? text " +
-            ": text.length <= maxlength ? text " +
-            ": text.substring(0, maxlength);" +
-            "return null;" +
-            "})(arguments[0], arguments[1]);",
-        element, text);
+  private void setValueForTextInput(WebElement element, String text) {
+    element.clear();
+    if (text != null && !text.isEmpty()) {
+      element.sendKeys(text);
+    }
   }
 }
@@ -0,0 +1,98 @@
+package com.codeborne.selenide.commands;
+
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.ex.InvalidStateException;
+import com.codeborne.selenide.impl.WebElementSource;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+
+import static com.codeborne.selenide.impl.Events.FIRE_EVENTS;
+
+/**
+ * Sets (or appends) value of text input in a single JavaScript call:
+ * checks that element is visible or transparent, is not readonly or disabled,
+ * respects "maxlength", sets the value and fires keydown/keypress/input/keyup/change events.
+ *
+ * Used when {@link com.codeborne.selenide.Config#fastSetValue()} is enabled.
+ */
+class SetValueByJs {
+  enum Result {
+    /**
+     * Value has been set
+     */
+    DONE,
+
+    /**
+     * Value has not been set: element is an interactable select
+     * (see {@link com.codeborne.selenide.Config#versatileSetValue()})
+     */
+    SELECT,
+
+    /**
+     * Value has not been set: element is an interactable radio button
+     * (see {@link com.codeborne.selenide.Config#versatileSetValue()})
+     */
+    RADIO,
+
+    /**
+     * Value has not been set: element is not found or not interactable.
+     * Caller should try the usual (slower) way that waits for the element and produces detailed error messages.
+     */
+    SKIPPED
+  }
+
+  private static final String JS_CODE = FIRE_EVENTS + "return (function(element, text, append, versatile) {\n" +
+    "  var visible = !!(element.offsetWidth || element.offsetHeight || element.getClientRects().length);\n" +
+    "  for (var e = element; visible && e && e.nodeType == 1; e = e.parentNode) {\n" +
+    "    var style = window.getComputedStyle(e);\n" +
+    "    if (style.display == 'none' || style.visibility == 'hidden' || e != element && style.opacity == '0') " +
+    "visible = false;\n" +
+    "  }\n" +
+    "  if (!visible && window.getComputedStyle(element).opacity != '0') return 'skipped';\n" +
+    "  var tag = element.tagName.toLowerCase();\n" +
+    "  if (versatile && tag == 'select') return 'select';\n" +
+    "  if (versatile && tag == 'input' && element.getAttribute('type') == 'radio') return 'radio';\n" +
+    "  if (element.getAttribute('readonly') != undefined) return 'Cannot change value of readonly element';\n" +
+    "  if (element.getAttribute('disabled') != undefined) return 'Cannot change value of disabled element';\n" +
+    "  element.focus();\n" +
+    "  var value = append ? element.value + text : text;\n" +
+    "  var maxlength = element.getAttribute('maxlength') == null ? -1 : parseInt(element.getAttribute('maxlength'));\n" +
+    "  element.value = maxlength == -1 || value.length <= maxlength ? value : value.substring(0, maxlength);\n" +
+    "  fireEvents(element, ['keydown', 'keypress', 'input', 'keyup', 'change']);\n" +
+    "  return 'done';\n" +
+    "})(arguments[0], arguments[1], arguments[2], arguments[3]);";
+
+  Result setValue(WebElementSource locator, String text) {
+    return execute(locator, text, false);
+  }
+
+  Result append(WebElementSource locator, String text) {
+    return execute(locator, text, true);
+  }
+
+  private Result execute(WebElementSource locator, String text, boolean append) {
+    Driver driver = locator.driver();
+    WebElement element = driver.supportsJavascript() ? findElement(locator) : null;
+    if (element == null) {
+      return Result.SKIPPED;
+    }
+
+    String result = driver.executeJavaScript(JS_CODE, element, text, append, driver.config().versatileSetValue());
+    for (Result value : Result.values()) {
+      if (value.name().equalsIgnoreCase(result)) {
+        return value;
+      }
+    }
+    throw new InvalidStateException(driver, result);
+  }
+
+  private WebElement findElement(WebElementSource locator) {
+    try {
+      return locator.getWebElement();
+    }
+    catch (NoSuchElementException | StaleElementReferenceException | IndexOutOfBoundsException elementNotFound) {
+      return null;
+    }
+  }
+}
@@ -1,7 +1,6 @@
 package com.codeborne.selenide.commands;
 
 import com.codeborne.selenide.Command;
-import com.codeborne.selenide.Condition;
 import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.impl.WebElementSource;
 
@@ -20,9 +19,7 @@ public class Should implements Command<SelenideElement> {
 
   @Override
   public SelenideElement execute(SelenideElement proxy, WebElementSource locator, Object[] args) {
-    for (Condition condition : argsToConditions(args)) {
-      locator.checkCondition(prefix, condition, false);
-    }
+    locator.checkConditions(prefix, argsToConditions(args), false);
     return proxy;
   }
 }
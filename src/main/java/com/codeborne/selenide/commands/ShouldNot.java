@@ -1,7 +1,6 @@
 package com.codeborne.selenide.commands;
 
 import com.codeborne.selenide.Command;
-import com.codeborne.selenide.Condition;
 import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.impl.WebElementSource;
 
@@ -20,9 +19,7 @@ public class ShouldNot implements Command<SelenideElement> {
 
   @Override
   public SelenideElement execute(SelenideElement proxy, WebElementSource locator, Object[] args) {
-    for (Condition condition : argsToConditions(args)) {
-      locator.checkCondition(prefix, condition, true);
-    }
+    locator.checkConditions(prefix, argsToConditions(args), true);
     return proxy;
   }
 }
@@ -6,6 +6,8 @@ import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.Stopwatch;
 import com.codeborne.selenide.impl.Describe;
+import com.codeborne.selenide.impl.PollingStrategies;
+import com.codeborne.selenide.impl.RemoteFileUploader;
 import com.codeborne.selenide.impl.WebElementSource;
 import org.openqa.selenium.ElementNotInteractableException;
 import org.openqa.selenium.WebElement;
@@ -14,7 +16,19 @@ import java.io.File;
 import java.io.IOException;
 import java.util.List;
 
+import static java.util.Arrays.asList;
+
 public class UploadFile implements Command<File> {
+  private final RemoteFileUploader remoteFileUploader;
+
+  public UploadFile() {
+    this(new RemoteFileUploader());
+  }
+
+  UploadFile(RemoteFileUploader remoteFileUploader) {
+    this.remoteFileUploader = remoteFileUploader;
+  }
+
   @Override
   public File execute(SelenideElement proxy, WebElementSource locator, Object[] args) throws IOException {
     File[] file;
@@ -29,6 +43,9 @@ public class UploadFile implements Command<File> {
     }
 
     WebElement inputField = locator.getWebElement();
+    if (file.length > 1) {
+      remoteFileUploader.uploadAll(locator.driver().getWebDriver(), asList(file));
+    }
     File uploadedFile = uploadFile(locator.driver(), inputField, file[0]);
 
     if (file.length > 1) {
@@ -36,29 +53,31 @@ public class UploadFile implements Command<File> {
       List<WebElement> newInputs = cloneInputField(locator.driver(), form, inputField, file.length - 1);
 
       Config config = locator.driver().config();
-      Stopwatch stopwatch = new Stopwatch(config.timeout());
+      Stopwatch stopwatch = new Stopwatch(config.timeout(), PollingStrategies.of(config), "uploadFile");
 
       for (int i = 1; i < file.length; i++) {
         WebElement newInput = newInputs.get(i - 1);
-        uploadSingleFile(config, file[i], stopwatch, newInput);
+        uploadSingleFile(locator.driver(), file[i], stopwatch, newInput);
       }
+      stopwatch.finished(true);
     }
 
     return uploadedFile;
 
   }
 
-  private void uploadSingleFile(Config config, File file, Stopwatch stopwatch, WebElement newInput) throws IOException {
+  private void uploadSingleFile(Driver driver, File file, Stopwatch stopwatch, WebElement newInput) throws IOException {
+    String path = remoteFileUploader.path(driver.getWebDriver(), file);
     do {
       try {
-        newInput.sendKeys(file.getCanonicalPath());
+        newInput.sendKeys(path);
         return;
       }
       catch (ElementNotInteractableException notInteractable) {
         if (stopwatch.isTimeoutReached()) {
           throw notInteractable;
         }
-        stopwatch.sleep(config.pollingInterval());
+        stopwatch.sleep(driver.config().pollingInterval());
       }
     } while (!stopwatch.isTimeoutReached());
   }
@@ -72,9 +91,8 @@ public class UploadFile implements Command<File> {
       throw new IllegalArgumentException("File not found: " + file.getAbsolutePath());
     }
 
-    String canonicalPath = file.getCanonicalPath();
-    inputField.sendKeys(canonicalPath);
-    return new File(canonicalPath);
+    inputField.sendKeys(remoteFileUploader.path(driver.getWebDriver(), file));
+    return new File(file.getCanonicalPath());
   }
 
   protected List<WebElement> cloneInputField(Driver driver, SelenideElement form, WebElement inputField, int count) {
@@ -1,6 +1,7 @@
 package com.codeborne.selenide.drivercommands;
 
 import com.codeborne.selenide.Config;
+import com.codeborne.selenide.WebDriverLogsCollector;
 import com.codeborne.selenide.impl.Cleanup;
 import com.codeborne.selenide.proxy.SelenideProxyServer;
 import org.openqa.selenium.WebDriver;
@@ -9,16 +10,31 @@ import org.openqa.selenium.remote.UnreachableBrowserException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.Files;
+
 public class CloseDriverCommand {
   private static final Logger log = LoggerFactory.getLogger(CloseDriverCommand.class);
 
   public void closeAsync(Config config, WebDriver webDriver, SelenideProxyServer selenideProxyServer) {
+    closeAsync(config, webDriver, selenideProxyServer, null);
+  }
+
+  /**
+   * @param browserDownloadsFolder per-session downloads folder of the browser (or null).
+   *                               It's deleted after closing the browser if no files have been downloaded.
+   */
+  public void closeAsync(Config config, WebDriver webDriver, SelenideProxyServer selenideProxyServer,
+                         File browserDownloadsFolder) {
     long threadId = Thread.currentThread().getId();
     if (config.holdBrowserOpen()) {
       log.info("Hold browser and proxy open: {} -> {}, {}", threadId, webDriver, selenideProxyServer);
     }
     else if (webDriver != null) {
       log.info("Close webdriver: {} -> {}", threadId, webDriver);
+      WebDriverLogsCollector.stopAll(webDriver);
       if (selenideProxyServer != null) {
         log.info("Close proxy server: {} -> {}", threadId, selenideProxyServer);
       }
@@ -39,12 +55,26 @@ public class CloseDriverCommand {
 
       long duration = System.currentTimeMillis() - start;
       log.info("Closed webdriver {} in {} ms", threadId, duration);
+      deleteIfEmpty(browserDownloadsFolder);
     } else if (selenideProxyServer != null) {
       log.info("Close proxy server: {} -> {}", threadId, selenideProxyServer);
       selenideProxyServer.shutdown();
     }
   }
 
+  private void deleteIfEmpty(File folder) {
+    if (folder == null) return;
+    try {
+      Files.deleteIfExists(folder.toPath());
+    }
+    catch (DirectoryNotEmptyException keepDownloadedFiles) {
+      log.debug("Keep downloads folder {}", folder);
+    }
+    catch (IOException e) {
+      log.warn("Failed to delete downloads folder {}: {}", folder, e.toString());
+    }
+  }
+
   private void close(WebDriver webdriver, SelenideProxyServer proxy) {
     try {
       log.info("Trying to close the browser {} ...", webdriver.getClass().getSimpleName());
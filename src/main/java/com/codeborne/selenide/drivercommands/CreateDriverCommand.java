@@ -1,6 +1,7 @@
 package com.codeborne.selenide.drivercommands;
 
 import com.codeborne.selenide.Config;
+import com.codeborne.selenide.impl.Downloader;
 import com.codeborne.selenide.proxy.SelenideProxyServer;
 import com.codeborne.selenide.webdriver.WebDriverFactory;
 import org.openqa.selenium.Proxy;
@@ -10,13 +11,17 @@ import org.openqa.selenium.support.events.WebDriverEventListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
 import java.util.List;
 
+import static com.codeborne.selenide.FileDownloadMode.FOLDER;
 import static java.lang.Thread.currentThread;
 
 public class CreateDriverCommand {
   private static final Logger log = LoggerFactory.getLogger(CreateDriverCommand.class);
 
+  private final Downloader downloader = new Downloader();
+
   public Result createDriver(Config config,
                              WebDriverFactory factory,
                              Proxy userProvidedProxy,
@@ -26,6 +31,11 @@ public class CreateDriverCommand {
         ", and cannot create a new webdriver because reopenBrowserOnFail=false");
     }
 
+    if (config.fileDownload() == FOLDER && !factory.supportsDownloadsFolder(config)) {
+      throw new IllegalArgumentException("File download mode FOLDER is not supported for browser " + config.browser() +
+        (config.remote() == null ? "" : " on remote webdriver") + " by " + factory.getClass().getName() + ", use HTTPGET or PROXY");
+    }
+
     SelenideProxyServer selenideProxyServer = null;
 
     Proxy browserProxy = userProvidedProxy;
@@ -36,14 +46,19 @@ public class CreateDriverCommand {
       browserProxy = selenideProxyServer.createSeleniumProxy();
     }
 
-    WebDriver webdriver = factory.createWebDriver(config, browserProxy);
+    File browserDownloadsFolder = config.fileDownload() == FOLDER ?
+      new File(config.downloadsFolder(), downloader.randomFileName()).getAbsoluteFile() : null;
+
+    WebDriver webdriver = browserDownloadsFolder == null ?
+      factory.createWebDriver(config, browserProxy) :
+      factory.createWebDriver(config, browserProxy, browserDownloadsFolder);
 
     log.info("Create webdriver in current thread {}: {} -> {}",
       currentThread().getId(), webdriver.getClass().getSimpleName(), webdriver);
 
     WebDriver webDriver = addListeners(webdriver, listeners);
     Runtime.getRuntime().addShutdownHook(new SelenideDriverFinalCleanupThread(config, webDriver, selenideProxyServer));
-    return new Result(webDriver, selenideProxyServer);
+    return new Result(webDriver, selenideProxyServer, browserDownloadsFolder);
   }
 
   private WebDriver addListeners(WebDriver webdriver, List<WebDriverEventListener> listeners) {
@@ -62,10 +77,16 @@ public class CreateDriverCommand {
   public static class Result {
     public final WebDriver webDriver;
     public final SelenideProxyServer selenideProxyServer;
+    public final File browserDownloadsFolder;
 
     public Result(WebDriver webDriver, SelenideProxyServer selenideProxyServer) {
+      this(webDriver, selenideProxyServer, null);
+    }
+
+    public Result(WebDriver webDriver, SelenideProxyServer selenideProxyServer, File browserDownloadsFolder) {
       this.webDriver = webDriver;
       this.selenideProxyServer = selenideProxyServer;
+      this.browserDownloadsFolder = browserDownloadsFolder;
     }
   }
 }
@@ -1,6 +1,7 @@
 package com.codeborne.selenide.drivercommands;
 
 import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.BrowserMetadata;
 import com.codeborne.selenide.Config;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.proxy.SelenideProxyServer;
@@ -11,6 +12,7 @@ import org.openqa.selenium.support.events.WebDriverEventListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -35,6 +37,8 @@ public class LazyDriver implements Driver {
   private boolean closed;
   private WebDriver webDriver;
   private SelenideProxyServer selenideProxyServer;
+  private File browserDownloadsFolder;
+  private volatile BrowserMetadata metadata;
 
   public LazyDriver(Config config, Proxy userProvidedProxy, List<WebDriverEventListener> listeners) {
     this(config, userProvidedProxy, listeners, new WebDriverFactory(), new BrowserHealthChecker(),
@@ -69,6 +73,14 @@ public class LazyDriver implements Driver {
     return webDriver != null;
   }
 
+  /**
+   * Doesn't need to be synchronized: metadata is replaced (not modified) when webdriver is re-created.
+   */
+  @Override
+  public BrowserMetadata metadata() {
+    return metadata;
+  }
+
   @Override
   public synchronized WebDriver getWebDriver() {
     if (closed) {
@@ -86,6 +98,11 @@ public class LazyDriver implements Driver {
     return selenideProxyServer;
   }
 
+  @Override
+  public File browserDownloadsFolder() {
+    return browserDownloadsFolder;
+  }
+
   @Override
   public synchronized WebDriver getAndCheckWebDriver() {
     if (webDriver != null && config.reopenBrowserOnFail() && !browserHealthChecker.isBrowserStillOpen(webDriver)) {
@@ -104,14 +121,18 @@ public class LazyDriver implements Driver {
     CreateDriverCommand.Result result = createDriverCommand.createDriver(config, factory, userProvidedProxy, listeners);
     this.webDriver = result.webDriver;
     this.selenideProxyServer = result.selenideProxyServer;
+    this.browserDownloadsFolder = result.browserDownloadsFolder;
+    this.metadata = new BrowserMetadata(browser, result.webDriver);
     this.closed = false;
   }
 
   @Override
   public void close() {
-    closeDriverCommand.closeAsync(config, webDriver, selenideProxyServer);
+    closeDriverCommand.closeAsync(config, webDriver, selenideProxyServer, browserDownloadsFolder);
     webDriver = null;
     selenideProxyServer = null;
+    browserDownloadsFolder = null;
+    metadata = null;
     closed = true;
   }
 }
@@ -5,6 +5,7 @@ import com.codeborne.selenide.Config;
 import com.codeborne.selenide.Credentials;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.SelenideDriver;
+import com.codeborne.selenide.impl.FrameSwitcher;
 import com.codeborne.selenide.logevents.SelenideLog;
 import com.codeborne.selenide.logevents.SelenideLogger;
 import com.codeborne.selenide.proxy.AuthenticationFilter;
@@ -65,6 +66,7 @@ public class Navigator {
       WebDriver webDriver = driver.getAndCheckWebDriver();
       beforeNavigateTo(driver.config(), driver.getProxy(), authenticationType, domain, login, password);
       webDriver.navigate().to(url);
+      FrameSwitcher.of(webDriver).switchedToDefaultContent();
       SelenideLogger.commitStep(log, PASS);
     }
     catch (WebDriverException e) {
@@ -164,13 +166,16 @@ public class Navigator {
 
   public void back(Driver driver) {
     driver.getWebDriver().navigate().back();
+    FrameSwitcher.of(driver.getWebDriver()).reset();
   }
 
   public void forward(Driver driver) {
     driver.getWebDriver().navigate().forward();
+    FrameSwitcher.of(driver.getWebDriver()).reset();
   }
 
   public void refresh(Driver driver) {
     driver.getWebDriver().navigate().refresh();
+    FrameSwitcher.of(driver.getWebDriver()).reset();
   }
 }
@@ -1,6 +1,7 @@
 package com.codeborne.selenide.drivercommands;
 
 import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.BrowserMetadata;
 import com.codeborne.selenide.Config;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.proxy.SelenideProxyServer;
@@ -26,6 +27,7 @@ public class WebDriverWrapper implements Driver {
   private final SelenideProxyServer selenideProxy;
   private final BrowserHealthChecker browserHealthChecker;
   private final CloseDriverCommand closeDriverCommand;
+  private final BrowserMetadata metadata;
 
   public WebDriverWrapper(@Nonnull Config config, @Nonnull WebDriver webDriver, @Nullable SelenideProxyServer selenideProxy) {
     this(config, webDriver, selenideProxy, new BrowserHealthChecker(), new CloseDriverCommand());
@@ -41,6 +43,7 @@ public class WebDriverWrapper implements Driver {
     this.selenideProxy = selenideProxy;
     this.browserHealthChecker = browserHealthChecker;
     this.closeDriverCommand = closeDriverCommand;
+    this.metadata = new BrowserMetadata(new Browser(config.browser(), config.headless()), webDriver);
   }
 
   @Override
@@ -50,7 +53,12 @@ public class WebDriverWrapper implements Driver {
 
   @Override
   public Browser browser() {
-    return new Browser(config.browser(), config.headless());
+    return metadata.browser();
+  }
+
+  @Override
+  public BrowserMetadata metadata() {
+    return metadata;
   }
 
   @Override
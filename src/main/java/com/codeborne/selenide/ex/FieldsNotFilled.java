@@ -0,0 +1,32 @@
+package com.codeborne.selenide.ex;
+
+import com.codeborne.selenide.Driver;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.Collections.unmodifiableMap;
+
+public class FieldsNotFilled extends UIAssertionError {
+  private final Map<String, String> failures;
+
+  public FieldsNotFilled(Driver driver, Map<String, String> failures, int totalFields) {
+    super(driver, "Failed to fill " + failures.size() + " of " + totalFields + " fields:" + describe(failures));
+    this.failures = unmodifiableMap(new LinkedHashMap<>(failures));
+  }
+
+  private static String describe(Map<String, String> failures) {
+    StringBuilder sb = new StringBuilder();
+    for (Map.Entry<String, String> failure : failures.entrySet()) {
+      sb.append("\n  ").append(failure.getKey()).append(": ").append(failure.getValue());
+    }
+    return sb.toString();
+  }
+
+  /**
+   * @return error messages by CSS selectors of fields that could not be filled
+   */
+  public Map<String, String> getFailures() {
+    return failures;
+  }
+}
@@ -9,15 +9,42 @@ import java.util.List;
 import static com.codeborne.selenide.ElementsCollection.elementsToString;
 
 public class ListSizeMismatch extends UIAssertionError {
+  private final Driver collectionDriver;
+  private List<WebElement> actualElements;
+  private String elements;
+
   public ListSizeMismatch(Driver driver, String operator, int expectedSize, String explanation, WebElementsCollection collection,
                           List<WebElement> actualElements, Exception lastError, long timeoutMs) {
     super(driver,
       "List size mismatch: expected: " + operator + ' ' + expectedSize +
         (explanation == null ? "" : " (because " + explanation + ")") +
         ", actual: " + (actualElements == null ? 0 : actualElements.size()) +
-        ", collection: " + collection.description() +
-        "\nElements: " + elementsToString(collection.driver(), actualElements), lastError
+        ", collection: " + collection.description(), lastError
     );
+    this.collectionDriver = collection.driver();
+    this.actualElements = actualElements;
     super.timeoutMs = timeoutMs;
   }
+
+  /**
+   * Elements are described only when the error is reported: errors caught and retried by Selenide don't need it.
+   */
+  private synchronized String elements() {
+    if (elements == null) {
+      elements = elementsToString(collectionDriver, actualElements);
+      actualElements = null;
+    }
+    return elements;
+  }
+
+  @Override
+  protected String uiDetails() {
+    return "\nElements: " + elements() + super.uiDetails();
+  }
+
+  @Override
+  public void capture() {
+    elements();
+    super.capture();
+  }
 }
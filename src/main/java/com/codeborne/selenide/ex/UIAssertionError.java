@@ -2,7 +2,7 @@ package com.codeborne.selenide.ex;
 
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.impl.Cleanup;
-import com.codeborne.selenide.impl.ScreenShotLaboratory;
+import com.codeborne.selenide.impl.FailureArtifacts;
 
 import static com.codeborne.selenide.ex.ErrorMessages.causedBy;
 import static com.codeborne.selenide.ex.ErrorMessages.screenshot;
@@ -13,6 +13,7 @@ public class UIAssertionError extends AssertionError {
   private final Driver driver;
 
   private String screenshot;
+  private boolean screenshotPending;
   public long timeoutMs;
 
   protected UIAssertionError(Driver driver, String message) {
@@ -36,18 +37,45 @@ public class UIAssertionError extends AssertionError {
   }
 
   protected String uiDetails() {
-    return screenshot(driver.config(), screenshot) + timeout(timeoutMs) + causedBy(getCause());
+    return screenshot(driver.config(), getScreenshot()) + timeout(timeoutMs) + causedBy(getCause());
   }
 
   /**
-   * Get path to screenshot taken after failed test
+   * Get path to screenshot taken after failed test.
+   *
+   * Screenshot is taken lazily - when the error is reported for the first time (see {@link #capture()}).
    *
    * @return empty string if screenshots are disabled
    */
-  public String getScreenshot() {
+  public synchronized String getScreenshot() {
+    if (screenshotPending) {
+      screenshotPending = false;
+      screenshot = FailureArtifacts.screenshot(driver);
+    }
     return screenshot;
   }
 
+  /**
+   * Use the given screenshot instead of taking a new one (unless the screenshot has already been taken).
+   * Used for sharing one screenshot between soft assertion errors of the same test.
+   */
+  public synchronized void shareScreenshot(String screenshot) {
+    if (screenshotPending) {
+      screenshotPending = false;
+      this.screenshot = screenshot;
+    }
+  }
+
+  /**
+   * Capture details of the failure (screenshot etc.), unless they are already captured.
+   *
+   * Selenide calls this method when the error is actually reported: thrown to the test or recorded as a soft assertion.
+   * Errors which are caught and retried by Selenide itself never capture anything.
+   */
+  public void capture() {
+    getScreenshot();
+  }
+
   public static Error wrap(Driver driver, Error error, long timeoutMs) {
     if (Cleanup.of.isInvalidSelectorError(error))
       return error;
@@ -59,10 +87,16 @@ public class UIAssertionError extends AssertionError {
     UIAssertionError uiError = error instanceof UIAssertionError ?
       (UIAssertionError) error : wrapToUIAssertionError(driver, error);
     uiError.timeoutMs = timeoutMs;
-    uiError.screenshot = ScreenShotLaboratory.getInstance().formatScreenShotPath(driver);
+    uiError.screenshotLater();
     return uiError;
   }
 
+  private synchronized void screenshotLater() {
+    if (screenshot == null) {
+      screenshotPending = true;
+    }
+  }
+
   private static UIAssertionError wrapToUIAssertionError(Driver driver, Throwable error) {
     String message = error.getClass().getSimpleName() + ": " + Cleanup.of.webdriverExceptionMessage(error.getMessage());
     return new UIAssertionError(driver, message, error);
@@ -0,0 +1,102 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.PollingStrategy;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers how long it took to satisfy every condition of every element
+ * (a histogram of durations with buckets 1, 2, 4, 8... ms per selector and condition).
+ * Only waits which had to poll are counted: checks successful at once don't tell how long the condition takes.
+ *
+ * While the wait is shorter than the usual time to satisfy the condition (90th percentile),
+ * checks are frequent: the condition is likely to be met soon, so every check may be the successful one.
+ * After that time checks become less and less frequent (up to {@code 4 * pollingInterval}):
+ * probably the condition will not be met at all, so frequent checks would only load the browser.
+ *
+ * Conditions without enough history are checked with {@link BackoffPolling}.
+ */
+public class AdaptivePolling implements PollingStrategy {
+  static final int MIN_SAMPLES = 3;
+  static final int MAX_SUBJECTS = 1000;
+
+  private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+  private final BackoffPolling backoff;
+
+  public AdaptivePolling() {
+    this(new BackoffPolling());
+  }
+
+  AdaptivePolling(BackoffPolling backoff) {
+    this.backoff = backoff;
+  }
+
+  @Override
+  public long nextDelay(String subject, int poll, long elapsedMs, long pollingInterval) {
+    Histogram histogram = histograms.get(subject);
+    if (histogram == null || histogram.count() < MIN_SAMPLES) {
+      return backoff.nextDelay(subject, poll, elapsedMs, pollingInterval);
+    }
+
+    long expected = histogram.percentile(0.9);
+    long min = Math.max(1, pollingInterval / 8);
+    if (elapsedMs < expected) {
+      return Math.max(min, Math.min(pollingInterval, expected / 4));
+    }
+    return Math.min(pollingInterval * BackoffPolling.MAX_FACTOR, Math.max(pollingInterval, (elapsedMs - expected) / 2));
+  }
+
+  @Override
+  public void finished(String subject, int polls, long elapsedMs, boolean satisfied) {
+    if (!satisfied) return;
+
+    if (histograms.size() >= MAX_SUBJECTS && !histograms.containsKey(subject)) {
+      histograms.clear();
+    }
+    histograms.computeIfAbsent(subject, key -> new Histogram()).add(elapsedMs);
+  }
+
+  /**
+   * Durations in buckets [0, 1], (1, 2], (2, 4], (4, 8]... ms.
+   * Buckets are halved now and then, so that old durations are gradually forgotten.
+   */
+  static class Histogram {
+    private static final int MAX_COUNT = 64;
+    private final int[] buckets = new int[32];
+    private int count;
+
+    synchronized void add(long durationMs) {
+      buckets[bucket(durationMs)]++;
+      count++;
+      if (count >= MAX_COUNT) {
+        count = 0;
+        for (int i = 0; i < buckets.length; i++) {
+          buckets[i] /= 2;
+          count += buckets[i];
+        }
+      }
+    }
+
+    synchronized int count() {
+      return count;
+    }
+
+    /**
+     * @return upper bound of the bucket containing given percentile of durations
+     */
+    synchronized long percentile(double percentile) {
+      int threshold = (int) Math.ceil(count * percentile);
+      int sum = 0;
+      for (int i = 0; i < buckets.length; i++) {
+        sum += buckets[i];
+        if (sum >= threshold) return 1L << i;
+      }
+      return 1L << (buckets.length - 1);
+    }
+
+    private int bucket(long durationMs) {
+      return durationMs <= 1 ? 0 : Math.min(buckets.length - 1, 64 - Long.numberOfLeadingZeros(durationMs - 1));
+    }
+  }
+}
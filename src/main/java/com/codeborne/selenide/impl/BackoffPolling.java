@@ -0,0 +1,33 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.PollingStrategy;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Exponential backoff with jitter: first check comes after {@code pollingInterval / 4},
+ * every next delay is twice longer, up to {@code 4 * pollingInterval}.
+ *
+ * Every delay is randomly shortened by up to a half, so that parallel tests don't hit the browsers in sync.
+ */
+public class BackoffPolling implements PollingStrategy {
+  static final int MAX_FACTOR = 4;
+
+  @Override
+  public long nextDelay(String subject, int poll, long elapsedMs, long pollingInterval) {
+    long initial = Math.max(1, pollingInterval / 4);
+    long max = Math.max(1, pollingInterval * MAX_FACTOR);
+    long delay = Math.min(max, initial << Math.min(poll - 1, 16));
+    return jitter(delay);
+  }
+
+  @Override
+  public boolean usesSubject() {
+    return false;
+  }
+
+  long jitter(long delay) {
+    long half = delay / 2;
+    return delay - half + ThreadLocalRandom.current().nextLong(half + 1);
+  }
+}
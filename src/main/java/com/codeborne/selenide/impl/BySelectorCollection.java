@@ -3,14 +3,18 @@ package com.codeborne.selenide.impl;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.SelenideElement;
 import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchFrameException;
 import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebElement;
 
+import javax.annotation.Nullable;
 import java.util.List;
 
 public class BySelectorCollection implements WebElementsCollection {
 
   private final Driver driver;
+  private final List<String> framePath;
   private final SearchContext parent;
   private final By selector;
 
@@ -19,15 +23,37 @@ public class BySelectorCollection implements WebElementsCollection {
   }
 
   public BySelectorCollection(Driver driver, SearchContext parent, By selector) {
+    this(driver, null, parent, selector);
+  }
+
+  /**
+   * @param framePath ids/names of (nested) frames containing the elements, see {@link FrameSwitcher}
+   */
+  public BySelectorCollection(Driver driver, @Nullable List<String> framePath, SearchContext parent, By selector) {
     this.driver = driver;
+    this.framePath = framePath;
     this.parent = parent;
     this.selector = selector;
   }
 
   @Override
   public List<WebElement> getElements() {
+    if (framePath != null) {
+      FrameSwitcher.of(driver.getWebDriver()).switchToSearch(framePath);
+    }
+    else if (parent == null) {
+      FrameSwitcher.of(driver.getWebDriver()).leaveFrameEnteredForSearch();
+    }
     SearchContext searchContext = parent == null ? driver.getWebDriver() : parent;
-    return WebElementSelector.instance.findElements(driver, searchContext, selector);
+    try {
+      return WebElementSelector.instance.findElements(driver, searchContext, selector);
+    }
+    catch (NoSuchFrameException | StaleElementReferenceException frameHasBeenReloaded) {
+      if (framePath != null) {
+        FrameSwitcher.of(driver.getWebDriver()).frameMightHaveReloaded();
+      }
+      throw frameHasBeenReloaded;
+    }
   }
 
   @Override
@@ -0,0 +1,138 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Condition;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.ex.ElementNotFound;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Remembers elements found during one attempt of a Selenide command.
+ *
+ * Nested commands (e.g. {@code setValue} calling {@code selectOptionByValue}) and construction of error messages
+ * get the same element instead of searching it again. The parent of the element is also found only once,
+ * and "element not found" error doesn't check the parent again if it has been found.
+ *
+ * A new instance is created for every attempt: if the element has been replaced on the page,
+ * the next attempt finds the new one.
+ */
+class CachingElementSource extends WebElementSource {
+  private final WebElementSource source;
+  private Lookup<SearchContext> searchContext;
+  private Lookup<WebElement> element;
+  private Lookup<WebElement> elementIfPresent;
+  private Lookup<List<WebElement>> elements;
+
+  CachingElementSource(WebElementSource source) {
+    this.source = source;
+  }
+
+  @Override
+  public Driver driver() {
+    return source.driver();
+  }
+
+  @Override
+  public String getSearchCriteria() {
+    return source.getSearchCriteria();
+  }
+
+  @Override
+  public SelenideElement find(SelenideElement proxy, Object arg, int index) {
+    return source.find(proxy, arg, index);
+  }
+
+  @Override
+  public WebElement getWebElement() {
+    if (element == null && elementIfPresent != null && elementIfPresent.error == null && elementIfPresent.value != null) {
+      element = elementIfPresent;
+    }
+    if (element == null) {
+      element = source instanceof ElementFinder ?
+        Lookup.of(() -> ((ElementFinder) source).getWebElement(searchContext())) :
+        Lookup.of(source::getWebElement);
+    }
+    return element.get();
+  }
+
+  @Override
+  @Nullable
+  public WebElement findIfPresent() {
+    if (element != null && (element.error == null || isNotFound(element.error))) {
+      return element.error == null ? element.value : null;
+    }
+    if (elementIfPresent == null) {
+      elementIfPresent = source instanceof ElementFinder ?
+        Lookup.of(() -> ((ElementFinder) source).findIfPresent(searchContext())) :
+        Lookup.of(source::findIfPresent);
+    }
+    return elementIfPresent.get();
+  }
+
+  @Override
+  public List<WebElement> findAll() {
+    if (elements == null) {
+      elements = source instanceof ElementFinder ?
+        Lookup.of(() -> ((ElementFinder) source).findAll(searchContext())) :
+        Lookup.of(source::findAll);
+    }
+    return elements.get();
+  }
+
+  @Override
+  public ElementNotFound createElementNotFoundError(Condition condition, Throwable lastError) {
+    boolean parentFound = searchContext != null && searchContext.error == null;
+    return source instanceof ElementFinder ?
+      ((ElementFinder) source).createElementNotFoundError(condition, lastError, parentFound) :
+      source.createElementNotFoundError(condition, lastError);
+  }
+
+  private SearchContext searchContext() {
+    if (searchContext == null) {
+      searchContext = Lookup.of(((ElementFinder) source)::searchContext);
+    }
+    return searchContext.get();
+  }
+
+  private static boolean isNotFound(RuntimeException error) {
+    return error instanceof NoSuchElementException || error instanceof IndexOutOfBoundsException;
+  }
+
+  @Override
+  public String toString() {
+    return source.toString();
+  }
+
+  /**
+   * Result of a search: either found value or the error
+   */
+  private static class Lookup<T> {
+    private final T value;
+    private final RuntimeException error;
+
+    private Lookup(T value, RuntimeException error) {
+      this.value = value;
+      this.error = error;
+    }
+
+    static <T> Lookup<T> of(Supplier<T> search) {
+      try {
+        return new Lookup<>(search.get(), null);
+      }
+      catch (RuntimeException e) {
+        return new Lookup<>(null, e);
+      }
+    }
+
+    T get() {
+      if (error != null) throw error;
+      return value;
+    }
+  }
+}
@@ -6,7 +6,6 @@ import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.ex.ElementNotFound;
 import org.openqa.selenium.WebElement;
 
-import java.lang.reflect.Proxy;
 import java.util.List;
 
 import static com.codeborne.selenide.Condition.visible;
@@ -14,9 +13,7 @@ import static com.codeborne.selenide.Condition.visible;
 public class CollectionElementByCondition extends WebElementSource {
 
   public static SelenideElement wrap(WebElementsCollection collection, Condition condition) {
-    return (SelenideElement) Proxy.newProxyInstance(
-        collection.getClass().getClassLoader(), new Class<?>[]{SelenideElement.class},
-        new SelenideElementProxy(new CollectionElementByCondition(collection, condition)));
+    return SelenideElementProxy.wrap(new CollectionElementByCondition(collection, condition));
   }
 
   private final WebElementsCollection collection;
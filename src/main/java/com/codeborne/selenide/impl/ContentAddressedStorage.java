@@ -0,0 +1,179 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Config;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Stores every unique file content only once.
+ *
+ * The first file with given content (by its SHA-256 hash) is written as usual,
+ * and every next file with the same content is created as a hard link to the first one.
+ * No other files are created, so every file in reports folder is a real report file.
+ * If hard links are not supported by file system, the content is written again.
+ *
+ * Only the last {@link #MAX_FILES} files are remembered (and only {@link #MAX_FOLDERS} reports folders),
+ * older content is just written again when it comes back.
+ */
+public class ContentAddressedStorage {
+  private static final Logger log = LoggerFactory.getLogger(ContentAddressedStorage.class);
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+  static final int MAX_FILES = 10_000;
+  static final int MAX_FOLDERS = 16;
+  private static final Map<File, ContentAddressedStorage> storages = new LinkedHashMap<File, ContentAddressedStorage>() {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<File, ContentAddressedStorage> eldest) {
+      return size() > MAX_FOLDERS;
+    }
+  };
+
+  private final Map<String, Path> files = new HashMap<>();
+  private final Map<Path, String> keys = new LinkedHashMap<Path, String>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Path, String> eldest) {
+      if (size() > MAX_FILES) {
+        files.remove(eldest.getValue(), eldest.getKey());
+        return true;
+      }
+      return false;
+    }
+  };
+
+  public static ContentAddressedStorage inReportsFolder(Config config) {
+    synchronized (storages) {
+      return storages.computeIfAbsent(new File(config.reportsFolder()).getAbsoluteFile(), folder -> new ContentAddressedStorage());
+    }
+  }
+
+  public File save(File sourceFile, File targetFile) throws IOException {
+    try (InputStream in = Files.newInputStream(sourceFile.toPath())) {
+      return save(hash(in), targetFile, target -> Files.copy(sourceFile.toPath(), target, REPLACE_EXISTING));
+    }
+  }
+
+  public File save(BufferedImage image, String format, File targetFile) throws IOException {
+    ByteArrayOutputStream content = new ByteArrayOutputStream();
+    ImageIO.write(image, format, content);
+    return save(content.toByteArray(), targetFile);
+  }
+
+  public File save(byte[] content, File targetFile) throws IOException {
+    return save(hash(content), targetFile, target -> Files.write(target, content));
+  }
+
+  private File save(String hash, File targetFile, Writer writer) throws IOException {
+    Path target = targetFile.toPath().toAbsolutePath();
+    String key = hash + extension(targetFile);
+    Path existing = existing(key, target);
+    Path folder = target.getParent();
+    if (folder != null) {
+      Files.createDirectories(folder);
+    }
+    Files.deleteIfExists(target);
+
+    boolean linked = existing != null && !existing.equals(target) && Files.exists(existing) && link(existing, target);
+    if (linked) {
+      log.debug("Reusing {} for {}", existing, target);
+    }
+    else {
+      writer.write(target);
+    }
+    remember(key, target, !linked);
+    return targetFile;
+  }
+
+  /**
+   * Target file is going to be overwritten, so other files with its old content should not be linked to it anymore
+   *
+   * @return file with the same content to link to, or null
+   */
+  private synchronized Path existing(String key, Path target) {
+    String oldKey = keys.remove(target);
+    if (oldKey != null) {
+      files.remove(oldKey, target);
+    }
+    return files.get(key);
+  }
+
+  private synchronized void remember(String key, Path target, boolean written) {
+    if (written) {
+      files.put(key, target);
+    }
+    keys.put(target, key);
+  }
+
+  synchronized int size() {
+    return keys.size();
+  }
+
+  private boolean link(Path existing, Path target) {
+    try {
+      Files.createLink(target, existing);
+      return true;
+    }
+    catch (IOException | UnsupportedOperationException e) {
+      log.debug("Failed to create hard link {} to {}, writing instead: {}", target, existing, e.toString());
+      return false;
+    }
+  }
+
+  private static String extension(File file) {
+    String name = file.getName();
+    int dot = name.lastIndexOf('.');
+    return dot < 0 ? "" : name.substring(dot);
+  }
+
+  static String hash(byte[] content) {
+    MessageDigest digest = sha256();
+    digest.update(content);
+    return hex(digest.digest());
+  }
+
+  static String hash(InputStream content) throws IOException {
+    MessageDigest digest = sha256();
+    byte[] buffer = new byte[8192];
+    for (int read = content.read(buffer); read != -1; read = content.read(buffer)) {
+      digest.update(buffer, 0, read);
+    }
+    return hex(digest.digest());
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    }
+    catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not supported", e);
+    }
+  }
+
+  private static String hex(byte[] digest) {
+    char[] hex = new char[digest.length * 2];
+    for (int i = 0; i < digest.length; i++) {
+      hex[i * 2] = HEX[(digest[i] >> 4) & 0xF];
+      hex[i * 2 + 1] = HEX[digest[i] & 0xF];
+    }
+    return new String(hex);
+  }
+
+  @FunctionalInterface
+  private interface Writer {
+    void write(Path target) throws IOException;
+  }
+}
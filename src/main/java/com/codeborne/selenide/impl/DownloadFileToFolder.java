@@ -0,0 +1,120 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Driver;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashSet;
+import java.util.Set;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Downloads file by clicking the element and waiting until browser saves the file to its downloads folder.
+ *
+ * Completion is detected by file system events: Chrome writes "*.crdownload" and Firefox writes "*.part" files
+ * while downloading, and renames them when download is finished.
+ */
+public class DownloadFileToFolder {
+  private static final Logger log = LoggerFactory.getLogger(DownloadFileToFolder.class);
+
+  public File download(WebElementSource anyClickableElement, WebElement clickable, long timeout) throws IOException {
+    Driver driver = anyClickableElement.driver();
+    File folder = driver.browserDownloadsFolder();
+    if (folder == null) {
+      throw new IllegalStateException("Cannot download file: browser has not been configured to download files to a folder." +
+        " Set fileDownload=FOLDER before opening browser");
+    }
+    return clickAndWaitForFile(folder, clickable::click, anyClickableElement, timeout, driver.config().pollingInterval());
+  }
+
+  /**
+   * @param maxWaitBetweenChecks on some platforms (e.g. MacOS) {@link WatchService} is implemented by polling
+   *                             the file system every few seconds, so folder is re-checked at least that often
+   */
+  File clickAndWaitForFile(File folder, Runnable click, Object element, long timeout, long maxWaitBetweenChecks)
+    throws IOException {
+    Files.createDirectories(folder.toPath());
+    Set<String> filesBefore = fileNames(folder);
+    long deadline = System.currentTimeMillis() + timeout;
+
+    try (WatchService watcher = folder.toPath().getFileSystem().newWatchService()) {
+      folder.toPath().register(watcher, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+      click.run();
+
+      long emptyFileSeenAt = 0;
+      for (long remaining = timeout; remaining >= 0; remaining = deadline - System.currentTimeMillis()) {
+        File downloadedFile = downloadedFile(folder, filesBefore);
+        if (downloadedFile != null && downloadedFile.length() == 0 && emptyFileSeenAt == 0) {
+          emptyFileSeenAt = System.currentTimeMillis();
+        }
+        if (downloadedFile != null && isComplete(downloadedFile, emptyFileSeenAt, maxWaitBetweenChecks)) {
+          log.info("Downloaded file: {}", downloadedFile.getAbsolutePath());
+          return downloadedFile;
+        }
+        WatchKey key = watcher.poll(Math.max(1, Math.min(remaining, maxWaitBetweenChecks)), MILLISECONDS);
+        if (key != null) {
+          key.pollEvents();
+          key.reset();
+        }
+      }
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new FileNotFoundException("Interrupted while downloading file " + element);
+    }
+    throw new FileNotFoundException("Failed to download file " + element + " in " + timeout + " ms. Folder: " + folder);
+  }
+
+  /**
+   * @return the newest file that appeared in folder after click, or null if download is still in progress
+   */
+  private File downloadedFile(File folder, Set<String> filesBefore) {
+    File[] files = folder.listFiles();
+    if (files == null) return null;
+
+    File result = null;
+    for (File file : files) {
+      if (filesBefore.contains(file.getName())) continue;
+      if (isPartial(file.getName())) return null;
+      if (file.isFile() && (result == null || file.lastModified() > result.lastModified())) {
+        result = file;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Firefox creates an empty placeholder file slightly before "*.part" file,
+   * so an empty file is accepted only if it stays empty for a while.
+   */
+  private boolean isComplete(File file, long emptyFileSeenAt, long maxWaitBetweenChecks) {
+    return file.length() > 0 || System.currentTimeMillis() - emptyFileSeenAt >= maxWaitBetweenChecks;
+  }
+
+  static boolean isPartial(String fileName) {
+    return fileName.endsWith(".crdownload") || fileName.endsWith(".part") || fileName.endsWith(".tmp")
+      || fileName.startsWith(".");
+  }
+
+  private Set<String> fileNames(File folder) {
+    Set<String> names = new HashSet<>();
+    String[] files = folder.list();
+    if (files != null) {
+      for (String file : files) {
+        names.add(file);
+      }
+    }
+    return names;
+  }
+}
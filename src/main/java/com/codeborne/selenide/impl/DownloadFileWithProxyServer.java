@@ -38,25 +38,26 @@ public class DownloadFileWithProxyServer {
                                           SelenideProxyServer proxyServer, long timeout) throws FileNotFoundException {
     Config config = anyClickableElement.driver().config();
     WebDriver webDriver = anyClickableElement.driver().getWebDriver();
+    WindowRegistry windows = WindowRegistry.of(webDriver);
     String currentWindowHandle = webDriver.getWindowHandle();
-    Set<String> currentWindows = webDriver.getWindowHandles();
+    Set<String> currentWindows = new HashSet<>(windows.handles());
 
     FileDownloadFilter filter = proxyServer.responseFilter("download");
     filter.activate();
     try {
       clickable.click();
 
-      waiter.wait(filter, new HasDownloads(), timeout, config.pollingInterval());
+      waiter.wait(filter, new HasDownloads(), timeout, config.pollingInterval(), PollingStrategies.of(config));
       return firstDownloadedFile(anyClickableElement, filter, timeout);
     }
     finally {
       filter.deactivate();
-      closeNewWindows(webDriver, currentWindowHandle, currentWindows);
+      closeNewWindows(webDriver, windows, currentWindowHandle, currentWindows);
     }
   }
 
-  private void closeNewWindows(WebDriver webDriver, String currentWindowHandle, Set<String> currentWindows) {
-    Set<String> windowHandles = webDriver.getWindowHandles();
+  private void closeNewWindows(WebDriver webDriver, WindowRegistry windows, String currentWindowHandle, Set<String> currentWindows) {
+    List<String> windowHandles = windows.handles();
     if (windowHandles.size() != currentWindows.size()) {
       Set<String> newWindows = new HashSet<>(windowHandles);
       newWindows.removeAll(currentWindows);
@@ -68,6 +69,7 @@ public class DownloadFileWithProxyServer {
         try {
           webDriver.switchTo().window(newWindow);
           webDriver.close();
+          windows.forget(newWindow);
         }
         catch (NoSuchWindowException windowHasBeenClosedMeanwhile) {
           log.info("  Failed to close {}: {}", newWindow, Cleanup.of.webdriverExceptionMessage(windowHasBeenClosedMeanwhile));
@@ -85,6 +87,11 @@ public class DownloadFileWithProxyServer {
     public boolean apply(FileDownloadFilter filter) {
       return !filter.getDownloadedFiles().isEmpty();
     }
+
+    @Override
+    public String toString() {
+      return "file download";
+    }
   }
 
   private File firstDownloadedFile(WebElementSource anyClickableElement,
@@ -6,14 +6,18 @@ import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.ex.ElementNotFound;
 import org.openqa.selenium.By;
 import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.NotFoundException;
 import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebElement;
 
+import javax.annotation.Nullable;
 import java.lang.reflect.Proxy;
 import java.util.List;
 
 import static com.codeborne.selenide.Condition.exist;
 import static java.lang.Thread.currentThread;
+import static java.util.Collections.singletonList;
 
 public class ElementFinder extends WebElementSource {
   public static SelenideElement wrap(Driver driver, WebElement parent, String cssSelector) {
@@ -38,19 +42,36 @@ public class ElementFinder extends WebElementSource {
 
   @SuppressWarnings("unchecked")
   public static <T extends SelenideElement> T wrap(Driver driver, Class<T> clazz, SearchContext parent, By criteria, int index) {
+    if (clazz == SelenideElement.class) {
+      return (T) SelenideElementProxy.wrap(new ElementFinder(driver, parent, criteria, index));
+    }
     return (T) Proxy.newProxyInstance(
         currentThread().getContextClassLoader(),
         new Class<?>[]{clazz},
         new SelenideElementProxy(new ElementFinder(driver, parent, criteria, index)));
   }
 
+  /**
+   * @param framePath ids/names of (nested) frames containing the element (empty list means the top-level document):
+   *                  browser is switched to these frames (if needed) before every search of the element
+   */
+  public static SelenideElement wrapInFrame(Driver driver, List<String> framePath, By criteria, int index) {
+    return SelenideElementProxy.wrap(new ElementFinder(driver, framePath, null, criteria, index));
+  }
+
   private final Driver driver;
+  private final List<String> framePath;
   private final SearchContext parent;
   private final By criteria;
   private final int index;
 
   ElementFinder(Driver driver, SearchContext parent, By criteria, int index) {
+    this(driver, null, parent, criteria, index);
+  }
+
+  ElementFinder(Driver driver, @Nullable List<String> framePath, SearchContext parent, By criteria, int index) {
     this.driver = driver;
+    this.framePath = framePath;
     this.parent = parent;
     this.criteria = criteria;
     this.index = index;
@@ -70,34 +91,112 @@ public class ElementFinder extends WebElementSource {
 
   @Override
   public WebElement getWebElement() throws NoSuchElementException, IndexOutOfBoundsException {
-    return index == 0 ?
-        WebElementSelector.instance.findElement(driver, getSearchContext(), criteria) :
-        WebElementSelector.instance.findElements(driver, getSearchContext(), criteria).get(index);
+    return getWebElement(searchContext());
+  }
+
+  WebElement getWebElement(SearchContext context) throws NoSuchElementException, IndexOutOfBoundsException {
+    try {
+      return index == 0 ?
+          WebElementSelector.instance.findElement(driver, context, criteria) :
+          WebElementSelector.instance.findElements(driver, context, criteria).get(index);
+    }
+    catch (NotFoundException | StaleElementReferenceException | IndexOutOfBoundsException notFound) {
+      notFoundInFrame();
+      throw notFound;
+    }
+  }
+
+  /**
+   * Finds element by JavaScript when possible (see {@link ElementProbe}): doesn't wait for implicit timeout
+   * and doesn't throw exception if element is absent.
+   */
+  @Override
+  public WebElement findIfPresent() {
+    return findIfPresent(searchContext());
+  }
+
+  WebElement findIfPresent(SearchContext context) {
+    if (ElementProbe.instance.supports(driver, criteria)) {
+      WebElement element = ElementProbe.instance.find(driver, context, criteria, index);
+      if (element == null) notFoundInFrame();
+      return element;
+    }
+    try {
+      return getWebElement(context);
+    }
+    catch (NoSuchElementException | IndexOutOfBoundsException notFound) {
+      return null;
+    }
   }
 
   @Override
   public List<WebElement> findAll() throws NoSuchElementException, IndexOutOfBoundsException {
-    return index == 0 ?
-        WebElementSelector.instance.findElements(driver(), getSearchContext(), criteria) :
-        super.findAll();
+    return findAll(searchContext());
   }
 
-  private SearchContext getSearchContext() {
+  List<WebElement> findAll(SearchContext context) throws NoSuchElementException, IndexOutOfBoundsException {
+    if (index != 0) {
+      return singletonList(getWebElement(context));
+    }
+    try {
+      return WebElementSelector.instance.findElements(driver(), context, criteria);
+    }
+    catch (NotFoundException | StaleElementReferenceException notFound) {
+      notFoundInFrame();
+      throw notFound;
+    }
+  }
+
+  /**
+   * Switches to the element's frame (if needed) and finds the element's parent.
+   * Top-level element without frame is searched in the top-level document if the browser has been switched
+   * to a frame only to search another element (see {@link FrameSwitcher}).
+   *
+   * @return context for searching the element: parent element or the whole page
+   */
+  SearchContext searchContext() {
+    if (framePath != null) {
+      FrameSwitcher.of(driver.getWebDriver()).switchToSearch(framePath);
+    }
+    else if (parent == null) {
+      FrameSwitcher.of(driver.getWebDriver()).leaveFrameEnteredForSearch();
+    }
     return parent == null ? driver().getWebDriver() :
         (parent instanceof SelenideElement) ? ((SelenideElement) parent).toWebElement() :
         parent;
   }
 
+  /**
+   * The frame might have been reloaded (or the page navigated): switch to the frame again before the next search
+   */
+  private void notFoundInFrame() {
+    if (framePath != null) {
+      FrameSwitcher.of(driver.getWebDriver()).frameMightHaveReloaded();
+    }
+  }
+
   @Override
   public ElementNotFound createElementNotFoundError(Condition condition, Throwable lastError) {
+    return createElementNotFoundError(condition, lastError, false);
+  }
+
+  /**
+   * @param parentFound if the parent is known to exist (then it's not checked again)
+   */
+  ElementNotFound createElementNotFoundError(Condition condition, Throwable lastError, boolean parentFound) {
+    if (!parentFound) {
+      checkParentExists();
+    }
+    return super.createElementNotFoundError(condition, lastError);
+  }
+
+  private void checkParentExists() {
     if (parent instanceof SelenideElement) {
       ((SelenideElement) parent).should(exist);
     }
     else if (parent instanceof WebElement) {
       WebElementWrapper.wrap(driver(), (WebElement) parent).should(exist);
     }
-    
-    return super.createElementNotFoundError(condition, lastError);
   }
 
   @Override
@@ -0,0 +1,205 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Command;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.commands.Commands;
+import org.openqa.selenium.By;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebElement;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Method of {@link SelenideElement} with everything {@link SelenideElementProxy} needs to know about it:
+ * whether it's logged, whether it can be a soft assertion, whether it can navigate, positions of timeout arguments,
+ * and the command (or {@link WebElement} method) executing it.
+ *
+ * Computed once per method instead of on every call.
+ */
+class ElementMethod {
+  private static final Map<Method, ElementMethod> methods = new ConcurrentHashMap<>(256);
+
+  private static final Set<String> methodsToSkipLogging = new HashSet<>(asList(
+      "toWebElement",
+      "toString",
+      "getSearchCriteria"
+  ));
+
+  private static final Set<String> methodsForSoftAssertion = new HashSet<>(asList(
+      "should",
+      "shouldBe",
+      "shouldHave",
+      "shouldNot",
+      "shouldNotHave",
+      "shouldNotBe",
+      "waitUntil",
+      "waitWhile"
+  ));
+
+  private static final Set<String> methodsWhichMayNavigate = new HashSet<>(asList(
+      "click",
+      "doubleClick",
+      "submit",
+      "pressEnter"
+  ));
+
+  private static final Map<String, WebElementCall> webElementCalls = new HashMap<>();
+
+  static {
+    webElementCalls.put("clear", (element, args) -> {
+      element.clear();
+      return null;
+    });
+    webElementCalls.put("submit", (element, args) -> {
+      element.submit();
+      return null;
+    });
+    webElementCalls.put("sendKeys", (element, args) -> {
+      element.sendKeys((CharSequence[]) args[0]);
+      return null;
+    });
+    webElementCalls.put("getTagName", (element, args) -> element.getTagName());
+    webElementCalls.put("getAttribute", (element, args) -> element.getAttribute((String) args[0]));
+    webElementCalls.put("getCssValue", (element, args) -> element.getCssValue((String) args[0]));
+    webElementCalls.put("isEnabled", (element, args) -> element.isEnabled());
+    webElementCalls.put("isSelected", (element, args) -> element.isSelected());
+    webElementCalls.put("getLocation", (element, args) -> element.getLocation());
+    webElementCalls.put("getSize", (element, args) -> element.getSize());
+    webElementCalls.put("getRect", (element, args) -> element.getRect());
+    webElementCalls.put("findElement", (element, args) -> element.findElement((By) args[0]));
+    webElementCalls.put("findElements", (element, args) -> element.findElements((By) args[0]));
+    webElementCalls.put("getScreenshotAs", (element, args) -> element.getScreenshotAs((OutputType<?>) args[0]));
+  }
+
+  private final Method method;
+  private final String name;
+  private final boolean skipLogging;
+  private final boolean softAssertion;
+  private final boolean selenideCommand;
+  private final boolean mayNavigate;
+  private final int timeoutArgument;
+  private final int pollingIntervalArgument;
+  private final WebElementCall webElementCall;
+  private volatile BoundCommand boundCommand;
+
+  ElementMethod(Method method) {
+    this.method = method;
+    this.name = method.getName();
+    this.skipLogging = methodsToSkipLogging.contains(name);
+    this.softAssertion = methodsForSoftAssertion.contains(name);
+    this.selenideCommand = SelenideElement.class.isAssignableFrom(method.getDeclaringClass());
+    this.mayNavigate = methodsWhichMayNavigate.contains(name);
+    boolean waitCommand = "waitUntil".equals(name) || "waitWhile".equals(name);
+    this.timeoutArgument = waitCommand ? 1 : -1;
+    this.pollingIntervalArgument = waitCommand && method.getParameterCount() == 3 ? 2 : -1;
+    this.webElementCall = isWebElementMethod(method) ? webElementCalls.get(name) : null;
+  }
+
+  static ElementMethod of(Method method) {
+    ElementMethod elementMethod = methods.get(method);
+    return elementMethod != null ? elementMethod : methods.computeIfAbsent(method, ElementMethod::new);
+  }
+
+  private static boolean isWebElementMethod(Method method) {
+    return method.getDeclaringClass() == WebElement.class || method.getDeclaringClass() == TakesScreenshot.class;
+  }
+
+  String name() {
+    return name;
+  }
+
+  boolean isSkipLogging() {
+    return skipLogging;
+  }
+
+  boolean isSoftAssertion() {
+    return softAssertion;
+  }
+
+  /**
+   * @return true if the method can navigate the page or reload a frame (e.g. click on a link)
+   */
+  boolean mayNavigate() {
+    return mayNavigate;
+  }
+
+  /**
+   * @return true if the method is executed by a Selenide {@link Command}, false if it's a method of {@link WebElement}
+   */
+  boolean isSelenideCommand() {
+    return selenideCommand;
+  }
+
+  long timeoutMs(Object[] args, long defaultTimeoutMs) {
+    return timeoutArgument < 0 ? defaultTimeoutMs : (Long) args[timeoutArgument];
+  }
+
+  long pollingIntervalMs(Object[] args, long defaultPollingIntervalMs) {
+    return pollingIntervalArgument < 0 ? defaultPollingIntervalMs : (Long) args[pollingIntervalArgument];
+  }
+
+  Object execute(Object proxy, WebElementSource webElementSource, Object[] args) throws IOException {
+    return command().execute((SelenideElement) proxy, webElementSource, args);
+  }
+
+  /**
+   * The command is looked up again only when {@link Commands} have been changed
+   */
+  private Command<?> command() {
+    Commands commands = Commands.getInstance();
+    int version = commands.version();
+    BoundCommand bound = boundCommand;
+    if (bound == null || bound.version != version) {
+      bound = new BoundCommand(version, commands.get(name));
+      boundCommand = bound;
+    }
+    return bound.command;
+  }
+
+  /**
+   * Call the method of the real web element (directly if possible, otherwise via reflection)
+   *
+   * @throws InvocationTargetException if the method has thrown an exception (the same as {@link Method#invoke})
+   */
+  Object invoke(WebElement element, Object[] args) throws InvocationTargetException, IllegalAccessException {
+    if (webElementCall == null) {
+      return method.invoke(element, args);
+    }
+    try {
+      return webElementCall.call(element, args);
+    }
+    catch (RuntimeException | Error e) {
+      throw new InvocationTargetException(e);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+
+  @FunctionalInterface
+  private interface WebElementCall {
+    Object call(WebElement element, Object[] args);
+  }
+
+  private static class BoundCommand {
+    private final int version;
+    private final Command<?> command;
+
+    private BoundCommand(int version, Command<?> command) {
+      this.version = version;
+      this.command = command;
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.Selectors.ByText;
+import com.codeborne.selenide.Selectors.WithText;
+import org.openqa.selenium.By;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+
+import static com.codeborne.selenide.SelectorMode.CSS;
+
+/**
+ * Finds element by JavaScript instead of webdriver "find element" command.
+ *
+ * Used for checking that element is absent or hidden, where "not found" is the expected answer:
+ * <ul>
+ *   <li>browser answers immediately, even if implicit wait is set,</li>
+ *   <li>absent element is just null, not an exception.</li>
+ * </ul>
+ *
+ * Supports css, xpath, id, name, class name and tag name selectors, and {@link ByText}/{@link WithText}.
+ */
+class ElementProbe {
+  static ElementProbe instance = new ElementProbe();
+
+  private static final String SCRIPT = "var type = arguments[0], selector = arguments[1], context = arguments[2] || document;\n" +
+    "var index = arguments[3];\n" +
+    "try {\n" +
+    "  if (type === 'xpath') {\n" +
+    "    var node = document.evaluate(selector, context, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null).snapshotItem(index);\n" +
+    "    return !node || node.nodeType === 1 ? node : {invalidSelector: 'The result of the xpath expression is not an element'};\n" +
+    "  }\n" +
+    "  return (index === 0 ? context.querySelector(selector) : context.querySelectorAll(selector)[index]) || null;\n" +
+    "}\n" +
+    "catch (e) {\n" +
+    "  return {invalidSelector: String(e.message || e)};\n" +
+    "}";
+
+  boolean supports(Driver driver, By selector) {
+    return driver.config().selectorMode() == CSS &&
+      driver.getWebDriver() instanceof JavascriptExecutor &&
+      query(selector) != null;
+  }
+
+  /**
+   * @param context element to search inside (or webdriver to search in the whole page)
+   * @return the element, or null if it's not found
+   * @throws InvalidSelectorException if the selector is invalid
+   */
+  @Nullable
+  WebElement find(Driver driver, SearchContext context, By selector, int index) {
+    WebElementSelector.instance.checkThatXPathNotStartingFromSlash(context, selector);
+
+    String[] query = query(selector);
+    Object result = driver.executeJavaScript(SCRIPT, query[0], query[1], context instanceof WebElement ? context : null, index);
+    if (result instanceof Map) {
+      throw new InvalidSelectorException("Invalid selector " + selector + ": " + ((Map<?, ?>) result).get("invalidSelector"));
+    }
+    return (WebElement) result;
+  }
+
+  /**
+   * @return type ("css" or "xpath") and text of selector, or null if selector is not supported
+   */
+  @Nullable
+  String[] query(By selector) {
+    if (selector instanceof ByText) return new String[]{"xpath", ((ByText) selector).getXPath()};
+    if (selector instanceof WithText) return new String[]{"xpath", ((WithText) selector).getXPath()};
+
+    String value = selector.toString().replaceFirst("^By\\.\\w+: ", "");
+    if (selector.getClass() == By.ByXPath.class) return new String[]{"xpath", value};
+
+    String css = css(selector.getClass(), value);
+    return css == null ? null : new String[]{"css", css};
+  }
+
+  @Nullable
+  private String css(Class<?> type, String value) {
+    if (type == By.ByCssSelector.class || type == By.ByTagName.class) return value;
+    if (type == By.ById.class) return "[id=" + quote(value) + "]";
+    if (type == By.ByName.class) return "[name=" + quote(value) + "]";
+    if (type == By.ByClassName.class && !value.matches(".*\\s.*")) return "[class~=" + quote(value) + "]";
+    return null;
+  }
+
+  private String quote(String value) {
+    return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+  }
+}
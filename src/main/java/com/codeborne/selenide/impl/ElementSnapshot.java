@@ -0,0 +1,216 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Driver;
+import org.apache.commons.io.IOUtils;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * State of web element read by a single JavaScript call: tag name, visibility, "enabled" and "selected" flags
+ * and attributes "class" and "value".
+ *
+ * Allows to check many conditions of the same element at once: conditions read the state from the snapshot
+ * instead of making a separate webdriver call for every property.
+ * Visibility and attributes are read by the same scripts ("atoms") that Selenium uses for
+ * {@link WebElement#isDisplayed()} and {@link WebElement#getAttribute(String)}.
+ *
+ * Text is read from the real element (once per snapshot): Selenium has no "atom" for visible text,
+ * and a JavaScript imitation of {@link WebElement#getText()} would give different results in some cases.
+ *
+ * Anything else (other attributes, css values, nested elements) is read from the real element.
+ */
+public class ElementSnapshot implements WebElement, WrapsElement {
+  private static final Logger log = LoggerFactory.getLogger(ElementSnapshot.class);
+  private static String script;
+
+  private final WebElement element;
+  private final String tagName;
+  private final boolean displayed;
+  private final boolean enabled;
+  private final boolean selected;
+  private final Map<String, String> attributes;
+  private String text;
+
+  @SuppressWarnings("unchecked")
+  ElementSnapshot(WebElement element, Map<String, Object> state) {
+    this.element = element;
+    this.tagName = (String) state.get("tagName");
+    this.displayed = (Boolean) state.get("displayed");
+    this.enabled = (Boolean) state.get("enabled");
+    this.selected = (Boolean) state.get("selected");
+    this.attributes = (Map<String, String>) state.get("attributes");
+  }
+
+  /**
+   * @return snapshot of the element, or the element itself if its state cannot be read by JavaScript
+   * (e.g. the element has disappeared, or the browser doesn't support JavaScript)
+   */
+  public static WebElement of(Driver driver, WebElement element) {
+    if (element == null || !(driver.getWebDriver() instanceof JavascriptExecutor)) return element;
+
+    try {
+      Map<String, Object> state = driver.executeJavaScript(script(), element);
+      return state == null ? element : new ElementSnapshot(element, state);
+    }
+    catch (WebDriverException | UnsupportedOperationException | ClassCastException e) {
+      log.debug("Failed to read state of {}: {}", element, e.toString());
+      return element;
+    }
+  }
+
+  private static synchronized String script() {
+    if (script == null) {
+      script = "var isDisplayed = " + atom("isDisplayed.js") + ";\n" +
+        "var getAttribute = " + atom("getAttribute.js") + ";\n" +
+        "var e = arguments[0];\n" +
+        "var displayed = isDisplayed(e);\n" +
+        "return {\n" +
+        "  tagName: e.tagName.toLowerCase(),\n" +
+        "  displayed: displayed,\n" +
+        "  enabled: !(e.matches && e.matches(':disabled')),\n" +
+        "  selected: e.tagName.toLowerCase() === 'option' ? e.selected :\n" +
+        "    (e.type === 'checkbox' || e.type === 'radio') ? e.checked : false,\n" +
+        "  attributes: {'class': getAttribute(e, 'class'), 'value': getAttribute(e, 'value')}\n" +
+        "};";
+    }
+    return script;
+  }
+
+  private static String atom(String name) {
+    URL atom = RemoteWebDriver.class.getResource(name);
+    if (atom == null) {
+      throw new IllegalStateException("Cannot find " + name + " in Selenium jar");
+    }
+    try {
+      return IOUtils.toString(atom, UTF_8);
+    }
+    catch (IOException e) {
+      throw new IllegalStateException("Cannot load " + name + " from Selenium jar", e);
+    }
+  }
+
+  @Override
+  public WebElement getWrappedElement() {
+    return element;
+  }
+
+  @Override
+  public String getTagName() {
+    return tagName;
+  }
+
+  @Override
+  public boolean isDisplayed() {
+    return displayed;
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  @Override
+  public boolean isSelected() {
+    return selected;
+  }
+
+  @Override
+  public String getText() {
+    if (text == null) {
+      text = element.getText();
+    }
+    return text;
+  }
+
+  @Override
+  public String getAttribute(String name) {
+    return attributes.containsKey(name) ? attributes.get(name) : element.getAttribute(name);
+  }
+
+  @Override
+  public String getCssValue(String propertyName) {
+    return element.getCssValue(propertyName);
+  }
+
+  @Override
+  public void click() {
+    element.click();
+  }
+
+  @Override
+  public void submit() {
+    element.submit();
+  }
+
+  @Override
+  public void sendKeys(CharSequence... keysToSend) {
+    element.sendKeys(keysToSend);
+  }
+
+  @Override
+  public void clear() {
+    element.clear();
+  }
+
+  @Override
+  public List<WebElement> findElements(By by) {
+    return element.findElements(by);
+  }
+
+  @Override
+  public WebElement findElement(By by) {
+    return element.findElement(by);
+  }
+
+  @Override
+  public Point getLocation() {
+    return element.getLocation();
+  }
+
+  @Override
+  public Dimension getSize() {
+    return element.getSize();
+  }
+
+  @Override
+  public Rectangle getRect() {
+    return element.getRect();
+  }
+
+  @Override
+  public <X> X getScreenshotAs(OutputType<X> target) {
+    return element.getScreenshotAs(target);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return element.equals(o instanceof ElementSnapshot ? ((ElementSnapshot) o).element : o);
+  }
+
+  @Override
+  public int hashCode() {
+    return element.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return element.toString();
+  }
+}
@@ -9,6 +9,22 @@ import org.slf4j.LoggerFactory;
 import static java.util.Arrays.asList;
 
 public class Events {
+  /**
+   * JavaScript function {@code fireEvents(element, eventNames)} to be included into other scripts
+   */
+  public static final String FIRE_EVENTS = "var fireEvents = function(element, eventNames) {\n" +
+    "  for (var i = 0; i < eventNames.length; i++) {\n" +
+    "    if (document.createEventObject) {\n" + // IE
+    "      element.fireEvent('on' + eventNames[i], document.createEventObject());\n" +
+    "    }\n" +
+    "    else {\n" +
+    "      var evt = document.createEvent('HTMLEvents');\n" +
+    "      evt.initEvent(eventNames[i], true, true);\n" +
+    "      element.dispatchEvent(evt);\n" +
+    "    }\n" +
+    "  }\n" +
+    "};\n";
+
   public static Events events = new Events(LoggerFactory.getLogger(Events.class));
 
   private final Logger log;
@@ -17,20 +33,7 @@ public class Events {
     this.log = log;
   }
 
-  private final String jsCodeToTriggerEvent =
-      "var webElement = arguments[0];\n" +
-          "var eventNames = arguments[1];\n" +
-          "for (var i = 0; i < eventNames.length; i++) {" +
-          "  if (document.createEventObject) {\n" +  // IE
-          "    var evt = document.createEventObject();\n" +
-          "    webElement.fireEvent('on' + eventNames[i], evt);\n" +
-          "  }\n" +
-          "  else {\n" +
-          "    var evt = document.createEvent('HTMLEvents');\n " +
-          "    evt.initEvent(eventNames[i], true, true );\n " +
-          "    webElement.dispatchEvent(evt);\n" +
-          "  }\n" +
-          '}';
+  private final String jsCodeToTriggerEvent = FIRE_EVENTS + "fireEvents(arguments[0], arguments[1]);";
 
   public void fireEvent(Driver driver, WebElement element, final String... event) {
     try {
@@ -0,0 +1,132 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.ex.UIAssertionError;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * Captures artifacts of failed checks (screenshot and page source) lazily, and not more often than needed.
+ *
+ * Selenide steps can be nested (e.g. searching an element checks that its parent exists), and an error of a nested step
+ * is usually caught by the outer step which retries. That's why {@link UIAssertionError} doesn't take a screenshot
+ * when it's created, but when it's reported: thrown out of the outermost step (see {@link #thrown(Throwable)}),
+ * recorded as a soft assertion, or when its message is read.
+ *
+ * Screenshots taken during the same outermost step are reused while the page stays the same.
+ * To find out if the page has changed, browser computes a short fingerprint of its html,
+ * so that the page source is not transferred one more time just for this decision.
+ */
+public class FailureArtifacts {
+  private static final Logger log = LoggerFactory.getLogger(FailureArtifacts.class);
+  private static final String PAGE_FINGERPRINT =
+    "var html = document.documentElement ? document.documentElement.outerHTML : '';" +
+    "var hash = 0;" +
+    "for (var i = 0; i < html.length; i++) hash = (hash * 31 + html.charCodeAt(i)) | 0;" +
+    "return location.href + ' ' + html.length + ' ' + hash;";
+  private static final ThreadLocal<FailureArtifacts> current =
+    ThreadLocal.withInitial(() -> new FailureArtifacts(ScreenShotLaboratory.getInstance()));
+
+  private final ScreenShotLaboratory screenshots;
+  private int depth;
+  private long step;
+  private long lastStep = -1;
+  private WeakReference<WebDriver> lastWebDriver = new WeakReference<>(null);
+  private String lastPage;
+  private String lastScreenshot;
+
+  FailureArtifacts(ScreenShotLaboratory screenshots) {
+    this.screenshots = screenshots;
+  }
+
+  /**
+   * Called when Selenide starts a step (e.g. an action or a check of element or collection)
+   */
+  public static void stepStarted() {
+    current.get().started();
+  }
+
+  /**
+   * Called when Selenide finishes a step (both successfully or not)
+   */
+  public static void stepFinished() {
+    current.get().finished();
+  }
+
+  /**
+   * Capture artifacts of the error if it's thrown out of the outermost step, i.e. to the test.
+   *
+   * @return the same error
+   */
+  public static <T extends Throwable> T thrown(T error) {
+    if (current.get().isOutermostStep() && error instanceof UIAssertionError) {
+      ((UIAssertionError) error).capture();
+    }
+    return error;
+  }
+
+  /**
+   * Take a screenshot for a failed check, or reuse the screenshot taken during the same step if the page hasn't changed
+   *
+   * @return path/url of the screenshot, or empty string if screenshots are disabled
+   */
+  public static String screenshot(Driver driver) {
+    return current.get().takeScreenshot(driver);
+  }
+
+  void started() {
+    if (depth++ == 0) {
+      step++;
+    }
+  }
+
+  void finished() {
+    if (depth > 0) {
+      depth--;
+    }
+  }
+
+  boolean isOutermostStep() {
+    return depth <= 1;
+  }
+
+  String takeScreenshot(Driver driver) {
+    if (!driver.config().screenshots() || !driver.hasWebDriverStarted()) {
+      return screenshots.formatScreenShotPath(driver);
+    }
+
+    WebDriver webDriver = driver.getWebDriver();
+    String page = pageFingerprint(webDriver);
+    if (page != null && lastScreenshot != null && lastStep == step &&
+      lastWebDriver.get() == webDriver && page.equals(lastPage)) {
+      log.debug("Page has not changed, reusing screenshot {}", lastScreenshot);
+      return lastScreenshot;
+    }
+
+    String screenshot = screenshots.formatScreenShotPath(driver);
+    lastStep = step;
+    lastWebDriver = new WeakReference<>(webDriver);
+    lastPage = page;
+    lastScreenshot = page == null ? null : screenshot;
+    return screenshot;
+  }
+
+  private String pageFingerprint(WebDriver webDriver) {
+    if (!(webDriver instanceof JavascriptExecutor)) {
+      return null;
+    }
+    try {
+      Object fingerprint = ((JavascriptExecutor) webDriver).executeScript(PAGE_FINGERPRINT);
+      return fingerprint instanceof String ? (String) fingerprint : null;
+    }
+    catch (WebDriverException e) {
+      log.debug("Failed to read page fingerprint: {}", e.toString());
+      return null;
+    }
+  }
+}
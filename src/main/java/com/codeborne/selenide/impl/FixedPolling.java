@@ -0,0 +1,18 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.PollingStrategy;
+
+/**
+ * Checks condition every {@code pollingInterval} milliseconds
+ */
+public class FixedPolling implements PollingStrategy {
+  @Override
+  public long nextDelay(String subject, int poll, long elapsedMs, long pollingInterval) {
+    return pollingInterval;
+  }
+
+  @Override
+  public boolean usesSubject() {
+    return false;
+  }
+}
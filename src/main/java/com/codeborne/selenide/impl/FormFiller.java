@@ -0,0 +1,223 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.Stopwatch;
+import com.codeborne.selenide.ex.FieldsNotFilled;
+import com.codeborne.selenide.ex.UIAssertionError;
+import com.codeborne.selenide.logevents.SelenideLog;
+import com.codeborne.selenide.logevents.SelenideLogger;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.codeborne.selenide.logevents.LogEvent.EventStatus.PASS;
+import static java.util.Arrays.asList;
+
+/**
+ * Fills many form fields with a single JavaScript call.
+ *
+ * Keys are CSS selectors, values are:
+ * <ul>
+ *   <li>{@link String} - text for input/textarea (like {@code setValue}: typed by keyboard,
+ *   or set by JavaScript if {@link com.codeborne.selenide.Config#fastSetValue()} is enabled),
+ *   value of option for select (like {@code selectOptionByValue})
+ *   or value of radio button (like {@code selectRadio})</li>
+ *   <li>{@code String[]} or {@link Collection} - values of options for (multiple) select</li>
+ *   <li>{@link Boolean} - state of checkbox, radio button or option (like {@code setSelected})</li>
+ * </ul>
+ *
+ * Text is typed after the JavaScript call, into the fields which the script has found and checked.
+ *
+ * Fields that have been filled successfully are forgotten, so that the next attempt
+ * only retries the fields that failed (e.g. not yet rendered or still disabled).
+ */
+public class FormFiller {
+  private static final String JS_CODE = Events.FIRE_EVENTS +
+    "var root = arguments[0] || document, fields = arguments[1], typeText = arguments[2], errors = {}, typing = [];\n" +
+    "var visible = function(e) {\n" +
+    "  if (!(e.offsetWidth || e.offsetHeight || e.getClientRects().length)) return false;\n" +
+    "  return window.getComputedStyle(e).visibility != 'hidden';\n" +
+    "};\n" +
+    "var setSelected = function(e, selected) {\n" +
+    "  var tag = e.tagName.toLowerCase(), type = e.getAttribute('type');\n" +
+    "  if (!visible(e)) return 'Cannot change invisible element';\n" +
+    "  if (tag != 'option' && !(tag == 'input' && (type == 'checkbox' || type == 'radio')))\n" +
+    "    return 'Only use setSelected on checkbox/option/radio';\n" +
+    "  if (e.getAttribute('readonly') != null || e.getAttribute('disabled') != null)\n" +
+    "    return 'Cannot change value of readonly/disabled element';\n" +
+    "  if (tag == 'option') {\n" +
+    "    if (e.selected != selected) {e.selected = selected; fireEvents(e.parentNode, ['input', 'change']);}\n" +
+    "  }\n" +
+    "  else if (e.checked != selected) e.click();\n" +
+    "  return null;\n" +
+    "};\n" +
+    "var selectOptions = function(selector, e, values) {\n" +
+    "  for (var i = 0; i < values.length; i++) {\n" +
+    "    var option = null;\n" +
+    "    for (var j = 0; j < e.options.length && !option; j++) if (e.options[j].value == values[i]) option = e.options[j];\n" +
+    "    if (!option) return 'Element not found {' + selector + '/option[value:' + values[i] + ']}';\n" +
+    "    if (!option.selected) {option.selected = true; fireEvents(e, ['input', 'change']);}\n" +
+    "  }\n" +
+    "  return null;\n" +
+    "};\n" +
+    "var selectRadio = function(selector, elements, value) {\n" +
+    "  for (var i = 0; i < elements.length; i++) {\n" +
+    "    if (elements[i].value != value) continue;\n" +
+    "    if (elements[i].getAttribute('readonly') != null) return 'Cannot select readonly radio button';\n" +
+    "    if (!visible(elements[i])) return 'Element should be visible {' + selector + '}';\n" +
+    "    elements[i].click();\n" +
+    "    return null;\n" +
+    "  }\n" +
+    "  return 'Element not found {' + selector + '}\\nExpected: value \\'' + value + '\\'';\n" +
+    "};\n" +
+    "var setValue = function(selector, e, text) {\n" +
+    "  if (!visible(e) && window.getComputedStyle(e).opacity != '0') return 'Element should be visible {' + selector + '}';\n" +
+    "  if (e.getAttribute('readonly') != null) return 'Cannot change value of readonly element';\n" +
+    "  if (e.getAttribute('disabled') != null) return 'Cannot change value of disabled element';\n" +
+    "  if (typeText) {typing.push([selector, e]); return null;}\n" +
+    "  e.focus();\n" +
+    "  var maxlength = e.getAttribute('maxlength') == null ? -1 : parseInt(e.getAttribute('maxlength'));\n" +
+    "  e.value = maxlength == -1 || text.length <= maxlength ? text : text.substring(0, maxlength);\n" +
+    "  fireEvents(e, ['keydown', 'keypress', 'input', 'keyup', 'change']);\n" +
+    "  return null;\n" +
+    "};\n" +
+    "var fill = function(selector, value) {\n" +
+    "  var elements = root.querySelectorAll(selector);\n" +
+    "  if (elements.length == 0) return 'Element not found {' + selector + '}';\n" +
+    "  var e = elements[0], tag = e.tagName.toLowerCase();\n" +
+    "  if (typeof value == 'boolean') return setSelected(e, value);\n" +
+    "  if (tag == 'select') return selectOptions(selector, e, typeof value == 'string' ? [value] : value);\n" +
+    "  if (typeof value != 'string') return 'Cannot set ' + value.length + ' values to <' + tag + '>';\n" +
+    "  if (tag == 'input' && e.getAttribute('type') == 'radio') return selectRadio(selector, elements, value);\n" +
+    "  return setValue(selector, e, value);\n" +
+    "};\n" +
+    "for (var i = 0; i < fields.length; i++) {\n" +
+    "  var error;\n" +
+    "  try {error = fill(fields[i][0], fields[i][1]);}\n" +
+    "  catch (e) {error = 'Failed to fill {' + fields[i][0] + '}: ' + e;}\n" +
+    "  if (error) errors[fields[i][0]] = error;\n" +
+    "}\n" +
+    "return {errors: errors, typing: typing};";
+
+  private final Driver driver;
+  private final Map<String, Object> fields;
+  private final Map<String, Object> remaining;
+
+  public FormFiller(Driver driver, Map<String, ?> fields) {
+    this.driver = driver;
+    this.fields = new LinkedHashMap<>(fields.size());
+    for (Map.Entry<String, ?> field : fields.entrySet()) {
+      this.fields.put(field.getKey(), toJsValue(field.getKey(), field.getValue()));
+    }
+    this.remaining = new LinkedHashMap<>(this.fields);
+  }
+
+  private static Object toJsValue(String selector, Object value) {
+    if (value instanceof String || value instanceof Boolean) {
+      return value;
+    }
+    if (value instanceof String[]) {
+      return asList((String[]) value);
+    }
+    if (value instanceof Collection) {
+      return new ArrayList<>((Collection<?>) value);
+    }
+    throw new IllegalArgumentException("Unsupported value of field " + selector + ": " + value +
+      " (expected String, String[], Collection or Boolean)");
+  }
+
+  /**
+   * Fill all fields of the page, retrying failed fields until timeout
+   *
+   * @throws FieldsNotFilled if some fields could not be filled during {@code timeoutMs}
+   */
+  public void fill(long timeoutMs, long pollingIntervalMs) {
+    SelenideLog log = SelenideLogger.beginStep("form", "fill form", fields);
+    FailureArtifacts.stepStarted();
+    try {
+      Stopwatch stopwatch = new Stopwatch(timeoutMs, PollingStrategies.of(driver.config()), "fill form");
+      while (true) {
+        try {
+          fillOnce(null);
+          stopwatch.finished(true);
+          break;
+        }
+        catch (FieldsNotFilled | WebDriverException e) {
+          if (stopwatch.isTimeoutReached()) {
+            stopwatch.finished(false);
+            throw e;
+          }
+        }
+        stopwatch.sleep(pollingIntervalMs);
+      }
+      SelenideLogger.commitStep(log, PASS);
+    }
+    catch (Error error) {
+      Error wrappedError = UIAssertionError.wrap(driver, error, timeoutMs);
+      SelenideLogger.commitStep(log, wrappedError);
+      throw FailureArtifacts.thrown(wrappedError);
+    }
+    catch (RuntimeException error) {
+      SelenideLogger.commitStep(log, error);
+      throw error;
+    }
+    finally {
+      FailureArtifacts.stepFinished();
+    }
+  }
+
+  /**
+   * Fill remaining fields once
+   *
+   * @param root the element to search fields in, or {@code null} to search in the whole document
+   * @throws FieldsNotFilled if some fields could not be filled (only they will be filled by the next call)
+   */
+  public void fillOnce(@Nullable WebElement root) {
+    Map<String, Object> result = driver.executeJavaScript(JS_CODE, root, toList(remaining), !driver.config().fastSetValue());
+    @SuppressWarnings("unchecked") Map<String, String> failures = new LinkedHashMap<>((Map<String, String>) result.get("errors"));
+    @SuppressWarnings("unchecked") List<List<Object>> typing = (List<List<Object>>) result.get("typing");
+    for (List<Object> field : typing) {
+      String selector = (String) field.get(0);
+      try {
+        typeText((WebElement) field.get(1), (String) remaining.get(selector));
+      }
+      catch (WebDriverException e) {
+        failures.put(selector, "Failed to fill {" + selector + "}: " + Cleanup.of.webdriverExceptionMessage(e));
+      }
+    }
+    remaining.keySet().retainAll(failures.keySet());
+    if (!remaining.isEmpty()) {
+      throw new FieldsNotFilled(driver, failures, fields.size());
+    }
+  }
+
+  private void typeText(WebElement element, String text) {
+    element.clear();
+    if (!text.isEmpty()) {
+      element.sendKeys(text);
+    }
+  }
+
+  Map<String, Object> remaining() {
+    return remaining;
+  }
+
+  private static List<List<Object>> toList(Map<String, Object> fields) {
+    List<List<Object>> result = new ArrayList<>(fields.size());
+    for (Map.Entry<String, Object> field : fields.entrySet()) {
+      result.add(asList(field.getKey(), field.getValue()));
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return "fill form " + fields;
+  }
+}
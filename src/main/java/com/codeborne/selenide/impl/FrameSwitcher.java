@@ -0,0 +1,178 @@
+package com.codeborne.selenide.impl;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+
+import javax.annotation.Nullable;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.synchronizedMap;
+
+/**
+ * Remembers which (nested) frame the browser is switched to, and switches to another frame only when needed.
+ *
+ * Frame path is a list of frame ids/names, starting from the top-level document (empty list means the document itself).
+ * Switching from one path to another doesn't start from the top-level document if the paths have a common beginning.
+ *
+ * Selenide updates the current path when it switches frames or windows, or navigates.
+ * Frame switches made directly via webdriver (bypassing Selenide) are not tracked.
+ * The path is also forgotten when an element is not found inside a frame, or after actions which can navigate
+ * (e.g. click): the frame might have been reloaded, so the next search switches to the frame again.
+ *
+ * Browser doesn't stay in a frame entered only to search elements of {@code inFrame(...)}: the next search
+ * of an element without frame switches back to the top-level document. Frames entered explicitly
+ * (e.g. {@code switchTo().innerFrame(...)}) are left as is.
+ *
+ * Switcher keeps only a weak reference to its webdriver, so that it doesn't prevent the webdriver
+ * (being the key of {@code switchers}) from being garbage collected.
+ */
+public class FrameSwitcher {
+  private static final Map<WebDriver, FrameSwitcher> switchers = synchronizedMap(new WeakHashMap<>());
+
+  private final WeakReference<WebDriver> webDriver;
+  private List<String> current;
+
+  /**
+   * Whether the browser has been switched to a frame only to search an element of that frame
+   */
+  private boolean enteredForSearch;
+
+  FrameSwitcher(WebDriver webDriver) {
+    this.webDriver = new WeakReference<>(webDriver);
+  }
+
+  public static FrameSwitcher of(WebDriver webDriver) {
+    synchronized (switchers) {
+      return switchers.computeIfAbsent(webDriver, FrameSwitcher::new);
+    }
+  }
+
+  /**
+   * @return css selector of frame/iframe with given id or name
+   */
+  public static By frameSelector(String frame) {
+    return By.cssSelector(String.format("frame#%1$s,frame[name=%1$s],iframe#%1$s,iframe[name=%1$s]", frame));
+  }
+
+  /**
+   * @return current frame path, or null if it is not known
+   */
+  @Nullable
+  public synchronized List<String> current() {
+    return current == null ? null : new ArrayList<>(current);
+  }
+
+  /**
+   * Remember that browser has been switched to the given frame path
+   */
+  public synchronized void switchedTo(List<String> path) {
+    current = new ArrayList<>(path);
+    enteredForSearch = false;
+  }
+
+  /**
+   * Remember that browser has been switched to the top-level document (e.g. after switching window or navigation)
+   */
+  public void switchedToDefaultContent() {
+    switchedTo(emptyList());
+  }
+
+  /**
+   * Forget the current frame path (e.g. after switching to a frame by index or element)
+   */
+  public synchronized void reset() {
+    current = null;
+    enteredForSearch = false;
+  }
+
+  /**
+   * Forget the current frame path when an element is not found inside a frame: the frame might have been reloaded
+   */
+  synchronized void frameMightHaveReloaded() {
+    current = null;
+  }
+
+  /**
+   * Forget the current frame path if browser is switched to a frame: an action (e.g. click or submit) might have
+   * navigated the page or reloaded the frame
+   */
+  public synchronized void mightHaveNavigated() {
+    if (current != null && !current.isEmpty()) {
+      current = null;
+    }
+  }
+
+  /**
+   * Switch to the given frame path, unless the browser is already there.
+   * Doesn't wait: if a frame is not found, throws {@link org.openqa.selenium.NoSuchElementException}.
+   */
+  public synchronized void switchTo(List<String> path) {
+    doSwitchTo(path);
+    enteredForSearch = false;
+  }
+
+  /**
+   * Switch to the frame path of an element before searching it.
+   * The browser is switched back to the top-level document by the next {@link #leaveFrameEnteredForSearch()}.
+   */
+  synchronized void switchToSearch(List<String> path) {
+    doSwitchTo(path);
+    enteredForSearch = !path.isEmpty();
+  }
+
+  /**
+   * Switch back to the top-level document before searching an element without frame,
+   * unless the browser has been switched to the current frame explicitly (or the current frame isn't tracked)
+   */
+  synchronized void leaveFrameEnteredForSearch() {
+    if (!enteredForSearch) return;
+    if (current == null || !current.isEmpty()) {
+      doSwitchTo(emptyList());
+    }
+    enteredForSearch = false;
+  }
+
+  private void doSwitchTo(List<String> path) {
+    if (path.equals(current)) return;
+
+    WebDriver webDriver = webDriver();
+    try {
+      int common = current == null ? 0 : commonLength(current, path);
+      if (current == null || common == 0 && !current.isEmpty()) {
+        webDriver.switchTo().defaultContent();
+      }
+      else {
+        for (int i = current.size(); i > common; i--) {
+          webDriver.switchTo().parentFrame();
+        }
+      }
+      for (String frame : path.subList(common, path.size())) {
+        webDriver.switchTo().frame(webDriver.findElement(frameSelector(frame)));
+      }
+      current = new ArrayList<>(path);
+    }
+    catch (RuntimeException e) {
+      current = null;
+      throw e;
+    }
+  }
+
+  private WebDriver webDriver() {
+    WebDriver driver = webDriver.get();
+    if (driver == null) {
+      throw new IllegalStateException("Webdriver has been garbage collected");
+    }
+    return driver;
+  }
+
+  private int commonLength(List<String> a, List<String> b) {
+    int i = 0;
+    while (i < a.size() && i < b.size() && a.get(i).equals(b.get(i))) i++;
+    return i;
+  }
+}
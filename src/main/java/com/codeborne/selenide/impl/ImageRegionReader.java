@@ -0,0 +1,60 @@
+package com.codeborne.selenide.impl;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.awt.image.RasterFormatException;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * Decodes only the requested region of an image (e.g. screenshot of the whole page),
+ * instead of decoding all pixels and then cropping them with {@link BufferedImage#getSubimage(int, int, int, int)}.
+ */
+class ImageRegionReader implements Closeable {
+  private final ImageInputStream input;
+  private final ImageReader reader;
+
+  ImageRegionReader(byte[] image) throws IOException {
+    input = ImageIO.createImageInputStream(new ByteArrayInputStream(image));
+    Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+    if (!readers.hasNext()) {
+      input.close();
+      throw new IOException("Unsupported image format");
+    }
+    reader = readers.next();
+    reader.setInput(input, true, true);
+  }
+
+  int getWidth() throws IOException {
+    return reader.getWidth(0);
+  }
+
+  int getHeight() throws IOException {
+    return reader.getHeight(0);
+  }
+
+  /**
+   * @throws RasterFormatException if the region is outside of the image (same as {@link BufferedImage#getSubimage})
+   */
+  BufferedImage read(int x, int y, int width, int height) throws IOException {
+    if (x < 0 || y < 0 || width <= 0 || height <= 0 || x + width > getWidth() || y + height > getHeight()) {
+      throw new RasterFormatException(String.format("Region (%s,%s %sx%s) is outside of image %sx%s",
+        x, y, width, height, getWidth(), getHeight()));
+    }
+    ImageReadParam param = reader.getDefaultReadParam();
+    param.setSourceRegion(new Rectangle(x, y, width, height));
+    return reader.read(0, param);
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.dispose();
+    input.close();
+  }
+}
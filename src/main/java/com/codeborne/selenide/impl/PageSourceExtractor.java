@@ -54,6 +54,14 @@ public class PageSourceExtractor {
 
 
   protected void writeToFile(String content, File targetFile) {
+    if (config.deduplicateScreenshots()) {
+      try {
+        ContentAddressedStorage.inReportsFolder(config).save(content.getBytes(UTF_8), targetFile);
+      } catch (IOException e) {
+        log.error("Failed to write file {}", targetFile.getAbsolutePath(), e);
+      }
+      return;
+    }
     try (ByteArrayInputStream in = new ByteArrayInputStream(content.getBytes(UTF_8))) {
       copyFile(in, targetFile);
     } catch (IOException e) {
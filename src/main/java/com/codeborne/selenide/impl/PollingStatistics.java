@@ -0,0 +1,99 @@
+package com.codeborne.selenide.impl;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts how many checks the waits took: helps to choose {@link com.codeborne.selenide.Config#pollingInterval()}
+ * and {@link com.codeborne.selenide.Config#pollingStrategy()}.
+ *
+ * Waits are grouped by number of polls (sleeps between checks): 0, 1, 2, 3-4, 5-8, 9-16 etc.
+ * {@link com.codeborne.selenide.Stopwatch} records only waits which have polled (the first check was not successful),
+ * so that every command executed at once is not counted as a satisfied wait.
+ */
+public class PollingStatistics {
+  private static final PollingStatistics instance = new PollingStatistics();
+  private static final int BUCKETS = 12;
+
+  private final AtomicLong satisfied = new AtomicLong();
+  private final AtomicLong failed = new AtomicLong();
+  private final AtomicLong polls = new AtomicLong();
+  private final AtomicLongArray pollsPerWait = new AtomicLongArray(BUCKETS);
+
+  public static PollingStatistics getInstance() {
+    return instance;
+  }
+
+  public void record(int polls, boolean satisfied) {
+    (satisfied ? this.satisfied : this.failed).incrementAndGet();
+    this.polls.addAndGet(polls);
+    pollsPerWait.incrementAndGet(bucket(polls));
+  }
+
+  private int bucket(int polls) {
+    return polls == 0 ? 0 : Math.min(BUCKETS - 1, 33 - Integer.numberOfLeadingZeros(polls - 1));
+  }
+
+  /**
+   * @return number of waits where condition was met
+   */
+  public long satisfiedWaits() {
+    return satisfied.get();
+  }
+
+  /**
+   * @return number of waits failed by timeout
+   */
+  public long failedWaits() {
+    return failed.get();
+  }
+
+  /**
+   * @return total number of polls (sleeps between checks) of all waits
+   */
+  public long polls() {
+    return polls.get();
+  }
+
+  /**
+   * @return number of waits per number of polls, e.g. {"0": 120, "1": 15, "2": 4, "3-4": 1}
+   */
+  public Map<String, Long> pollsPerWait() {
+    Map<String, Long> result = new TreeMap<>((a, b) -> Integer.compare(lowerBound(a), lowerBound(b)));
+    for (int i = 0; i < BUCKETS; i++) {
+      long waits = pollsPerWait.get(i);
+      if (waits > 0) {
+        result.put(label(i), waits);
+      }
+    }
+    return result;
+  }
+
+  private String label(int bucket) {
+    if (bucket < 3) return String.valueOf(bucket);
+    int from = (1 << (bucket - 2)) + 1;
+    int to = 1 << (bucket - 1);
+    return bucket == BUCKETS - 1 ? from + "+" : from + "-" + to;
+  }
+
+  private int lowerBound(String label) {
+    return Integer.parseInt(label.split("[-+]")[0]);
+  }
+
+  public void reset() {
+    satisfied.set(0);
+    failed.set(0);
+    polls.set(0);
+    for (int i = 0; i < BUCKETS; i++) {
+      pollsPerWait.set(i, 0);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s waits (%s failed), %s polls, polls per wait: %s",
+      satisfiedWaits() + failedWaits(), failedWaits(), polls(), pollsPerWait());
+  }
+}
@@ -0,0 +1,48 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Config;
+import com.codeborne.selenide.PollingStrategy;
+
+import java.lang.reflect.Constructor;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Finds polling strategy by its name: "fixed", "backoff", "adaptive" or name of class implementing {@link PollingStrategy}.
+ *
+ * Strategies are created once and shared by all browsers: e.g. statistics of {@link AdaptivePolling}
+ * are collected from all tests.
+ */
+public class PollingStrategies {
+  private static final Map<String, PollingStrategy> strategies = new ConcurrentHashMap<>();
+
+  static {
+    strategies.put("fixed", new FixedPolling());
+    strategies.put("backoff", new BackoffPolling());
+    strategies.put("adaptive", new AdaptivePolling());
+  }
+
+  public static PollingStrategy of(Config config) {
+    return of(config.pollingStrategy());
+  }
+
+  public static PollingStrategy of(String name) {
+    return strategies.computeIfAbsent(name == null ? "fixed" : name, PollingStrategies::createInstanceOf);
+  }
+
+  private static PollingStrategy createInstanceOf(String className) {
+    try {
+      Class<?> clazz = Class.forName(className);
+      if (!PollingStrategy.class.isAssignableFrom(clazz)) {
+        throw new IllegalArgumentException(className + " does not implement " + PollingStrategy.class.getName());
+      }
+      Constructor<?> constructor = clazz.getDeclaredConstructor();
+      constructor.setAccessible(true);
+      return (PollingStrategy) constructor.newInstance();
+    }
+    catch (ReflectiveOperationException invalidClassName) {
+      throw new IllegalArgumentException("Unknown polling strategy: " + className +
+        " (expected fixed, backoff, adaptive or class name)", invalidClassName);
+    }
+  }
+}
@@ -0,0 +1,243 @@
+package com.codeborne.selenide.impl;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
+import org.openqa.selenium.remote.UselessFileDetector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.util.Collections.singletonMap;
+import static java.util.Collections.synchronizedMap;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Uploads files to remote webdriver (e.g. Selenium Grid) only once per session.
+ *
+ * Selenium's {@link org.openqa.selenium.remote.LocalFileDetector} zips and transfers the file on every
+ * {@code sendKeys}. This class remembers which files (by content hash and name) have already been transferred
+ * to the remote session, and reuses their remote paths.
+ * Hashes are remembered by file path, size and modification time, so an unchanged file is read only once.
+ * If the same file is being uploaded by another thread, the upload waits for it instead of transferring the file again.
+ *
+ * NB! The file is still transferred as a base64-encoded zip archive in memory: Selenium's {@link Command}
+ * parameters are serialized to a JSON string, so the body cannot be streamed to the remote webdriver.
+ */
+public class RemoteFileUploader {
+  private static final Logger log = LoggerFactory.getLogger(RemoteFileUploader.class);
+  private static final int MAX_PARALLEL_UPLOADS = 4;
+  static final int MAX_HASHES = 1000;
+  private static final ExecutorService executor = executor();
+
+  private static final Map<RemoteWebDriver, Map<String, CompletableFuture<String>>> uploadedFiles =
+    synchronizedMap(new WeakHashMap<>());
+  private static final Map<String, String> hashes = synchronizedMap(new LinkedHashMap<String, String>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+      return size() > MAX_HASHES;
+    }
+  });
+
+  /**
+   * @return path of file that can be sent to file input: remote path if webdriver is remote, or local canonical path otherwise
+   */
+  public String path(WebDriver webDriver, File file) throws IOException {
+    RemoteWebDriver remoteWebDriver = remoteWebDriver(webDriver);
+    return remoteWebDriver == null ? file.getCanonicalPath() : upload(remoteWebDriver, file);
+  }
+
+  /**
+   * Transfer given files to remote webdriver in parallel (does nothing if webdriver is local).
+   * Subsequent calls of {@link #path(WebDriver, File)} for these files return cached remote paths.
+   */
+  public void uploadAll(WebDriver webDriver, List<File> files) throws IOException {
+    RemoteWebDriver remoteWebDriver = remoteWebDriver(webDriver);
+    if (remoteWebDriver == null || files.size() < 2) return;
+
+    try {
+      List<Future<String>> uploads = new ArrayList<>(files.size());
+      for (File file : files) {
+        uploads.add(executor.submit(() -> upload(remoteWebDriver, file)));
+      }
+      for (Future<String> upload : uploads) {
+        upload.get();
+      }
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    }
+    catch (ExecutionException e) {
+      throw unwrap(e);
+    }
+  }
+
+  /**
+   * Uploads of all sessions share the same threads: not more than {@link #MAX_PARALLEL_UPLOADS} at once
+   */
+  private static ExecutorService executor() {
+    AtomicInteger threadCounter = new AtomicInteger();
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_PARALLEL_UPLOADS, MAX_PARALLEL_UPLOADS,
+      60, SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+      Thread thread = new Thread(runnable, "selenide-upload-" + threadCounter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  String upload(RemoteWebDriver webDriver, File file) throws IOException {
+    if (!file.isFile()) {
+      return file.getCanonicalPath();
+    }
+    Map<String, CompletableFuture<String>> sessionFiles = sessionFiles(webDriver);
+    String key = cachedHash(file) + '/' + file.getName();
+    CompletableFuture<String> upload = new CompletableFuture<>();
+    CompletableFuture<String> existing = sessionFiles.putIfAbsent(key, upload);
+    if (existing != null) {
+      String remotePath = await(existing);
+      log.debug("File {} has already been uploaded to {}", file, remotePath);
+      return remotePath;
+    }
+
+    try {
+      String remotePath = transfer(webDriver, file);
+      upload.complete(remotePath);
+      return remotePath;
+    }
+    catch (IOException | RuntimeException e) {
+      sessionFiles.remove(key, upload);
+      upload.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  private static String await(CompletableFuture<String> upload) throws IOException {
+    try {
+      return upload.get();
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    }
+    catch (ExecutionException e) {
+      throw unwrap(e);
+    }
+  }
+
+  private static IOException unwrap(ExecutionException e) {
+    if (e.getCause() instanceof IOException) return (IOException) e.getCause();
+    if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+    throw new RuntimeException(e.getCause());
+  }
+
+  private Map<String, CompletableFuture<String>> sessionFiles(RemoteWebDriver webDriver) {
+    synchronized (uploadedFiles) {
+      return uploadedFiles.computeIfAbsent(webDriver, driver -> new ConcurrentHashMap<>());
+    }
+  }
+
+  protected String transfer(RemoteWebDriver webDriver, File file) throws IOException {
+    long start = System.currentTimeMillis();
+    Response response = webDriver.getCommandExecutor().execute(
+      new Command(webDriver.getSessionId(), DriverCommand.UPLOAD_FILE, singletonMap("file", zip(file))));
+    webDriver.getErrorHandler().throwIfResponseFailed(response, System.currentTimeMillis() - start);
+    String remotePath = (String) response.getValue();
+    log.info("Uploaded {} to {} in {} ms", file, remotePath, System.currentTimeMillis() - start);
+    return remotePath;
+  }
+
+  /**
+   * @return base64-encoded zip archive with the given file
+   */
+  static String zip(File file) throws IOException {
+    ByteArrayOutputStream zip = new ByteArrayOutputStream();
+    try (ZipOutputStream out = new ZipOutputStream(Base64.getEncoder().wrap(zip))) {
+      out.putNextEntry(new ZipEntry(file.getName()));
+      Files.copy(file.toPath(), out);
+      out.closeEntry();
+    }
+    return new String(zip.toByteArray(), US_ASCII);
+  }
+
+  /**
+   * @return hash of file content, computed again only if file path, size or modification time has changed
+   */
+  static String cachedHash(File file) throws IOException {
+    String stamp = file.getCanonicalPath() + '|' + file.length() + '|' + Files.getLastModifiedTime(file.toPath()).to(NANOSECONDS);
+    String hash = hashes.get(stamp);
+    if (hash == null) {
+      hash = hash(file);
+      hashes.put(stamp, hash);
+    }
+    return hash;
+  }
+
+  static String hash(File file) throws IOException {
+    MessageDigest digest = sha256();
+    byte[] buffer = new byte[64 * 1024];
+    try (InputStream in = Files.newInputStream(file.toPath())) {
+      for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+        digest.update(buffer, 0, read);
+      }
+    }
+    StringBuilder sb = new StringBuilder(64);
+    for (byte b : digest.digest()) {
+      sb.append(String.format("%02x", b));
+    }
+    return sb.toString();
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    }
+    catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not supported", e);
+    }
+  }
+
+  /**
+   * @return remote webdriver that would transfer local files (or null if files don't need to be transferred)
+   */
+  static RemoteWebDriver remoteWebDriver(WebDriver webDriver) {
+    WebDriver driver = webDriver;
+    while (!(driver instanceof RemoteWebDriver) && driver instanceof WrapsDriver) {
+      driver = ((WrapsDriver) driver).getWrappedDriver();
+    }
+    if (driver instanceof RemoteWebDriver && !(((RemoteWebDriver) driver).getFileDetector() instanceof UselessFileDetector)) {
+      return (RemoteWebDriver) driver;
+    }
+    return null;
+  }
+}
@@ -26,13 +26,12 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 import static java.io.File.separatorChar;
+import static java.util.Collections.unmodifiableList;
 import static org.openqa.selenium.OutputType.FILE;
 
 public class ScreenShotLaboratory {
@@ -44,11 +43,28 @@ public class ScreenShotLaboratory {
     return instance;
   }
 
-  protected final List<File> allScreenshots = new ArrayList<>();
+  /**
+   * Max number of screenshots remembered by {@link #getScreenshots()} and {@link #finishContext()}.
+   * Older screenshots are forgotten (but their files are not deleted).
+   */
+  public static final int DEFAULT_HISTORY_SIZE = 10_000;
+
+  protected final int historySize;
+  private final ScreenshotHistory screenshotHistory;
+  protected final List<File> allScreenshots;
   protected AtomicLong screenshotCounter = new AtomicLong();
   protected ThreadLocal<String> currentContext = ThreadLocal.withInitial(() -> "");
   protected ThreadLocal<List<File>> currentContextScreenshots = new ThreadLocal<>();
 
+  public ScreenShotLaboratory() {
+    this(DEFAULT_HISTORY_SIZE);
+  }
+
+  public ScreenShotLaboratory(int historySize) {
+    this.historySize = historySize;
+    this.screenshotHistory = new ScreenshotHistory(historySize);
+    this.allScreenshots = screenshotHistory;
+  }
 
   public String takeScreenShot(Driver driver, String className, String methodName) {
     return takeScreenShot(driver, getScreenshotFileName(className, methodName));
@@ -114,15 +130,19 @@ public class ScreenShotLaboratory {
       return null;
     }
 
+    BufferedImage elementScreenshot = takeElementScreenshot(element);
+    if (elementScreenshot != null) {
+      return elementScreenshot;
+    }
+
     byte[] screen = ((TakesScreenshot) webdriver).getScreenshotAs(OutputType.BYTES);
 
     Point elementLocation = element.getLocation();
-    try {
-      BufferedImage img = ImageIO.read(new ByteArrayInputStream(screen));
-      int elementWidth = getRescaledElementWidth(element, img);
-      int elementHeight = getRescaledElementHeight(element, img);
+    try (ImageRegionReader img = new ImageRegionReader(screen)) {
+      int elementWidth = getRescaledElementWidth(element, img.getWidth());
+      int elementHeight = getRescaledElementHeight(element, img.getHeight());
 
-      return img.getSubimage(elementLocation.getX(), elementLocation.getY(), elementWidth, elementHeight);
+      return img.read(elementLocation.getX(), elementLocation.getY(), elementWidth, elementHeight);
     } catch (IOException e) {
       log.error("Failed to take screenshot of {}", element, e);
       return null;
@@ -132,6 +152,24 @@ public class ScreenShotLaboratory {
     }
   }
 
+  /**
+   * Asks browser to take screenshot of element's rectangle only (W3C "Take Element Screenshot" command).
+   *
+   * @return null if browser does not support element screenshots
+   */
+  protected BufferedImage takeElementScreenshot(WebElement element) {
+    if (!(element instanceof TakesScreenshot)) {
+      return null;
+    }
+    try {
+      byte[] screen = ((TakesScreenshot) element).getScreenshotAs(OutputType.BYTES);
+      return ImageIO.read(new ByteArrayInputStream(screen));
+    } catch (WebDriverException | UnsupportedOperationException | IOException e) {
+      log.debug("Browser failed to take screenshot of {}, cropping screenshot of the whole page: {}", element, e.toString());
+      return null;
+    }
+  }
+
   protected String generateScreenshotFileName() {
     return currentContext.get() + timestamp() + "." + screenshotCounter.getAndIncrement();
   }
@@ -166,6 +204,9 @@ public class ScreenShotLaboratory {
       return null;
     }
     File screenshotOfElement = new File(driver.config().reportsFolder(), generateScreenshotFileName() + ".png");
+    if (driver.config().deduplicateScreenshots()) {
+      return ContentAddressedStorage.inReportsFolder(driver.config()).save(dest, "png", screenshotOfElement);
+    }
     ensureFolderExists(screenshotOfElement);
     ImageIO.write(dest, "png", screenshotOfElement);
     return screenshotOfElement;
@@ -178,33 +219,25 @@ public class ScreenShotLaboratory {
     }
     byte[] screen = ((TakesScreenshot) webdriver).getScreenshotAs(OutputType.BYTES);
     Point iframeLocation = iframe.getLocation();
-    BufferedImage img;
-    try {
-      img = ImageIO.read(new ByteArrayInputStream(screen));
+    try (ImageRegionReader img = new ImageRegionReader(screen)) {
+      int iframeHeight = getRescaledElementHeight(iframe, img.getHeight());
+      SelenideTargetLocator switchTo = new SelenideTargetLocator(driver.config(), driver.getWebDriver());
+      switchTo.frame(iframe);
+      int iframeWidth = getRescaledIframeWidth(iframe, img.getWidth(), webdriver);
+
+      Point elementLocation = element.getLocation();
+      int elementWidth = getRescaledElementWidth(element, iframeWidth);
+      int elementHeight = getRescaledElementHeight(element, iframeHeight);
+      switchTo.defaultContent();
+      return img.read(iframeLocation.getX() + elementLocation.getX(), iframeLocation.getY() + elementLocation.getY(),
+        elementWidth, elementHeight);
     } catch (IOException e) {
       log.error("Failed to take screenshot of {} inside frame {}", element, iframe, e);
       return null;
-    } catch (RasterFormatException ex) {
-      log.warn("Cannot take screenshot because iframe is not displayed");
-      return null;
-    }
-    int iframeHeight = getRescaledElementHeight(iframe, img);
-    SelenideTargetLocator switchTo = new SelenideTargetLocator(driver.config(), driver.getWebDriver());
-    switchTo.frame(iframe);
-    int iframeWidth = getRescaledIframeWidth(iframe, img, webdriver);
-
-    Point elementLocation = element.getLocation();
-    int elementWidth = getRescaledElementWidth(element, iframeWidth);
-    int elementHeight = getRescaledElementHeight(element, iframeHeight);
-    switchTo.defaultContent();
-    try {
-      img = img.getSubimage(iframeLocation.getX() + elementLocation.getX(), iframeLocation.getY() + elementLocation.getY(),
-        elementWidth, elementHeight);
     } catch (RasterFormatException ex) {
       log.warn("Cannot take screenshot because element is not displayed in iframe");
       return null;
     }
-    return img;
   }
 
   private WebDriver checkIfFullyValidDriver(Driver driver) {
@@ -238,12 +271,11 @@ public class ScreenShotLaboratory {
   }
 
   protected File addToHistory(File screenshot) {
-    if (currentContextScreenshots.get() != null) {
-      currentContextScreenshots.get().add(screenshot);
-    }
-    synchronized (allScreenshots) {
-      allScreenshots.add(screenshot);
+    List<File> contextScreenshots = currentContextScreenshots.get();
+    if (contextScreenshots != null) {
+      contextScreenshots.add(screenshot);
     }
+    allScreenshots.add(screenshot);
     return screenshot;
   }
 
@@ -273,7 +305,7 @@ public class ScreenShotLaboratory {
       File scrFile = driver.getScreenshotAs(FILE);
       File imageFile = new File(config.reportsFolder(), fileName + ".png");
       try {
-        copyFile(scrFile, imageFile);
+        saveFile(config, scrFile, imageFile);
       } catch (IOException e) {
         log.error("Failed to save screenshot to {}", imageFile, e);
       }
@@ -284,6 +316,15 @@ public class ScreenShotLaboratory {
     }
   }
 
+  protected void saveFile(Config config, File sourceFile, File targetFile) throws IOException {
+    if (config.deduplicateScreenshots()) {
+      ContentAddressedStorage.inReportsFolder(config).save(sourceFile, targetFile);
+    }
+    else {
+      copyFile(sourceFile, targetFile);
+    }
+  }
+
   protected void copyFile(File sourceFile, File targetFile) throws IOException {
     try (FileInputStream in = new FileInputStream(sourceFile)) {
       copyFile(in, targetFile);
@@ -310,26 +351,25 @@ public class ScreenShotLaboratory {
 
   public void startContext(String context) {
     currentContext.set(context);
-    currentContextScreenshots.set(new ArrayList<>());
+    currentContextScreenshots.set(new ScreenshotHistory(historySize));
   }
 
   public List<File> finishContext() {
     List<File> result = currentContextScreenshots.get();
-    currentContext.set("");
+    currentContext.remove();
     currentContextScreenshots.remove();
     return result;
   }
 
+  /**
+   * @return last {@link #historySize} screenshots taken by all threads, in the order they were taken
+   */
   public List<File> getScreenshots() {
-    synchronized (allScreenshots) {
-      return Collections.unmodifiableList(allScreenshots);
-    }
+    return unmodifiableList(allScreenshots);
   }
 
   public File getLastScreenshot() {
-    synchronized (allScreenshots) {
-      return allScreenshots.isEmpty() ? null : allScreenshots.get(allScreenshots.size() - 1);
-    }
+    return screenshotHistory.last();
   }
 
   public String formatScreenShotPath(Driver driver) {
@@ -410,27 +450,12 @@ public class ScreenShotLaboratory {
     }
   }
 
-  private int getRescaledElementWidth(WebElement element, BufferedImage image) {
-    if (getElementWidth(element) > image.getWidth()) {
-      return image.getWidth() - element.getLocation().getX();
-    } else {
-      return getElementWidth(element);
-    }
-  }
-
-  private int getRescaledElementHeight(WebElement element, BufferedImage image) {
-    if (getElementHeight(element) > image.getHeight()) {
-      return image.getHeight() - element.getLocation().getY();
-    } else {
-      return getElementHeight(element);
-    }
-  }
-
-  private int getRescaledIframeWidth(WebElement iframe, BufferedImage image, WebDriver driver) {
-    if (getIframeWidth(driver) > image.getWidth()) {
-      return image.getWidth() - iframe.getLocation().getX();
+  private int getRescaledIframeWidth(WebElement iframe, int imageWidth, WebDriver driver) {
+    int iframeWidth = getIframeWidth(driver);
+    if (iframeWidth > imageWidth) {
+      return imageWidth - iframe.getLocation().getX();
     } else {
-      return getIframeWidth(driver);
+      return iframeWidth;
     }
   }
 
@@ -0,0 +1,81 @@
+package com.codeborne.selenide.impl;
+
+import java.io.File;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Thread-safe list of screenshots that keeps only the last {@code maxSize} files.
+ * Screenshots are kept in a ring buffer: adding a screenshot and access by index take constant time,
+ * iterating works on a snapshot and doesn't throw {@link java.util.ConcurrentModificationException}.
+ *
+ * Only adding and clearing are supported.
+ */
+public class ScreenshotHistory extends AbstractList<File> implements RandomAccess {
+  private final int maxSize;
+  private final List<File> screenshots = new ArrayList<>();
+
+  /**
+   * Index of the oldest screenshot in {@link #screenshots} (once it's full, the next screenshot replaces the oldest)
+   */
+  private int first;
+
+  public ScreenshotHistory(int maxSize) {
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("Max size of screenshot history should be positive, but was: " + maxSize);
+    }
+    this.maxSize = maxSize;
+  }
+
+  @Override
+  public synchronized boolean add(File screenshot) {
+    if (screenshots.size() < maxSize) {
+      screenshots.add(screenshot);
+    }
+    else {
+      screenshots.set(first, screenshot);
+      first = (first + 1) % maxSize;
+    }
+    return true;
+  }
+
+  @Override
+  public synchronized File get(int index) {
+    if (index < 0 || index >= screenshots.size()) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", size: " + screenshots.size());
+    }
+    return screenshots.get((first + index) % screenshots.size());
+  }
+
+  @Override
+  public Iterator<File> iterator() {
+    return toList().iterator();
+  }
+
+  @Override
+  public synchronized void clear() {
+    screenshots.clear();
+    first = 0;
+  }
+
+  public synchronized File last() {
+    return screenshots.isEmpty() ? null : get(screenshots.size() - 1);
+  }
+
+  @Override
+  public synchronized int size() {
+    return screenshots.size();
+  }
+
+  public synchronized List<File> toList() {
+    List<File> result = new ArrayList<>(screenshots.size());
+    result.addAll(screenshots.subList(first, screenshots.size()));
+    result.addAll(screenshots.subList(0, first));
+    return unmodifiableList(result);
+  }
+}
@@ -1,10 +1,10 @@
 package com.codeborne.selenide.impl;
 
+import com.codeborne.selenide.Condition;
 import com.codeborne.selenide.Config;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.Stopwatch;
-import com.codeborne.selenide.commands.Commands;
 import com.codeborne.selenide.ex.ElementIsNotClickableException;
 import com.codeborne.selenide.ex.InvalidStateException;
 import com.codeborne.selenide.ex.UIAssertionError;
@@ -15,35 +15,19 @@ import org.openqa.selenium.JavascriptException;
 import org.openqa.selenium.WebDriverException;
 
 import java.io.FileNotFoundException;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.HashSet;
-import java.util.Set;
+import java.lang.reflect.Proxy;
 
 import static com.codeborne.selenide.AssertionMode.SOFT;
 import static com.codeborne.selenide.Condition.exist;
 import static com.codeborne.selenide.logevents.ErrorsCollector.validateAssertionMode;
 import static com.codeborne.selenide.logevents.LogEvent.EventStatus.PASS;
-import static java.util.Arrays.asList;
 
 class SelenideElementProxy implements InvocationHandler {
-  private static final Set<String> methodsToSkipLogging = new HashSet<>(asList(
-      "toWebElement",
-      "toString",
-      "getSearchCriteria"
-  ));
-
-  private static final Set<String> methodsForSoftAssertion = new HashSet<>(asList(
-      "should",
-      "shouldBe",
-      "shouldHave",
-      "shouldNot",
-      "shouldNotHave",
-      "shouldNotBe",
-      "waitUntil",
-      "waitWhile"
-  ));
+  private static final Constructor<?> proxyConstructor = proxyConstructor();
 
   private final WebElementSource webElementSource;
 
@@ -51,33 +35,74 @@ class SelenideElementProxy implements InvocationHandler {
     this.webElementSource = webElementSource;
   }
 
+  /**
+   * Creates a proxy of {@link SelenideElement}.
+   * The proxy class is generated once, so creating an element doesn't need to look it up again.
+   */
+  static SelenideElement wrap(WebElementSource webElementSource) {
+    try {
+      return (SelenideElement) proxyConstructor.newInstance(new SelenideElementProxy(webElementSource));
+    }
+    catch (InvocationTargetException e) {
+      throw new IllegalStateException("Failed to create proxy for " + webElementSource, e.getTargetException());
+    }
+    catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Failed to create proxy for " + webElementSource, e);
+    }
+  }
+
+  @SuppressWarnings("deprecation")
+  private static Constructor<?> proxyConstructor() {
+    try {
+      return Proxy.getProxyClass(SelenideElement.class.getClassLoader(), SelenideElement.class)
+        .getConstructor(InvocationHandler.class);
+    }
+    catch (NoSuchMethodException e) {
+      throw new IllegalStateException("Failed to generate proxy class for SelenideElement", e);
+    }
+  }
+
   @Override
   public Object invoke(Object proxy, Method method, Object... args) throws Throwable {
-    if (methodsToSkipLogging.contains(method.getName()))
-      return Commands.getInstance().execute(proxy, webElementSource, method.getName(), args);
+    ElementMethod elementMethod = ElementMethod.of(method);
+    if (elementMethod.isSkipLogging())
+      return elementMethod.execute(proxy, webElementSource, args);
 
     validateAssertionMode(config());
 
-    long timeoutMs = getTimeoutMs(method, args);
-    long pollingIntervalMs = getPollingIntervalMs(method, args);
-    SelenideLog log = SelenideLogger.beginStep(webElementSource.getSearchCriteria(), method.getName(), args);
+    long timeoutMs = elementMethod.timeoutMs(args, config().timeout());
+    long pollingIntervalMs = elementMethod.pollingIntervalMs(args, config().pollingInterval());
+    SelenideLog log = SelenideLogger.beginStep(webElementSource.getSearchCriteria(), elementMethod.name(), args);
+    FailureArtifacts.stepStarted();
     try {
-      Object result = dispatchAndRetry(timeoutMs, pollingIntervalMs, proxy, method, args);
+      Object result = dispatchAndRetry(timeoutMs, pollingIntervalMs, proxy, elementMethod, args);
       SelenideLogger.commitStep(log, PASS);
       return result;
     }
     catch (Error error) {
       Error wrappedError = UIAssertionError.wrap(driver(), error, timeoutMs);
       SelenideLogger.commitStep(log, wrappedError);
-      if (config().assertionMode() == SOFT && methodsForSoftAssertion.contains(method.getName()))
+      if (config().assertionMode() == SOFT && elementMethod.isSoftAssertion())
         return proxy;
       else
-        throw wrappedError;
+        throw FailureArtifacts.thrown(wrappedError);
     }
     catch (RuntimeException error) {
       SelenideLogger.commitStep(log, error);
       throw error;
     }
+    finally {
+      if (elementMethod.mayNavigate()) {
+        framesMightHaveChanged();
+      }
+      FailureArtifacts.stepFinished();
+    }
+  }
+
+  private void framesMightHaveChanged() {
+    if (driver().hasWebDriverStarted()) {
+      FrameSwitcher.of(driver().getWebDriver()).mightHaveNavigated();
+    }
   }
 
   private Driver driver() {
@@ -89,17 +114,31 @@ class SelenideElementProxy implements InvocationHandler {
   }
 
   protected Object dispatchAndRetry(long timeoutMs, long pollingIntervalMs,
-                                    Object proxy, Method method, Object[] args) throws Throwable {
-    Stopwatch stopwatch = new Stopwatch(timeoutMs);
+                                    Object proxy, ElementMethod method, Object[] args) throws Throwable {
+    Stopwatch stopwatch = new Stopwatch(timeoutMs, PollingStrategies.of(config()), () -> pollingSubject(method, args));
+    boolean satisfied = false;
+    try {
+      Object result = dispatchAndRetry(stopwatch, pollingIntervalMs, proxy, method, args);
+      satisfied = true;
+      return result;
+    }
+    finally {
+      stopwatch.finished(satisfied);
+    }
+  }
 
+  private Object dispatchAndRetry(Stopwatch stopwatch, long pollingIntervalMs,
+                                  Object proxy, ElementMethod method, Object[] args) throws Throwable {
     Throwable lastError;
+    WebElementSource attempt;
     do {
+      attempt = new CachingElementSource(webElementSource);
       try {
-        if (SelenideElement.class.isAssignableFrom(method.getDeclaringClass())) {
-          return Commands.getInstance().execute(proxy, webElementSource, method.getName(), args);
+        if (method.isSelenideCommand()) {
+          return method.execute(proxy, attempt, args);
         }
 
-        return method.invoke(webElementSource.getWebElement(), args);
+        return method.invoke(attempt.getWebElement(), args);
       }
       catch (InvocationTargetException e) {
         lastError = e.getTargetException();
@@ -128,11 +167,27 @@ class SelenideElementProxy implements InvocationHandler {
       throw new ElementIsNotClickableException(driver(), lastError);
     }
     else if (lastError instanceof WebDriverException) {
-      throw webElementSource.createElementNotFoundError(exist, lastError);
+      throw attempt.createElementNotFoundError(exist, lastError);
     }
     throw lastError;
   }
 
+  /**
+   * @return e.g. "#login shouldBe visible": the same for every check of this condition, regardless of its expected value
+   */
+  private String pollingSubject(ElementMethod method, Object[] args) {
+    StringBuilder subject = new StringBuilder(webElementSource.getSearchCriteria()).append(' ').append(method.name());
+    if (args != null) {
+      for (Object arg : args) {
+        if (arg instanceof Condition) subject.append(' ').append(((Condition) arg).getName());
+        else if (arg instanceof Condition[]) {
+          for (Condition condition : (Condition[]) arg) subject.append(' ').append(condition.getName());
+        }
+      }
+    }
+    return subject.toString();
+  }
+
   private boolean isElementNotClickableException(Throwable e) {
     return e instanceof WebDriverException && e.getMessage().contains("is not clickable");
   }
@@ -145,18 +200,4 @@ class SelenideElementProxy implements InvocationHandler {
 
     return e instanceof Exception || e instanceof AssertionError;
   }
-
-  private long getTimeoutMs(Method method, Object[] args) {
-    return isWaitCommand(method) ?
-      args.length == 3 ? (Long) args[args.length - 2] : (Long) args[args.length - 1] :
-      config().timeout();
-  }
-
-  private long getPollingIntervalMs(Method method, Object[] args) {
-    return isWaitCommand(method) && args.length == 3 ? (Long) args[args.length - 1] : config().pollingInterval();
-  }
-
-  private boolean isWaitCommand(Method method) {
-    return "waitUntil".equals(method.getName()) || "waitWhile".equals(method.getName());
-  }
 }
@@ -0,0 +1,86 @@
+package com.codeborne.selenide.impl;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Finds elements by text using JavaScript in browser instead of XPath.
+ *
+ * Walks through text nodes with a {@code TreeWalker} and returns their parent elements (in document order, without
+ * duplicates). Spaces, \n, \r, \t and &amp;nbsp; are normalized the same way as in {@link Html}.
+ * Like XPath {@code .//*}{@code /text()}, only text nodes inside descendants of the search context are checked.
+ */
+public abstract class TextNodesSelector extends By {
+  private static final String SCRIPT = "var root = arguments[0] || document, expected = arguments[1], " +
+    "exact = arguments[2], firstOnly = arguments[3];\n" +
+    "var normalize = function(text) {return text.replace(/[ \\t\\n\\x0B\\f\\r\\u00a0]+/g, ' ').replace(/^ | $/g, '');};\n" +
+    "expected = normalize(expected);\n" +
+    "var walker = document.createTreeWalker(root, NodeFilter.SHOW_TEXT, null, false);\n" +
+    "var result = [], last = null, node;\n" +
+    "while ((node = walker.nextNode())) {\n" +
+    "  var parent = node.parentNode;\n" +
+    "  if (parent === root || parent === last || parent.nodeType !== 1) continue;\n" +
+    "  var text = normalize(node.nodeValue);\n" +
+    "  if (exact ? text === expected : text.indexOf(expected) !== -1) {\n" +
+    "    if (result.indexOf(parent) === -1) result.push(parent);\n" +
+    "    last = parent;\n" +
+    "    if (firstOnly) break;\n" +
+    "  }\n" +
+    "}\n" +
+    "return result;";
+
+  protected final String elementText;
+  private final boolean exact;
+
+  protected TextNodesSelector(String elementText, boolean exact) {
+    this.elementText = elementText;
+    this.exact = exact;
+  }
+
+  @Override
+  public WebElement findElement(SearchContext context) {
+    return findElement(javascriptExecutor(context), context);
+  }
+
+  @Override
+  public List<WebElement> findElements(SearchContext context) {
+    return findElements(javascriptExecutor(context), context);
+  }
+
+  public WebElement findElement(JavascriptExecutor js, SearchContext context) {
+    List<WebElement> elements = execute(js, context, true);
+    if (elements.isEmpty()) {
+      throw new NoSuchElementException("Cannot locate an element " + this);
+    }
+    return elements.get(0);
+  }
+
+  public List<WebElement> findElements(JavascriptExecutor js, SearchContext context) {
+    return execute(js, context, false);
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<WebElement> execute(JavascriptExecutor js, SearchContext context, boolean firstOnly) {
+    Object root = context instanceof WebElement ? context : null;
+    List<WebElement> result = (List<WebElement>) js.executeScript(SCRIPT, root, elementText, exact, firstOnly);
+    return result == null ? emptyList() : result;
+  }
+
+  private JavascriptExecutor javascriptExecutor(SearchContext context) {
+    if (context instanceof JavascriptExecutor) {
+      return (JavascriptExecutor) context;
+    }
+    if (context instanceof WrapsDriver && ((WrapsDriver) context).getWrappedDriver() instanceof JavascriptExecutor) {
+      return (JavascriptExecutor) ((WrapsDriver) context).getWrappedDriver();
+    }
+    throw new IllegalArgumentException("Cannot search " + this + " because " + context + " does not support JavaScript");
+  }
+}
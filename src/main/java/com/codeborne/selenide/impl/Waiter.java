@@ -1,19 +1,28 @@
 package com.codeborne.selenide.impl;
 
+import com.codeborne.selenide.PollingStrategy;
+import com.codeborne.selenide.Stopwatch;
 import com.google.common.base.Predicate;
 
-import static java.lang.System.currentTimeMillis;
+import javax.annotation.Nullable;
 
 public class Waiter {
   public <T> void wait(T subject, Predicate<T> condition, long timeout, long pollingInterval) {
-    for (long start = currentTimeMillis();
-         !isTimeoutExceeded(timeout, start) && !condition.apply(subject); ) {
-      sleep(pollingInterval);
-    }
+    wait(subject, condition, timeout, pollingInterval, null);
   }
 
-  private boolean isTimeoutExceeded(long timeout, long start) {
-    return currentTimeMillis() - start > timeout;
+  /**
+   * @param polling decides how long to sleep between checks (if null, sleeps {@code pollingInterval})
+   */
+  public <T> void wait(T subject, Predicate<T> condition, long timeout, long pollingInterval,
+                       @Nullable PollingStrategy polling) {
+    Stopwatch stopwatch = new Stopwatch(timeout, polling, condition::toString);
+    boolean satisfied = condition.apply(subject);
+    while (!satisfied && !stopwatch.isTimeoutReached()) {
+      sleep(stopwatch.nextDelay(pollingInterval));
+      satisfied = condition.apply(subject);
+    }
+    stopwatch.finished(satisfied);
   }
 
   void sleep(long milliseconds) {
@@ -4,6 +4,7 @@ import com.codeborne.selenide.Driver;
 import org.apache.commons.io.IOUtils;
 import org.openqa.selenium.By;
 import org.openqa.selenium.By.ByCssSelector;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
@@ -26,6 +27,10 @@ public class WebElementSelector {
   public WebElement findElement(Driver driver, SearchContext context, By selector) {
     checkThatXPathNotStartingFromSlash(context, selector);
 
+    if (selector instanceof TextNodesSelector) {
+      return ((TextNodesSelector) selector).findElement((JavascriptExecutor) driver.getWebDriver(), context);
+    }
+
     if (driver.config().selectorMode() == CSS || !(selector instanceof ByCssSelector)) {
       return context.findElement(selector);
     }
@@ -37,6 +42,10 @@ public class WebElementSelector {
   public List<WebElement> findElements(Driver driver, SearchContext context, By selector) {
     checkThatXPathNotStartingFromSlash(context, selector);
 
+    if (selector instanceof TextNodesSelector) {
+      return ((TextNodesSelector) selector).findElements((JavascriptExecutor) driver.getWebDriver(), context);
+    }
+
     if (driver.config().selectorMode() == CSS || !(selector instanceof ByCssSelector)) {
       return context.findElements(selector);
     }
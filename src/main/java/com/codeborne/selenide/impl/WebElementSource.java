@@ -7,9 +7,11 @@ import com.codeborne.selenide.ex.ElementNotFound;
 import com.codeborne.selenide.ex.ElementShould;
 import com.codeborne.selenide.ex.ElementShouldNot;
 import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 
+import javax.annotation.Nullable;
 import java.util.List;
 
 import static com.codeborne.selenide.Condition.visible;
@@ -29,6 +31,24 @@ public abstract class WebElementSource {
     return ElementFinder.wrap(driver(), proxy, getSelector(arg), index);
   }
 
+  /**
+   * Find element, if it's present.
+   *
+   * Used when absence of element is an expected answer (e.g. waiting until element disappears),
+   * so "not found" is not an exception, and should be cheap.
+   *
+   * @return the element, or null if it's not found
+   */
+  @Nullable
+  public WebElement findIfPresent() {
+    try {
+      return getWebElement();
+    }
+    catch (NoSuchElementException | IndexOutOfBoundsException notFound) {
+      return null;
+    }
+  }
+
   public List<WebElement> findAll() throws IndexOutOfBoundsException {
     return singletonList(getWebElement());
   }
@@ -47,7 +67,7 @@ public abstract class WebElementSource {
     Throwable lastError = null;
     WebElement element = null;
     try {
-      element = getWebElement();
+      element = check.applyNull() ? findIfPresent() : getWebElement();
       if (element != null && check.apply(driver(), element)) {
         return element;
       }
@@ -74,6 +94,20 @@ public abstract class WebElementSource {
     return null;
   }
 
+  /**
+   * Check many conditions of the same element.
+   *
+   * The element is found only once, and its state is read by a single JavaScript call (see {@link ElementSnapshot}),
+   * so checking e.g. {@code visible, enabled, text("42")} doesn't cost a webdriver call per condition.
+   * Error messages are the same as for checking conditions one by one.
+   */
+  public void checkConditions(String prefix, List<Condition> conditions, boolean invert) {
+    WebElementSource source = conditions.size() > 1 ? new ResolvedOnce(this) : this;
+    for (Condition condition : conditions) {
+      source.checkCondition(prefix, condition, invert);
+    }
+  }
+
   /**
    * Asserts that returned element can be interacted with.
    *
@@ -88,4 +122,53 @@ public abstract class WebElementSource {
       or("visible or transparent", visible, have(cssValue("opacity", "0"))),
       false);
   }
+
+  /**
+   * Finds the element once and takes its snapshot, so that all conditions are checked against the same state
+   */
+  private static class ResolvedOnce extends WebElementSource {
+    private final WebElementSource source;
+    private boolean resolved;
+    private WebElement element;
+    private RuntimeException error;
+
+    private ResolvedOnce(WebElementSource source) {
+      this.source = source;
+    }
+
+    @Override
+    public Driver driver() {
+      return source.driver();
+    }
+
+    @Override
+    public WebElement getWebElement() {
+      if (!resolved) {
+        resolved = true;
+        try {
+          element = ElementSnapshot.of(driver(), source.getWebElement());
+        }
+        catch (RuntimeException e) {
+          error = e;
+        }
+      }
+      if (error != null) throw error;
+      return element;
+    }
+
+    @Override
+    public String getSearchCriteria() {
+      return source.getSearchCriteria();
+    }
+
+    @Override
+    public ElementNotFound createElementNotFoundError(Condition condition, Throwable lastError) {
+      return source.createElementNotFoundError(condition, lastError);
+    }
+
+    @Override
+    public String toString() {
+      return source.toString();
+    }
+  }
 }
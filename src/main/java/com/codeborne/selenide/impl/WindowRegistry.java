@@ -0,0 +1,210 @@
+package com.codeborne.selenide.impl;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import javax.annotation.Nullable;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import static java.util.Collections.synchronizedMap;
+
+/**
+ * Remembers titles and urls of browser windows/tabs.
+ *
+ * Webdriver can read title only of the current window, so finding a window by title means switching to every window.
+ * This class reads title of every window only once: when the window appears (or while its page is still loading).
+ * Later lookups take titles from the registry, so that one poll costs a couple of webdriver calls instead of
+ * two calls per window. The found window is checked again after switching to it, in case its title has changed.
+ * Titles can also change after the page has loaded (e.g. set by JavaScript, or the window navigates),
+ * so a full scan of all windows can be requested when the cached titles don't match.
+ *
+ * Registry keeps only a weak reference to its webdriver, so that it doesn't prevent the webdriver
+ * (being the key of {@code registries}) from being garbage collected.
+ */
+public class WindowRegistry {
+  private static final Map<WebDriver, WindowRegistry> registries = synchronizedMap(new WeakHashMap<>());
+  private static final String METADATA = "return [document.title, location.href, document.readyState]";
+
+  private final WeakReference<WebDriver> webDriver;
+  private final Map<String, Window> windows = new HashMap<>();
+  private List<String> handles = new ArrayList<>();
+
+  WindowRegistry(WebDriver webDriver) {
+    this.webDriver = new WeakReference<>(webDriver);
+  }
+
+  public static WindowRegistry of(WebDriver webDriver) {
+    synchronized (registries) {
+      return registries.computeIfAbsent(webDriver, WindowRegistry::new);
+    }
+  }
+
+  private WebDriver webDriver() {
+    WebDriver driver = webDriver.get();
+    if (driver == null) {
+      throw new IllegalStateException("Webdriver has been garbage collected");
+    }
+    return driver;
+  }
+
+  /**
+   * @return handles of all open windows (in the order returned by webdriver)
+   */
+  public synchronized List<String> handles() {
+    List<String> actual = new ArrayList<>(webDriver().getWindowHandles());
+    if (!actual.equals(handles)) {
+      windows.keySet().retainAll(actual);
+      handles = actual;
+    }
+    return new ArrayList<>(handles);
+  }
+
+  /**
+   * @return cached title of window, or null if it is not known yet
+   */
+  @Nullable
+  public synchronized String title(String handle) {
+    Window window = windows.get(handle);
+    return window == null ? null : window.title;
+  }
+
+  /**
+   * @return cached url of window, or null if it is not known yet
+   */
+  @Nullable
+  public synchronized String url(String handle) {
+    Window window = windows.get(handle);
+    return window == null ? null : window.url;
+  }
+
+  /**
+   * Switch to the window with given title.
+   *
+   * Title of the current window is read every time (without switching), other windows are switched to
+   * only if their cached title matches, or if they have not been read yet (or were still loading).
+   * If no window is found, focus stays on the current window.
+   *
+   * @return true if found and switched
+   */
+  public boolean switchToWindowWithTitle(String title) {
+    return switchToWindowWithTitle(title, false);
+  }
+
+  /**
+   * @param fullScan if true, also switch to windows whose cached title doesn't match
+   *                 (their title might have changed after loading)
+   * @return true if found and switched
+   */
+  public synchronized boolean switchToWindowWithTitle(String title, boolean fullScan) {
+    WebDriver webDriver = webDriver();
+    String current = currentHandle();
+    List<String> handles = handles();
+    if (current != null && handles.contains(current) && title.equals(readCurrent(current).title)) {
+      webDriver.switchTo().window(current);
+      return true;
+    }
+
+    List<String> candidates = candidates(handles, current, title, fullScan);
+    for (String handle : candidates) {
+      try {
+        webDriver.switchTo().window(handle);
+        if (title.equals(read(handle).title)) return true;
+      }
+      catch (NoSuchWindowException closedMeanwhile) {
+        windows.remove(handle);
+      }
+    }
+
+    if (current != null && !candidates.isEmpty()) {
+      webDriver.switchTo().window(current);
+    }
+    return false;
+  }
+
+  private List<String> candidates(List<String> handles, @Nullable String current, String title, boolean fullScan) {
+    List<String> candidates = new ArrayList<>();
+    for (String handle : handles) {
+      Window window = windows.get(handle);
+      if (handle.equals(current)) continue;
+
+      if (window != null && title.equals(window.title)) candidates.add(0, handle);
+      else if (window == null || !window.loaded || fullScan) candidates.add(handle);
+    }
+    return candidates;
+  }
+
+  /**
+   * Forget the window, e.g. after closing it
+   */
+  public synchronized void forget(String handle) {
+    windows.remove(handle);
+    handles.remove(handle);
+  }
+
+  @Nullable
+  private String currentHandle() {
+    try {
+      return webDriver().getWindowHandle();
+    }
+    catch (NoSuchWindowException currentWindowHasBeenClosed) {
+      return null;
+    }
+  }
+
+  /**
+   * Webdriver returns title of the current window even if a frame is selected
+   */
+  private Window readCurrent(String handle) {
+    Window window = new Window(webDriver().getTitle(), url(handle), true);
+    windows.put(handle, window);
+    return window;
+  }
+
+  private Window read(String handle) {
+    WebDriver webDriver = webDriver();
+    Window window;
+    if (webDriver instanceof JavascriptExecutor) {
+      List<?> metadata = metadata(webDriver);
+      window = metadata == null ? new Window(webDriver.getTitle(), webDriver.getCurrentUrl(), true) :
+        new Window((String) metadata.get(0), (String) metadata.get(1), "complete".equals(metadata.get(2)));
+    }
+    else {
+      window = new Window(webDriver.getTitle(), webDriver.getCurrentUrl(), true);
+    }
+    windows.put(handle, window);
+    return window;
+  }
+
+  @Nullable
+  private List<?> metadata(WebDriver webDriver) {
+    try {
+      Object result = ((JavascriptExecutor) webDriver).executeScript(METADATA);
+      return result instanceof List && ((List<?>) result).size() == 3 ? (List<?>) result : null;
+    }
+    catch (NoSuchWindowException e) {
+      throw e;
+    }
+    catch (WebDriverException | UnsupportedOperationException javascriptIsNotAvailable) {
+      return null;
+    }
+  }
+
+  private static class Window {
+    private final String title;
+    private final String url;
+    private final boolean loaded;
+
+    private Window(String title, String url, boolean loaded) {
+      this.title = title;
+      this.url = url;
+      this.loaded = loaded;
+    }
+  }
+}
@@ -2,6 +2,7 @@ package com.codeborne.selenide.logevents;
 
 import com.codeborne.selenide.Config;
 import com.codeborne.selenide.ex.SoftAssertionError;
+import com.codeborne.selenide.ex.UIAssertionError;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -13,14 +14,32 @@ public class ErrorsCollector implements LogEventListener {
   public static final String LISTENER_SOFT_ASSERT = "softAssert";
   
   private final List<Throwable> errors = new ArrayList<>();
+  private String screenshot;
 
   @Override
   public void afterEvent(LogEvent event) {
     if (event.getStatus() == FAIL) {
+      capture(event.getError());
       errors.add(event.getError());
     }
   }
 
+  /**
+   * All soft assertion errors of a test share one screenshot: the one taken for the first error.
+   */
+  private void capture(Throwable error) {
+    if (error instanceof UIAssertionError) {
+      UIAssertionError uiError = (UIAssertionError) error;
+      if (screenshot != null) {
+        uiError.shareScreenshot(screenshot);
+      }
+      uiError.capture();
+      if (screenshot == null) {
+        screenshot = uiError.getScreenshot();
+      }
+    }
+  }
+
   @Override
   public void beforeEvent(LogEvent currentLog) {
     // ignore
@@ -28,6 +47,7 @@ public class ErrorsCollector implements LogEventListener {
 
   public void clear() {
     errors.clear();
+    screenshot = null;
   }
 
   public void failIfErrors(String testName) {
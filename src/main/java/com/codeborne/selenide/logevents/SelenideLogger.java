@@ -7,6 +7,8 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 import static com.codeborne.selenide.logevents.LogEvent.EventStatus.FAIL;
 
@@ -16,6 +18,9 @@ import static com.codeborne.selenide.logevents.LogEvent.EventStatus.FAIL;
 public class SelenideLogger {
   private static final Logger LOG = LoggerFactory.getLogger(SelenideLogger.class);
 
+  private static final Pattern UPPER_CASE_LETTER = Pattern.compile("([A-Z])");
+  private static final Map<String, String> readableMethodNames = new ConcurrentHashMap<>();
+
   protected static ThreadLocal<Map<String, LogEventListener>> listeners = new ThreadLocal<>();
 
   /**
@@ -38,8 +43,16 @@ public class SelenideLogger {
     return beginStep(source, readableMethodName(methodName) + "(" + readableArguments(args) + ")");
   }
 
+  /**
+   * Method names are converted once: the same methods are called in every test
+   */
   static String readableMethodName(String methodName) {
-    return methodName.replaceAll("([A-Z])", " $1").toLowerCase();
+    String readableName = readableMethodNames.get(methodName);
+    if (readableName == null) {
+      readableName = UPPER_CASE_LETTER.matcher(methodName).replaceAll(" $1").toLowerCase();
+      readableMethodNames.put(methodName, readableName);
+    }
+    return readableName;
   }
 
   static String readableArguments(Object... args) {
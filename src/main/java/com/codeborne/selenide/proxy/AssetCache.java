@@ -0,0 +1,261 @@
+package com.codeborne.selenide.proxy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static com.google.common.hash.Hashing.sha256;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * On-disk store of http responses, bounded by total size of response bodies.
+ * When the limit is exceeded, least recently used responses are removed.
+ *
+ * Every response is stored in two files: body and metadata (status, headers, expiration time).
+ * Responses stored by previous runs are loaded on start, so the folder can be reused between runs.
+ *
+ * One instance per folder is shared by all proxy servers of JVM (see {@link #in(File, long)}).
+ */
+public class AssetCache {
+  private static final Logger log = LoggerFactory.getLogger(AssetCache.class);
+  private static final Map<File, AssetCache> instances = new HashMap<>();
+
+  private final File folder;
+  private final long maxSize;
+  private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+  private long size;
+
+  /**
+   * @param maxSize max total size of stored response bodies in bytes
+   * @return cache stored in given folder (the same instance for the same folder)
+   */
+  public static synchronized AssetCache in(File folder, long maxSize) {
+    return instances.computeIfAbsent(folder.getAbsoluteFile(), dir -> new AssetCache(dir, maxSize));
+  }
+
+  AssetCache(File folder, long maxSize) {
+    this.folder = folder;
+    this.maxSize = maxSize;
+    load();
+  }
+
+  private void load() {
+    File[] files = folder.listFiles((dir, name) -> name.endsWith(".properties"));
+    if (files == null) return;
+
+    Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+    for (File file : files) {
+      try {
+        Entry entry = Entry.load(file);
+        if (entry.body(folder).isFile()) {
+          entries.put(entry.url, entry);
+          size += entry.size;
+        }
+      }
+      catch (IOException | RuntimeException e) {
+        log.debug("Skip invalid cache entry {}: {}", file, e.toString());
+      }
+    }
+    evict();
+    log.info("Loaded {} cached responses ({} bytes) from {}", entries.size(), size, folder);
+  }
+
+  /**
+   * @return stored response for given url, or null if there is no such response
+   */
+  public synchronized Entry get(String url) {
+    return entries.get(url);
+  }
+
+  /**
+   * @throws IOException if body cannot be read (e.g. it has been removed by another process sharing the folder)
+   */
+  public byte[] read(Entry entry) throws IOException {
+    try {
+      return Files.readAllBytes(entry.body(folder).toPath());
+    }
+    catch (NoSuchFileException e) {
+      remove(entry.url);
+      throw e;
+    }
+  }
+
+  /**
+   * Store response (replacing previously stored response for the same url)
+   */
+  public synchronized void put(Entry entry, byte[] body) {
+    if (body.length > maxSize) return;
+
+    Entry previous = entries.remove(entry.url);
+    if (previous != null) {
+      size -= previous.size;
+    }
+    Entry stored = new Entry(entry.url, entry.status, entry.headers, entry.vary, entry.expiresAt, body.length);
+    try {
+      Files.createDirectories(folder.toPath());
+      write(stored.body(folder), body);
+      write(stored.metadata(folder), stored.toProperties());
+      entries.put(entry.url, stored);
+      size += stored.size;
+      evict();
+    }
+    catch (IOException e) {
+      log.warn("Failed to cache response of {}: {}", entry.url, e.toString());
+      delete(stored);
+    }
+  }
+
+  public synchronized void remove(String url) {
+    Entry entry = entries.remove(url);
+    if (entry != null) {
+      size -= entry.size;
+      delete(entry);
+    }
+  }
+
+  public synchronized long size() {
+    return size;
+  }
+
+  private void evict() {
+    for (Iterator<Entry> it = entries.values().iterator(); size > maxSize && it.hasNext(); ) {
+      Entry eldest = it.next();
+      it.remove();
+      size -= eldest.size;
+      delete(eldest);
+    }
+  }
+
+  private void delete(Entry entry) {
+    try {
+      Files.deleteIfExists(entry.metadata(folder).toPath());
+      Files.deleteIfExists(entry.body(folder).toPath());
+    }
+    catch (IOException e) {
+      log.debug("Failed to delete cached response of {}: {}", entry.url, e.toString());
+    }
+  }
+
+  private static void write(File file, byte[] content) throws IOException {
+    File tmp = new File(file.getPath() + ".tmp");
+    Files.write(tmp.toPath(), content);
+    try {
+      Files.move(tmp.toPath(), file.toPath(), ATOMIC_MOVE, REPLACE_EXISTING);
+    }
+    catch (AtomicMoveNotSupportedException e) {
+      Files.move(tmp.toPath(), file.toPath(), REPLACE_EXISTING);
+    }
+  }
+
+  /**
+   * Stored response: status, headers (without body), values of request headers listed in "Vary",
+   * and time until which the response can be used without revalidation.
+   */
+  public static final class Entry {
+    final String url;
+    final int status;
+    final List<Map.Entry<String, String>> headers;
+    final Map<String, String> vary;
+    final long expiresAt;
+    final long size;
+
+    public Entry(String url, int status, List<Map.Entry<String, String>> headers, Map<String, String> vary, long expiresAt) {
+      this(url, status, headers, vary, expiresAt, 0);
+    }
+
+    private Entry(String url, int status, List<Map.Entry<String, String>> headers, Map<String, String> vary,
+                  long expiresAt, long size) {
+      this.url = url;
+      this.status = status;
+      this.headers = headers;
+      this.vary = vary;
+      this.expiresAt = expiresAt;
+      this.size = size;
+    }
+
+    public boolean isFresh(long now) {
+      return now < expiresAt;
+    }
+
+    public String header(String name) {
+      for (Map.Entry<String, String> header : headers) {
+        if (header.getKey().equalsIgnoreCase(name)) return header.getValue();
+      }
+      return null;
+    }
+
+    private String id() {
+      return sha256().hashString(url, UTF_8).toString();
+    }
+
+    private File body(File folder) {
+      return new File(folder, id() + ".body");
+    }
+
+    private File metadata(File folder) {
+      return new File(folder, id() + ".properties");
+    }
+
+    private byte[] toProperties() throws IOException {
+      Properties properties = new Properties();
+      properties.setProperty("url", url);
+      properties.setProperty("status", String.valueOf(status));
+      properties.setProperty("expiresAt", String.valueOf(expiresAt));
+      properties.setProperty("size", String.valueOf(size));
+      for (int i = 0; i < headers.size(); i++) {
+        properties.setProperty("header." + i + ".name", headers.get(i).getKey());
+        properties.setProperty("header." + i + ".value", headers.get(i).getValue());
+      }
+      for (Map.Entry<String, String> header : vary.entrySet()) {
+        properties.setProperty("vary." + header.getKey(), header.getValue());
+      }
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      properties.store(out, null);
+      return out.toByteArray();
+    }
+
+    private static Entry load(File file) throws IOException {
+      Properties properties = new Properties();
+      try (InputStream in = Files.newInputStream(file.toPath())) {
+        properties.load(in);
+      }
+      List<Map.Entry<String, String>> headers = new ArrayList<>();
+      for (int i = 0; properties.containsKey("header." + i + ".name"); i++) {
+        headers.add(new SimpleImmutableEntry<>(
+          properties.getProperty("header." + i + ".name"), properties.getProperty("header." + i + ".value")));
+      }
+      Map<String, String> vary = new LinkedHashMap<>();
+      for (String key : properties.stringPropertyNames()) {
+        if (key.startsWith("vary.")) {
+          vary.put(key.substring("vary.".length()), properties.getProperty(key));
+        }
+      }
+      return new Entry(properties.getProperty("url"), Integer.parseInt(properties.getProperty("status")), headers, vary,
+        Long.parseLong(properties.getProperty("expiresAt")), Long.parseLong(properties.getProperty("size")));
+    }
+
+    @Override
+    public String toString() {
+      return url + " (" + size + " bytes)";
+    }
+  }
+}
@@ -0,0 +1,306 @@
+package com.codeborne.selenide.proxy;
+
+import com.browserup.bup.filters.RequestFilter;
+import com.browserup.bup.filters.ResponseFilter;
+import com.browserup.bup.util.HttpMessageContents;
+import com.browserup.bup.util.HttpMessageInfo;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.netty.handler.codec.http.HttpHeaderNames.AUTHORIZATION;
+import static io.netty.handler.codec.http.HttpHeaderNames.CACHE_CONTROL;
+import static io.netty.handler.codec.http.HttpHeaderNames.CONTENT_LENGTH;
+import static io.netty.handler.codec.http.HttpHeaderNames.COOKIE;
+import static io.netty.handler.codec.http.HttpHeaderNames.ETAG;
+import static io.netty.handler.codec.http.HttpHeaderNames.IF_MODIFIED_SINCE;
+import static io.netty.handler.codec.http.HttpHeaderNames.IF_NONE_MATCH;
+import static io.netty.handler.codec.http.HttpHeaderNames.LAST_MODIFIED;
+import static io.netty.handler.codec.http.HttpHeaderNames.RANGE;
+import static io.netty.handler.codec.http.HttpHeaderNames.VARY;
+import static io.netty.handler.codec.http.HttpVersion.HTTP_1_1;
+import static java.util.Arrays.asList;
+import static java.util.Collections.synchronizedMap;
+
+/**
+ * Serves static resources (scripts, styles, fonts, images) from {@link AssetCache}
+ * instead of requesting them from server again and again by every new browser.
+ *
+ * Fresh responses are returned directly by proxy.
+ * Stale responses with "ETag" or "Last-Modified" are revalidated with a conditional request.
+ * Which responses can be cached is decided by {@link AssetCacheRule}s: custom rules added by
+ * {@link #addRule(AssetCacheRule)} are checked first, then {@link AssetCacheRule#STATIC_RESOURCES}.
+ *
+ * Every proxy server (i.e. every browser session) has its own filter and statistics,
+ * while the cache itself can be shared. That's why responses to requests with credentials
+ * ("Authorization" or "Cookie" headers) are never stored, whatever the rules say.
+ *
+ * Revalidations which fail without a response (see {@link RequestFailureFilter}) are forgotten,
+ * as well as revalidations waiting for a response longer than {@link #MAX_REVALIDATION_MS} (e.g. aborted by browser).
+ */
+public class AssetCacheFilter implements RequestFilter, ResponseFilter, RequestFailureFilter {
+  private static final Logger log = LoggerFactory.getLogger(AssetCacheFilter.class);
+  private static final List<String> HOP_BY_HOP_HEADERS = asList("connection", "keep-alive", "transfer-encoding",
+    "proxy-authenticate", "proxy-authorization", "te", "trailer", "upgrade", "set-cookie");
+  static final long MAX_REVALIDATION_MS = 10 * 60 * 1000;
+
+  private final AssetCache cache;
+  private final List<AssetCacheRule> rules = new CopyOnWriteArrayList<>();
+  private final Map<HttpRequest, Revalidation> revalidations = synchronizedMap(new IdentityHashMap<>());
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong revalidated = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong bytesFromCache = new AtomicLong();
+
+  public AssetCacheFilter(AssetCache cache) {
+    this.cache = cache;
+  }
+
+  /**
+   * Add a rule that decides which responses can be cached.
+   * Rules are checked in the order they were added.
+   */
+  public AssetCacheFilter addRule(AssetCacheRule rule) {
+    rules.add(rule);
+    return this;
+  }
+
+  @Override
+  public HttpResponse filterRequest(HttpRequest request, HttpMessageContents contents, HttpMessageInfo messageInfo) {
+    if (!isCacheable(request)) return null;
+
+    AssetCache.Entry entry = cache.get(messageInfo.getUrl());
+    if (entry == null || !matchesVary(entry, request.headers())) return null;
+
+    if (entry.isFresh(System.currentTimeMillis())) {
+      return serveFromCache(entry);
+    }
+    if (entry.header(ETAG.toString()) != null || entry.header(LAST_MODIFIED.toString()) != null) {
+      revalidate(request, messageInfo, entry);
+    }
+    return null;
+  }
+
+  private HttpResponse serveFromCache(AssetCache.Entry entry) {
+    byte[] body = readBody(entry);
+    if (body == null) return null;
+
+    hits.incrementAndGet();
+    bytesFromCache.addAndGet(body.length);
+    return toResponse(entry, body);
+  }
+
+  private void revalidate(HttpRequest request, HttpMessageInfo messageInfo, AssetCache.Entry entry) {
+    byte[] body = readBody(entry);
+    if (body == null) return;
+
+    String etag = entry.header(ETAG.toString());
+    String lastModified = entry.header(LAST_MODIFIED.toString());
+    if (etag != null) request.headers().set(IF_NONE_MATCH, etag);
+    if (lastModified != null) request.headers().set(IF_MODIFIED_SINCE, lastModified);
+    long now = System.currentTimeMillis();
+    synchronized (revalidations) {
+      revalidations.values().removeIf(revalidation -> revalidation.startedAt < now - MAX_REVALIDATION_MS);
+    }
+    revalidations.put(messageInfo.getOriginalRequest(), new Revalidation(entry, body, now));
+  }
+
+  @Override
+  public void requestFailed(HttpRequest originalRequest, String reason) {
+    revalidations.remove(originalRequest);
+  }
+
+  int pendingRevalidations() {
+    return revalidations.size();
+  }
+
+  private byte[] readBody(AssetCache.Entry entry) {
+    try {
+      return cache.read(entry);
+    }
+    catch (IOException e) {
+      log.debug("Cannot read cached response of {}: {}", entry.url, e.toString());
+      return null;
+    }
+  }
+
+  @Override
+  public void filterResponse(HttpResponse response, HttpMessageContents contents, HttpMessageInfo messageInfo) {
+    HttpRequest request = messageInfo.getOriginalRequest();
+    if (request == null || !HttpMethod.GET.equals(request.method())) return;
+
+    String url = messageInfo.getUrl();
+    Revalidation revalidation = revalidations.remove(request);
+    if (revalidation != null && response.status().code() == 304) {
+      response.setStatus(HttpResponseStatus.valueOf(revalidation.entry.status));
+      HttpHeaders notModifiedHeaders = response.headers().copy();
+      response.headers().clear();
+      for (Map.Entry<String, String> header : revalidation.entry.headers) {
+        response.headers().add(header.getKey(), header.getValue());
+      }
+      for (String name : notModifiedHeaders.names()) {
+        if (!isHopByHop(name) && !CONTENT_LENGTH.contentEqualsIgnoreCase(name)) {
+          response.headers().set(name, notModifiedHeaders.getAll(name));
+        }
+      }
+      contents.setBinaryContents(revalidation.body);
+      revalidated.incrementAndGet();
+      bytesFromCache.addAndGet(revalidation.body.length);
+      store(url, request, response, revalidation.body);
+      return;
+    }
+    if (response.status().code() == 200 && store(url, request, response, contents.getBinaryContents())) {
+      misses.incrementAndGet();
+    }
+  }
+
+  /**
+   * @return true if response has been stored in cache
+   */
+  private boolean store(String url, HttpRequest request, HttpResponse response, byte[] body) {
+    if (hasCredentials(request)) return false;
+
+    Long maxAge = maxAge(url, response);
+    HttpHeaders headers = response.headers();
+    if (maxAge == null || maxAge < 0 || maxAge == 0 && !headers.contains(ETAG) && !headers.contains(LAST_MODIFIED)) {
+      return false;
+    }
+
+    List<Map.Entry<String, String>> storedHeaders = new ArrayList<>();
+    for (Map.Entry<String, String> header : headers) {
+      if (!isHopByHop(header.getKey())) {
+        storedHeaders.add(new SimpleImmutableEntry<>(header.getKey(), header.getValue()));
+      }
+    }
+    Map<String, String> vary = new LinkedHashMap<>();
+    for (String name : headers.get(VARY, "").split(",")) {
+      if (!name.trim().isEmpty()) {
+        vary.put(name.trim().toLowerCase(), request.headers().get(name.trim(), ""));
+      }
+    }
+    long expiresAt = System.currentTimeMillis() + maxAge * 1000;
+    cache.put(new AssetCache.Entry(url, response.status().code(), storedHeaders, vary, expiresAt), body);
+    return true;
+  }
+
+  private static boolean isHopByHop(String header) {
+    return HOP_BY_HOP_HEADERS.contains(header.toLowerCase());
+  }
+
+  private Long maxAge(String url, HttpResponse response) {
+    for (AssetCacheRule rule : rules) {
+      Long maxAge = rule.maxAge(url, response);
+      if (maxAge != null) return maxAge;
+    }
+    return AssetCacheRule.STATIC_RESOURCES.maxAge(url, response);
+  }
+
+  private boolean isCacheable(HttpRequest request) {
+    HttpHeaders headers = request.headers();
+    return HttpMethod.GET.equals(request.method())
+      && !headers.contains(RANGE)
+      && !headers.contains(IF_NONE_MATCH)
+      && !headers.contains(IF_MODIFIED_SINCE)
+      && !headers.get(CACHE_CONTROL, "").contains("no-cache");
+  }
+
+  private boolean hasCredentials(HttpRequest request) {
+    return request.headers().contains(AUTHORIZATION) || request.headers().contains(COOKIE);
+  }
+
+  private boolean matchesVary(AssetCache.Entry entry, HttpHeaders requestHeaders) {
+    for (Map.Entry<String, String> header : entry.vary.entrySet()) {
+      if (!header.getValue().equals(requestHeaders.get(header.getKey(), ""))) return false;
+    }
+    return true;
+  }
+
+  private FullHttpResponse toResponse(AssetCache.Entry entry, byte[] body) {
+    FullHttpResponse response = new DefaultFullHttpResponse(HTTP_1_1,
+      HttpResponseStatus.valueOf(entry.status), Unpooled.wrappedBuffer(body));
+    for (Map.Entry<String, String> header : entry.headers) {
+      response.headers().add(header.getKey(), header.getValue());
+    }
+    response.headers().set(CONTENT_LENGTH, body.length);
+    return response;
+  }
+
+  /**
+   * @return cache usage statistics of this filter (i.e. of one browser session)
+   */
+  public Statistics statistics() {
+    return new Statistics(hits.get(), revalidated.get(), misses.get(), bytesFromCache.get());
+  }
+
+  private static class Revalidation {
+    private final AssetCache.Entry entry;
+    private final byte[] body;
+    private final long startedAt;
+
+    private Revalidation(AssetCache.Entry entry, byte[] body, long startedAt) {
+      this.entry = entry;
+      this.body = body;
+      this.startedAt = startedAt;
+    }
+  }
+
+  public static class Statistics {
+    /**
+     * Number of requests served from cache without asking server
+     */
+    public final long hits;
+
+    /**
+     * Number of requests served from cache after server confirmed that the resource has not been modified
+     */
+    public final long revalidated;
+
+    /**
+     * Number of cacheable responses that had to be downloaded from server (and have been stored in cache)
+     */
+    public final long misses;
+
+    /**
+     * Total size of response bodies served from cache
+     */
+    public final long bytesFromCache;
+
+    Statistics(long hits, long revalidated, long misses, long bytesFromCache) {
+      this.hits = hits;
+      this.revalidated = revalidated;
+      this.misses = misses;
+      this.bytesFromCache = bytesFromCache;
+    }
+
+    /**
+     * @return share of cacheable requests served from cache (including revalidated), from 0 to 1
+     */
+    public double hitRate() {
+      long total = hits + revalidated + misses;
+      return total == 0 ? 0 : (double) (hits + revalidated) / total;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("hits: %d, revalidated: %d, misses: %d, hit rate: %.1f%%, bytes from cache: %d",
+        hits, revalidated, misses, hitRate() * 100, bytesFromCache);
+    }
+  }
+}
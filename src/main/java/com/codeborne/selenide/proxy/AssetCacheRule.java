@@ -0,0 +1,97 @@
+package com.codeborne.selenide.proxy;
+
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpResponse;
+
+import javax.annotation.Nullable;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static io.netty.handler.codec.http.HttpHeaderNames.CACHE_CONTROL;
+import static io.netty.handler.codec.http.HttpHeaderNames.CONTENT_TYPE;
+import static io.netty.handler.codec.http.HttpHeaderNames.DATE;
+import static io.netty.handler.codec.http.HttpHeaderNames.ETAG;
+import static io.netty.handler.codec.http.HttpHeaderNames.EXPIRES;
+import static io.netty.handler.codec.http.HttpHeaderNames.LAST_MODIFIED;
+import static io.netty.handler.codec.http.HttpHeaderNames.SET_COOKIE;
+import static io.netty.handler.codec.http.HttpHeaderNames.VARY;
+
+/**
+ * Decides which responses {@link AssetCacheFilter} can store, and for how long.
+ */
+public interface AssetCacheRule {
+  /**
+   * @return for how many seconds the response can be served from cache without asking server,
+   * 0 if it should be revalidated every time, negative if it should not be cached at all,
+   * or null to let the next rule decide
+   */
+  @Nullable
+  Long maxAge(String url, HttpResponse response);
+
+  /**
+   * Cache responses of matching urls for given time, regardless of their http headers
+   *
+   * @param urlRegex regular expression to search in url, e.g. {@code "/assets/.*\\.js$"}
+   */
+  static AssetCacheRule cache(String urlRegex, long maxAgeSeconds) {
+    Pattern pattern = Pattern.compile(urlRegex);
+    return (url, response) -> pattern.matcher(url).find() ? maxAgeSeconds : null;
+  }
+
+  /**
+   * Never cache responses of matching urls
+   *
+   * @param urlRegex regular expression to search in url, e.g. {@code "/api/"}
+   */
+  static AssetCacheRule dontCache(String urlRegex) {
+    return cache(urlRegex, -1);
+  }
+
+  /**
+   * Default rule: static resources (scripts, styles, fonts, images) are cached
+   * according to their http headers "Cache-Control" and "Expires".
+   *
+   * Cache is shared by browsers and stored on disk, so responses marked as "private" are not cached,
+   * and responses without explicit "max-age" or "Expires" are revalidated every time
+   * (if they have "ETag" or "Last-Modified") instead of guessing their freshness.
+   */
+  AssetCacheRule STATIC_RESOURCES = new AssetCacheRule() {
+    private final Pattern maxAge = Pattern.compile("(?:^|,)\\s*(?:s-maxage|max-age)\\s*=\\s*(\\d+)");
+    private final Pattern staticContentType = Pattern.compile(
+      "^(text/css|text/javascript|application/(x-)?javascript|application/ecmascript|application/wasm|" +
+        "font/.*|application/(x-)?font.*|application/vnd\\.ms-fontobject|image/.*)(;.*)?$");
+
+    @Override
+    public Long maxAge(String url, HttpResponse response) {
+      HttpHeaders headers = response.headers();
+      String contentType = headers.get(CONTENT_TYPE, "").toLowerCase();
+      if (!staticContentType.matcher(contentType).matches()) return null;
+      if (headers.contains(SET_COOKIE) || "*".equals(headers.get(VARY))) return -1L;
+
+      String cacheControl = headers.get(CACHE_CONTROL, "").toLowerCase();
+      if (cacheControl.contains("no-store") || cacheControl.contains("private")) return -1L;
+      if (cacheControl.contains("no-cache")) return 0L;
+      Matcher matcher = maxAge.matcher(cacheControl);
+      return matcher.find() ? Long.parseLong(matcher.group(1)) : maxAgeByDates(headers);
+    }
+
+    /**
+     * Without "max-age", use "Expires". Without both, revalidate every time if possible.
+     */
+    private long maxAgeByDates(HttpHeaders headers) {
+      long now = date(headers, DATE, System.currentTimeMillis());
+      if (headers.contains(EXPIRES)) return Math.max(0, (date(headers, EXPIRES, now) - now) / 1000);
+      return headers.contains(ETAG) || headers.contains(LAST_MODIFIED) ? 0L : -1L;
+    }
+
+    private long date(HttpHeaders headers, CharSequence name, long defaultValue) {
+      Long millis = headers.getTimeMillis(name);
+      return millis == null ? defaultValue : millis;
+    }
+
+    @Override
+    public String toString() {
+      return "static resources by http headers";
+    }
+  };
+}
@@ -67,7 +67,7 @@ public class FileDownloadFilter implements ResponseFilter {
         response.getStatus().reasonPhrase(),
         toMap(response.headers()),
         contents.getContentType(),
-        contents.getTextContents()
+        contents.getTextContents().length()
     ));
 
     if (response.getStatus().code() < 200 || response.getStatus().code() >= 300) return;
@@ -130,22 +130,22 @@ public class FileDownloadFilter implements ResponseFilter {
     private String reasonPhrase;
     private String contentType;
     private Map<String, String> headers;
-    private String content;
+    private int contentLength;
 
     private Response(String url, int code, String reasonPhrase, Map<String, String> headers,
-                     String contentType, String content) {
+                     String contentType, int contentLength) {
       this.url = url;
       this.code = code;
       this.reasonPhrase = reasonPhrase;
       this.headers = headers;
       this.contentType = contentType;
-      this.content = content;
+      this.contentLength = contentLength;
     }
 
     @Override
     public String toString() {
       return url + " -> " + code + " \"" + reasonPhrase + "\" " + headers + " " +
-          contentType + " " + " (" + content.length() + " bytes)";
+          contentType + " " + " (" + contentLength + " bytes)";
     }
   }
 }
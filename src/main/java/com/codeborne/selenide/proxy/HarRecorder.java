@@ -0,0 +1,316 @@
+package com.codeborne.selenide.proxy;
+
+import com.browserup.bup.filters.RequestFilter;
+import com.browserup.bup.filters.ResponseFilter;
+import com.browserup.bup.util.HttpMessageContents;
+import com.browserup.bup.util.HttpMessageInfo;
+import com.browserup.harreader.model.HarContent;
+import com.browserup.harreader.model.HarEntry;
+import com.browserup.harreader.model.HarHeader;
+import com.browserup.harreader.model.HarPostData;
+import com.browserup.harreader.model.HarQueryParam;
+import com.browserup.harreader.model.HarRequest;
+import com.browserup.harreader.model.HarResponse;
+import com.browserup.harreader.model.HarTiming;
+import com.browserup.harreader.model.HttpMethod;
+import com.codeborne.selenide.HarCapture;
+import com.codeborne.selenide.impl.Randomizer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static io.netty.handler.codec.http.HttpHeaderNames.LOCATION;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.synchronizedMap;
+
+/**
+ * Records traffic of one browser session to a HAR file.
+ *
+ * Entries are the same as in HAR of BrowserUp proxy, but they are not collected in memory:
+ * every entry is appended to the file as soon as the response is received.
+ * Only requests waiting for their responses are kept in memory.
+ * Requests which failed without a response (see {@link RequestFailureFilter}), or have been waiting for a response
+ * longer than {@link #MAX_PENDING_MS} (e.g. aborted by browser), are recorded with status 0, as BrowserUp does.
+ * The file is a valid HAR document after {@link #rotate()} or {@link #close()}.
+ */
+public class HarRecorder implements RequestFilter, ResponseFilter, RequestFailureFilter, Closeable {
+  private static final Logger log = LoggerFactory.getLogger(HarRecorder.class);
+  private static final String HEADER = "{\"log\": {\"version\": \"1.2\", \"creator\": {\"name\": \"Selenide\", \"version\": \"5\"}, " +
+    "\"pages\": [], \"entries\": [";
+  private static final String FOOTER = "\n]}}\n";
+  static final long MAX_PENDING_MS = 10 * 60 * 1000;
+
+  private final HarCapture capture;
+  private final int maxBodySize;
+  private final File folder;
+  private final String name;
+  private final Map<HttpRequest, PendingRequest> pending = synchronizedMap(new IdentityHashMap<>());
+  private final ObjectWriter json = new ObjectMapper().writer();
+  private Writer writer;
+  private File file;
+  private int part;
+  private int entries;
+
+  /**
+   * @param maxBodySize max size of recorded request and response bodies (in bytes)
+   * @param folder      folder where HAR files are created
+   */
+  public HarRecorder(HarCapture capture, int maxBodySize, File folder) {
+    this(capture, maxBodySize, folder, new Randomizer().text());
+  }
+
+  HarRecorder(HarCapture capture, int maxBodySize, File folder, String name) {
+    this.capture = capture;
+    this.maxBodySize = maxBodySize;
+    this.folder = folder;
+    this.name = name;
+  }
+
+  @Override
+  public HttpResponse filterRequest(HttpRequest request, HttpMessageContents contents, HttpMessageInfo messageInfo) {
+    if (method(request) != HttpMethod.CONNECT) {
+      long now = System.currentTimeMillis();
+      recordAbandonedRequests(now - MAX_PENDING_MS);
+      pending.put(messageInfo.getOriginalRequest(), new PendingRequest(now, toHar(request, contents, messageInfo.getUrl())));
+    }
+    return null;
+  }
+
+  @Override
+  public void filterResponse(HttpResponse response, HttpMessageContents contents, HttpMessageInfo messageInfo) {
+    PendingRequest request = pending.remove(messageInfo.getOriginalRequest());
+    if (request != null) {
+      write(request, toHar(response, contents));
+    }
+  }
+
+  @Override
+  public void requestFailed(HttpRequest originalRequest, String reason) {
+    PendingRequest request = pending.remove(originalRequest);
+    if (request != null) {
+      write(request, noResponse(reason));
+    }
+  }
+
+  private void recordAbandonedRequests(long startedBefore) {
+    List<PendingRequest> abandoned = new ArrayList<>();
+    synchronized (pending) {
+      for (Iterator<PendingRequest> i = pending.values().iterator(); i.hasNext(); ) {
+        PendingRequest request = i.next();
+        if (request.startedAt < startedBefore) {
+          abandoned.add(request);
+          i.remove();
+        }
+      }
+    }
+    for (PendingRequest request : abandoned) {
+      write(request, noResponse("No response received"));
+    }
+  }
+
+  private void write(PendingRequest request, HarResponse response) {
+    int time = (int) (System.currentTimeMillis() - request.startedAt);
+    HarTiming timings = new HarTiming();
+    timings.setWait(time);
+
+    HarEntry entry = new HarEntry();
+    entry.setStartedDateTime(new Date(request.startedAt));
+    entry.setTime(time);
+    entry.setRequest(request.har);
+    entry.setResponse(response);
+    entry.setTimings(timings);
+    write(entry);
+  }
+
+  private HarResponse noResponse(String reason) {
+    HarResponse har = new HarResponse();
+    har.setStatus(0);
+    har.setStatusText("");
+    har.setHttpVersion("unknown");
+    har.setHeaders(new ArrayList<>());
+    har.setContent(new HarContent());
+    har.setRedirectURL("");
+    har.setAdditionalField("_error", reason);
+    return har;
+  }
+
+  private HarRequest toHar(HttpRequest request, HttpMessageContents contents, String url) {
+    HarRequest har = new HarRequest();
+    har.setMethod(method(request));
+    har.setUrl(url);
+    har.setHttpVersion(request.protocolVersion().text());
+    har.setHeaders(headers(request.headers()));
+    har.setQueryString(queryString(url));
+    har.setBodySize(bodySize(contents));
+    if (capture == HarCapture.BODIES && har.getBodySize() > 0) {
+      HarPostData postData = new HarPostData();
+      postData.setMimeType(contents.getContentType());
+      postData.setText(text(contents));
+      har.setPostData(postData);
+    }
+    return har;
+  }
+
+  private HttpMethod method(HttpRequest request) {
+    try {
+      return HttpMethod.valueOf(request.method().name());
+    }
+    catch (IllegalArgumentException unknownMethod) {
+      return null;
+    }
+  }
+
+  private HarResponse toHar(HttpResponse response, HttpMessageContents contents) {
+    HarContent content = new HarContent();
+    content.setSize(bodySize(contents));
+    content.setMimeType(contents == null ? null : contents.getContentType());
+    if (capture == HarCapture.BODIES && content.getSize() > 0) {
+      if (contents.isText()) {
+        content.setText(text(contents));
+      }
+      else {
+        content.setComment("binary content is not recorded");
+      }
+    }
+
+    HarResponse har = new HarResponse();
+    har.setStatus(response.status().code());
+    har.setStatusText(response.status().reasonPhrase());
+    har.setHttpVersion(response.protocolVersion().text());
+    har.setHeaders(headers(response.headers()));
+    har.setContent(content);
+    har.setRedirectURL(response.headers().get(LOCATION));
+    har.setBodySize(content.getSize());
+    return har;
+  }
+
+  private List<HarHeader> headers(HttpHeaders headers) {
+    List<HarHeader> har = new ArrayList<>();
+    if (capture == HarCapture.URLS) return har;
+
+    for (Map.Entry<String, String> header : headers) {
+      HarHeader harHeader = new HarHeader();
+      harHeader.setName(header.getKey());
+      harHeader.setValue(header.getValue());
+      har.add(harHeader);
+    }
+    return har;
+  }
+
+  private List<HarQueryParam> queryString(String url) {
+    List<HarQueryParam> har = new ArrayList<>();
+    for (Map.Entry<String, List<String>> parameter : new QueryStringDecoder(url).parameters().entrySet()) {
+      for (String value : parameter.getValue()) {
+        HarQueryParam param = new HarQueryParam();
+        param.setName(parameter.getKey());
+        param.setValue(value);
+        har.add(param);
+      }
+    }
+    return har;
+  }
+
+  private long bodySize(HttpMessageContents contents) {
+    return contents == null ? 0 : contents.getBinaryContents().length;
+  }
+
+  private String text(HttpMessageContents contents) {
+    byte[] body = contents.getBinaryContents();
+    if (body.length <= maxBodySize) {
+      return contents.getTextContents();
+    }
+    String text = new String(body, 0, maxBodySize, contents.getCharset());
+    // the last character might have been cut in the middle
+    return text.endsWith("\uFFFD") ? text.substring(0, text.length() - 1) : text;
+  }
+
+  private synchronized void write(HarEntry entry) {
+    try {
+      String json = this.json.writeValueAsString(entry);
+      if (writer == null) {
+        open();
+      }
+      writer.write(entries == 0 ? "\n" : ",\n");
+      writer.write(json);
+      writer.flush();
+      entries++;
+    }
+    catch (IOException e) {
+      log.warn("Failed to write HAR entry of {} to {}: {}", entry.getRequest().getUrl(), file, e.toString());
+    }
+  }
+
+  private void open() throws IOException {
+    Files.createDirectories(folder.toPath());
+    part++;
+    file = new File(folder, part == 1 ? name + ".har" : name + "-" + part + ".har");
+    writer = Files.newBufferedWriter(file.toPath(), UTF_8);
+    writer.write(HEADER);
+    entries = 0;
+    log.info("Recording traffic to {}", file.getAbsolutePath());
+  }
+
+  /**
+   * @return current HAR file, or null if nothing has been recorded yet
+   */
+  public synchronized File file() {
+    return file;
+  }
+
+  /**
+   * Finish current HAR file: next responses will be recorded to a new file.
+   * Useful for getting a separate HAR file for every test of a long browser session.
+   *
+   * @return the finished file, or null if nothing has been recorded since the previous rotation
+   */
+  public synchronized File rotate() {
+    File finished = writer == null ? null : file;
+    close();
+    return finished;
+  }
+
+  /**
+   * Finish current HAR file
+   */
+  @Override
+  public synchronized void close() {
+    if (writer == null) return;
+    try {
+      writer.write(FOOTER);
+      writer.close();
+    }
+    catch (IOException e) {
+      log.warn("Failed to finish HAR file {}: {}", file, e.toString());
+    }
+    finally {
+      writer = null;
+    }
+  }
+
+  private static class PendingRequest {
+    private final long startedAt;
+    private final HarRequest har;
+
+    private PendingRequest(long startedAt, HarRequest har) {
+      this.startedAt = startedAt;
+      this.har = har;
+    }
+  }
+}
@@ -0,0 +1,184 @@
+package com.codeborne.selenide.proxy;
+
+import com.browserup.bup.filters.RequestFilter;
+import com.browserup.bup.filters.ResponseFilter;
+import com.browserup.bup.util.HttpMessageContents;
+import com.browserup.bup.util.HttpMessageInfo;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
+import org.openqa.selenium.TimeoutException;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Counts requests which have been sent by browser, but have not got a response yet.
+ *
+ * Allows to wait until browser has finished its AJAX requests: {@link #waitForIdle(long, long, String, String)}
+ * sleeps on a condition which is signalled by the proxy threads, so it doesn't poll the browser.
+ *
+ * Requests which failed without a response (see {@link RequestFailureFilter}) are not pending anymore.
+ * Requests which had been pending longer than the timeout before the wait started (e.g. aborted by browser)
+ * are considered abandoned and are not waited for; they are forgotten after {@link #MAX_PENDING_MS}.
+ *
+ * NB! Requests answered by another request filter (e.g. {@link AssetCacheFilter}) are not counted.
+ */
+public class NetworkActivityTracker implements RequestFilter, ResponseFilter, RequestFailureFilter {
+  static final long MAX_PENDING_MS = 10 * 60 * 1000;
+
+  private final Lock lock = new ReentrantLock();
+  private final Condition changed = lock.newCondition();
+  private final Map<HttpRequest, PendingRequest> pending = new IdentityHashMap<>();
+  private final List<Waiter> waiters = new ArrayList<>();
+
+  @Override
+  public HttpResponse filterRequest(HttpRequest request, HttpMessageContents contents, HttpMessageInfo messageInfo) {
+    if (!HttpMethod.CONNECT.equals(request.method())) {
+      lock.lock();
+      try {
+        long now = System.currentTimeMillis();
+        forgetRequestsStartedBefore(now - MAX_PENDING_MS);
+        pending.put(messageInfo.getOriginalRequest(), new PendingRequest(messageInfo.getUrl(), now));
+        onActivity(messageInfo.getUrl());
+      }
+      finally {
+        lock.unlock();
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public void filterResponse(HttpResponse response, HttpMessageContents contents, HttpMessageInfo messageInfo) {
+    finished(messageInfo.getOriginalRequest());
+  }
+
+  @Override
+  public void requestFailed(HttpRequest originalRequest, String reason) {
+    finished(originalRequest);
+  }
+
+  private void finished(HttpRequest originalRequest) {
+    lock.lock();
+    try {
+      PendingRequest request = pending.remove(originalRequest);
+      if (request != null) {
+        onActivity(request.url);
+      }
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  private void forgetRequestsStartedBefore(long time) {
+    pending.values().removeIf(request -> request.startedAt < time);
+  }
+
+  private void onActivity(String url) {
+    long now = System.currentTimeMillis();
+    for (Waiter waiter : waiters) {
+      if (waiter.matches(url)) {
+        waiter.lastActivity = now;
+      }
+    }
+    changed.signalAll();
+  }
+
+  /**
+   * @return urls of requests which are waiting for response
+   */
+  public List<String> pendingRequests() {
+    return pendingRequests(new Waiter(null, null, 0), 0);
+  }
+
+  /**
+   * @param startedAfter requests started earlier are considered abandoned
+   */
+  private List<String> pendingRequests(Waiter waiter, long startedAfter) {
+    lock.lock();
+    try {
+      List<String> urls = new ArrayList<>();
+      for (PendingRequest request : pending.values()) {
+        if (request.startedAt >= startedAfter && waiter.matches(request.url)) urls.add(request.url);
+      }
+      return urls;
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Wait until there are no pending requests, and no requests have been started or finished during {@code quietPeriod}.
+   * Requests which had been pending longer than {@code timeout} before the wait started are not waited for.
+   *
+   * @param quietPeriod  how long (in milliseconds) network should stay idle
+   * @param timeout      max time to wait (in milliseconds)
+   * @param includeUrls  regular expression to search in url: only matching requests are tracked (null means all requests)
+   * @param excludeUrls  regular expression to search in url: matching requests are ignored, e.g. long-polling requests
+   *                     (null means none)
+   * @throws TimeoutException if network has not become idle during {@code timeout}
+   */
+  public void waitForIdle(long quietPeriod, long timeout, @Nullable String includeUrls, @Nullable String excludeUrls) {
+    long start = System.currentTimeMillis();
+    Waiter waiter = new Waiter(includeUrls, excludeUrls, start);
+    lock.lock();
+    try {
+      waiters.add(waiter);
+      for (long now = start; ; now = System.currentTimeMillis()) {
+        List<String> busy = pendingRequests(waiter, start - timeout);
+        long idleSince = busy.isEmpty() ? waiter.lastActivity : Long.MAX_VALUE - quietPeriod;
+        if (now >= idleSince + quietPeriod) return;
+        if (now >= start + timeout) {
+          throw new TimeoutException(String.format("Network is not idle after %s ms. Pending requests: %s", timeout, busy));
+        }
+        changed.await(Math.min(idleSince + quietPeriod, start + timeout) - now, MILLISECONDS);
+      }
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    }
+    finally {
+      waiters.remove(waiter);
+      lock.unlock();
+    }
+  }
+
+  private static class PendingRequest {
+    private final String url;
+    private final long startedAt;
+
+    private PendingRequest(String url, long startedAt) {
+      this.url = url;
+      this.startedAt = startedAt;
+    }
+  }
+
+  private static class Waiter {
+    private final Pattern include;
+    private final Pattern exclude;
+    private long lastActivity;
+
+    private Waiter(@Nullable String include, @Nullable String exclude, long lastActivity) {
+      this.include = include == null ? null : Pattern.compile(include);
+      this.exclude = exclude == null ? null : Pattern.compile(exclude);
+      this.lastActivity = lastActivity;
+    }
+
+    private boolean matches(String url) {
+      return (include == null || include.matcher(url).find()) && (exclude == null || !exclude.matcher(url).find());
+    }
+  }
+}
@@ -0,0 +1,23 @@
+package com.codeborne.selenide.proxy;
+
+import io.netty.handler.codec.http.HttpRequest;
+
+/**
+ * Request filter which needs to know about requests that will never get a response from server
+ * (e.g. to stop waiting for them): host could not be resolved, connection to server failed,
+ * or server didn't respond in time. Proxy answers such requests itself (with "502 Bad Gateway" or
+ * "504 Gateway Timeout"), so response filters are not called.
+ *
+ * Request filters added by {@link SelenideProxyServer#addRequestFilter(String, com.browserup.bup.filters.RequestFilter)}
+ * which implement this interface are notified automatically.
+ *
+ * NB! Requests aborted by browser are not reported.
+ */
+public interface RequestFailureFilter {
+  /**
+   * @param originalRequest the same request as {@link com.browserup.bup.util.HttpMessageInfo#getOriginalRequest()}
+   *                        passed to request filter
+   * @param reason          e.g. "Connection failed"
+   */
+  void requestFailed(HttpRequest originalRequest, String reason);
+}
@@ -0,0 +1,50 @@
+package com.codeborne.selenide.proxy;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.HttpRequest;
+import org.littleshoot.proxy.HttpFilters;
+import org.littleshoot.proxy.HttpFiltersAdapter;
+import org.littleshoot.proxy.HttpFiltersSourceAdapter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Notifies {@link RequestFailureFilter}s about requests which failed without a response from server
+ */
+class RequestFailureSource extends HttpFiltersSourceAdapter {
+  private final Function<ChannelHandlerContext, List<RequestFailureFilter>> filters;
+
+  /**
+   * @param filters finds filters to notify by the browser connection (the same proxy can serve many browsers)
+   */
+  RequestFailureSource(Function<ChannelHandlerContext, List<RequestFailureFilter>> filters) {
+    this.filters = filters;
+  }
+
+  @Override
+  public HttpFilters filterRequest(HttpRequest originalRequest, ChannelHandlerContext ctx) {
+    return new HttpFiltersAdapter(originalRequest, ctx) {
+      @Override
+      public void proxyToServerResolutionFailed(String hostAndPort) {
+        failed("Cannot resolve " + hostAndPort);
+      }
+
+      @Override
+      public void proxyToServerConnectionFailed() {
+        failed("Connection failed");
+      }
+
+      @Override
+      public void serverToProxyResponseTimedOut() {
+        failed("Response timed out");
+      }
+
+      private void failed(String reason) {
+        for (RequestFailureFilter filter : filters.apply(ctx)) {
+          filter.requestFailed(originalRequest, reason);
+        }
+      }
+    };
+  }
+}
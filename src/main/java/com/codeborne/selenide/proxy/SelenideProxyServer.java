@@ -4,14 +4,23 @@ import com.browserup.bup.BrowserUpProxy;
 import com.browserup.bup.client.ClientUtil;
 import com.browserup.bup.filters.ResponseFilter;
 import com.codeborne.selenide.Config;
+import com.codeborne.selenide.HarCapture;
 import com.browserup.bup.filters.RequestFilter;
 import org.openqa.selenium.Proxy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+import java.io.File;
+import java.net.InetAddress;
 import java.net.InetSocketAddress;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import static java.lang.Integer.parseInt;
+import static java.util.Collections.synchronizedMap;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
 /**
@@ -20,12 +29,15 @@ import static org.apache.commons.lang3.StringUtils.isEmpty;
  * It holds map of request and response filters by name.
  */
 public class SelenideProxyServer {
+  private static final Logger log = LoggerFactory.getLogger(SelenideProxyServer.class);
+
   private final Config config;
   private final InetAddressResolver inetAddressResolver;
   private final Proxy outsideProxy;
   private final BrowserUpProxy proxy;
-  private final Map<String, RequestFilter> requestFilters = new HashMap<>();
-  private final Map<String, ResponseFilter> responseFilters = new HashMap<>();
+  private final SharedProxyServer sharedProxy;
+  private final Map<String, RequestFilter> requestFilters = synchronizedMap(new LinkedHashMap<>());
+  private final Map<String, ResponseFilter> responseFilters = synchronizedMap(new LinkedHashMap<>());
   private int port;
 
   /**
@@ -35,38 +47,79 @@ public class SelenideProxyServer {
    * @param outsideProxy another proxy server used by test author for his own need (can be null)
    */
   public SelenideProxyServer(Config config, Proxy outsideProxy) {
-    this(config, outsideProxy, new InetAddressResolver(), new BrowserUpProxyServerUnlimited());
+    this(config, outsideProxy, new InetAddressResolver(),
+      config.sharedProxy() ? null : new BrowserUpProxyServerUnlimited(),
+      config.sharedProxy() ? SharedProxyServer.instance(outsideProxy) : null);
   }
 
   protected SelenideProxyServer(Config config, Proxy outsideProxy, InetAddressResolver inetAddressResolver, BrowserUpProxy proxy) {
+    this(config, outsideProxy, inetAddressResolver, proxy, null);
+  }
+
+  SelenideProxyServer(Config config, Proxy outsideProxy, InetAddressResolver inetAddressResolver,
+                      BrowserUpProxy proxy, SharedProxyServer sharedProxy) {
     this.config = config;
     this.outsideProxy = outsideProxy;
     this.inetAddressResolver = inetAddressResolver;
     this.proxy = proxy;
+    this.sharedProxy = sharedProxy;
   }
 
   /**
    * Start the server
    *
-   * It automatically adds one response filter "download" that can intercept downloaded files.
+   * It automatically adds one response filter "download" that can intercept downloaded files,
+   * and request and response filter "networkActivity" that tracks pending requests.
+   * If {@link Config#harCapture()} is set, it also adds request and response filter "har".
+   * If {@link Config#proxyCacheSize()} is set, it also adds request and response filter "assetCache".
+   *
+   * If {@link Config#sharedProxy()} is set, it only starts listening a new (random) port of the shared proxy server.
+   *
+   * @throws IllegalArgumentException if both {@link Config#sharedProxy()} and {@link Config#proxyPort()} are set
    */
   public void start() {
-    proxy.setTrustAllServers(true);
-    if (outsideProxy != null) {
-      proxy.setChainedProxy(getProxyAddress(outsideProxy));
+    if (sharedProxy != null && config.proxyPort() != 0) {
+      throw new IllegalArgumentException("Cannot use proxy port " + config.proxyPort() +
+        " with shared proxy: every browser gets its own random port of the shared proxy server");
+    }
+    if (sharedProxy == null) {
+      proxy.setTrustAllServers(true);
+      if (outsideProxy != null) {
+        proxy.setChainedProxy(getProxyAddress(outsideProxy));
+      }
+      proxy.addLastHttpFilterFactory(new RequestFailureSource(ctx -> requestFailureFilters()));
     }
 
+    // added first, so that it's called last and doesn't count requests answered by other filters
+    NetworkActivityTracker networkActivity = new NetworkActivityTracker();
+    addRequestFilter("networkActivity", networkActivity);
+    addResponseFilter("networkActivity", networkActivity);
+    if (config.harCapture() != HarCapture.NONE) {
+      HarRecorder har = new HarRecorder(config.harCapture(), config.harMaxBodySize() * 1024, new File(config.reportsFolder(), "har"));
+      addRequestFilter("har", har);
+      addResponseFilter("har", har);
+    }
     addRequestFilter("authentication", new AuthenticationFilter());
     addRequestFilter("requestSizeWatchdog", new RequestSizeWatchdog());
     addResponseFilter("responseSizeWatchdog", new ResponseSizeWatchdog());
     addResponseFilter("download", new FileDownloadFilter(config));
+    if (config.proxyCacheSize() > 0) {
+      AssetCacheFilter assetCache = new AssetCacheFilter(
+        AssetCache.in(new File(config.proxyCacheFolder()), config.proxyCacheSize() * 1024L * 1024L));
+      addRequestFilter("assetCache", assetCache);
+      addResponseFilter("assetCache", assetCache);
+    }
 
+    if (sharedProxy != null) {
+      port = sharedProxy.register(this);
+      return;
+    }
     proxy.start(config.proxyPort());
     port = proxy.getPort();
   }
 
   public boolean isStarted() {
-    return proxy.isStarted();
+    return sharedProxy == null ? proxy.isStarted() : sharedProxy.isRegistered(port);
   }
 
   /**
@@ -79,7 +132,9 @@ public class SelenideProxyServer {
     if (isRequestFilterAdded(name)) {
       throw new IllegalArgumentException("Duplicate request filter: " + name);
     }
-    proxy.addRequestFilter(requestFilter);
+    if (sharedProxy == null) {
+      proxy.addRequestFilter(requestFilter);
+    }
     requestFilters.put(name, requestFilter);
   }
 
@@ -97,10 +152,43 @@ public class SelenideProxyServer {
     if (responseFilters.containsKey(name)) {
       throw new IllegalArgumentException("Duplicate response filter: " + name);
     }
-    proxy.addResponseFilter(responseFilter);
+    if (sharedProxy == null) {
+      proxy.addResponseFilter(responseFilter);
+    }
     responseFilters.put(name, responseFilter);
   }
 
+  /**
+   * @return request filters in the order they were added
+   */
+  List<RequestFilter> requestFilters() {
+    synchronized (requestFilters) {
+      return new ArrayList<>(requestFilters.values());
+    }
+  }
+
+  /**
+   * @return request filters which should be notified about failed requests (see {@link RequestFailureFilter})
+   */
+  List<RequestFailureFilter> requestFailureFilters() {
+    List<RequestFailureFilter> filters = new ArrayList<>();
+    for (RequestFilter filter : requestFilters()) {
+      if (filter instanceof RequestFailureFilter) {
+        filters.add((RequestFailureFilter) filter);
+      }
+    }
+    return filters;
+  }
+
+  /**
+   * @return response filters in the order they were added
+   */
+  List<ResponseFilter> responseFilters() {
+    synchronized (responseFilters) {
+      return new ArrayList<>(responseFilters.values());
+    }
+  }
+
   static InetSocketAddress getProxyAddress(Proxy proxy) {
     String httpProxy = proxy.getHttpProxy();
     String host = httpProxy.replaceFirst("(.*):.*", "$1");
@@ -112,6 +200,12 @@ public class SelenideProxyServer {
    * Converts this proxy to a "selenium" proxy that can be used by webdriver
    */
   public Proxy createSeleniumProxy() {
+    if (sharedProxy != null) {
+      InetAddress address = isEmpty(config.proxyHost())
+        ? ClientUtil.getConnectableAddress()
+        : inetAddressResolver.getInetAddressByName(config.proxyHost());
+      return ClientUtil.createSeleniumProxy(new InetSocketAddress(address, port));
+    }
     return isEmpty(config.proxyHost())
       ? ClientUtil.createSeleniumProxy(proxy)
       : ClientUtil.createSeleniumProxy(proxy, inetAddressResolver.getInetAddressByName(config.proxyHost()));
@@ -121,6 +215,18 @@ public class SelenideProxyServer {
    * Stop the server
    */
   public void shutdown() {
+    AssetCacheFilter assetCache = requestFilter("assetCache");
+    if (assetCache != null) {
+      log.info("Proxy cache statistics of {}: {}", this, assetCache.statistics());
+    }
+    HarRecorder har = requestFilter("har");
+    if (har != null) {
+      har.close();
+    }
+    if (sharedProxy != null) {
+      sharedProxy.unregister(port);
+      return;
+    }
     if (proxy.isStarted()) {
       try {
         proxy.abort();
@@ -133,10 +239,14 @@ public class SelenideProxyServer {
   /**
    * Method return current instance of browser up proxy
    *
+   * NB! If {@link Config#sharedProxy()} is set, this instance is shared by all browsers (and is null until started).
+   * Use {@link #addRequestFilter(String, RequestFilter)} and {@link #addResponseFilter(String, ResponseFilter)}
+   * to intercept traffic of this browser only.
+   *
    * @return browser up proxy instance
    */
   public BrowserUpProxy getProxy() {
-    return proxy;
+    return sharedProxy == null ? proxy : sharedProxy.getProxy();
   }
 
   @Override
@@ -144,6 +254,16 @@ public class SelenideProxyServer {
     return String.format("Selenide proxy server: %s", port);
   }
 
+  /**
+   * Wait until browser has no pending requests during {@code quietPeriod} milliseconds
+   *
+   * @see NetworkActivityTracker#waitForIdle(long, long, String, String)
+   */
+  public void waitForNetworkIdle(long quietPeriod, long timeout, @Nullable String includeUrls, @Nullable String excludeUrls) {
+    NetworkActivityTracker networkActivity = requestFilter("networkActivity");
+    networkActivity.waitForIdle(quietPeriod, timeout, includeUrls, excludeUrls);
+  }
+
   /**
    * Get request filter by name
    */
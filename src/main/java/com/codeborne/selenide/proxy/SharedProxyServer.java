@@ -0,0 +1,207 @@
+package com.codeborne.selenide.proxy;
+
+import com.browserup.bup.BrowserUpProxy;
+import com.browserup.bup.filters.RequestFilter;
+import com.browserup.bup.filters.ResponseFilter;
+import com.browserup.bup.util.HttpMessageContents;
+import com.browserup.bup.util.HttpMessageInfo;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
+import org.littleshoot.proxy.HttpProxyServer;
+import org.openqa.selenium.Proxy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Field;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Collections.emptyList;
+import static org.apache.commons.lang3.reflect.FieldUtils.getField;
+import static org.apache.commons.lang3.reflect.FieldUtils.readField;
+
+/**
+ * One proxy server shared by all browsers of JVM (one per outside proxy).
+ *
+ * Every browser gets its own port: the underlying LittleProxy server is cloned for every browser,
+ * and clones share event loops and thread pools with the original server.
+ * Traffic is attributed to a browser by the local port of its connection,
+ * and routed to request and response filters of that browser's {@link SelenideProxyServer}.
+ *
+ * The server is started with the first browser and stopped when the last browser is closed.
+ */
+class SharedProxyServer {
+  private static final Logger log = LoggerFactory.getLogger(SharedProxyServer.class);
+  private static final Map<String, SharedProxyServer> instances = new HashMap<>();
+
+  private final Proxy outsideProxy;
+  private final Map<Integer, Session> sessions = new ConcurrentHashMap<>();
+  private final Router router = new Router();
+  private BrowserUpProxy proxy;
+
+  /**
+   * @param outsideProxy another proxy server used by test author for his own need (can be null)
+   */
+  static synchronized SharedProxyServer instance(Proxy outsideProxy) {
+    String key = outsideProxy == null ? "" : outsideProxy.getHttpProxy();
+    return instances.computeIfAbsent(key, k -> new SharedProxyServer(outsideProxy));
+  }
+
+  SharedProxyServer(Proxy outsideProxy) {
+    this.outsideProxy = outsideProxy;
+  }
+
+  /**
+   * Start listening a new (random) port for given browser session
+   *
+   * @return the port
+   */
+  synchronized int register(SelenideProxyServer session) {
+    if (proxy == null) {
+      proxy = start();
+    }
+    HttpProxyServer server = littleProxy().clone()
+      .withAddress(new InetSocketAddress(littleProxy().getListenAddress().getAddress(), 0))
+      .start();
+    int port = server.getListenAddress().getPort();
+    sessions.put(port, new Session(server, session));
+    log.info("Registered {} in shared proxy server (sessions: {})", session, sessions.size());
+    return port;
+  }
+
+  /**
+   * Stop listening port of browser session (and stop the whole server if it was the last session)
+   */
+  synchronized void unregister(int port) {
+    Session session = sessions.remove(port);
+    if (session != null) {
+      session.server.abort();
+    }
+    if (sessions.isEmpty() && proxy != null) {
+      log.info("Stop shared proxy server: no more sessions");
+      proxy.abort();
+      proxy = null;
+    }
+  }
+
+  synchronized boolean isRegistered(int port) {
+    return sessions.containsKey(port);
+  }
+
+  synchronized BrowserUpProxy getProxy() {
+    return proxy;
+  }
+
+  protected BrowserUpProxy createProxy() {
+    return new BrowserUpProxyServerUnlimited();
+  }
+
+  private BrowserUpProxy start() {
+    BrowserUpProxy server = createProxy();
+    server.setTrustAllServers(true);
+    if (outsideProxy != null) {
+      server.setChainedProxy(SelenideProxyServer.getProxyAddress(outsideProxy));
+    }
+    server.addRequestFilter(router);
+    server.addResponseFilter(router);
+    server.addLastHttpFilterFactory(new RequestFailureSource(this::requestFailureFilters));
+    server.start();
+    try {
+      littleProxy(server);
+    }
+    catch (IllegalStateException e) {
+      server.abort();
+      throw e;
+    }
+    log.info("Started shared proxy server on port {}", server.getPort());
+    return server;
+  }
+
+  private HttpProxyServer littleProxy() {
+    return littleProxy(proxy);
+  }
+
+  /**
+   * BrowserUp has no public API to get its LittleProxy server, but we need it to start more ports sharing the same thread pools.
+   * So it's read from private field {@code BrowserUpProxyServer.proxyServer}: if another BrowserUp version doesn't have it,
+   * shared proxy fails at start instead of silently starting separate servers.
+   */
+  static HttpProxyServer littleProxy(BrowserUpProxy server) {
+    Field field = getField(server.getClass(), "proxyServer", true);
+    if (field == null || !HttpProxyServer.class.isAssignableFrom(field.getType())) {
+      throw new IllegalStateException("Cannot share proxy server " + server.getClass().getName() +
+        ": it has no LittleProxy field 'proxyServer'. Is BrowserUp version supported? Try sharedProxy=false.");
+    }
+    try {
+      HttpProxyServer littleProxy = (HttpProxyServer) readField(field, server, true);
+      if (littleProxy == null) {
+        throw new IllegalStateException("Cannot share proxy server " + server + ": its LittleProxy server is not started");
+      }
+      return littleProxy;
+    }
+    catch (IllegalAccessException e) {
+      throw new IllegalStateException("Cannot share proxy server " + server, e);
+    }
+  }
+
+  SelenideProxyServer sessionOf(HttpMessageInfo messageInfo) {
+    return sessionOf(messageInfo.getChannelHandlerContext());
+  }
+
+  private SelenideProxyServer sessionOf(ChannelHandlerContext ctx) {
+    if (ctx == null) return null;
+    SocketAddress address = ctx.channel().localAddress();
+    if (!(address instanceof InetSocketAddress)) return null;
+    Session session = sessions.get(((InetSocketAddress) address).getPort());
+    return session == null ? null : session.selenideProxy;
+  }
+
+  private List<RequestFailureFilter> requestFailureFilters(ChannelHandlerContext ctx) {
+    SelenideProxyServer session = sessionOf(ctx);
+    return session == null ? emptyList() : session.requestFailureFilters();
+  }
+
+  private static class Session {
+    private final HttpProxyServer server;
+    private final SelenideProxyServer selenideProxy;
+
+    private Session(HttpProxyServer server, SelenideProxyServer selenideProxy) {
+      this.server = server;
+      this.selenideProxy = selenideProxy;
+    }
+  }
+
+  /**
+   * Calls filters of the session in the same order as BrowserUp does:
+   * the last added request filter is called first, response filters are called in the order they were added.
+   */
+  private class Router implements RequestFilter, ResponseFilter {
+    @Override
+    public HttpResponse filterRequest(HttpRequest request, HttpMessageContents contents, HttpMessageInfo messageInfo) {
+      SelenideProxyServer session = sessionOf(messageInfo);
+      if (session == null) return null;
+
+      List<RequestFilter> filters = session.requestFilters();
+      for (int i = filters.size() - 1; i >= 0; i--) {
+        HttpResponse response = filters.get(i).filterRequest(request, contents, messageInfo);
+        if (response != null) return response;
+      }
+      return null;
+    }
+
+    @Override
+    public void filterResponse(HttpResponse response, HttpMessageContents contents, HttpMessageInfo messageInfo) {
+      SelenideProxyServer session = sessionOf(messageInfo);
+      if (session == null) return;
+
+      for (ResponseFilter filter : session.responseFilters()) {
+        filter.filterResponse(response, contents, messageInfo);
+      }
+    }
+  }
+}
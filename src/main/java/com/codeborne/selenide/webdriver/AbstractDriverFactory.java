@@ -10,6 +10,7 @@ import org.openqa.selenium.remote.DesiredCapabilities;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 
@@ -27,6 +28,20 @@ abstract class AbstractDriverFactory {
 
   abstract WebDriver create(Config config, Proxy proxy);
 
+  /**
+   * @param browserDownloadsFolder folder where browser should save downloaded files (null if not needed)
+   */
+  WebDriver create(Config config, Proxy proxy, File browserDownloadsFolder) {
+    return create(config, proxy);
+  }
+
+  /**
+   * @return true if {@link #create(Config, Proxy, File)} configures browser to save downloaded files to given folder
+   */
+  boolean supportsDownloadsFolder() {
+    return false;
+  }
+
   WebDriver createInstanceOf(String className, Config config, Proxy proxy) {
     try {
       DesiredCapabilities capabilities = createCommonCapabilities(config, proxy);
@@ -10,6 +10,7 @@ import org.openqa.selenium.chrome.ChromeOptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -22,7 +23,17 @@ class ChromeDriverFactory extends AbstractDriverFactory {
 
   @Override
   WebDriver create(Config config, Proxy proxy) {
-    ChromeOptions options = createChromeOptions(config, proxy);
+    return create(config, proxy, null);
+  }
+
+  @Override
+  boolean supportsDownloadsFolder() {
+    return true;
+  }
+
+  @Override
+  WebDriver create(Config config, Proxy proxy, File browserDownloadsFolder) {
+    ChromeOptions options = createChromeOptions(config, proxy, browserDownloadsFolder);
     return new ChromeDriver(options);
   }
 
@@ -32,6 +43,10 @@ class ChromeDriverFactory extends AbstractDriverFactory {
   }
 
   ChromeOptions createChromeOptions(Config config, Proxy proxy) {
+    return createChromeOptions(config, proxy, null);
+  }
+
+  ChromeOptions createChromeOptions(Config config, Proxy proxy, File browserDownloadsFolder) {
     ChromeOptions options = new ChromeOptions();
     options.setHeadless(config.headless());
     if (!config.browserBinary().isEmpty()) {
@@ -40,7 +55,7 @@ class ChromeDriverFactory extends AbstractDriverFactory {
     }
     options.addArguments("--proxy-bypass-list=<-loopback>");
     options.merge(createCommonCapabilities(config, proxy));
-    options = transferChromeOptionsFromSystemProperties(options);
+    options = transferChromeOptionsFromSystemProperties(options, downloadPreferences(browserDownloadsFolder));
     log.debug("Chrome options: {}", options.toString());
     return options;
   }
@@ -51,9 +66,12 @@ class ChromeDriverFactory extends AbstractDriverFactory {
    * for ChromeOptions (there is also "Extensions" etc.)
    *
    * @param currentChromeOptions
+   * @param defaultPrefs preferences that can be overridden by system property "chromeoptions.prefs"
    * @return options updated with args & prefs parameters
    */
-  private ChromeOptions transferChromeOptionsFromSystemProperties(ChromeOptions currentChromeOptions) {
+  private ChromeOptions transferChromeOptionsFromSystemProperties(ChromeOptions currentChromeOptions,
+                                                                  Map<String, Object> defaultPrefs) {
+    Map<String, Object> prefs = new HashMap<>(defaultPrefs);
     if (System.getProperty("chromeoptions.args") != null) {
       Stream<String> params = Arrays.stream(parseCSVhandlingQuotes(System.getProperty("chromeoptions.args")));
       List<String> args = params
@@ -62,16 +80,28 @@ class ChromeDriverFactory extends AbstractDriverFactory {
       currentChromeOptions.addArguments(args);
     }
     if (System.getProperty("chromeoptions.prefs") != null) {
-      Map<String, Object> prefs = parsePreferencesFromString(System.getProperty("chromeoptions.prefs"));
+      prefs.putAll(parsePreferencesFromString(System.getProperty("chromeoptions.prefs")));
+    }
+    if (!prefs.isEmpty()) {
       currentChromeOptions.setExperimentalOption("prefs", prefs);
     }
     if (System.getProperty("chromeoptions.mobileEmulation") != null) {
-      Map<String, Object> prefs = parsePreferencesFromString(System.getProperty("chromeoptions.mobileEmulation"));
-      currentChromeOptions.setExperimentalOption("mobileEmulation", prefs);
+      Map<String, Object> mobileEmulation = parsePreferencesFromString(System.getProperty("chromeoptions.mobileEmulation"));
+      currentChromeOptions.setExperimentalOption("mobileEmulation", mobileEmulation);
     }
     return currentChromeOptions;
   }
 
+  private Map<String, Object> downloadPreferences(File browserDownloadsFolder) {
+    Map<String, Object> prefs = new HashMap<>();
+    if (browserDownloadsFolder != null) {
+      prefs.put("download.default_directory", browserDownloadsFolder.getAbsolutePath());
+      prefs.put("download.prompt_for_download", false);
+      prefs.put("plugins.always_open_pdf_externally", true);
+    }
+    return prefs;
+  }
+
   private Map<String, Object> parsePreferencesFromString(String preferencesString) {
     Map<String, Object> prefs = new HashMap<>();
     String[] allPrefs = parseCSVhandlingQuotes(preferencesString);
@@ -10,10 +10,17 @@ import org.openqa.selenium.firefox.FirefoxProfile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
 import java.util.Optional;
 
 class FirefoxDriverFactory extends AbstractDriverFactory {
   private static final Logger log = LoggerFactory.getLogger(FirefoxDriverFactory.class);
+  private static final String DOWNLOADED_CONTENT_TYPES = String.join(",",
+    "application/octet-stream", "application/pdf", "application/zip", "application/x-zip-compressed",
+    "application/json", "application/xml", "application/vnd.ms-excel",
+    "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet",
+    "application/msword", "application/vnd.openxmlformats-officedocument.wordprocessingml.document",
+    "text/plain", "text/csv", "text/xml", "image/png", "image/jpeg", "image/gif");
 
   @Override
   boolean supports(Config config, Browser browser) {
@@ -22,17 +29,31 @@ class FirefoxDriverFactory extends AbstractDriverFactory {
 
   @Override
   WebDriver create(Config config, Proxy proxy) {
+    return create(config, proxy, null);
+  }
+
+  @Override
+  boolean supportsDownloadsFolder() {
+    return true;
+  }
+
+  @Override
+  WebDriver create(Config config, Proxy proxy, File browserDownloadsFolder) {
     String logFilePath = System.getProperty(FirefoxDriver.SystemProperty.BROWSER_LOGFILE, "/dev/null");
     System.setProperty(FirefoxDriver.SystemProperty.BROWSER_LOGFILE, logFilePath);
-    return createFirefoxDriver(config, proxy);
+    return createFirefoxDriver(config, proxy, browserDownloadsFolder);
   }
 
-  private WebDriver createFirefoxDriver(Config config, Proxy proxy) {
-    FirefoxOptions options = createFirefoxOptions(config, proxy);
+  private WebDriver createFirefoxDriver(Config config, Proxy proxy, File browserDownloadsFolder) {
+    FirefoxOptions options = createFirefoxOptions(config, proxy, browserDownloadsFolder);
     return new FirefoxDriver(options);
   }
 
   FirefoxOptions createFirefoxOptions(Config config, Proxy proxy) {
+    return createFirefoxOptions(config, proxy, null);
+  }
+
+  FirefoxOptions createFirefoxOptions(Config config, Proxy proxy, File browserDownloadsFolder) {
     FirefoxOptions firefoxOptions = new FirefoxOptions();
     firefoxOptions.setHeadless(config.headless());
     if (!config.browserBinary().isEmpty()) {
@@ -47,6 +68,14 @@ class FirefoxDriverFactory extends AbstractDriverFactory {
     firefoxOptions.addPreference("security.csp.enable", false);
     firefoxOptions.addPreference("network.proxy.no_proxies_on", "");
     firefoxOptions.addPreference("network.proxy.allow_hijacking_localhost", true);
+    if (browserDownloadsFolder != null) {
+      firefoxOptions.addPreference("browser.download.dir", browserDownloadsFolder.getAbsolutePath());
+      firefoxOptions.addPreference("browser.download.folderList", 2);
+      firefoxOptions.addPreference("browser.download.useDownloadDir", true);
+      firefoxOptions.addPreference("browser.download.manager.showWhenStarting", false);
+      firefoxOptions.addPreference("browser.helperApps.neverAsk.saveToDisk", DOWNLOADED_CONTENT_TYPES);
+      firefoxOptions.addPreference("pdfjs.disabled", true);
+    }
 
     firefoxOptions.merge(createCommonCapabilities(config, proxy));
     firefoxOptions = transferFirefoxProfileFromSystemProperties(firefoxOptions);
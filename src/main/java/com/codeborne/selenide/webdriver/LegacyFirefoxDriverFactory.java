@@ -7,6 +7,8 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
 
+import java.io.File;
+
 class LegacyFirefoxDriverFactory extends FirefoxDriverFactory {
 
   @Override
@@ -16,13 +18,23 @@ class LegacyFirefoxDriverFactory extends FirefoxDriverFactory {
 
   @Override
   WebDriver create(Config config, Proxy proxy) {
+    return create(config, proxy, null);
+  }
+
+  @Override
+  boolean supportsDownloadsFolder() {
+    return true;
+  }
+
+  @Override
+  WebDriver create(Config config, Proxy proxy, File browserDownloadsFolder) {
     String logFilePath = System.getProperty(FirefoxDriver.SystemProperty.BROWSER_LOGFILE, "/dev/null");
     System.setProperty(FirefoxDriver.SystemProperty.BROWSER_LOGFILE, logFilePath);
-    return createLegacyFirefoxDriver(config, proxy);
+    return createLegacyFirefoxDriver(config, proxy, browserDownloadsFolder);
   }
 
-  private WebDriver createLegacyFirefoxDriver(Config config, Proxy proxy) {
-    FirefoxOptions firefoxOptions = createFirefoxOptions(config, proxy);
+  private WebDriver createLegacyFirefoxDriver(Config config, Proxy proxy, File browserDownloadsFolder) {
+    FirefoxOptions firefoxOptions = createFirefoxOptions(config, proxy, browserDownloadsFolder);
     firefoxOptions.setLegacy(true);
     return new FirefoxDriver(firefoxOptions);
   }
@@ -11,6 +11,7 @@ import org.openqa.selenium.WebDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
 import java.util.List;
 
 import static java.util.Arrays.asList;
@@ -33,11 +34,20 @@ public class WebDriverFactory {
   protected BrowserResizer browserResizer = new BrowserResizer();
 
   public WebDriver createWebDriver(Config config, Proxy proxy) {
+    return createWebDriver(config, proxy, null);
+  }
+
+  /**
+   * @param browserDownloadsFolder folder where browser should save downloaded files
+   *                               (null if downloads don't need to be configured)
+   */
+  public WebDriver createWebDriver(Config config, Proxy proxy, File browserDownloadsFolder) {
     log.debug("browser={}", config.browser());
     log.debug("browser.version={}", config.browserVersion());
     log.debug("remote={}", config.remote());
     log.debug("browserSize={}", config.browserSize());
     log.debug("startMaximized={}", config.startMaximized());
+    log.debug("downloadsFolder={}", browserDownloadsFolder);
 
     Browser browser = new Browser(config.browser(), config.headless());
 
@@ -45,11 +55,11 @@ public class WebDriverFactory {
       webDriverBinaryManager.setupBinaryPath(browser);
     }
 
-    WebDriver webdriver = factories.stream()
-        .filter(factory -> factory.supports(config, browser))
-        .findAny()
-        .map(driverFactory -> driverFactory.create(config, proxy))
-        .orElseGet(() -> new DefaultDriverFactory().create(config, proxy));
+    AbstractDriverFactory driverFactory = findFactory(config, browser);
+    if (browserDownloadsFolder != null && !driverFactory.supportsDownloadsFolder()) {
+      throw new IllegalArgumentException("File download mode FOLDER is not supported for browser " + config.browser());
+    }
+    WebDriver webdriver = driverFactory.create(config, proxy, browserDownloadsFolder);
 
     webdriver = browserResizer.adjustBrowserSize(config, browser, webdriver);
     webdriver = browserResizer.adjustBrowserPosition(config, webdriver);
@@ -60,6 +70,35 @@ public class WebDriverFactory {
     return webdriver;
   }
 
+  /**
+   * @return true if browser can be configured to save downloaded files to a folder
+   * (see {@link com.codeborne.selenide.FileDownloadMode#FOLDER})
+   */
+  public boolean supportsDownloadsFolder(Config config) {
+    return !overridesCreateWebDriverWithoutFolder()
+      && findFactory(config, new Browser(config.browser(), config.headless())).supportsDownloadsFolder();
+  }
+
+  /**
+   * Subclasses created before {@link #createWebDriver(Config, Proxy, File)} was added don't know about downloads folder
+   */
+  private boolean overridesCreateWebDriverWithoutFolder() {
+    try {
+      return getClass().getMethod("createWebDriver", Config.class, Proxy.class).getDeclaringClass() != WebDriverFactory.class
+        && getClass().getMethod("createWebDriver", Config.class, Proxy.class, File.class).getDeclaringClass() == WebDriverFactory.class;
+    }
+    catch (NoSuchMethodException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private AbstractDriverFactory findFactory(Config config, Browser browser) {
+    return factories.stream()
+        .filter(factory -> factory.supports(config, browser))
+        .findAny()
+        .orElseGet(DefaultDriverFactory::new);
+  }
+
   protected void logSeleniumInfo(Config config) {
     if (config.remote() == null) {
       BuildInfo seleniumInfo = new BuildInfo();
@@ -0,0 +1,156 @@
+package benchmark;
+
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.SelenideDriver;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.impl.WebElementWrapper;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Measures the overhead of {@code SelenideElementProxy} itself: a stub web element is used instead of a real browser.
+ * Results are logged, compare them before and after changing the proxy.
+ *
+ * Not a part of unit tests, run it with {@code ./gradlew benchmark}
+ */
+class SelenideElementProxyBenchmark implements WithAssertions {
+  private static final Logger log = LoggerFactory.getLogger(SelenideElementProxyBenchmark.class);
+  private static final int ROUNDS = 3;
+  private static final int ITERATIONS = 200_000;
+
+  private final Driver driver = new SelenideDriver(new SelenideConfig().screenshots(false), mock(RemoteWebDriver.class), null).driver();
+  private final WebElement stub = new StubElement();
+  private Object sink;
+
+  @Test
+  void benchmarkElementCreationAndMethodCalls() {
+    SelenideElement element = WebElementWrapper.wrap(driver, stub);
+
+    benchmark("create", () -> WebElementWrapper.wrap(driver, stub));
+    benchmark("getTagName()", element::getTagName);
+    benchmark("getSearchCriteria()", element::getSearchCriteria);
+
+    assertThat(sink).isNotNull();
+    assertThat(element.getTagName()).isEqualTo("div");
+  }
+
+  /**
+   * Every operation is measured in its own rounds (the first rounds are warm-up):
+   * measuring operations one after another in every round makes JIT compile them worse.
+   */
+  private void benchmark(String operation, Supplier<?> call) {
+    for (int round = 1; round <= ROUNDS; round++) {
+      log.info("{} round {}: {} ({} iterations)", operation, round, measure(call), ITERATIONS);
+    }
+  }
+
+  private String measure(Supplier<?> call) {
+    ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    long allocatedBefore = allocatedBytes(threads);
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      sink = call.get();
+    }
+    long nanos = (System.nanoTime() - start) / ITERATIONS;
+    long allocatedAfter = allocatedBytes(threads);
+    return allocatedBefore < 0 || allocatedAfter < 0 ?
+      nanos + " ns" :
+      nanos + " ns / " + (allocatedAfter - allocatedBefore) / ITERATIONS + " B";
+  }
+
+  /**
+   * @return bytes allocated by current thread, or -1 if JVM cannot tell
+   */
+  private long allocatedBytes(ThreadMXBean threads) {
+    return threads instanceof com.sun.management.ThreadMXBean ?
+      ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId()) :
+      -1;
+  }
+
+  private static class StubElement implements WebElement {
+    @Override public void click() {
+    }
+
+    @Override public void submit() {
+    }
+
+    @Override public void sendKeys(CharSequence... keysToSend) {
+    }
+
+    @Override public void clear() {
+    }
+
+    @Override public String getTagName() {
+      return "div";
+    }
+
+    @Override public String getAttribute(String name) {
+      return null;
+    }
+
+    @Override public boolean isSelected() {
+      return false;
+    }
+
+    @Override public boolean isEnabled() {
+      return true;
+    }
+
+    @Override public String getText() {
+      return "";
+    }
+
+    @Override public List<WebElement> findElements(By by) {
+      return null;
+    }
+
+    @Override public WebElement findElement(By by) {
+      return null;
+    }
+
+    @Override public boolean isDisplayed() {
+      return true;
+    }
+
+    @Override public Point getLocation() {
+      return null;
+    }
+
+    @Override public Dimension getSize() {
+      return null;
+    }
+
+    @Override public Rectangle getRect() {
+      return null;
+    }
+
+    @Override public String getCssValue(String propertyName) {
+      return null;
+    }
+
+    @Override public <X> X getScreenshotAs(OutputType<X> target) {
+      return null;
+    }
+
+    @Override public String toString() {
+      return "<div>";
+    }
+  }
+}
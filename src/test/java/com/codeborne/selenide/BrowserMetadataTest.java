@@ -0,0 +1,67 @@
+package com.codeborne.selenide;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringWebDriver;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BrowserMetadataTest implements WithAssertions {
+  private final Browser browser = new Browser("chrome", false);
+
+  @Test
+  void requestsUserAgentOnlyOnce() {
+    JSWebDriver webDriver = mock(JSWebDriver.class);
+    when(webDriver.executeScript("return navigator.userAgent;")).thenReturn("Mozilla/5.0 Chrome/79");
+    BrowserMetadata metadata = new BrowserMetadata(browser, webDriver);
+
+    assertThat(metadata.userAgent()).isEqualTo("Mozilla/5.0 Chrome/79");
+    assertThat(metadata.userAgent()).isEqualTo("Mozilla/5.0 Chrome/79");
+
+    verify(webDriver, times(1)).executeScript("return navigator.userAgent;");
+  }
+
+  @Test
+  void javascriptSupport() {
+    assertThat(new BrowserMetadata(browser, mock(JSWebDriver.class)).supportsJavascript()).isTrue();
+    assertThat(new BrowserMetadata(browser, mock(WebDriver.class)).supportsJavascript()).isFalse();
+  }
+
+  @Test
+  void readsCapabilitiesOnlyOnce_evenFromWrappedWebDriver() {
+    Capabilities capabilities = mock(Capabilities.class);
+    JSWebDriver webDriver = mock(JSWebDriver.class);
+    when(webDriver.getCapabilities()).thenReturn(capabilities);
+    BrowserMetadata metadata = new BrowserMetadata(browser, new EventFiringWebDriver(webDriver));
+
+    assertThat(metadata.capabilities()).isSameAs(capabilities);
+    assertThat(metadata.capabilities()).isSameAs(capabilities);
+
+    verify(webDriver, times(1)).getCapabilities();
+  }
+
+  @Test
+  void emptyCapabilitiesIfWebDriverDoesNotProvideThem() {
+    assertThat(new BrowserMetadata(browser, mock(WebDriver.class)).capabilities().asMap()).isEmpty();
+  }
+
+  @Test
+  void isBoundToWebDriverInstance() {
+    WebDriver webDriver = mock(WebDriver.class);
+    BrowserMetadata metadata = new BrowserMetadata(browser, webDriver);
+
+    assertThat(metadata.browser()).isSameAs(browser);
+    assertThat(metadata.isFor(webDriver)).isTrue();
+    assertThat(metadata.isFor(mock(WebDriver.class))).isFalse();
+  }
+
+  interface JSWebDriver extends WebDriver, JavascriptExecutor, HasCapabilities {
+  }
+}
@@ -2,6 +2,7 @@ package com.codeborne.selenide;
 
 import com.codeborne.selenide.Selectors.ByText;
 import com.codeborne.selenide.Selectors.WithText;
+import com.codeborne.selenide.impl.TextNodesSelector;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.By;
@@ -53,6 +54,22 @@ class SelectorsTest implements WithAssertions {
         "concat(\"Ludvig'van\", '\"', \"Beethoven\")]/parent::*");
   }
 
+  @Test
+  void byTextJsSearchesTextNodesByJavaScript() {
+    By selector = Selectors.byTextJs("john");
+    assertThat(selector)
+      .isInstanceOf(TextNodesSelector.class)
+      .hasToString("by text: john");
+  }
+
+  @Test
+  void withTextJsSearchesTextNodesByJavaScript() {
+    By selector = Selectors.withTextJs("john");
+    assertThat(selector)
+      .isInstanceOf(TextNodesSelector.class)
+      .hasToString("with text: john");
+  }
+
   @Test
   void byAttributeUsesXPath() {
     By selector = Selectors.byAttribute("value", "катя");
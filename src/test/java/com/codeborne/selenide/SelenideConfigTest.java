@@ -26,6 +26,22 @@ class SelenideConfigTest implements WithAssertions {
     assertThat(new SelenideConfig().reportsUrl()).isEqualTo("http://ci.org/repository/download/my-build/1:id/");
   }
 
+  @Test
+  void copyHasTheSameSettingsButCanBeChangedSeparately() {
+    SelenideConfig config = new SelenideConfig().browser("firefox").timeout(1234).reportsFolder("build/reports/it");
+    config.browserCapabilities().setCapability("acceptInsecureCerts", true);
+
+    SelenideConfig copy = config.copy();
+    assertThat(copy.browser()).isEqualTo("firefox");
+    assertThat(copy.timeout()).isEqualTo(1234);
+    assertThat(copy.browserCapabilities().getCapability("acceptInsecureCerts")).isEqualTo(true);
+
+    copy.reportsFolder("build/reports/it/firefox");
+    copy.browserCapabilities().setCapability("acceptInsecureCerts", false);
+    assertThat(config.reportsFolder()).isEqualTo("build/reports/it");
+    assertThat(config.browserCapabilities().getCapability("acceptInsecureCerts")).isEqualTo(true);
+  }
+
   @AfterEach
   void resetBuildUrl() {
     setUp();
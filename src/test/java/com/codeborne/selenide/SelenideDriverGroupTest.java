@@ -0,0 +1,161 @@
+package com.codeborne.selenide;
+
+import com.codeborne.selenide.logevents.LogEvent;
+import com.codeborne.selenide.logevents.LogEventListener;
+import com.codeborne.selenide.logevents.SelenideLogger;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class SelenideDriverGroupTest implements WithAssertions {
+  private final SelenideDriver chrome = mock(SelenideDriver.class);
+  private final SelenideDriver firefox = mock(SelenideDriver.class);
+  private final SelenideDriverGroup group = new SelenideDriverGroup(drivers(), 2);
+
+  @AfterEach
+  void tearDown() {
+    group.close();
+  }
+
+  private Map<String, SelenideDriver> drivers() {
+    Map<String, SelenideDriver> drivers = new LinkedHashMap<>();
+    drivers.put("chrome", chrome);
+    drivers.put("firefox", firefox);
+    return drivers;
+  }
+
+  @Test
+  void runsScenarioInAllBrowsersInParallel() {
+    CountDownLatch started = new CountDownLatch(2);
+    Set<String> threads = ConcurrentHashMap.newKeySet();
+
+    group.run(browser -> {
+      threads.add(Thread.currentThread().getName());
+      started.countDown();
+      await(started);
+      browser.open("/login");
+    });
+
+    verify(chrome).open("/login");
+    verify(firefox).open("/login");
+    assertThat(threads).hasSize(2).allMatch(name -> name.startsWith("selenide-group-"));
+  }
+
+  @Test
+  void returnsResultsInOrderOfBrowsers() {
+    List<SelenideDriverGroup.Result> results = group.runAll(browser -> {
+      if (browser == firefox) throw new AssertionError("Element not found");
+    });
+
+    assertThat(results).extracting(SelenideDriverGroup.Result::name).containsExactly("chrome", "firefox");
+    assertThat(results.get(0).isPassed()).isTrue();
+    assertThat(results.get(0).driver()).isSameAs(chrome);
+    assertThat(results.get(1).isPassed()).isFalse();
+    assertThat(results.get(1).error()).hasMessage("Element not found");
+    assertThat(results.get(1).toString()).startsWith("firefox: failed in ").endsWith("java.lang.AssertionError: Element not found");
+  }
+
+  @Test
+  void failsWithErrorsOfAllFailedBrowsers() {
+    assertThatThrownBy(() -> group.run(browser -> {
+      throw new IllegalStateException(browser == chrome ? "chrome is broken" : "firefox is broken");
+    }))
+      .isInstanceOf(AssertionError.class)
+      .hasMessageStartingWith("Scenario failed in 2 of 2 browsers:\n\nchrome: failed in ")
+      .hasMessageContaining("firefox: failed in ")
+      .hasCauseInstanceOf(IllegalStateException.class)
+      .satisfies(error -> assertThat(error.getSuppressed()).hasSize(1));
+  }
+
+  @Test
+  void everyBrowserHasItsOwnLogListener() {
+    Set<LogEventListener> listeners = ConcurrentHashMap.newKeySet();
+    SelenideLogger.addListener("testThread", new Listener());
+    try {
+      group.addListener("report", Listener::new);
+
+      group.run(browser -> {
+        assertThat(SelenideLogger.hasListener("testThread")).isFalse();
+        assertThat(SelenideLogger.hasListener("report")).isTrue();
+        listeners.add(SelenideLogger.removeListener("report"));
+      });
+    }
+    finally {
+      SelenideLogger.removeListener("testThread");
+    }
+
+    assertThat(listeners).hasSize(2);
+  }
+
+  @Test
+  void everyBrowserHasItsOwnReportsFolder() {
+    SelenideConfig chrome1 = new SelenideConfig().browser("chrome").reportsFolder("build/reports");
+    SelenideConfig chrome2 = new SelenideConfig().browser("chrome").reportsFolder("build/reports");
+    SelenideConfig firefox = new SelenideConfig().browser("firefox").reportsFolder("build/reports");
+
+    try (SelenideDriverGroup browsers = new SelenideDriverGroup(asList(chrome1, chrome2, firefox), 2)) {
+      assertThat(browsers.drivers()).containsOnlyKeys("chrome-1", "chrome-2", "firefox");
+      assertThat(browsers.drivers().get("chrome-1").config().reportsFolder()).isEqualTo("build/reports" + File.separator + "chrome-1");
+      assertThat(browsers.drivers().get("chrome-2").config().reportsFolder()).isEqualTo("build/reports" + File.separator + "chrome-2");
+      assertThat(browsers.drivers().get("firefox").config().reportsFolder()).isEqualTo("build/reports" + File.separator + "firefox");
+      assertThat(browsers.drivers().get("firefox").config().browser()).isEqualTo("firefox");
+    }
+  }
+
+  @Test
+  void doesNotChangeGivenConfigs() {
+    SelenideConfig chrome = new SelenideConfig().browser("chrome").reportsFolder("build/reports");
+
+    try (SelenideDriverGroup browsers = new SelenideDriverGroup(asList(chrome), 1)) {
+      assertThat(browsers.drivers().get("chrome").config()).isNotSameAs(chrome);
+    }
+    assertThat(chrome.reportsFolder()).isEqualTo("build/reports");
+  }
+
+  @Test
+  void requiresAtLeastOneBrowser() {
+    assertThatThrownBy(() -> new SelenideDriverGroup())
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("No browsers given");
+  }
+
+  @Test
+  void closesAllBrowsers() {
+    group.close();
+
+    verify(chrome).close();
+    verify(firefox).close();
+  }
+
+  private void await(CountDownLatch latch) {
+    try {
+      assertThat(latch.await(5, TimeUnit.SECONDS)).as("all scenarios are running at the same time").isTrue();
+    }
+    catch (InterruptedException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static class Listener implements LogEventListener {
+    @Override
+    public void afterEvent(LogEvent currentLog) {
+    }
+
+    @Override
+    public void beforeEvent(LogEvent currentLog) {
+    }
+  }
+}
@@ -1,16 +1,23 @@
 package com.codeborne.selenide;
 
+import com.codeborne.selenide.impl.WindowRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.NoSuchFrameException;
+import org.openqa.selenium.NoSuchWindowException;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriver.TargetLocator;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -82,4 +89,29 @@ class SelenideTargetLocatorTest {
 
     verify(targetLocator).frame(666);
   }
+
+  @Test
+  void switchToWindow_findsWindowWhoseTitleHasChangedAfterLoading_withoutWaitingForTimeout() {
+    Map<String, String> titles = new LinkedHashMap<>();
+    titles.put("main", "Home");
+    titles.put("tab1", "Loading...");
+    AtomicReference<String> current = new AtomicReference<>("main");
+    when(targetLocator.window(anyString())).thenAnswer(invocation -> {
+      String handle = invocation.getArgument(0);
+      if (!titles.containsKey(handle)) throw new NoSuchWindowException("No window " + handle);
+      current.set(handle);
+      return webdriver;
+    });
+    when(webdriver.getWindowHandles()).thenAnswer(invocation -> titles.keySet());
+    when(webdriver.getWindowHandle()).thenAnswer(invocation -> current.get());
+    when(webdriver.getTitle()).thenAnswer(invocation -> titles.get(current.get()));
+    assertThat(WindowRegistry.of(webdriver).switchToWindowWithTitle("Dashboard")).isFalse();
+
+    titles.put("tab1", "Dashboard");
+    long start = System.currentTimeMillis();
+
+    assertThat(switchTo.window("Dashboard")).isSameAs(webdriver);
+    assertThat(current.get()).isEqualTo("tab1");
+    assertThat(System.currentTimeMillis() - start).isLessThan(config.timeout());
+  }
 }
@@ -0,0 +1,56 @@
+package com.codeborne.selenide;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.mockito.Mockito.mock;
+
+class SelenideWaitTest implements WithAssertions {
+  private final List<String> calls = new ArrayList<>();
+  private final PollingStrategy polling = new PollingStrategy() {
+    @Override
+    public long nextDelay(String subject, int poll, long elapsedMs, long pollingInterval) {
+      calls.add("poll " + poll);
+      return 1;
+    }
+
+    @Override
+    public void finished(String subject, int polls, long elapsedMs, boolean satisfied) {
+      calls.add(subject + " finished after " + polls + " polls: " + satisfied);
+    }
+  };
+
+  @Test
+  void asksPollingStrategyHowLongToSleep() {
+    AtomicInteger checks = new AtomicInteger();
+    SelenideWait wait = new SelenideWait(mock(WebDriver.class), 4000, 200, polling);
+
+    assertThat(wait.until(new Condition("third check") {
+      @Override
+      public Boolean apply(WebDriver webDriver) {
+        return checks.incrementAndGet() == 3;
+      }
+    })).isTrue();
+
+    assertThat(calls).containsExactly("poll 1", "poll 2", "third check finished after 2 polls: true");
+  }
+
+  private abstract static class Condition implements Function<WebDriver, Boolean> {
+    private final String name;
+
+    Condition(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public String toString() {
+      return name;
+    }
+  }
+}
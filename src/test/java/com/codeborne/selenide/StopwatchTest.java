@@ -1,7 +1,12 @@
 package com.codeborne.selenide;
 
+import com.codeborne.selenide.impl.FixedPolling;
+import com.codeborne.selenide.impl.PollingStatistics;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class StopwatchTest {
@@ -18,4 +23,111 @@ public class StopwatchTest {
     Thread.sleep(101);
     assertThat(stopwatch.isTimeoutReached()).isTrue();
   }
+
+  @Test
+  void sleeps_polling_interval_by_default() {
+    assertThat(stopwatch.nextDelay(200)).isEqualTo(200);
+  }
+
+  @Test
+  void polling_strategy_decides_how_long_to_sleep() {
+    List<String> calls = new ArrayList<>();
+    PollingStrategy polling = new PollingStrategy() {
+      @Override
+      public long nextDelay(String subject, int poll, long elapsedMs, long pollingInterval) {
+        calls.add(subject + " poll " + poll + " interval " + pollingInterval);
+        return poll * 10;
+      }
+
+      @Override
+      public void finished(String subject, int polls, long elapsedMs, boolean satisfied) {
+        calls.add(subject + " finished after " + polls + " polls: " + satisfied);
+      }
+    };
+    Stopwatch stopwatch = new Stopwatch(4000, polling, "#login visible");
+
+    assertThat(stopwatch.nextDelay(200)).isEqualTo(10);
+    assertThat(stopwatch.nextDelay(200)).isEqualTo(20);
+    stopwatch.finished(true);
+
+    assertThat(calls).containsExactly(
+      "#login visible poll 1 interval 200",
+      "#login visible poll 2 interval 200",
+      "#login visible finished after 2 polls: true");
+  }
+
+  @Test
+  void does_not_sleep_after_timeout() {
+    Stopwatch stopwatch = new Stopwatch(50, (subject, poll, elapsedMs, pollingInterval) -> 10_000, "#login visible");
+
+    assertThat(stopwatch.nextDelay(200)).isBetween(0L, 51L);
+  }
+
+  @Test
+  void computes_subject_only_if_polling_strategy_uses_it() {
+    List<String> subjects = new ArrayList<>();
+    Stopwatch stopwatch = new Stopwatch(4000, new FixedPolling(), () -> {
+      subjects.add("#login visible");
+      return "#login visible";
+    });
+
+    stopwatch.nextDelay(200);
+    stopwatch.finished(true);
+
+    assertThat(subjects).isEmpty();
+  }
+
+  @Test
+  void computes_subject_once() {
+    List<String> subjects = new ArrayList<>();
+    Stopwatch stopwatch = new Stopwatch(4000, (subject, poll, elapsedMs, pollingInterval) -> 10, () -> {
+      subjects.add("#login visible");
+      return "#login visible";
+    });
+
+    stopwatch.nextDelay(200);
+    stopwatch.nextDelay(200);
+    stopwatch.finished(true);
+
+    assertThat(subjects).hasSize(1);
+  }
+
+  @Test
+  void reports_to_polling_strategy_only_waits_which_have_polled() {
+    List<String> calls = new ArrayList<>();
+    PollingStrategy polling = new PollingStrategy() {
+      @Override
+      public long nextDelay(String subject, int poll, long elapsedMs, long pollingInterval) {
+        return 10;
+      }
+
+      @Override
+      public void finished(String subject, int polls, long elapsedMs, boolean satisfied) {
+        calls.add(subject + " finished after " + polls + " polls");
+      }
+    };
+
+    new Stopwatch(4000, polling, "#login visible").finished(true);
+    assertThat(calls).isEmpty();
+
+    Stopwatch stopwatch = new Stopwatch(4000, polling, "#login visible");
+    stopwatch.nextDelay(200);
+    stopwatch.finished(true);
+    assertThat(calls).containsExactly("#login visible finished after 1 polls");
+  }
+
+  @Test
+  void records_statistics_only_for_waits_which_have_polled() {
+    PollingStatistics statistics = PollingStatistics.getInstance();
+    statistics.reset();
+
+    new Stopwatch(4000, new FixedPolling(), "#login visible").finished(true);
+    assertThat(statistics.satisfiedWaits()).isEqualTo(0);
+
+    Stopwatch stopwatch = new Stopwatch(4000, new FixedPolling(), "#login visible");
+    stopwatch.nextDelay(200);
+    stopwatch.finished(true);
+    assertThat(statistics.satisfiedWaits()).isEqualTo(1);
+    assertThat(statistics.polls()).isEqualTo(1);
+  }
 }
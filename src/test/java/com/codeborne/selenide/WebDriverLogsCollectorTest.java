@@ -0,0 +1,159 @@
+package com.codeborne.selenide;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.logging.LogEntries;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.Logs;
+
+import java.util.logging.Level;
+import java.util.regex.Pattern;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WebDriverLogsCollectorTest implements WithAssertions {
+  private final WebDriver webDriver = mock(WebDriver.class, RETURNS_DEEP_STUBS);
+  private final Logs logs = mock(Logs.class);
+
+  @BeforeEach
+  void setUp() {
+    when(webDriver.manage().logs()).thenReturn(logs);
+  }
+
+  @Test
+  void collectsEntriesIncrementally() {
+    when(logs.get("browser")).thenReturn(
+      entries(entry(Level.INFO, "first")),
+      entries(entry(Level.INFO, "second"), entry(Level.INFO, "third")));
+    WebDriverLogsCollector collector = new WebDriverLogsCollector(webDriver, "browser", Level.ALL, null, 100);
+
+    collector.drain();
+    collector.drain();
+
+    assertThat(collector.logs()).containsExactly("[INFO] first", "[INFO] second", "[INFO] third");
+  }
+
+  @Test
+  void filtersEntriesByLevelAndPattern() {
+    when(logs.get("browser")).thenReturn(entries(
+      entry(Level.INFO, "Uncaught info"),
+      entry(Level.SEVERE, "Uncaught TypeError"),
+      entry(Level.SEVERE, "Failed to load resource")));
+    WebDriverLogsCollector collector = new WebDriverLogsCollector(webDriver, "browser", Level.WARNING,
+      Pattern.compile("Uncaught"), 100);
+
+    collector.drain();
+
+    assertThat(collector.logs()).containsExactly("[SEVERE] Uncaught TypeError");
+  }
+
+  @Test
+  void keepsOnlyLastEntries() {
+    when(logs.get("browser")).thenReturn(entries(
+      entry(Level.INFO, "1"), entry(Level.INFO, "2"), entry(Level.INFO, "3")));
+    WebDriverLogsCollector collector = new WebDriverLogsCollector(webDriver, "browser", Level.ALL, null, 2);
+
+    collector.drain();
+
+    assertThat(collector.logs()).containsExactly("[INFO] 2", "[INFO] 3");
+    assertThat(collector.droppedEntries()).isEqualTo(1);
+  }
+
+  @Test
+  void pollRemovesCollectedEntries() {
+    when(logs.get("browser")).thenReturn(entries(entry(Level.INFO, "1"), entry(Level.INFO, "2")));
+    WebDriverLogsCollector collector = new WebDriverLogsCollector(webDriver, "browser", Level.ALL, null, 100);
+    collector.drain();
+
+    assertThat(collector.poll()).containsExactly("[INFO] 1", "[INFO] 2");
+    assertThat(collector.logs()).isEmpty();
+  }
+
+  @Test
+  void stopsWhenWebdriverIsClosed() {
+    when(logs.get("browser")).thenThrow(new NoSuchSessionException("Session is closed"));
+    WebDriverLogsCollector collector = WebDriverLogsCollector.start(webDriver, "browser", Level.ALL, null, 100, 60_000);
+    assertThat(WebDriverLogsCollector.find(webDriver, "browser")).isSameAs(collector);
+
+    collector.drain();
+
+    assertThat(collector.isRunning()).isFalse();
+    assertThat(WebDriverLogsCollector.find(webDriver, "browser")).isNull();
+  }
+
+  @Test
+  void startsOnlyOneCollectorPerWebdriverAndLogType() {
+    when(logs.get("browser")).thenReturn(new LogEntries(emptyList()));
+    WebDriverLogsCollector collector = WebDriverLogsCollector.start(webDriver, "browser", Level.ALL, null, 100, 60_000);
+    try {
+      assertThat(WebDriverLogsCollector.start(webDriver, "browser", Level.ALL, null, 100, 60_000)).isSameAs(collector);
+      assertThat(collector.isRunning()).isTrue();
+    }
+    finally {
+      collector.stop();
+    }
+    assertThat(collector.isRunning()).isFalse();
+  }
+
+  @Test
+  void drainsLogsInBackground() throws InterruptedException {
+    when(logs.get("browser")).thenReturn(entries(entry(Level.INFO, "first")), entries(entry(Level.INFO, "second")));
+    WebDriverLogsCollector collector = WebDriverLogsCollector.start(webDriver, "browser", Level.ALL, null, 100, 10);
+    try {
+      for (int i = 0; i < 200 && collector.logs().size() < 2; i++) {
+        Thread.sleep(10);
+      }
+      assertThat(collector.logs()).startsWith("[INFO] first", "[INFO] second");
+    }
+    finally {
+      collector.stop();
+    }
+  }
+
+  @Test
+  void doesNotDrainLogsAfterStop() throws InterruptedException {
+    when(logs.get("browser")).thenReturn(entries(entry(Level.INFO, "first")));
+    WebDriverLogsCollector collector = WebDriverLogsCollector.start(webDriver, "browser", Level.ALL, null, 100, 10);
+    collector.stop();
+
+    Thread.sleep(50);
+    collector.drain();
+
+    verify(logs, never()).get("browser");
+    assertThat(collector.logs()).isEmpty();
+  }
+
+  @Test
+  void drainsLastLogsAndStopsBeforeWebdriverIsClosed() {
+    when(logs.get("browser")).thenReturn(entries(entry(Level.INFO, "last")));
+    WebDriverLogsCollector collector = WebDriverLogsCollector.start(webDriver, "browser", Level.ALL, null, 100, 60_000);
+
+    WebDriverLogsCollector.stopAll(webDriver);
+
+    assertThat(collector.logs()).containsExactly("[INFO] last");
+    assertThat(collector.isRunning()).isFalse();
+    assertThat(WebDriverLogsCollector.find(webDriver, "browser")).isNull();
+  }
+
+  private LogEntries entries(LogEntry... entries) {
+    return new LogEntries(asList(entries));
+  }
+
+  private LogEntry entry(Level level, String message) {
+    return new LogEntry(level, 0, message) {
+      @Override
+      public String toString() {
+        return String.format("[%s] %s", getLevel(), getMessage());
+      }
+    };
+  }
+}
@@ -0,0 +1,97 @@
+package com.codeborne.selenide.commands;
+
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.ex.InvalidStateException;
+import com.codeborne.selenide.impl.WebElementSource;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DragAndDropToCommandTest implements WithAssertions {
+  private final JSWebDriver webDriver = mock(JSWebDriver.class);
+  private final SelenideConfig config = new SelenideConfig().actionsViaJs(true);
+  private final WebElementSource locator = mock(WebElementSource.class);
+  private final WebElement source = mock(WebElement.class);
+  private final SelenideElement proxy = mock(SelenideElement.class);
+  private final DragAndDropTo command = new DragAndDropTo();
+
+  @BeforeEach
+  void setUp() {
+    when(locator.driver()).thenReturn(new DriverStub(config, new Browser("chrome", false), webDriver, null));
+    when(locator.getWebElement()).thenReturn(source);
+  }
+
+  @Test
+  void dragsAndDropsToSelectorWithSingleScript() {
+    assertThat(command.execute(proxy, locator, new Object[]{"#done"})).isSameAs(proxy);
+
+    verify(webDriver).executeScript(DragAndDropTo.DRAG_AND_DROP, source, "#done");
+    verify(webDriver, never()).findElement(any());
+  }
+
+  @Test
+  void dragsAndDropsToElementWithSingleScript() {
+    WebElement target = mock(WebElement.class);
+
+    command.execute(proxy, locator, new Object[]{target});
+
+    verify(webDriver).executeScript(DragAndDropTo.DRAG_AND_DROP, source, target);
+    verify(target, never()).isDisplayed();
+  }
+
+  @Test
+  void waitsForTargetAndRepeatsIfTargetIsNotVisibleYet() {
+    WebElement target = mock(WebElement.class);
+    when(target.isDisplayed()).thenReturn(true);
+    when(webDriver.executeScript(DragAndDropTo.DRAG_AND_DROP, source, target)).thenReturn("not visible", (Object) null);
+
+    command.execute(proxy, locator, new Object[]{target});
+
+    verify(webDriver, times(2)).executeScript(DragAndDropTo.DRAG_AND_DROP, source, target);
+  }
+
+  @Test
+  void failsIfTargetCannotBeUsedAfterWaiting() {
+    WebElement target = mock(WebElement.class);
+    when(target.isDisplayed()).thenReturn(true);
+    when(webDriver.executeScript(DragAndDropTo.DRAG_AND_DROP, source, target)).thenReturn("not visible");
+
+    assertThatThrownBy(() -> command.execute(proxy, locator, new Object[]{target}))
+      .isInstanceOf(InvalidStateException.class)
+      .hasMessageContaining("Cannot drag and drop to ")
+      .hasMessageContaining(": target is not visible");
+  }
+
+  @Test
+  void scriptDispatchesHtml5DragEvents() {
+    assertThat(DragAndDropTo.DRAG_AND_DROP)
+      .contains("fire(source, 'dragstart');")
+      .contains("fire(target, 'drop');")
+      .contains("fire(source, 'dragend');");
+  }
+
+  @Test
+  void doesNotAcceptUnknownTargets() {
+    assertThatThrownBy(() -> command.execute(proxy, locator, new Object[]{42}))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Unknown target type: 42 (only String or WebElement are supported)");
+    verify(webDriver, never()).executeScript(anyString(), any());
+  }
+
+  interface JSWebDriver extends WebDriver, JavascriptExecutor {
+  }
+}
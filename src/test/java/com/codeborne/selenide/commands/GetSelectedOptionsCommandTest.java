@@ -1,19 +1,23 @@
 package com.codeborne.selenide.commands;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
-import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.SelenideConfig;
 import com.codeborne.selenide.ElementsCollection;
 import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.impl.WebElementSource;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -25,18 +29,17 @@ class GetSelectedOptionsCommandTest implements WithAssertions {
 
   @BeforeEach
   void setup() {
-    when(locator.driver()).thenReturn(new DriverStub());
-    SelenideElement mockedElement = mock(SelenideElement.class);
+    Driver driver = mock(Driver.class);
+    when(driver.config()).thenReturn(new SelenideConfig());
+    when(locator.driver()).thenReturn(driver);
+    WebElement select = mock(WebElement.class);
     WebElement mockedElement1 = mock(WebElement.class);
     WebElement mockedElement2 = mock(WebElement.class);
-    when(locator.getWebElement()).thenReturn(mockedElement);
-    when(mockedElement.isSelected()).thenReturn(true);
-    when(mockedElement.getTagName()).thenReturn("select");
+    when(locator.getWebElement()).thenReturn(select);
     mMockedElementsList = asList(mockedElement1, mockedElement2);
-    when(mockedElement.findElements(By.tagName("option"))).thenReturn(mMockedElementsList);
-    when(mockedElement1.isSelected()).thenReturn(true);
+    when(driver.executeJavaScript(anyString(), eq(select), eq("selected"), eq(emptyList())))
+      .thenReturn(singletonMap("options", mMockedElementsList));
     when(mockedElement1.getText()).thenReturn("Element text1");
-    when(mockedElement2.isSelected()).thenReturn(true);
     when(mockedElement2.getText()).thenReturn("Element text2");
   }
 
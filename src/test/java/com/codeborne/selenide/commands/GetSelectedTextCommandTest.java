@@ -1,52 +1,64 @@
 package com.codeborne.selenide.commands;
 
-import java.lang.reflect.Field;
-
 import com.codeborne.selenide.Command;
+import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.impl.WebElementSource;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebElement;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 class GetSelectedTextCommandTest implements WithAssertions {
   private SelenideElement proxy = mock(SelenideElement.class);
   private WebElementSource selectElement = mock(WebElementSource.class);
-  private SelenideElement mockedElement = mock(SelenideElement.class);
-  private GetSelectedText getSelectedTextCommand;
-  private GetSelectedOption getSelectedOptionCommand = mock(GetSelectedOption.class);
+  private Driver driver = mock(Driver.class);
+  private WebElement select = mock(WebElement.class);
+  private GetSelectedText getSelectedTextCommand = new GetSelectedText();
 
   @BeforeEach
   void setup() {
-    getSelectedTextCommand = new GetSelectedText(getSelectedOptionCommand);
+    when(selectElement.driver()).thenReturn(driver);
+    when(selectElement.getWebElement()).thenReturn(select);
   }
 
   @Test
-  void testDefaultConstructor() throws NoSuchFieldException, IllegalAccessException {
-    GetSelectedText getSelectedText = new GetSelectedText();
-    Field getSelectedOptionField = getSelectedText.getClass().getDeclaredField("getSelectedOption");
-    getSelectedOptionField.setAccessible(true);
-    GetSelectedOption getSelectedOption = (GetSelectedOption) getSelectedOptionField.get(getSelectedText);
-    assertThat(getSelectedOption)
-      .isNotNull();
+  void testExecuteMethodWhenNoOptionsAreSelected() {
+    when(driver.executeJavaScript(anyString(), eq(select), eq("selected"), eq(emptyList())))
+      .thenReturn(singletonMap("texts", emptyList()));
+
+    assertThatThrownBy(() -> getSelectedTextCommand.execute(proxy, selectElement, new Object[]{"something more"}))
+      .isInstanceOf(NoSuchElementException.class)
+      .hasMessageStartingWith("No options are selected");
   }
 
   @Test
-  void testExecuteMethodWhenSelectedOptionReturnsNothing() {
-    when(getSelectedOptionCommand.execute(proxy, selectElement, Command.NO_ARGS)).thenReturn(null);
+  void returnsTextOfFirstSelectedOption() {
+    when(driver.executeJavaScript(anyString(), eq(select), eq("selected"), eq(emptyList())))
+      .thenReturn(singletonMap("texts", asList("Element text", "Another text")));
+
     assertThat(getSelectedTextCommand.execute(proxy, selectElement, new Object[]{"something more"}))
-      .isNullOrEmpty();
+      .isEqualTo("Element text");
   }
 
   @Test
-  void testExecuteMethodWhenSelectedOptionReturnsElement() {
-    when(getSelectedOptionCommand.execute(proxy, selectElement, Command.NO_ARGS)).thenReturn(mockedElement);
-    String elementText = "Element text";
-    when(mockedElement.getText()).thenReturn(elementText);
-    assertThat(getSelectedTextCommand.execute(proxy, selectElement, new Object[]{"something more"}))
-      .isEqualTo(elementText);
+  @SuppressWarnings("deprecation")
+  void canUseGivenCommandToGetSelectedOption() {
+    GetSelectedOption getSelectedOption = mock(GetSelectedOption.class);
+    SelenideElement option = mock(SelenideElement.class);
+    when(getSelectedOption.execute(proxy, selectElement, Command.NO_ARGS)).thenReturn(option);
+    when(option.getText()).thenReturn("Element text");
+
+    assertThat(new GetSelectedText(getSelectedOption).execute(proxy, selectElement, new Object[]{"something more"}))
+      .isEqualTo("Element text");
   }
 }
@@ -1,54 +1,66 @@
 package com.codeborne.selenide.commands;
 
-import java.io.IOException;
-import java.lang.reflect.Field;
-
+import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.impl.WebElementSource;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebElement;
+
+import java.io.IOException;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 class GetSelectedValueCommandTest implements WithAssertions {
   private SelenideElement proxy = mock(SelenideElement.class);
   private WebElementSource selectElement = mock(WebElementSource.class);
-  private SelenideElement mockedElement = mock(SelenideElement.class);
-  private GetSelectedValue getSelectedValueCommand;
-  private GetSelectedOption getSelectedOptionCommand = mock(GetSelectedOption.class);
+  private Driver driver = mock(Driver.class);
+  private WebElement select = mock(WebElement.class);
+  private GetSelectedValue getSelectedValueCommand = new GetSelectedValue();
 
   @BeforeEach
   void setup() {
-    getSelectedValueCommand = new GetSelectedValue(getSelectedOptionCommand);
+    when(selectElement.driver()).thenReturn(driver);
+    when(selectElement.getWebElement()).thenReturn(select);
   }
 
   @Test
-  void testDefaultConstructor() throws NoSuchFieldException, IllegalAccessException {
-    GetSelectedValue getSelectedText = new GetSelectedValue();
-    Field getSelectedOptionField = getSelectedText.getClass().getDeclaredField("getSelectedOption");
-    getSelectedOptionField.setAccessible(true);
-    GetSelectedOption getSelectedOption = (GetSelectedOption) getSelectedOptionField.get(getSelectedText);
-    assertThat(getSelectedOption)
-      .isNotNull();
+  void testExecuteMethodWhenNoOptionsAreSelected() {
+    when(driver.executeJavaScript(anyString(), eq(select), eq("selected"), eq(emptyList())))
+      .thenReturn(singletonMap("values", emptyList()));
+
+    assertThatThrownBy(() -> getSelectedValueCommand.execute(proxy, selectElement, new Object[]{"something more"}))
+      .isInstanceOf(NoSuchElementException.class)
+      .hasMessageStartingWith("No options are selected");
   }
 
   @Test
-  void testExecuteMethodWhenSelectedOptionReturnsNothing() throws IOException {
-    Object[] args = {"something more"};
-    when(getSelectedOptionCommand.execute(proxy, selectElement, args)).thenReturn(null);
-    assertThat(getSelectedValueCommand.execute(proxy, selectElement, args))
-      .isNullOrEmpty();
+  void returnsValueOfFirstSelectedOption() throws IOException {
+    when(driver.executeJavaScript(anyString(), eq(select), eq("selected"), eq(emptyList())))
+      .thenReturn(singletonMap("values", asList("first", "second")));
+
+    assertThat(getSelectedValueCommand.execute(proxy, selectElement, new Object[]{"something more"}))
+      .isEqualTo("first");
   }
 
   @Test
-  void testExecuteMethodWhenSelectedOptionReturnsElement() throws IOException {
+  @SuppressWarnings("deprecation")
+  void canUseGivenCommandToGetSelectedOption() throws IOException {
+    GetSelectedOption getSelectedOption = mock(GetSelectedOption.class);
+    SelenideElement option = mock(SelenideElement.class);
     Object[] args = {"something more"};
-    when(getSelectedOptionCommand.execute(proxy, selectElement, args)).thenReturn(mockedElement);
-    String elementText = "Element text";
-    when(mockedElement.getAttribute("value")).thenReturn(elementText);
-    assertThat(getSelectedValueCommand.execute(proxy, selectElement, args))
-      .isEqualTo(elementText);
+    when(getSelectedOption.execute(proxy, selectElement, args)).thenReturn(option);
+    when(option.getAttribute("value")).thenReturn("first");
+
+    assertThat(new GetSelectedValue(getSelectedOption).execute(proxy, selectElement, args))
+      .isEqualTo("first");
   }
 }
@@ -0,0 +1,41 @@
+package com.codeborne.selenide.commands;
+
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.impl.WebElementSource;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HoverCommandTest implements WithAssertions {
+  private final JSWebDriver webDriver = mock(JSWebDriver.class);
+  private final WebElementSource locator = mock(WebElementSource.class);
+  private final WebElement element = mock(WebElement.class);
+  private final SelenideElement proxy = mock(SelenideElement.class);
+
+  @BeforeEach
+  void setUp() {
+    SelenideConfig config = new SelenideConfig().actionsViaJs(true);
+    when(locator.driver()).thenReturn(new DriverStub(config, new Browser("chrome", false), webDriver, null));
+    when(locator.getWebElement()).thenReturn(element);
+  }
+
+  @Test
+  void hoversWithSingleScript() {
+    assertThat(new Hover().execute(proxy, locator, null)).isSameAs(proxy);
+
+    verify(webDriver).executeScript(Hover.HOVER, element);
+  }
+
+  interface JSWebDriver extends WebDriver, JavascriptExecutor {
+  }
+}
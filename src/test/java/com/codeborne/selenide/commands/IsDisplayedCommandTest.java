@@ -22,7 +22,7 @@ class IsDisplayedCommandTest implements WithAssertions {
   @BeforeEach
   void setup() {
     isDisplayedCommand = new IsDisplayed();
-    when(locator.getWebElement()).thenReturn(mockedElement);
+    when(locator.findIfPresent()).thenReturn(mockedElement);
   }
 
   @Test
@@ -33,7 +33,7 @@ class IsDisplayedCommandTest implements WithAssertions {
 
   @Test
   void testExecuteMethodWhenElementIsNotDisplayed() {
-    when(locator.getWebElement()).thenReturn(mockedElement);
+    when(locator.findIfPresent()).thenReturn(mockedElement);
     when(mockedElement.isDisplayed()).thenReturn(false);
     assertThat(isDisplayedCommand.execute(proxy, locator, new Object[]{"something more"}))
       .isFalse();
@@ -41,7 +41,7 @@ class IsDisplayedCommandTest implements WithAssertions {
 
   @Test
   void testExecuteMethodWhenElementIsDisplayed() {
-    when(locator.getWebElement()).thenReturn(mockedElement);
+    when(locator.findIfPresent()).thenReturn(mockedElement);
     when(mockedElement.isDisplayed()).thenReturn(true);
     assertThat(isDisplayedCommand.execute(proxy, locator, new Object[]{"something more"}))
       .isTrue();
@@ -53,7 +53,7 @@ class IsDisplayedCommandTest implements WithAssertions {
   }
 
   private <T extends Throwable> void catchExecuteMethodWithException(T exception) {
-    when(locator.getWebElement()).thenReturn(mockedElement);
+    when(locator.findIfPresent()).thenReturn(mockedElement);
     doThrow(exception).when(mockedElement).isDisplayed();
     assertThat(isDisplayedCommand.execute(proxy, locator, new Object[]{"something more"}))
       .isFalse();
@@ -0,0 +1,40 @@
+package com.codeborne.selenide.commands;
+
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.impl.WebElementSource;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ScrollToCommandTest implements WithAssertions {
+  private final JSWebDriver webDriver = mock(JSWebDriver.class);
+  private final WebElementSource locator = mock(WebElementSource.class);
+  private final WebElement element = mock(WebElement.class);
+  private final SelenideElement proxy = mock(SelenideElement.class);
+
+  @BeforeEach
+  void setUp() {
+    when(locator.driver()).thenReturn(new DriverStub(new SelenideConfig(), new Browser("chrome", false), webDriver, null));
+    when(locator.getWebElement()).thenReturn(element);
+  }
+
+  @Test
+  void scrollsToElementWithSingleScript() {
+    assertThat(new ScrollTo().execute(proxy, locator, null)).isSameAs(proxy);
+
+    verify(webDriver).executeScript(ScrollTo.SCROLL_TO, element);
+  }
+
+  interface JSWebDriver extends WebDriver, JavascriptExecutor {
+  }
+}
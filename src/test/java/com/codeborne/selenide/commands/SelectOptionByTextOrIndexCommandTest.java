@@ -1,21 +1,24 @@
 package com.codeborne.selenide.commands;
 
 import com.codeborne.selenide.Driver;
-import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
 import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.ex.ElementNotFound;
 import com.codeborne.selenide.impl.WebElementSource;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.openqa.selenium.By;
-import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.ui.Quotes;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
-import static org.mockito.Mockito.doThrow;
+import static java.util.Collections.singletonMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 class SelectOptionByTextOrIndexCommandTest implements WithAssertions {
@@ -25,67 +28,76 @@ class SelectOptionByTextOrIndexCommandTest implements WithAssertions {
   private SelectOptionByTextOrIndex selectOptionByTextOrIndexCommand = new SelectOptionByTextOrIndex();
   private WebElement mockedElement = mock(WebElement.class);
   private String defaultElementText = "This is element text";
-  private WebElement mockedFoundElement = mock(WebElement.class);
   private int defaultIndex = 1;
 
   @BeforeEach
   void setup() {
-    when(selectField.driver()).thenReturn(new DriverStub());
+    when(driver.config()).thenReturn(new SelenideConfig());
+    when(selectField.driver()).thenReturn(driver);
     when(selectField.getWebElement()).thenReturn(mockedElement);
-    when(mockedElement.getText()).thenReturn(defaultElementText);
-    when(mockedElement.getTagName()).thenReturn("select");
-
-    when(mockedFoundElement.isSelected()).thenReturn(true);
   }
 
   @Test
   void testSelectOptionByText() {
-    when(mockedElement.findElements(By.xpath(".//option[normalize-space(.) = " + Quotes.escape(defaultElementText) + "]")))
-      .thenReturn(singletonList(mockedFoundElement));
+    when(driver.executeJavaScript(anyString(), eq(mockedElement), eq("text"), eq(singletonList(defaultElementText))))
+      .thenReturn(emptyMap());
+
     selectOptionByTextOrIndexCommand.execute(proxy, selectField, new Object[]{new String[]{this.defaultElementText}});
+
+    verify(driver).executeJavaScript(anyString(), eq(mockedElement), eq("text"), eq(singletonList(defaultElementText)));
   }
 
   @Test
-  void selectOptionByTextWhenElementIsNotFound() {
-    try {
-      selectOptionByTextOrIndexCommand.execute(proxy, selectField, new Object[]{new String[]{this.defaultElementText}});
-    } catch (ElementNotFound exception) {
-      assertThat(exception)
-        .hasMessageStartingWith(String.format("Element not found {null/option[text:%s]}\nExpected: exist", this.defaultElementText));
-    }
+  void selectsAllOptionsInSingleCall() {
+    when(driver.executeJavaScript(anyString(), eq(mockedElement), eq("text"), eq(asList("one", "two", "three"))))
+      .thenReturn(emptyMap());
+
+    selectOptionByTextOrIndexCommand.execute(proxy, selectField, new Object[]{new String[]{"one", "two", "three"}});
+
+    verify(driver).executeJavaScript(anyString(), eq(mockedElement), eq("text"), eq(asList("one", "two", "three")));
+    verifyNoMoreInteractions(mockedElement);
   }
 
   @Test
-  void selectedOptionByTextWhenNoSuchElementIsThrown() {
-    doThrow(new NoSuchElementException("no element found"))
-      .when(mockedElement)
-      .findElements(By.xpath(".//option[normalize-space(.) = " + Quotes.escape(defaultElementText) + "]"));
-    try {
-      selectOptionByTextOrIndexCommand.execute(proxy, selectField, new Object[]{new String[]{""}});
-    } catch (ElementNotFound exception) {
-      assertThat(exception)
-        .hasMessage("Element not found {null/option[text:]}\nExpected: exist\n" +
-          "Screenshot: null\n" +
-          "Timeout: 0 ms.\n" +
-          "Caused by: NoSuchElementException: Cannot locate element with text:");
-    }
+  void selectOptionByTextWhenElementIsNotFound() {
+    when(driver.executeJavaScript(anyString(), eq(mockedElement), eq("text"), eq(asList("one", "two"))))
+      .thenReturn(singletonMap("notFound", 1L));
+
+    assertThatThrownBy(() -> selectOptionByTextOrIndexCommand.execute(proxy, selectField, new Object[]{new String[]{"one", "two"}}))
+      .isInstanceOf(ElementNotFound.class)
+      .hasMessage("Element not found {null/option[text:two]}\nExpected: exist\n" +
+        "Screenshot: null\n" +
+        "Timeout: 0 ms.\n" +
+        "Caused by: NoSuchElementException: Cannot locate element with text: two");
   }
 
   @Test
   void selectOptionByIndex() {
-    when(mockedElement.findElements(By.tagName("option"))).thenReturn(singletonList(mockedFoundElement));
-    when(mockedFoundElement.getAttribute("index")).thenReturn(String.valueOf(defaultIndex));
+    when(driver.executeJavaScript(anyString(), eq(mockedElement), eq("index"), eq(singletonList(defaultIndex))))
+      .thenReturn(emptyMap());
+
     selectOptionByTextOrIndexCommand.execute(proxy, selectField, new Object[]{new int[]{defaultIndex}});
+
+    verify(driver).executeJavaScript(anyString(), eq(mockedElement), eq("index"), eq(singletonList(defaultIndex)));
   }
 
   @Test
   void selectOptionByIndexWhenNoElementFound() {
-    try {
-      selectOptionByTextOrIndexCommand.execute(proxy, selectField, new Object[]{new int[]{defaultIndex}});
-    } catch (ElementNotFound exception) {
-      assertThat(exception)
-        .hasMessageStartingWith(String.format("Element not found {null/option[index:%d]}\nExpected: exist", defaultIndex));
-    }
+    when(driver.executeJavaScript(anyString(), eq(mockedElement), eq("index"), eq(singletonList(defaultIndex))))
+      .thenReturn(singletonMap("notFound", 0L));
+
+    assertThatThrownBy(() -> selectOptionByTextOrIndexCommand.execute(proxy, selectField, new Object[]{new int[]{defaultIndex}}))
+      .isInstanceOf(ElementNotFound.class)
+      .hasMessageStartingWith(String.format("Element not found {null/option[index:%d]}\nExpected: exist", defaultIndex));
+  }
+
+  @Test
+  void failsIfElementIsNotSelect() {
+    when(driver.executeJavaScript(anyString(), eq(mockedElement), eq("index"), eq(singletonList(defaultIndex))))
+      .thenReturn(singletonMap("tag", "input"));
+
+    assertThatThrownBy(() -> selectOptionByTextOrIndexCommand.execute(proxy, selectField, new Object[]{new int[]{defaultIndex}}))
+      .hasMessageStartingWith("Element should have been \"select\" but was \"input\"");
   }
 
   @Test
@@ -1,50 +1,54 @@
 package com.codeborne.selenide.commands;
 
-import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.SelenideConfig;
 import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.ex.ElementNotFound;
 import com.codeborne.selenide.impl.WebElementSource;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 
-import java.util.Collections;
-
-import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 class SelectionOptionByValueCommandTest implements WithAssertions {
+  private Driver driver = mock(Driver.class);
   private SelenideElement proxy = mock(SelenideElement.class);
   private WebElementSource selectField = mock(WebElementSource.class);
   private SelectOptionByValue selectOptionByValueCommand = new SelectOptionByValue();
   private WebElement element = mock(WebElement.class);
-  private WebElement foundElement = mock(WebElement.class);
 
   @BeforeEach
   void setup() {
-    when(selectField.driver()).thenReturn(new DriverStub());
+    when(driver.config()).thenReturn(new SelenideConfig());
+    when(selectField.driver()).thenReturn(driver);
     when(selectField.getWebElement()).thenReturn(element);
     when(selectField.getSearchCriteria()).thenReturn("By.tagName{select}");
-    when(element.getText()).thenReturn("walue");
-    when(element.getTagName()).thenReturn("select");
-    when(foundElement.isSelected()).thenReturn(true);
+    when(driver.executeJavaScript(anyString(), eq(element), eq("value"), eq(singletonList("walue")))).thenReturn(emptyMap());
   }
 
   @Test
   void selectByValueWithStringFromArgs() {
-    when(element.findElements(By.xpath(".//option[@value = \"walue\"]")))
-      .thenReturn(Collections.singletonList(foundElement));
     selectOptionByValueCommand.execute(proxy, selectField, new Object[]{"walue"});
+
+    verify(driver).executeJavaScript(anyString(), eq(element), eq("value"), eq(singletonList("walue")));
+    verifyNoMoreInteractions(element);
   }
 
   @Test
   void selectByValueWithStringArrayFromArgs() {
-    when(element.findElements(By.xpath(".//option[@value = \"walue\"]")))
-      .thenReturn(Collections.singletonList(foundElement));
     selectOptionByValueCommand.execute(proxy, selectField, new Object[]{new String[]{"walue"}});
+
+    verify(driver).executeJavaScript(anyString(), eq(element), eq("value"), eq(singletonList("walue")));
   }
 
   @Test
@@ -55,8 +59,8 @@ class SelectionOptionByValueCommandTest implements WithAssertions {
 
   @Test
   void selectByValueWhenElementIsNotFound() {
-    when(element.findElements(By.xpath(".//option[@value = \"walue\"]")))
-      .thenReturn(emptyList());
+    when(driver.executeJavaScript(anyString(), eq(element), eq("value"), eq(singletonList("walue"))))
+      .thenReturn(singletonMap("notFound", 0L));
 
     assertThatThrownBy(() ->
       selectOptionByValueCommand.execute(proxy, selectField, new Object[]{new String[]{"walue"}}))
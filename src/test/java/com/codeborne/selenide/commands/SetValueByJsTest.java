@@ -0,0 +1,122 @@
+package com.codeborne.selenide.commands;
+
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.ex.InvalidStateException;
+import com.codeborne.selenide.impl.WebElementSource;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SetValueByJsTest implements WithAssertions {
+  private final JSWebDriver webDriver = mock(JSWebDriver.class);
+  private final SelenideConfig config = new SelenideConfig().fastSetValue(true);
+  private final WebElementSource locator = mock(WebElementSource.class);
+  private final WebElement element = mock(WebElement.class);
+  private final SelenideElement proxy = mock(SelenideElement.class);
+
+  @BeforeEach
+  void setUp() {
+    when(locator.driver()).thenReturn(new DriverStub(config, new Browser("chrome", false), webDriver, null));
+    when(locator.getWebElement()).thenReturn(element);
+  }
+
+  @Test
+  void setsValueWithSingleScript() {
+    when(webDriver.executeScript(anyString(), eq(element), eq("john"), eq(false), eq(false))).thenReturn("done");
+
+    assertThat(new SetValue().execute(proxy, locator, new Object[]{"john"})).isSameAs(proxy);
+
+    verify(locator, never()).findAndAssertElementIsInteractable();
+    verify(element, never()).sendKeys("john");
+  }
+
+  @Test
+  void appendsValueWithSingleScript() {
+    when(webDriver.executeScript(anyString(), eq(element), eq("john"), eq(true), eq(false))).thenReturn("done");
+
+    assertThat(new Append().execute(proxy, locator, new Object[]{"john"})).isSameAs(proxy);
+
+    verify(element, never()).sendKeys("john");
+  }
+
+  @Test
+  void failsIfElementIsReadonly() {
+    when(webDriver.executeScript(anyString(), eq(element), eq("john"), eq(false), eq(false)))
+      .thenReturn("Cannot change value of readonly element");
+
+    assertThatThrownBy(() -> new SetValue().execute(proxy, locator, new Object[]{"john"}))
+      .isInstanceOf(InvalidStateException.class)
+      .hasMessageStartingWith("Invalid element state: Cannot change value of readonly element");
+  }
+
+  @Test
+  void fallsBackToUsualWayIfElementIsNotInteractable() {
+    when(webDriver.executeScript(anyString(), eq(element), eq("john"), eq(false), eq(false))).thenReturn("skipped");
+    when(locator.findAndAssertElementIsInteractable()).thenReturn(element);
+
+    new SetValue().execute(proxy, locator, new Object[]{"john"});
+
+    verify(locator).findAndAssertElementIsInteractable();
+    verify(element).clear();
+    verify(element).sendKeys("john");
+  }
+
+  @Test
+  void selectsOptionOfInteractableSelectWithoutLookingItUpAgain() {
+    config.versatileSetValue(true);
+    when(webDriver.executeScript(anyString(), eq(element), eq("john"), eq(false), eq(true))).thenReturn("select");
+    SelectOptionByValue selectOptionByValue = mock(SelectOptionByValue.class);
+    Object[] args = {"john"};
+
+    new SetValue(selectOptionByValue, mock(SelectRadio.class)).execute(proxy, locator, args);
+
+    verify(selectOptionByValue).execute(proxy, locator, args);
+    verify(locator, never()).findAndAssertElementIsInteractable();
+  }
+
+  @Test
+  void selectsInteractableRadioButtonWithoutLookingItUpAgain() {
+    config.versatileSetValue(true);
+    when(webDriver.executeScript(anyString(), eq(element), eq("john"), eq(false), eq(true))).thenReturn("radio");
+    SelectRadio selectRadio = mock(SelectRadio.class);
+    Object[] args = {"john"};
+
+    new SetValue(mock(SelectOptionByValue.class), selectRadio).execute(proxy, locator, args);
+
+    verify(selectRadio).execute(proxy, locator, args);
+    verify(locator, never()).findAndAssertElementIsInteractable();
+  }
+
+  @Test
+  void skipsIfElementIsNotFound() {
+    when(locator.getWebElement()).thenThrow(new NoSuchElementException("no #name"));
+
+    assertThat(new SetValueByJs().setValue(locator, "john")).isEqualTo(SetValueByJs.Result.SKIPPED);
+  }
+
+  @Test
+  void appendUsesSendKeysIfFastSetValueIsDisabled() {
+    config.fastSetValue(false);
+
+    new Append().execute(proxy, locator, new Object[]{"john"});
+
+    verify(element).sendKeys("john");
+  }
+
+  interface JSWebDriver extends WebDriver, JavascriptExecutor {
+  }
+}
@@ -1,5 +1,6 @@
 package com.codeborne.selenide.drivercommands;
 
+import com.codeborne.selenide.BrowserMetadata;
 import com.codeborne.selenide.Config;
 import com.codeborne.selenide.webdriver.WebDriverFactory;
 import org.assertj.core.api.WithAssertions;
@@ -8,9 +9,14 @@ import org.junit.jupiter.api.Test;
 import org.openqa.selenium.Proxy;
 import org.openqa.selenium.WebDriver;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static com.codeborne.selenide.FileDownloadMode.FOLDER;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.emptyList;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -36,7 +42,7 @@ class LazyDriverTest implements WithAssertions {
   @BeforeEach
   void setUp() {
     doReturn(webdriver).when(factory).createWebDriver(any(), any());
-    doReturn(webdriver).when(factory).createWebDriver(any(), isNull());
+    doReturn(webdriver).when(factory).createWebDriver(any(), any(), any());
   }
 
   @Test
@@ -58,6 +64,60 @@ class LazyDriverTest implements WithAssertions {
     verify(factory).createWebDriver(config, driver.getProxy().createSeleniumProxy());
   }
 
+  @Test
+  void createsSeparateDownloadsFolderForEveryBrowser() {
+    when(config.proxyEnabled()).thenReturn(false);
+    when(config.fileDownload()).thenReturn(FOLDER);
+    when(config.downloadsFolder()).thenReturn("build/downloads");
+    when(factory.supportsDownloadsFolder(config)).thenReturn(true);
+
+    driver.createDriver();
+    File firstFolder = driver.browserDownloadsFolder();
+    driver.close();
+    assertThat(driver.browserDownloadsFolder()).isNull();
+    driver.createDriver();
+
+    assertThat(firstFolder.getParentFile()).isEqualTo(new File("build/downloads").getAbsoluteFile());
+    assertThat(driver.browserDownloadsFolder()).isNotEqualTo(firstFolder);
+    verify(factory).createWebDriver(config, null, firstFolder);
+  }
+
+  @Test
+  void failsFastIfBrowserCannotSaveDownloadsToFolder() {
+    when(config.browser()).thenReturn("safari");
+    when(config.fileDownload()).thenReturn(FOLDER);
+    when(factory.supportsDownloadsFolder(config)).thenReturn(false);
+
+    assertThatThrownBy(() -> driver.createDriver())
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageStartingWith("File download mode FOLDER is not supported for browser safari");
+    assertThat(driver.getProxy()).isNull();
+    verify(factory, never()).createWebDriver(any(), any(), any());
+  }
+
+  @Test
+  void deletesDownloadsFolderOnCloseIfNothingWasDownloaded() throws IOException {
+    when(config.proxyEnabled()).thenReturn(false);
+    when(config.fileDownload()).thenReturn(FOLDER);
+    when(config.downloadsFolder()).thenReturn("build/downloads");
+    when(factory.supportsDownloadsFolder(config)).thenReturn(true);
+
+    driver.createDriver();
+    File emptyFolder = driver.browserDownloadsFolder();
+    Files.createDirectories(emptyFolder.toPath());
+    driver.close();
+
+    driver.createDriver();
+    File folderWithDownloads = driver.browserDownloadsFolder();
+    Files.createDirectories(folderWithDownloads.toPath());
+    File downloadedFile = new File(folderWithDownloads, "hello.txt");
+    Files.write(downloadedFile.toPath(), "hello".getBytes(UTF_8));
+    driver.close();
+
+    assertThat(emptyFolder).doesNotExist();
+    assertThat(downloadedFile).exists();
+  }
+
   @Test
   void checksIfBrowserIsStillAlive() {
     givenOpenedBrowser();
@@ -109,6 +169,25 @@ class LazyDriverTest implements WithAssertions {
     assertThat(driver.hasWebDriverStarted()).isFalse();
   }
 
+  @Test
+  void metadataIsRecreatedTogetherWithWebDriver() {
+    when(config.proxyEnabled()).thenReturn(false);
+    assertThat(driver.metadata()).isNull();
+    assertThat(driver.supportsJavascript()).isFalse();
+
+    givenOpenedBrowser();
+    BrowserMetadata metadata = driver.metadata();
+    assertThat(metadata.isFor(webdriver)).isTrue();
+    assertThat(driver.metadata()).isSameAs(metadata);
+    assertThat(metadata.browser()).isSameAs(driver.browser());
+
+    driver.close();
+    assertThat(driver.metadata()).isNull();
+
+    givenOpenedBrowser();
+    assertThat(driver.metadata()).isNotNull().isNotSameAs(metadata);
+  }
+
   private Proxy mockProxy(String httpProxy) {
     Proxy mockedProxy = mock(Proxy.class);
     when(mockedProxy.getHttpProxy()).thenReturn(httpProxy);
@@ -1,6 +1,7 @@
 package com.codeborne.selenide.drivercommands;
 
 import com.codeborne.selenide.SelenideConfig;
+import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.WebDriver;
 
@@ -8,7 +9,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
-class WebDriverWrapperTest {
+class WebDriverWrapperTest implements WithAssertions {
 
   @Test
   void close_closesTheBrowser() {
@@ -20,4 +21,16 @@ class WebDriverWrapperTest {
     verify(webDriver).quit();
     verifyNoMoreInteractions(webDriver);
   }
+
+  @Test
+  void browserAndMetadataAreCreatedOnce() {
+    WebDriver webDriver = mock(WebDriver.class);
+    WebDriverWrapper driver = new WebDriverWrapper(new SelenideConfig().browser("firefox"), webDriver, null);
+
+    assertThat(driver.browser().isFirefox()).isTrue();
+    assertThat(driver.browser()).isSameAs(driver.browser());
+    assertThat(driver.metadata()).isSameAs(driver.metadata());
+    assertThat(driver.metadata().isFor(webDriver)).isTrue();
+    assertThat(driver.supportsJavascript()).isFalse();
+  }
 }
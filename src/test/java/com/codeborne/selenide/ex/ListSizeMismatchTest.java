@@ -13,6 +13,11 @@ import java.util.List;
 import static com.codeborne.selenide.Mocks.mockCollection;
 import static com.codeborne.selenide.Mocks.mockElement;
 import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class ListSizeMismatchTest implements WithAssertions {
@@ -72,4 +77,19 @@ class ListSizeMismatchTest implements WithAssertions {
         "Timeout: 1 s.\n" +
         "Caused by: java.lang.Exception: Something happened");
   }
+
+  @Test
+  void describesElementsOnlyWhenErrorIsReported() {
+    WebElement element = mockElement("Niff");
+    ListSizeMismatch listSizeMismatch = new ListSizeMismatch(driver, "=", expectedSize, null, collection,
+      singletonList(element), exception, timeoutMs);
+    verifyNoInteractions(element);
+
+    listSizeMismatch.capture();
+    verify(element, atLeastOnce()).getTagName();
+    clearInvocations(element);
+
+    assertThat(listSizeMismatch).hasMessageContaining("Elements: [\n\t<div displayed:false>Niff</div>\n]");
+    verifyNoInteractions(element);
+  }
 }
@@ -1,9 +1,18 @@
 package com.codeborne.selenide.ex;
 
+import com.codeborne.selenide.Browser;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 class UIAssertionErrorTest implements WithAssertions {
   @Test
@@ -16,4 +25,29 @@ class UIAssertionErrorTest implements WithAssertions {
       "Timeout: 0 ms.\n" +
       "Caused by: java.lang.Throwable: Error message");
   }
+
+  @Test
+  void takesScreenshotOnlyWhenErrorIsReported() {
+    WebDriver webDriver = mock(WebDriver.class);
+    when(webDriver.getPageSource()).thenReturn("<html>failed</html>");
+    Driver driver = new DriverStub(new SelenideConfig(), new Browser("chrome", false), webDriver, null);
+
+    UIAssertionError error = (UIAssertionError) UIAssertionError.wrap(driver, new AssertionError("Oops"), 4000);
+    verifyNoInteractions(webDriver);
+
+    error.capture();
+    verify(webDriver, atLeastOnce()).getPageSource();
+    assertThat(error.getScreenshot()).endsWith(".html");
+  }
+
+  @Test
+  void canUseScreenshotOfAnotherError() {
+    Driver driver = new DriverStub();
+    UIAssertionError error = (UIAssertionError) UIAssertionError.wrap(driver, new AssertionError("Oops"), 4000);
+
+    error.shareScreenshot("shared.png");
+    error.shareScreenshot("another.png");
+
+    assertThat(error.getScreenshot()).isEqualTo("shared.png");
+  }
 }
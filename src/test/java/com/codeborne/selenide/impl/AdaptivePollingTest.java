@@ -0,0 +1,92 @@
+package com.codeborne.selenide.impl;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+class AdaptivePollingTest implements WithAssertions {
+  private final AdaptivePolling polling = new AdaptivePolling(new BackoffPolling() {
+    @Override
+    long jitter(long delay) {
+      return delay;
+    }
+  });
+
+  @Test
+  void usesBackoff_untilEnoughStatisticsIsCollected() {
+    polling.finished("#total text", 3, 900, true);
+    polling.finished("#total text", 3, 900, true);
+
+    assertThat(polling.nextDelay("#total text", 1, 0, 200)).isEqualTo(50);
+    assertThat(polling.nextDelay("#total text", 2, 50, 200)).isEqualTo(100);
+  }
+
+  @Test
+  void checksFrequently_beforeUsualTimeToSatisfyCondition() {
+    for (int i = 0; i < 10; i++) {
+      polling.finished("#total text", 2, 300, true);
+    }
+
+    assertThat(polling.nextDelay("#total text", 1, 0, 200)).isEqualTo(128);
+    assertThat(polling.nextDelay("#total text", 2, 128, 200)).isEqualTo(128);
+    assertThat(polling.nextDelay("#total text", 3, 256, 200)).isEqualTo(128);
+  }
+
+  @Test
+  void backsOff_afterUsualTimeToSatisfyCondition() {
+    for (int i = 0; i < 10; i++) {
+      polling.finished("#total text", 2, 300, true);
+    }
+
+    assertThat(polling.nextDelay("#total text", 4, 600, 200)).isEqualTo(200);
+    assertThat(polling.nextDelay("#total text", 5, 1400, 200)).isEqualTo(444);
+    assertThat(polling.nextDelay("#total text", 6, 3000, 200)).isEqualTo(800);
+  }
+
+  @Test
+  void checksVeryFrequently_conditionsWhichAreUsuallyMetQuickly() {
+    for (int i = 0; i < 10; i++) {
+      polling.finished("#spinner hidden", 1, 30, true);
+    }
+
+    assertThat(polling.nextDelay("#spinner hidden", 1, 0, 200)).isEqualTo(25);
+  }
+
+  @Test
+  void ignoresFailedWaits() {
+    for (int i = 0; i < 10; i++) {
+      polling.finished("#total text", 20, 4000, false);
+    }
+
+    assertThat(polling.nextDelay("#total text", 1, 0, 200)).isEqualTo(50);
+  }
+
+  @Test
+  void collectsStatisticsPerSubject() {
+    for (int i = 0; i < 10; i++) {
+      polling.finished("#total text", 2, 300, true);
+    }
+
+    assertThat(polling.nextDelay("#name text", 1, 0, 200)).isEqualTo(50);
+  }
+
+  @Test
+  void histogramReturnsUpperBoundOfPercentileBucket() {
+    AdaptivePolling.Histogram histogram = new AdaptivePolling.Histogram();
+    for (int i = 0; i < 9; i++) histogram.add(100);
+    histogram.add(5000);
+
+    assertThat(histogram.count()).isEqualTo(10);
+    assertThat(histogram.percentile(0.5)).isEqualTo(128);
+    assertThat(histogram.percentile(0.9)).isEqualTo(128);
+    assertThat(histogram.percentile(1.0)).isEqualTo(8192);
+  }
+
+  @Test
+  void histogramForgetsOldDurations() {
+    AdaptivePolling.Histogram histogram = new AdaptivePolling.Histogram();
+    for (int i = 0; i < 63; i++) histogram.add(3000);
+    histogram.add(100);
+
+    assertThat(histogram.count()).isEqualTo(31);
+  }
+}
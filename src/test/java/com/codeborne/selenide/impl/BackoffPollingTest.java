@@ -0,0 +1,38 @@
+package com.codeborne.selenide.impl;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+class BackoffPollingTest implements WithAssertions {
+  private final BackoffPolling withoutJitter = new BackoffPolling() {
+    @Override
+    long jitter(long delay) {
+      return delay;
+    }
+  };
+
+  @Test
+  void doublesDelayUpToFourPollingIntervals() {
+    assertThat(withoutJitter.nextDelay("#login visible", 1, 0, 200)).isEqualTo(50);
+    assertThat(withoutJitter.nextDelay("#login visible", 2, 50, 200)).isEqualTo(100);
+    assertThat(withoutJitter.nextDelay("#login visible", 3, 150, 200)).isEqualTo(200);
+    assertThat(withoutJitter.nextDelay("#login visible", 4, 350, 200)).isEqualTo(400);
+    assertThat(withoutJitter.nextDelay("#login visible", 5, 750, 200)).isEqualTo(800);
+    assertThat(withoutJitter.nextDelay("#login visible", 6, 1550, 200)).isEqualTo(800);
+    assertThat(withoutJitter.nextDelay("#login visible", 1000, 60000, 200)).isEqualTo(800);
+  }
+
+  @Test
+  void shortensDelayByUpToHalf() {
+    BackoffPolling polling = new BackoffPolling();
+    for (int i = 0; i < 100; i++) {
+      assertThat(polling.nextDelay("#login visible", 3, 150, 200)).isBetween(100L, 200L);
+    }
+  }
+
+  @Test
+  void neverReturnsZeroDelay() {
+    assertThat(withoutJitter.nextDelay("#login visible", 1, 0, 1)).isEqualTo(1);
+    assertThat(new BackoffPolling().nextDelay("#login visible", 1, 0, 0)).isEqualTo(1);
+  }
+}
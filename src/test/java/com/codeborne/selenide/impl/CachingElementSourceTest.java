@@ -0,0 +1,113 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.ex.ElementNotFound;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import static com.codeborne.selenide.Condition.exist;
+import static com.codeborne.selenide.Condition.visible;
+import static java.util.Arrays.asList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingElementSourceTest implements WithAssertions {
+  private final WebDriver webDriver = mock(WebDriver.class);
+  private final DriverStub driver = new DriverStub(new SelenideConfig(), new Browser("chrome", false), webDriver, null);
+  private final WebElement element = mock(WebElement.class);
+
+  @Test
+  void findsElementOnlyOnce() {
+    WebElementSource source = mock(WebElementSource.class);
+    when(source.getWebElement()).thenReturn(element);
+    CachingElementSource cache = new CachingElementSource(source);
+
+    assertThat(cache.getWebElement()).isSameAs(element);
+    assertThat(cache.getWebElement()).isSameAs(element);
+    assertThat(cache.findIfPresent()).isSameAs(element);
+
+    verify(source).getWebElement();
+    verify(source, never()).findIfPresent();
+  }
+
+  @Test
+  void remembersThatElementIsNotFound() {
+    WebElementSource source = mock(WebElementSource.class);
+    when(source.getWebElement()).thenThrow(new NoSuchElementException("#missing"));
+    CachingElementSource cache = new CachingElementSource(source);
+
+    assertThatThrownBy(cache::getWebElement).isInstanceOf(NoSuchElementException.class);
+    assertThatThrownBy(cache::getWebElement).isInstanceOf(NoSuchElementException.class);
+    assertThat(cache.findIfPresent()).isNull();
+
+    verify(source).getWebElement();
+    verify(source, never()).findIfPresent();
+  }
+
+  @Test
+  void searchesAgainIfElementIsPresentButFailedForAnotherReason() {
+    WebElementSource source = mock(WebElementSource.class);
+    when(source.getWebElement()).thenThrow(new StaleElementReferenceException("stale"));
+    when(source.findIfPresent()).thenReturn(element);
+    CachingElementSource cache = new CachingElementSource(source);
+
+    assertThatThrownBy(cache::getWebElement).isInstanceOf(StaleElementReferenceException.class);
+    assertThat(cache.findIfPresent()).isSameAs(element);
+  }
+
+  @Test
+  void findsParentOnlyOnce() {
+    SelenideElement parent = mock(SelenideElement.class);
+    WebElement parentElement = mock(WebElement.class);
+    when(parent.toWebElement()).thenReturn(parentElement);
+    when(parentElement.findElement(By.name("gender"))).thenReturn(element);
+    when(parentElement.findElements(By.name("gender"))).thenReturn(asList(element, element));
+    CachingElementSource cache = new CachingElementSource(new ElementFinder(driver, parent, By.name("gender"), 0));
+
+    assertThat(cache.getWebElement()).isSameAs(element);
+    assertThat(cache.findAll()).hasSize(2);
+    assertThat(cache.findAll()).hasSize(2);
+
+    verify(parent).toWebElement();
+    verify(parentElement).findElement(By.name("gender"));
+    verify(parentElement).findElements(By.name("gender"));
+  }
+
+  @Test
+  void doesNotCheckParentAgainIfItHasBeenFound() {
+    SelenideElement parent = mock(SelenideElement.class);
+    WebElement parentElement = mock(WebElement.class);
+    when(parent.toWebElement()).thenReturn(parentElement);
+    when(parentElement.findElement(By.name("gender"))).thenThrow(new NoSuchElementException("gender"));
+    CachingElementSource cache = new CachingElementSource(new ElementFinder(driver, parent, By.name("gender"), 0));
+
+    assertThatThrownBy(cache::getWebElement).isInstanceOf(NoSuchElementException.class);
+    ElementNotFound error = cache.createElementNotFoundError(visible, new NoSuchElementException("gender"));
+
+    assertThat(error).hasMessageStartingWith("Element not found {By.name: gender}");
+    verify(parent, never()).should(exist);
+  }
+
+  @Test
+  void checksParentIfItHasNotBeenFound() {
+    SelenideElement parent = mock(SelenideElement.class);
+    when(parent.toWebElement()).thenThrow(new NoSuchElementException("parent"));
+    CachingElementSource cache = new CachingElementSource(new ElementFinder(driver, parent, By.name("gender"), 0));
+
+    assertThatThrownBy(cache::getWebElement).isInstanceOf(NoSuchElementException.class);
+    cache.createElementNotFoundError(visible, new NoSuchElementException("parent"));
+
+    verify(parent, times(1)).should(exist);
+  }
+}
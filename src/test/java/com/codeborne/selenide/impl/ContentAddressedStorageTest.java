@@ -0,0 +1,101 @@
+package com.codeborne.selenide.impl;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+class ContentAddressedStorageTest implements WithAssertions {
+  private File folder;
+  private final ContentAddressedStorage storage = new ContentAddressedStorage();
+
+  @BeforeEach
+  void setUp() throws IOException {
+    folder = Files.createTempDirectory("content-addressed-storage").toFile();
+  }
+
+  @Test
+  void storesIdenticalContentOnlyOnce() throws IOException {
+    File first = storage.save("<html>login</html>".getBytes(UTF_8), new File(folder, "test1/12356789.0.html"));
+    File second = storage.save("<html>login</html>".getBytes(UTF_8), new File(folder, "test2/12356789.1.html"));
+
+    assertThat(first).hasContent("<html>login</html>");
+    assertThat(second).hasContent("<html>login</html>");
+    assertThat(Files.isSameFile(first.toPath(), second.toPath())).isTrue();
+  }
+
+  @Test
+  void doesNotCreateAnyFilesExceptRequestedOnes() throws IOException {
+    storage.save("<html>login</html>".getBytes(UTF_8), new File(folder, "12356789.0.html"));
+    storage.save("<html>login</html>".getBytes(UTF_8), new File(folder, "12356789.1.html"));
+
+    assertThat(folder.list()).containsExactlyInAnyOrder("12356789.0.html", "12356789.1.html");
+  }
+
+  @Test
+  void storesDifferentContentInDifferentFiles() throws IOException {
+    File login = storage.save("<html>login</html>".getBytes(UTF_8), new File(folder, "12356789.0.html"));
+    File error = storage.save("<html>error</html>".getBytes(UTF_8), new File(folder, "12356789.1.html"));
+    File png = storage.save("<html>login</html>".getBytes(UTF_8), new File(folder, "12356789.2.png"));
+
+    assertThat(Files.isSameFile(login.toPath(), error.toPath())).isFalse();
+    assertThat(Files.isSameFile(login.toPath(), png.toPath())).isFalse();
+  }
+
+  @Test
+  void copiesSourceFile() throws IOException {
+    File source = new File(folder, "source.png");
+    Files.write(source.toPath(), "screenshot".getBytes(UTF_8));
+
+    File first = storage.save(source, new File(folder, "12356789.0.png"));
+    File second = storage.save(source, new File(folder, "12356789.1.png"));
+
+    assertThat(first).hasContent("screenshot");
+    assertThat(Files.isSameFile(first.toPath(), second.toPath())).isTrue();
+    assertThat(Files.isSameFile(source.toPath(), first.toPath())).isFalse();
+  }
+
+  @Test
+  void overwritesExistingFile() throws IOException {
+    File target = new File(folder, "12356789.0.html");
+    File other = storage.save("old".getBytes(UTF_8), new File(folder, "12356789.1.html"));
+    storage.save("old".getBytes(UTF_8), target);
+    storage.save("new".getBytes(UTF_8), target);
+
+    assertThat(target).hasContent("new");
+    assertThat(other).hasContent("old");
+  }
+
+  @Test
+  void doesNotLinkToFileWhichHasBeenOverwritten() throws IOException {
+    File first = storage.save("old".getBytes(UTF_8), new File(folder, "12356789.0.html"));
+    storage.save("new".getBytes(UTF_8), first);
+    File second = storage.save("old".getBytes(UTF_8), new File(folder, "12356789.1.html"));
+
+    assertThat(first).hasContent("new");
+    assertThat(second).hasContent("old");
+  }
+
+  @Test
+  void remembersOnlyLastFiles() throws IOException {
+    for (int i = 0; i < ContentAddressedStorage.MAX_FILES + 10; i++) {
+      storage.save(new byte[]{(byte) i}, new File(folder, i + ".png"));
+    }
+
+    assertThat(storage.size()).isEqualTo(ContentAddressedStorage.MAX_FILES);
+  }
+
+  @Test
+  void hashIsHexadecimalSha256() throws IOException {
+    assertThat(ContentAddressedStorage.hash("abc".getBytes(UTF_8)))
+      .isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+    assertThat(ContentAddressedStorage.hash(new ByteArrayInputStream("abc".getBytes(UTF_8))))
+      .isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+  }
+}
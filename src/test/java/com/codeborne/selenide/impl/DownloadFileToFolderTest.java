@@ -0,0 +1,133 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DownloadFileToFolderTest implements WithAssertions {
+  private final DownloadFileToFolder command = new DownloadFileToFolder();
+  private File folder;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    folder = Files.createTempDirectory("browser-downloads").toFile();
+  }
+
+  @Test
+  void waitsUntilBrowserRenamesPartialFile() throws IOException {
+    File file = command.clickAndWaitForFile(folder, () -> inBackground(() -> {
+      File partial = new File(folder, "report.pdf.crdownload");
+      write(partial, "report");
+      sleep(300);
+      assertThat(partial.renameTo(new File(folder, "report.pdf"))).isTrue();
+    }), "<a>report</a>", 4000, 200);
+
+    assertThat(file.getName()).isEqualTo("report.pdf");
+    assertThat(new String(Files.readAllBytes(file.toPath()), UTF_8)).isEqualTo("report");
+  }
+
+  @Test
+  void waitsUntilFirefoxFinishesPartialFile() throws IOException {
+    File file = command.clickAndWaitForFile(folder, () -> inBackground(() -> {
+      write(new File(folder, "report.csv"), "");
+      sleep(50);
+      File partial = new File(folder, "report.csv.part");
+      write(partial, "a,b");
+      sleep(300);
+      assertThat(partial.renameTo(new File(folder, "report.csv"))).isTrue();
+    }), "<a>report</a>", 4000, 200);
+
+    assertThat(file.getName()).isEqualTo("report.csv");
+    assertThat(new String(Files.readAllBytes(file.toPath()), UTF_8)).isEqualTo("a,b");
+  }
+
+  @Test
+  void acceptsEmptyFileIfItStaysEmpty() throws IOException {
+    File file = command.clickAndWaitForFile(folder, () -> write(new File(folder, "empty.txt"), ""), "<a>empty</a>", 4000, 200);
+
+    assertThat(file.getName()).isEqualTo("empty.txt");
+  }
+
+  @Test
+  void ignoresFilesDownloadedBefore() throws IOException {
+    write(new File(folder, "old.txt"), "old");
+
+    File file = command.clickAndWaitForFile(folder, () -> write(new File(folder, "new.txt"), "new"), "<a>new</a>", 4000, 200);
+
+    assertThat(file.getName()).isEqualTo("new.txt");
+  }
+
+  @Test
+  void failsIfNoFileIsDownloadedInTimeout() {
+    write(new File(folder, "old.txt"), "old");
+
+    assertThatThrownBy(() -> command.clickAndWaitForFile(folder, () -> { }, "<a>nothing</a>", 300, 100))
+      .isInstanceOf(FileNotFoundException.class)
+      .hasMessageStartingWith("Failed to download file <a>nothing</a> in 300 ms.");
+  }
+
+  @Test
+  void failsIfDownloadIsNotFinishedInTimeout() {
+    assertThatThrownBy(() -> command.clickAndWaitForFile(folder,
+      () -> write(new File(folder, "big.zip.crdownload"), "..."), "<a>big</a>", 300, 100))
+      .isInstanceOf(FileNotFoundException.class);
+  }
+
+  @Test
+  void recognizesPartialFiles() {
+    assertThat(DownloadFileToFolder.isPartial("report.pdf.crdownload")).isTrue();
+    assertThat(DownloadFileToFolder.isPartial("report.pdf.part")).isTrue();
+    assertThat(DownloadFileToFolder.isPartial(".com.google.Chrome.ae8Ipr")).isTrue();
+    assertThat(DownloadFileToFolder.isPartial("report.pdf")).isFalse();
+  }
+
+  @Test
+  void failsIfBrowserHasNoDownloadsFolder() {
+    WebElementSource link = mock(WebElementSource.class);
+    WebElement element = mock(WebElement.class);
+    when(link.driver()).thenReturn(new DriverStub(new SelenideConfig(), new Browser("chrome", false), mock(WebDriver.class), null));
+
+    assertThatThrownBy(() -> command.download(link, element, 1000))
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessageStartingWith("Cannot download file: browser has not been configured to download files to a folder.");
+    verify(element, never()).click();
+  }
+
+  private void inBackground(Runnable task) {
+    new Thread(task).start();
+  }
+
+  private void write(File file, String content) {
+    try {
+      Files.write(file.toPath(), content.getBytes(UTF_8));
+    }
+    catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private void sleep(long ms) {
+    try {
+      Thread.sleep(ms);
+    }
+    catch (InterruptedException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
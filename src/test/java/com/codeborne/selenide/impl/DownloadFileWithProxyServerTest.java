@@ -44,7 +44,7 @@ class DownloadFileWithProxyServerTest implements WithAssertions {
 
   @BeforeEach
   void setUp() {
-    doNothing().when(waiter).wait(any(), any(), anyLong(), anyLong());
+    doNothing().when(waiter).wait(any(), any(), anyLong(), anyLong(), any());
     when(webdriver.switchTo()).thenReturn(mock(TargetLocator.class));
 
     when(proxy.responseFilter("download")).thenReturn(filter);
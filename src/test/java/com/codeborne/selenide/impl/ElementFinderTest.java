@@ -1,13 +1,23 @@
 package com.codeborne.selenide.impl;
 
+import com.codeborne.selenide.Browser;
 import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
 import com.codeborne.selenide.SelenideElement;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 class ElementFinderTest implements WithAssertions {
   private Driver driver = mock(Driver.class);
@@ -43,4 +53,23 @@ class ElementFinderTest implements WithAssertions {
     assertThat(new ElementFinder(driver, parent, By.xpath("//*[@id='app']"), 3))
       .hasToString("{By.xpath: //*[@id='app'][3]}");
   }
+
+  @Test
+  void findsElementWhichMayBeAbsentByJavaScript() {
+    WebDriver webDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+    Driver driver = new DriverStub(new SelenideConfig(), new Browser("chrome", false), webDriver, null);
+
+    assertThat(new ElementFinder(driver, null, By.id("spinner"), 0).findIfPresent()).isNull();
+    verify(webDriver, never()).findElement(any());
+    verify(webDriver, never()).findElements(any());
+  }
+
+  @Test
+  void findsElementWhichMayBeAbsentByWebdriver_ifSelectorIsNotSupportedByJavaScript() {
+    WebDriver webDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+    Driver driver = new DriverStub(new SelenideConfig(), new Browser("chrome", false), webDriver, null);
+    when(webDriver.findElement(By.linkText("Log in"))).thenThrow(new NoSuchElementException("no such element"));
+
+    assertThat(new ElementFinder(driver, null, By.linkText("Log in"), 0).findIfPresent()).isNull();
+  }
 }
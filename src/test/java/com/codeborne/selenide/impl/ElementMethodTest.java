@@ -0,0 +1,108 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Command;
+import com.codeborne.selenide.Condition;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.commands.Commands;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import static java.util.Collections.singletonList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ElementMethodTest implements WithAssertions {
+  private final WebElement element = mock(WebElement.class);
+
+  @AfterEach
+  void resetCommands() {
+    Commands.getInstance().resetDefaults();
+  }
+
+  @Test
+  void isComputedOncePerMethod() throws NoSuchMethodException {
+    Method method = SelenideElement.class.getMethod("click");
+    assertThat(ElementMethod.of(method)).isSameAs(ElementMethod.of(method));
+  }
+
+  @Test
+  void describesSelenideCommands() throws NoSuchMethodException {
+    ElementMethod shouldBe = ElementMethod.of(SelenideElement.class.getMethod("shouldBe", Condition[].class));
+    assertThat(shouldBe.name()).isEqualTo("shouldBe");
+    assertThat(shouldBe.isSelenideCommand()).isTrue();
+    assertThat(shouldBe.isSoftAssertion()).isTrue();
+    assertThat(shouldBe.isSkipLogging()).isFalse();
+
+    ElementMethod toString = ElementMethod.of(Object.class.getMethod("toString"));
+    assertThat(toString.isSkipLogging()).isTrue();
+    assertThat(toString.isSelenideCommand()).isFalse();
+
+    ElementMethod getTagName = ElementMethod.of(SelenideElement.class.getMethod("getTagName"));
+    assertThat(getTagName.isSelenideCommand()).isFalse();
+    assertThat(getTagName.isSoftAssertion()).isFalse();
+  }
+
+  @Test
+  void takesTimeoutFromArgumentsOfWaitCommands() throws NoSuchMethodException {
+    ElementMethod waitUntil = ElementMethod.of(SelenideElement.class.getMethod("waitUntil", Condition.class, long.class));
+    assertThat(waitUntil.timeoutMs(new Object[]{Condition.visible, 8000L}, 4000)).isEqualTo(8000);
+    assertThat(waitUntil.pollingIntervalMs(new Object[]{Condition.visible, 8000L}, 200)).isEqualTo(200);
+
+    ElementMethod waitWhile = ElementMethod.of(SelenideElement.class.getMethod("waitWhile", Condition.class, long.class, long.class));
+    assertThat(waitWhile.timeoutMs(new Object[]{Condition.visible, 8000L, 50L}, 4000)).isEqualTo(8000);
+    assertThat(waitWhile.pollingIntervalMs(new Object[]{Condition.visible, 8000L, 50L}, 200)).isEqualTo(50);
+
+    ElementMethod shouldBe = ElementMethod.of(SelenideElement.class.getMethod("shouldBe", Condition[].class));
+    assertThat(shouldBe.timeoutMs(new Object[]{new Condition[]{Condition.visible}}, 4000)).isEqualTo(4000);
+    assertThat(shouldBe.pollingIntervalMs(new Object[]{new Condition[]{Condition.visible}}, 200)).isEqualTo(200);
+  }
+
+  @Test
+  void callsWebElementMethodsDirectly() throws Exception {
+    when(element.getAttribute("href")).thenReturn("/login");
+    when(element.findElements(By.tagName("a"))).thenReturn(singletonList(element));
+
+    assertThat(ElementMethod.of(WebElement.class.getMethod("getAttribute", String.class))
+      .invoke(element, new Object[]{"href"})).isEqualTo("/login");
+    assertThat(ElementMethod.of(WebElement.class.getMethod("findElements", By.class))
+      .invoke(element, new Object[]{By.tagName("a")})).isEqualTo(singletonList(element));
+
+    ElementMethod.of(WebElement.class.getMethod("sendKeys", CharSequence[].class))
+      .invoke(element, new Object[]{new CharSequence[]{"john"}});
+    verify(element).sendKeys("john");
+  }
+
+  @Test
+  void wrapsErrorsOfWebElementMethodsLikeReflection() throws NoSuchMethodException {
+    StaleElementReferenceException stale = new StaleElementReferenceException("stale");
+    when(element.getTagName()).thenThrow(stale);
+
+    ElementMethod getTagName = ElementMethod.of(WebElement.class.getMethod("getTagName"));
+    assertThatThrownBy(() -> getTagName.invoke(element, null))
+      .isInstanceOf(InvocationTargetException.class)
+      .hasCause(stale);
+  }
+
+  @Test
+  void usesCommandAddedAfterMethodHasBeenCalled() throws NoSuchMethodException, IOException {
+    SelenideElement proxy = mock(SelenideElement.class);
+    WebElementSource source = mock(WebElementSource.class);
+    ElementMethod innerText = ElementMethod.of(SelenideElement.class.getMethod("innerText"));
+    Command<String> myInnerText = (p, locator, args) -> "my inner text";
+
+    Commands.getInstance().add("innerText", myInnerText);
+    assertThat(innerText.execute(proxy, source, null)).isEqualTo("my inner text");
+
+    Commands.getInstance().add("innerText", (p, locator, args) -> "another inner text");
+    assertThat(innerText.execute(proxy, source, null)).isEqualTo("another inner text");
+  }
+}
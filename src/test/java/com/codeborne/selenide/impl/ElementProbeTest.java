@@ -0,0 +1,108 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.Selectors.ByText;
+import com.codeborne.selenide.Selectors.WithText;
+import com.google.common.collect.ImmutableMap;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import static com.codeborne.selenide.SelectorMode.Sizzle;
+import static com.codeborne.selenide.Selectors.byText;
+import static com.codeborne.selenide.Selectors.withText;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+class ElementProbeTest implements WithAssertions {
+  private final SelenideConfig config = new SelenideConfig();
+  private final WebDriver webDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+  private final Driver driver = new DriverStub(config, new Browser("chrome", false), webDriver, null);
+  private final ElementProbe probe = new ElementProbe();
+
+  @Test
+  void convertsSelectorsToCssOrXpath() {
+    assertThat(probe.query(By.cssSelector("#login .button"))).containsExactly("css", "#login .button");
+    assertThat(probe.query(By.xpath("//div[@id='login']"))).containsExactly("xpath", "//div[@id='login']");
+    assertThat(probe.query(By.id("login"))).containsExactly("css", "[id=\"login\"]");
+    assertThat(probe.query(By.name("user\"name"))).containsExactly("css", "[name=\"user\\\"name\"]");
+    assertThat(probe.query(By.className("error"))).containsExactly("css", "[class~=\"error\"]");
+    assertThat(probe.query(By.tagName("h1"))).containsExactly("css", "h1");
+    assertThat(probe.query(byText("Log in"))).containsExactly("xpath", ((ByText) byText("Log in")).getXPath());
+    assertThat(probe.query(withText("Log"))).containsExactly("xpath", ((WithText) withText("Log")).getXPath());
+  }
+
+  @Test
+  void doesNotSupportOtherSelectors() {
+    assertThat(probe.query(By.linkText("Log in"))).isNull();
+    assertThat(probe.query(By.className("error message"))).isNull();
+    assertThat(probe.supports(driver, By.partialLinkText("Log"))).isFalse();
+  }
+
+  @Test
+  void supportsOnlyJavascriptEnabledBrowsersInCssMode() {
+    assertThat(probe.supports(driver, By.id("login"))).isTrue();
+
+    Driver htmlunit = new DriverStub(config, new Browser("htmlunit", false), mock(WebDriver.class), null);
+    assertThat(probe.supports(htmlunit, By.id("login"))).isFalse();
+
+    config.selectorMode(Sizzle);
+    assertThat(probe.supports(driver, By.id("login"))).isFalse();
+  }
+
+  @Test
+  void findsElementByJavaScript() {
+    WebElement element = mock(WebElement.class);
+    when(((JavascriptExecutor) webDriver).executeScript(anyString(), eq("css"), eq("#login"), isNull(), eq(0))).thenReturn(element);
+
+    assertThat(probe.find(driver, webDriver, By.cssSelector("#login"), 0)).isSameAs(element);
+    verify((JavascriptExecutor) webDriver).executeScript(anyString(), eq("css"), eq("#login"), isNull(), eq(0));
+    verifyNoMoreInteractions(webDriver);
+  }
+
+  @Test
+  void searchesInsideParentElement() {
+    WebElement parent = mock(WebElement.class);
+    WebElement element = mock(WebElement.class);
+    when(((JavascriptExecutor) webDriver).executeScript(anyString(), eq("xpath"), eq(".//span"), eq(parent), eq(2)))
+      .thenReturn(element);
+
+    assertThat(probe.find(driver, parent, By.xpath(".//span"), 2)).isSameAs(element);
+  }
+
+  @Test
+  void returnsNull_ifElementIsNotFound() {
+    assertThat(probe.find(driver, webDriver, By.id("missing"), 0)).isNull();
+  }
+
+  @Test
+  void reportsInvalidSelector() {
+    when(((JavascriptExecutor) webDriver).executeScript(anyString(), any(), any(), any(), any()))
+      .thenReturn(ImmutableMap.of("invalidSelector", "'#log[in' is not a valid selector"));
+
+    assertThatThrownBy(() -> probe.find(driver, webDriver, By.cssSelector("#log[in"), 0))
+      .isInstanceOf(InvalidSelectorException.class)
+      .hasMessageStartingWith("Invalid selector By.cssSelector: #log[in: '#log[in' is not a valid selector");
+  }
+
+  @Test
+  void xpathInsideParentElementCannotStartFromRoot() {
+    assertThatThrownBy(() -> probe.find(driver, mock(WebElement.class), By.xpath("/html/body"), 0))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("XPath starting from / searches from root");
+  }
+}
@@ -0,0 +1,107 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+class ElementSnapshotTest implements WithAssertions {
+  private final WebDriver webDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+  private final Driver driver = new DriverStub(new SelenideConfig(), new Browser("chrome", false), webDriver, null);
+  private final WebElement element = mock(WebElement.class);
+
+  @Test
+  void readsStateOfElementBySingleScript() {
+    when(((JavascriptExecutor) webDriver).executeScript(contains("isDisplayed"), any())).thenReturn(state());
+
+    WebElement snapshot = ElementSnapshot.of(driver, element);
+
+    assertThat(snapshot.getTagName()).isEqualTo("input");
+    assertThat(snapshot.isDisplayed()).isTrue();
+    assertThat(snapshot.isEnabled()).isFalse();
+    assertThat(snapshot.isSelected()).isTrue();
+    assertThat(snapshot.getAttribute("class")).isEqualTo("checkbox big");
+    assertThat(snapshot.getAttribute("value")).isEqualTo("on");
+    verify((JavascriptExecutor) webDriver).executeScript(anyString(), any());
+    verifyNoMoreInteractions(element);
+  }
+
+  @Test
+  void readsOtherAttributesFromElement() {
+    when(((JavascriptExecutor) webDriver).executeScript(anyString(), any())).thenReturn(state());
+    when(element.getAttribute("name")).thenReturn("remember");
+
+    assertThat(ElementSnapshot.of(driver, element).getAttribute("name")).isEqualTo("remember");
+  }
+
+  @Test
+  void readsTextFromElementOnlyOnce() {
+    when(((JavascriptExecutor) webDriver).executeScript(anyString(), any())).thenReturn(state());
+    when(element.getText()).thenReturn("Remember me");
+
+    WebElement snapshot = ElementSnapshot.of(driver, element);
+
+    assertThat(snapshot.getText()).isEqualTo("Remember me");
+    assertThat(snapshot.getText()).isEqualTo("Remember me");
+    verify(element).getText();
+  }
+
+  @Test
+  void returnsElementItself_ifFailedToReadItsState() {
+    when(((JavascriptExecutor) webDriver).executeScript(anyString(), any()))
+      .thenThrow(new StaleElementReferenceException("element is not attached to the page document"));
+
+    assertThat(ElementSnapshot.of(driver, element)).isSameAs(element);
+  }
+
+  @Test
+  void returnsElementItself_ifBrowserDoesNotSupportJavaScript() {
+    Driver driver = new DriverStub(new SelenideConfig(), new Browser("htmlunit", false), mock(WebDriver.class), null);
+
+    assertThat(ElementSnapshot.of(driver, element)).isSameAs(element);
+  }
+
+  @Test
+  void isEqualToWrappedElement() {
+    when(((JavascriptExecutor) webDriver).executeScript(anyString(), any())).thenReturn(state());
+
+    WebElement snapshot = ElementSnapshot.of(driver, element);
+
+    assertThat(snapshot).isInstanceOf(ElementSnapshot.class);
+    assertThat(snapshot).isEqualTo(element);
+    assertThat(snapshot).isEqualTo(ElementSnapshot.of(driver, element));
+    assertThat(((ElementSnapshot) snapshot).getWrappedElement()).isSameAs(element);
+  }
+
+  private Map<String, Object> state() {
+    Map<String, Object> attributes = new HashMap<>();
+    attributes.put("class", "checkbox big");
+    attributes.put("value", "on");
+
+    Map<String, Object> state = new HashMap<>();
+    state.put("tagName", "input");
+    state.put("displayed", true);
+    state.put("enabled", false);
+    state.put("selected", true);
+    state.put("attributes", attributes);
+    return state;
+  }
+}
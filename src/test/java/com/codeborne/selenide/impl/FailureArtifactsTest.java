@@ -0,0 +1,94 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.UnhandledAlertException;
+import org.openqa.selenium.WebDriver;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+class FailureArtifactsTest implements WithAssertions {
+  private final ScreenShotLaboratory screenshots = mock(ScreenShotLaboratory.class);
+  private final WebDriver webDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+  private final Driver driver = new DriverStub(new SelenideConfig(), new Browser("chrome", false), webDriver, null);
+  private final FailureArtifacts artifacts = new FailureArtifacts(screenshots);
+
+  @BeforeEach
+  void setUp() {
+    when(screenshots.formatScreenShotPath(driver)).thenReturn("1.png", "2.png", "3.png");
+    when(((JavascriptExecutor) webDriver).executeScript(anyString())).thenReturn("http://app/ 17 -1234");
+  }
+
+  @Test
+  void reusesScreenshotOfTheSamePageDuringTheSameStep() {
+    artifacts.started();
+
+    assertThat(artifacts.takeScreenshot(driver)).isEqualTo("1.png");
+    assertThat(artifacts.takeScreenshot(driver)).isEqualTo("1.png");
+    verify(screenshots).formatScreenShotPath(driver);
+    verify(webDriver, never()).getPageSource();
+  }
+
+  @Test
+  void takesNewScreenshotIfPageHasChanged() {
+    artifacts.started();
+    assertThat(artifacts.takeScreenshot(driver)).isEqualTo("1.png");
+
+    when(((JavascriptExecutor) webDriver).executeScript(anyString())).thenReturn("http://app/ 25 5678");
+    assertThat(artifacts.takeScreenshot(driver)).isEqualTo("2.png");
+  }
+
+  @Test
+  void takesNewScreenshotInNextStep() {
+    artifacts.started();
+    assertThat(artifacts.takeScreenshot(driver)).isEqualTo("1.png");
+    artifacts.finished();
+
+    artifacts.started();
+    assertThat(artifacts.takeScreenshot(driver)).isEqualTo("2.png");
+  }
+
+  @Test
+  void nestedStepsBelongToTheOutermostStep() {
+    artifacts.started();
+    assertThat(artifacts.isOutermostStep()).isTrue();
+    artifacts.started();
+    assertThat(artifacts.isOutermostStep()).isFalse();
+    assertThat(artifacts.takeScreenshot(driver)).isEqualTo("1.png");
+    artifacts.finished();
+
+    assertThat(artifacts.isOutermostStep()).isTrue();
+    assertThat(artifacts.takeScreenshot(driver)).isEqualTo("1.png");
+  }
+
+  @Test
+  void doesNotReuseScreenshotIfPageCannotBeRead() {
+    when(((JavascriptExecutor) webDriver).executeScript(anyString())).thenThrow(new UnhandledAlertException("Are you sure?"));
+    artifacts.started();
+
+    assertThat(artifacts.takeScreenshot(driver)).isEqualTo("1.png");
+    assertThat(artifacts.takeScreenshot(driver)).isEqualTo("2.png");
+    verify(screenshots, times(2)).formatScreenShotPath(driver);
+  }
+
+  @Test
+  void doesNotReadPageIfScreenshotsAreDisabled() {
+    Driver driver = new DriverStub(new SelenideConfig().screenshots(false), new Browser("chrome", false), webDriver, null);
+    when(screenshots.formatScreenShotPath(driver)).thenReturn("");
+
+    assertThat(artifacts.takeScreenshot(driver)).isEmpty();
+    verify((JavascriptExecutor) webDriver, never()).executeScript(anyString());
+  }
+}
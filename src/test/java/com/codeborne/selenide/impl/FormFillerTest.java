@@ -0,0 +1,151 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.ex.FieldsNotFilled;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class FormFillerTest implements WithAssertions {
+  private final JSWebDriver webDriver = mock(JSWebDriver.class);
+  private final DriverStub driver = new DriverStub(new SelenideConfig(), new Browser("chrome", false), webDriver, null);
+  private final Map<String, Object> fields = new LinkedHashMap<>();
+
+  @Test
+  void sendsAllFieldsToBrowserInOneCall() {
+    fields.put("#name", "john");
+    fields.put("#roles", new String[]{"admin", "user"});
+    fields.put("#agree", true);
+    WebElement form = mock(WebElement.class);
+    when(webDriver.executeScript(anyString(), eq(form), any(), any())).thenReturn(result(emptyMap()));
+
+    new FormFiller(driver, fields).fillOnce(form);
+
+    verify(webDriver).executeScript(anyString(), eq(form), eq(asList(
+      asList("#name", "john"),
+      asList("#roles", asList("admin", "user")),
+      asList("#agree", true)
+    )), eq(true));
+  }
+
+  @Test
+  void reportsFailedFields_andRetriesOnlyThem() {
+    fields.put("#name", "john");
+    fields.put("#country", "ee");
+    fields.put("#age", "18");
+    when(webDriver.executeScript(anyString(), isNull(), any(), any()))
+      .thenReturn(result(singletonMap("#country", "Element not found {#country/option[value:ee]}")))
+      .thenReturn(result(emptyMap()));
+    FormFiller formFiller = new FormFiller(driver, fields);
+
+    assertThatThrownBy(() -> formFiller.fillOnce(null))
+      .isInstanceOf(FieldsNotFilled.class)
+      .hasMessageStartingWith("Failed to fill 1 of 3 fields:\n  #country: Element not found {#country/option[value:ee]}")
+      .satisfies(e -> assertThat(((FieldsNotFilled) e).getFailures()).containsOnlyKeys("#country"));
+    assertThat(formFiller.remaining()).containsOnlyKeys("#country");
+
+    formFiller.fillOnce(null);
+    assertThat(formFiller.remaining()).isEmpty();
+    verify(webDriver).executeScript(anyString(), isNull(), eq(singletonList(asList("#country", "ee"))), eq(true));
+  }
+
+  @Test
+  void retriesUntilTimeout() {
+    fields.put("#name", "john");
+    when(webDriver.executeScript(anyString(), isNull(), any(), any()))
+      .thenReturn(result(singletonMap("#name", "Element not found {#name}")));
+
+    assertThatThrownBy(() -> new FormFiller(driver, fields).fill(30, 10))
+      .isInstanceOf(FieldsNotFilled.class)
+      .hasMessageContaining("#name: Element not found {#name}");
+    verify(webDriver, atLeast(2)).executeScript(anyString(), isNull(), any(), any());
+  }
+
+  @Test
+  void typesTextIntoFieldsFoundByScript() {
+    fields.put("#name", "john");
+    fields.put("#email", "");
+    WebElement name = mock(WebElement.class);
+    WebElement email = mock(WebElement.class);
+    when(webDriver.executeScript(anyString(), isNull(), any(), eq(true)))
+      .thenReturn(result(emptyMap(), asList("#name", name), asList("#email", email)));
+
+    new FormFiller(driver, fields).fillOnce(null);
+
+    verify(name).clear();
+    verify(name).sendKeys("john");
+    verify(email).clear();
+    verifyNoMoreInteractions(name, email);
+  }
+
+  @Test
+  void setsTextByJavaScript_ifFastSetValueIsEnabled() {
+    DriverStub fastDriver = new DriverStub(new SelenideConfig().fastSetValue(true), new Browser("chrome", false), webDriver, null);
+    fields.put("#name", "john");
+    when(webDriver.executeScript(anyString(), isNull(), any(), eq(false))).thenReturn(result(emptyMap()));
+
+    FormFiller formFiller = new FormFiller(fastDriver, fields);
+    formFiller.fillOnce(null);
+
+    assertThat(formFiller.remaining()).isEmpty();
+  }
+
+  @Test
+  void retriesFieldsWhichCouldNotBeTyped() {
+    fields.put("#name", "john");
+    WebElement name = mock(WebElement.class);
+    doThrow(new ElementNotInteractableException("element not interactable")).when(name).sendKeys("john");
+    when(webDriver.executeScript(anyString(), isNull(), any(), eq(true)))
+      .thenReturn(result(emptyMap(), asList("#name", name)));
+    FormFiller formFiller = new FormFiller(driver, fields);
+
+    assertThatThrownBy(() -> formFiller.fillOnce(null))
+      .isInstanceOf(FieldsNotFilled.class)
+      .hasMessageContaining("#name: Failed to fill {#name}: ElementNotInteractableException: element not interactable");
+    assertThat(formFiller.remaining()).containsOnlyKeys("#name");
+  }
+
+  @Test
+  void doesNotAcceptUnsupportedValues() {
+    fields.put("#age", 18);
+
+    assertThatThrownBy(() -> new FormFiller(driver, fields))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Unsupported value of field #age: 18 (expected String, String[], Collection or Boolean)");
+  }
+
+  private static Map<String, Object> result(Map<String, String> errors, List<?>... typing) {
+    Map<String, Object> result = new HashMap<>();
+    result.put("errors", errors);
+    result.put("typing", asList(typing));
+    return result;
+  }
+
+  interface JSWebDriver extends WebDriver, JavascriptExecutor {
+  }
+}
@@ -0,0 +1,198 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class FrameSwitcherTest implements WithAssertions {
+  private final WebDriver webDriver = mock(WebDriver.class);
+  private final WebDriver.TargetLocator targetLocator = mock(WebDriver.TargetLocator.class);
+  private final WebElement editor = mock(WebElement.class);
+  private final WebElement preview = mock(WebElement.class);
+  private final WebElement menu = mock(WebElement.class);
+  private final FrameSwitcher frames = new FrameSwitcher(webDriver);
+
+  @BeforeEach
+  void setUp() {
+    when(webDriver.switchTo()).thenReturn(targetLocator);
+    when(webDriver.findElement(FrameSwitcher.frameSelector("editor"))).thenReturn(editor);
+    when(webDriver.findElement(FrameSwitcher.frameSelector("preview"))).thenReturn(preview);
+    when(webDriver.findElement(FrameSwitcher.frameSelector("menu"))).thenReturn(menu);
+  }
+
+  @Test
+  void startsFromDefaultContentIfCurrentFrameIsUnknown() {
+    frames.switchTo(asList("editor", "preview"));
+
+    InOrder inOrder = inOrder(targetLocator);
+    inOrder.verify(targetLocator).defaultContent();
+    inOrder.verify(targetLocator).frame(editor);
+    inOrder.verify(targetLocator).frame(preview);
+    assertThat(frames.current()).containsExactly("editor", "preview");
+  }
+
+  @Test
+  void doesNotSwitchIfBrowserIsAlreadyInTheFrame() {
+    frames.switchedTo(asList("editor", "preview"));
+
+    frames.switchTo(asList("editor", "preview"));
+
+    verifyNoMoreInteractions(targetLocator);
+    verify(webDriver, never()).switchTo();
+  }
+
+  @Test
+  void switchesToParentFrameIfPathsHaveCommonBeginning() {
+    frames.switchedTo(asList("editor", "preview"));
+
+    frames.switchTo(asList("editor", "menu"));
+
+    InOrder inOrder = inOrder(targetLocator);
+    inOrder.verify(targetLocator).parentFrame();
+    inOrder.verify(targetLocator).frame(menu);
+    verify(targetLocator, never()).defaultContent();
+    assertThat(frames.current()).containsExactly("editor", "menu");
+  }
+
+  @Test
+  void switchesOnlyToInnerFramesFromTopLevelDocument() {
+    frames.switchedToDefaultContent();
+
+    frames.switchTo(asList("editor"));
+
+    verify(targetLocator).frame(editor);
+    verify(targetLocator, never()).defaultContent();
+    verify(targetLocator, never()).parentFrame();
+  }
+
+  @Test
+  void switchesToDefaultContentIfPathsHaveNothingInCommon() {
+    frames.switchedTo(asList("menu"));
+
+    frames.switchTo(asList("editor"));
+
+    verify(targetLocator).defaultContent();
+    verify(targetLocator).frame(editor);
+    verify(targetLocator, never()).parentFrame();
+  }
+
+  @Test
+  void switchesToTopLevelDocument() {
+    frames.switchedTo(asList("editor", "preview"));
+
+    frames.switchTo(emptyList());
+
+    verify(targetLocator).defaultContent();
+    verify(targetLocator, never()).frame(any(WebElement.class));
+    assertThat(frames.current()).isEmpty();
+  }
+
+  @Test
+  void forgetsCurrentFrameIfSwitchFailed() {
+    frames.switchedToDefaultContent();
+    when(webDriver.findElement(FrameSwitcher.frameSelector("missing"))).thenThrow(new NoSuchElementException("no frame"));
+
+    assertThatThrownBy(() -> frames.switchTo(asList("editor", "missing")))
+      .isInstanceOf(NoSuchElementException.class);
+
+    assertThat(frames.current()).isNull();
+  }
+
+  @Test
+  void frameSelectorMatchesFramesAndIframesByIdOrName() {
+    assertThat(FrameSwitcher.frameSelector("editor")).hasToString(
+      "By.cssSelector: frame#editor,frame[name=editor],iframe#editor,iframe[name=editor]");
+  }
+
+  @Test
+  void forgetsFrameAfterActionWhichMightHaveNavigated() {
+    frames.switchedTo(asList("editor", "preview"));
+    frames.mightHaveNavigated();
+    assertThat(frames.current()).isNull();
+
+    frames.switchedTo(emptyList());
+    frames.mightHaveNavigated();
+    assertThat(frames.current()).isEmpty();
+  }
+
+  @Test
+  void switchesToFrameAgainIfElementIsNotFoundInside() {
+    Driver driver = new DriverStub(new SelenideConfig(), new Browser("chrome", false), webDriver, null);
+    when(webDriver.findElement(By.id("title"))).thenThrow(new StaleElementReferenceException("frame has been reloaded"));
+    FrameSwitcher.of(webDriver).switchedTo(singletonList("editor"));
+    ElementFinder finder = new ElementFinder(driver, singletonList("editor"), null, By.id("title"), 0);
+
+    assertThatThrownBy(finder::getWebElement).isInstanceOf(StaleElementReferenceException.class);
+
+    assertThat(FrameSwitcher.of(webDriver).current()).isNull();
+  }
+
+  @Test
+  void searchesElementWithoutFrameInTopLevelDocumentAfterElementOfFrame() {
+    Driver driver = new DriverStub(new SelenideConfig(), new Browser("chrome", false), webDriver, null);
+    WebElement title = mock(WebElement.class);
+    when(webDriver.findElement(By.id("title"))).thenReturn(title);
+
+    new ElementFinder(driver, asList("editor", "preview"), null, By.id("title"), 0).getWebElement();
+    InOrder inOrder = inOrder(targetLocator);
+    inOrder.verify(targetLocator).defaultContent();
+    inOrder.verify(targetLocator).frame(editor);
+    inOrder.verify(targetLocator).frame(preview);
+
+    new ElementFinder(driver, null, By.id("title"), 0).getWebElement();
+    inOrder.verify(targetLocator).defaultContent();
+    assertThat(FrameSwitcher.of(webDriver).current()).isEmpty();
+
+    new ElementFinder(driver, null, By.id("title"), 0).getWebElement();
+    inOrder.verifyNoMoreInteractions();
+  }
+
+  @Test
+  void leavesFrameEnteredForSearchEvenIfItMightHaveNavigated() {
+    frames.switchToSearch(singletonList("editor"));
+    frames.mightHaveNavigated();
+
+    frames.leaveFrameEnteredForSearch();
+
+    InOrder inOrder = inOrder(targetLocator);
+    inOrder.verify(targetLocator).frame(editor);
+    inOrder.verify(targetLocator).defaultContent();
+    assertThat(frames.current()).isEmpty();
+  }
+
+  @Test
+  void staysInFrameEnteredExplicitly() {
+    frames.switchedToDefaultContent();
+    frames.switchToSearch(singletonList("editor"));
+    frames.switchTo(singletonList("menu"));
+    frames.leaveFrameEnteredForSearch();
+
+    frames.switchedTo(singletonList("preview"));
+    frames.leaveFrameEnteredForSearch();
+
+    verify(targetLocator).defaultContent();
+    verify(targetLocator).frame(menu);
+    assertThat(frames.current()).containsExactly("preview");
+  }
+}
@@ -0,0 +1,61 @@
+package com.codeborne.selenide.impl;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.RasterFormatException;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+class ImageRegionReaderTest implements WithAssertions {
+  private byte[] png;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    BufferedImage image = new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB);
+    Graphics2D graphics = image.createGraphics();
+    graphics.setColor(Color.WHITE);
+    graphics.fillRect(0, 0, 200, 100);
+    graphics.setColor(Color.RED);
+    graphics.fillRect(50, 20, 30, 10);
+    graphics.dispose();
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ImageIO.write(image, "png", out);
+    png = out.toByteArray();
+  }
+
+  @Test
+  void readsImageSizeWithoutDecodingPixels() throws IOException {
+    try (ImageRegionReader reader = new ImageRegionReader(png)) {
+      assertThat(reader.getWidth()).isEqualTo(200);
+      assertThat(reader.getHeight()).isEqualTo(100);
+    }
+  }
+
+  @Test
+  void decodesOnlyGivenRegion() throws IOException {
+    try (ImageRegionReader reader = new ImageRegionReader(png)) {
+      BufferedImage region = reader.read(50, 20, 30, 10);
+
+      assertThat(region.getWidth()).isEqualTo(30);
+      assertThat(region.getHeight()).isEqualTo(10);
+      assertThat(region.getRGB(0, 0)).isEqualTo(Color.RED.getRGB());
+      assertThat(region.getRGB(29, 9)).isEqualTo(Color.RED.getRGB());
+    }
+  }
+
+  @Test
+  void failsIfRegionIsOutsideOfImage() throws IOException {
+    try (ImageRegionReader reader = new ImageRegionReader(png)) {
+      assertThatThrownBy(() -> reader.read(190, 20, 30, 10))
+        .isInstanceOf(RasterFormatException.class)
+        .hasMessage("Region (190,20 30x10) is outside of image 200x100");
+    }
+  }
+}
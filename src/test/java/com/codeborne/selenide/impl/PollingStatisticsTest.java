@@ -0,0 +1,36 @@
+package com.codeborne.selenide.impl;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+class PollingStatisticsTest implements WithAssertions {
+  private final PollingStatistics statistics = new PollingStatistics();
+
+  @Test
+  void countsWaitsByNumberOfPolls() {
+    statistics.record(0, true);
+    statistics.record(0, true);
+    statistics.record(1, true);
+    statistics.record(3, true);
+    statistics.record(4, true);
+    statistics.record(7, false);
+    statistics.record(5000, false);
+
+    assertThat(statistics.satisfiedWaits()).isEqualTo(5);
+    assertThat(statistics.failedWaits()).isEqualTo(2);
+    assertThat(statistics.polls()).isEqualTo(5015);
+    assertThat(statistics.pollsPerWait()).containsExactly(
+      entry("0", 2L), entry("1", 1L), entry("3-4", 2L), entry("5-8", 1L), entry("513+", 1L));
+    assertThat(statistics).hasToString("7 waits (2 failed), 5015 polls, polls per wait: {0=2, 1=1, 3-4=2, 5-8=1, 513+=1}");
+  }
+
+  @Test
+  void canBeReset() {
+    statistics.record(2, true);
+    statistics.reset();
+
+    assertThat(statistics.satisfiedWaits()).isZero();
+    assertThat(statistics.polls()).isZero();
+    assertThat(statistics.pollsPerWait()).isEmpty();
+  }
+}
@@ -0,0 +1,50 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.PollingStrategy;
+import com.codeborne.selenide.SelenideConfig;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+class PollingStrategiesTest implements WithAssertions {
+  @Test
+  void fixedPollingByDefault() {
+    assertThat(PollingStrategies.of(new SelenideConfig())).isInstanceOf(FixedPolling.class);
+    assertThat(PollingStrategies.of("fixed").nextDelay("#login visible", 5, 1000, 200)).isEqualTo(200);
+  }
+
+  @Test
+  void findsBuiltInStrategiesByName() {
+    assertThat(PollingStrategies.of("backoff")).isInstanceOf(BackoffPolling.class);
+    assertThat(PollingStrategies.of("adaptive")).isInstanceOf(AdaptivePolling.class);
+    assertThat(PollingStrategies.of("adaptive")).isSameAs(PollingStrategies.of("adaptive"));
+  }
+
+  @Test
+  void createsCustomStrategyByClassName() {
+    PollingStrategy strategy = PollingStrategies.of(EveryTenMilliseconds.class.getName());
+
+    assertThat(strategy).isInstanceOf(EveryTenMilliseconds.class);
+    assertThat(PollingStrategies.of(EveryTenMilliseconds.class.getName())).isSameAs(strategy);
+  }
+
+  @Test
+  void unknownStrategy() {
+    assertThatThrownBy(() -> PollingStrategies.of("sometimes"))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Unknown polling strategy: sometimes (expected fixed, backoff, adaptive or class name)");
+  }
+
+  @Test
+  void classShouldImplementPollingStrategy() {
+    assertThatThrownBy(() -> PollingStrategies.of("java.lang.String"))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("java.lang.String does not implement com.codeborne.selenide.PollingStrategy");
+  }
+
+  private static class EveryTenMilliseconds implements PollingStrategy {
+    @Override
+    public long nextDelay(String subject, int poll, long elapsedMs, long pollingInterval) {
+      return 10;
+    }
+  }
+}
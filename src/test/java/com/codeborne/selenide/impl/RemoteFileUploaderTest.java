@@ -0,0 +1,153 @@
+package com.codeborne.selenide.impl;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.LocalFileDetector;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.UselessFileDetector;
+import org.openqa.selenium.support.events.EventFiringWebDriver;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RemoteFileUploaderTest implements WithAssertions {
+  private final List<String> transferred = new CopyOnWriteArrayList<>();
+  private final RemoteFileUploader uploader = new RemoteFileUploader() {
+    @Override
+    protected String transfer(RemoteWebDriver webDriver, File file) {
+      transferred.add(file.getName());
+      return "/remote/" + transferred.size() + "/" + file.getName();
+    }
+  };
+  private final RemoteWebDriver remoteWebDriver = mock(RemoteWebDriver.class);
+  private File folder;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    folder = Files.createTempDirectory("remote-file-uploader").toFile();
+    when(remoteWebDriver.getFileDetector()).thenReturn(new LocalFileDetector());
+  }
+
+  @Test
+  void transfersSameFileOnlyOncePerSession() throws IOException {
+    File file = file("fixture.txt", "some content");
+
+    assertThat(uploader.path(remoteWebDriver, file)).isEqualTo("/remote/1/fixture.txt");
+    assertThat(uploader.path(remoteWebDriver, file)).isEqualTo("/remote/1/fixture.txt");
+    assertThat(uploader.path(remoteWebDriver, file("fixture-copy.txt", "some content"))).isEqualTo("/remote/2/fixture-copy.txt");
+
+    assertThat(transferred).containsExactly("fixture.txt", "fixture-copy.txt");
+  }
+
+  @Test
+  void transfersFileAgainIfContentHasChanged() throws IOException {
+    File file = file("fixture.txt", "version 1");
+    uploader.path(remoteWebDriver, file);
+
+    file("fixture.txt", "version 2").setLastModified(file.lastModified() + 1000);
+    assertThat(uploader.path(remoteWebDriver, file)).isEqualTo("/remote/2/fixture.txt");
+  }
+
+  @Test
+  void transfersFileToEverySession() throws IOException {
+    RemoteWebDriver anotherSession = mock(RemoteWebDriver.class);
+    when(anotherSession.getFileDetector()).thenReturn(new LocalFileDetector());
+    File file = file("fixture.txt", "some content");
+
+    uploader.path(remoteWebDriver, file);
+    uploader.path(new EventFiringWebDriver(anotherSession), file);
+
+    assertThat(transferred).hasSize(2);
+  }
+
+  @Test
+  void transfersManyFilesInParallel() throws IOException {
+    List<File> files = asList(file("a.txt", "a"), file("b.txt", "b"), file("c.txt", "c"));
+
+    uploader.uploadAll(remoteWebDriver, files);
+    assertThat(transferred).containsExactlyInAnyOrder("a.txt", "b.txt", "c.txt");
+
+    assertThat(uploader.path(remoteWebDriver, files.get(2))).endsWith("/c.txt");
+    assertThat(transferred).hasSize(3);
+  }
+
+  @Test
+  void transfersFileOnceEvenIfItIsUploadedConcurrently() throws IOException {
+    File file = file("fixture.txt", "some content");
+
+    uploader.uploadAll(remoteWebDriver, asList(file, file, file, file));
+
+    assertThat(transferred).containsExactly("fixture.txt");
+  }
+
+  @Test
+  void readsUnchangedFileOnlyOnce() throws IOException {
+    File file = file("fixture.txt", "some content");
+    long lastModified = 1_500_000_000_000L;
+    assertThat(file.setLastModified(lastModified)).isTrue();
+    String hash = RemoteFileUploader.cachedHash(file);
+
+    file("fixture.txt", "same length!").setLastModified(lastModified);
+    assertThat(RemoteFileUploader.cachedHash(file)).isEqualTo(hash);
+  }
+
+  @Test
+  void usesLocalPathIfWebDriverIsNotRemote() throws IOException {
+    RemoteWebDriver localDriver = mock(RemoteWebDriver.class);
+    when(localDriver.getFileDetector()).thenReturn(new UselessFileDetector());
+    File file = file("fixture.txt", "some content");
+
+    assertThat(uploader.path(localDriver, file)).isEqualTo(file.getCanonicalPath());
+    assertThat(uploader.path(mock(WebDriver.class), file)).isEqualTo(file.getCanonicalPath());
+    assertThat(transferred).isEmpty();
+  }
+
+  @Test
+  void encodesFileAsBase64Zip() throws IOException {
+    String zip = RemoteFileUploader.zip(file("fixture.txt", "some content"));
+    byte[] decoded = Base64.getDecoder().decode(zip);
+
+    try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(decoded))) {
+      ZipEntry entry = in.getNextEntry();
+      assertThat(entry.getName()).isEqualTo("fixture.txt");
+      assertThat(new String(readAll(in), UTF_8)).isEqualTo("some content");
+      assertThat(in.getNextEntry()).isNull();
+    }
+  }
+
+  @Test
+  void hashOfFileIsSameAsHashOfItsContent() throws IOException {
+    assertThat(RemoteFileUploader.hash(file("fixture.txt", "some content")))
+      .isEqualTo(ContentAddressedStorage.hash("some content".getBytes(UTF_8)));
+  }
+
+  private static byte[] readAll(ZipInputStream in) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    byte[] buffer = new byte[1024];
+    for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+      out.write(buffer, 0, read);
+    }
+    return out.toByteArray();
+  }
+
+  private File file(String name, String content) throws IOException {
+    File file = new File(folder, name);
+    Files.write(file.toPath(), content.getBytes(UTF_8));
+    return file;
+  }
+}
@@ -0,0 +1,106 @@
+package com.codeborne.selenide.impl;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+class ScreenshotHistoryTest implements WithAssertions {
+  @Test
+  void keepsScreenshotsInOrder() {
+    ScreenshotHistory history = new ScreenshotHistory(10);
+    history.add(new File("1.png"));
+    history.add(new File("2.png"));
+
+    assertThat(history.toList()).containsExactly(new File("1.png"), new File("2.png"));
+    assertThat(history.last()).isEqualTo(new File("2.png"));
+  }
+
+  @Test
+  void forgetsOldestScreenshots() {
+    ScreenshotHistory history = new ScreenshotHistory(2);
+    history.add(new File("1.png"));
+    history.add(new File("2.png"));
+    history.add(new File("3.png"));
+
+    assertThat(history.toList()).containsExactly(new File("2.png"), new File("3.png"));
+    assertThat(history.size()).isEqualTo(2);
+    assertThat(history.last()).isEqualTo(new File("3.png"));
+  }
+
+  @Test
+  void lastScreenshotIsNullIfHistoryIsEmpty() {
+    assertThat(new ScreenshotHistory(2).last()).isNull();
+    assertThat(new ScreenshotHistory(2).toList()).isEmpty();
+  }
+
+  @Test
+  void returnsSnapshotOfHistory() {
+    ScreenshotHistory history = new ScreenshotHistory(10);
+    history.add(new File("1.png"));
+    List<File> snapshot = history.toList();
+    history.add(new File("2.png"));
+
+    assertThat(snapshot).containsExactly(new File("1.png"));
+    assertThatThrownBy(() -> snapshot.add(new File("3.png")))
+      .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void canBeUsedFromMultipleThreads() throws InterruptedException {
+    ScreenshotHistory history = new ScreenshotHistory(100);
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      Thread thread = new Thread(() -> {
+        for (int i = 0; i < 1000; i++) {
+          history.add(new File(i + ".png"));
+        }
+      });
+      threads.add(thread);
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertThat(history.size()).isEqualTo(100);
+    assertThat(history.toList()).hasSize(100);
+  }
+
+  @Test
+  void isListOfScreenshots() {
+    List<File> history = new ScreenshotHistory(10);
+    history.add(new File("1.png"));
+    history.add(new File("2.png"));
+
+    assertThat(history).containsExactly(new File("1.png"), new File("2.png"));
+    assertThat(history.get(1)).isEqualTo(new File("2.png"));
+    assertThatThrownBy(() -> history.get(2)).isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> history.remove(0)).isInstanceOf(UnsupportedOperationException.class);
+
+    history.clear();
+    assertThat(history).isEmpty();
+  }
+
+  @Test
+  void accessByIndexAfterOldestScreenshotsHaveBeenForgotten() {
+    ScreenshotHistory history = new ScreenshotHistory(3);
+    for (int i = 1; i <= 5; i++) {
+      history.add(new File(i + ".png"));
+    }
+
+    assertThat(history.get(0)).isEqualTo(new File("3.png"));
+    assertThat(history.get(2)).isEqualTo(new File("5.png"));
+    assertThat(history).containsExactly(new File("3.png"), new File("4.png"), new File("5.png"));
+    assertThatThrownBy(() -> history.get(3)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void maxSizeShouldBePositive() {
+    assertThatThrownBy(() -> new ScreenshotHistory(0))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Max size of screenshot history should be positive, but was: 0");
+  }
+}
@@ -37,6 +37,7 @@ import static com.codeborne.selenide.logevents.LogEvent.EventStatus.FAIL;
 import static com.codeborne.selenide.logevents.LogEvent.EventStatus.PASS;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -130,6 +131,8 @@ class SelenideElementProxyTest implements WithAssertions {
   void webdriverReportsInvalidXpath_using_should() {
     when(webdriver.findElement(By.cssSelector("#firstName")))
       .thenThrow(new InvalidSelectorException("Error INVALID_EXPRESSION_ERR ups"));
+    when(webdriver.executeScript(contains("querySelector"), any(), any(), any(), any()))
+      .thenReturn(ImmutableMap.of("invalidSelector", "Error INVALID_EXPRESSION_ERR ups"));
     assertThatThrownBy(() -> driver.find("#firstName").should(disappear))
       .isInstanceOf(InvalidSelectorException.class);
   }
@@ -138,6 +141,8 @@ class SelenideElementProxyTest implements WithAssertions {
   void webdriverReportsInvalidXpath_using_shouldNot() {
     when(webdriver.findElement(By.cssSelector("#firstName")))
       .thenThrow(new InvalidSelectorException("Error INVALID_EXPRESSION_ERR ups"));
+    when(webdriver.executeScript(contains("querySelector"), any(), any(), any(), any()))
+      .thenReturn(ImmutableMap.of("invalidSelector", "Error INVALID_EXPRESSION_ERR ups"));
     assertThatThrownBy(() -> driver.find("#firstName").shouldNot(exist))
       .isInstanceOf(InvalidSelectorException.class);
   }
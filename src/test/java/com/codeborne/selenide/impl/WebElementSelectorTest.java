@@ -4,10 +4,12 @@ import com.codeborne.selenide.Browser;
 import com.codeborne.selenide.Config;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.Selectors;
 import com.codeborne.selenide.SelenideConfig;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
@@ -17,8 +19,12 @@ import java.util.List;
 import static com.codeborne.selenide.SelectorMode.CSS;
 import static com.codeborne.selenide.SelectorMode.Sizzle;
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -93,6 +99,34 @@ class WebElementSelectorTest {
     assertThat(selector.findElements(driver, webDriver, By.xpath("/div/h1"))).isSameAs(divs);
   }
 
+  @Test
+  void findElement_byTextJs_searchesTextNodesInBrowser() {
+    Driver driver = new DriverStub(new SelenideConfig(), browser, webDriver, null);
+    WebElement div = mock(WebElement.class);
+    when(webDriver.executeScript(anyString(), isNull(), eq("john"), eq(true), eq(true))).thenReturn(asList(div));
+
+    assertThat(selector.findElement(driver, webDriver, Selectors.byTextJs("john"))).isSameAs(div);
+  }
+
+  @Test
+  void findElement_byTextJs_throwsNoSuchElementException() {
+    Driver driver = new DriverStub(new SelenideConfig(), browser, webDriver, null);
+    when(webDriver.executeScript(anyString(), isNull(), eq("john"), eq(true), eq(true))).thenReturn(emptyList());
+
+    assertThatThrownBy(() -> selector.findElement(driver, webDriver, Selectors.byTextJs("john")))
+      .isInstanceOf(NoSuchElementException.class)
+      .hasMessageStartingWith("Cannot locate an element by text: john");
+  }
+
+  @Test
+  void findElements_withTextJs_insideElement() {
+    Driver driver = new DriverStub(new SelenideConfig(), browser, webDriver, null);
+    List<WebElement> divs = asList(mock(WebElement.class), mock(WebElement.class));
+    when(webDriver.executeScript(anyString(), eq(parent), eq("john"), eq(false), eq(false))).thenReturn(divs);
+
+    assertThat(selector.findElements(driver, parent, Selectors.withTextJs("john"))).isSameAs(divs);
+  }
+
   @Test
   void findElement_insideElement_cannotUseXpathStartingWithSlash() {
     Driver driver = new DriverStub("zopera");
@@ -0,0 +1,103 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.ex.ElementShould;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.codeborne.selenide.Condition.cssClass;
+import static com.codeborne.selenide.Condition.enabled;
+import static com.codeborne.selenide.Condition.text;
+import static com.codeborne.selenide.Condition.visible;
+import static java.util.Arrays.asList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+class WebElementSourceTest implements WithAssertions {
+  private final SelenideConfig config = new SelenideConfig().screenshots(false).savePageSource(false);
+  private final WebDriver webDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+  private final Driver driver = new DriverStub(config, new Browser("chrome", false), webDriver, null);
+  private final WebElement element = mock(WebElement.class);
+  private int searches;
+
+  private final WebElementSource source = new WebElementSource() {
+    @Override
+    public Driver driver() {
+      return driver;
+    }
+
+    @Override
+    public WebElement getWebElement() {
+      searches++;
+      return element;
+    }
+
+    @Override
+    public String getSearchCriteria() {
+      return "#total";
+    }
+  };
+
+  @Test
+  void checksManyConditionsAgainstElementFoundOnce() {
+    when(((JavascriptExecutor) webDriver).executeScript(contains("isDisplayed"), any())).thenReturn(state());
+    when(element.getText()).thenReturn("42");
+
+    source.checkConditions("", asList(visible, enabled, text("42"), cssClass("ok")), false);
+
+    assertThat(searches).isEqualTo(1);
+    verify((JavascriptExecutor) webDriver, times(1)).executeScript(contains("isDisplayed"), any());
+    verify(element, never()).isDisplayed();
+    verify(element, times(1)).getText();
+  }
+
+  @Test
+  void reportsFailedConditionAsUsually() {
+    when(((JavascriptExecutor) webDriver).executeScript(contains("isDisplayed"), any())).thenReturn(state());
+    when(element.getText()).thenReturn("42");
+
+    assertThatThrownBy(() -> source.checkConditions("have ", asList(visible, text("43")), false))
+      .isInstanceOf(ElementShould.class)
+      .hasMessageStartingWith("Element should have text '43' {#total}");
+    assertThat(searches).isEqualTo(1);
+  }
+
+  @Test
+  void checksSingleConditionAgainstElementItself() {
+    when(element.isDisplayed()).thenReturn(true);
+
+    source.checkConditions("", asList(visible), false);
+
+    verify(element).isDisplayed();
+    verify((JavascriptExecutor) webDriver, never()).executeScript(contains("isDisplayed"), any());
+  }
+
+  private Map<String, Object> state() {
+    Map<String, Object> attributes = new HashMap<>();
+    attributes.put("class", "total ok");
+    attributes.put("value", null);
+
+    Map<String, Object> state = new HashMap<>();
+    state.put("tagName", "span");
+    state.put("displayed", true);
+    state.put("enabled", true);
+    state.put("selected", false);
+    state.put("attributes", attributes);
+    return state;
+  }
+}
@@ -0,0 +1,142 @@
+package com.codeborne.selenide.impl;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriver.TargetLocator;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+class WindowRegistryTest implements WithAssertions {
+  private final WebDriver webDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+  private final TargetLocator targetLocator = mock(TargetLocator.class);
+  private final Map<String, List<String>> browserWindows = new LinkedHashMap<>();
+  private final List<String> switches = new ArrayList<>();
+  private String current = "main";
+  private final WindowRegistry registry = new WindowRegistry(webDriver);
+
+  @BeforeEach
+  void setUp() {
+    open("main", "Home", "complete");
+    open("tab1", "Tab 1", "complete");
+    open("tab2", "Tab 2", "complete");
+
+    when(webDriver.switchTo()).thenReturn(targetLocator);
+    when(targetLocator.window(anyString())).thenAnswer(invocation -> {
+      current = invocation.getArgument(0);
+      switches.add(current);
+      return webDriver;
+    });
+    when(webDriver.getWindowHandles()).thenAnswer(invocation -> browserWindows.keySet());
+    when(webDriver.getWindowHandle()).thenAnswer(invocation -> current);
+    when(webDriver.getTitle()).thenAnswer(invocation -> browserWindows.get(current).get(0));
+    when(((JavascriptExecutor) webDriver).executeScript(anyString())).thenAnswer(invocation -> browserWindows.get(current));
+  }
+
+  private void open(String handle, String title, String readyState) {
+    browserWindows.put(handle, asList(title, "http://app/" + handle, readyState));
+  }
+
+  @Test
+  void readsEveryWindowOnlyOnce() {
+    assertThat(registry.switchToWindowWithTitle("Tab 3")).isFalse();
+    assertThat(switches).containsExactly("tab1", "tab2", "main");
+    assertThat(registry.title("tab2")).isEqualTo("Tab 2");
+    assertThat(registry.url("tab2")).isEqualTo("http://app/tab2");
+
+    switches.clear();
+    assertThat(registry.switchToWindowWithTitle("Tab 3")).isFalse();
+    assertThat(switches).isEmpty();
+    assertThat(current).isEqualTo("main");
+  }
+
+  @Test
+  void switchesDirectlyToWindowWithCachedTitle() {
+    registry.switchToWindowWithTitle("Tab 3");
+    switches.clear();
+
+    assertThat(registry.switchToWindowWithTitle("Tab 2")).isTrue();
+    assertThat(switches).containsExactly("tab2");
+    assertThat(current).isEqualTo("tab2");
+  }
+
+  @Test
+  void readsOnlyNewWindows() {
+    registry.switchToWindowWithTitle("Tab 3");
+    switches.clear();
+    open("tab3", "Tab 3", "complete");
+
+    assertThat(registry.switchToWindowWithTitle("Tab 3")).isTrue();
+    assertThat(switches).containsExactly("tab3");
+  }
+
+  @Test
+  void rereadsWindowsWhichWereLoading() {
+    open("tab3", "", "loading");
+    registry.switchToWindowWithTitle("Tab 3");
+    switches.clear();
+    open("tab3", "Tab 3", "complete");
+
+    assertThat(registry.switchToWindowWithTitle("Tab 3")).isTrue();
+    assertThat(switches).containsExactly("tab3");
+  }
+
+  @Test
+  void checksCurrentWindowWithoutSwitchingToOtherWindows() {
+    open("main", "Logged in", "complete");
+
+    assertThat(registry.switchToWindowWithTitle("Logged in")).isTrue();
+    assertThat(switches).containsExactly("main");
+  }
+
+  @Test
+  void checksTitleAgainAfterSwitching() {
+    registry.switchToWindowWithTitle("Tab 3");
+    open("tab1", "Tab 1 (edited)", "complete");
+    switches.clear();
+
+    assertThat(registry.switchToWindowWithTitle("Tab 1")).isFalse();
+    assertThat(switches).containsExactly("tab1", "main");
+    assertThat(registry.title("tab1")).isEqualTo("Tab 1 (edited)");
+  }
+
+  @Test
+  void fullScanFindsWindowWhoseTitleHasChangedAfterLoading() {
+    registry.switchToWindowWithTitle("Tab 3");
+    open("tab2", "Tab 3", "complete");
+    switches.clear();
+
+    assertThat(registry.switchToWindowWithTitle("Tab 3")).isFalse();
+    assertThat(switches).isEmpty();
+
+    assertThat(registry.switchToWindowWithTitle("Tab 3", true)).isTrue();
+    assertThat(switches).containsExactly("tab1", "tab2");
+    assertThat(current).isEqualTo("tab2");
+  }
+
+  @Test
+  void forgetsClosedWindows() {
+    registry.switchToWindowWithTitle("Tab 3");
+    browserWindows.remove("tab1");
+
+    assertThat(registry.handles()).containsExactly("main", "tab2");
+    assertThat(registry.title("tab1")).isNull();
+  }
+
+  @Test
+  void registryIsCreatedOncePerWebdriver() {
+    assertThat(WindowRegistry.of(webDriver)).isSameAs(WindowRegistry.of(webDriver));
+    assertThat(WindowRegistry.of(webDriver)).isNotSameAs(WindowRegistry.of(mock(WebDriver.class)));
+  }
+}
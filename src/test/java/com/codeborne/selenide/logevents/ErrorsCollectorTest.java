@@ -4,12 +4,14 @@ import java.lang.reflect.Field;
 import java.util.List;
 
 import com.codeborne.selenide.ex.SoftAssertionError;
+import com.codeborne.selenide.ex.UIAssertionError;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.StaleElementReferenceException;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class ErrorsCollectorTest implements WithAssertions {
@@ -109,4 +111,22 @@ class ErrorsCollectorTest implements WithAssertions {
         .hasMessageContaining(String.format("FAIL #2: org.openqa.selenium.StaleElementReferenceException: %s", failedEvent2Message));
     }
   }
+
+  @Test
+  void softAssertionErrorsShareOneScreenshot() {
+    UIAssertionError first = mock(UIAssertionError.class);
+    UIAssertionError second = mock(UIAssertionError.class);
+    when(first.getScreenshot()).thenReturn("first.png");
+    LogEvent secondEvent = mock(LogEvent.class);
+    when(secondEvent.getStatus()).thenReturn(LogEvent.EventStatus.FAIL);
+    when(secondEvent.getError()).thenReturn(second);
+    when(mockedFailedEvent.getError()).thenReturn(first);
+
+    errorsCollector.afterEvent(mockedFailedEvent);
+    errorsCollector.afterEvent(secondEvent);
+
+    verify(first).capture();
+    verify(second).shareScreenshot("first.png");
+    verify(second).capture();
+  }
 }
@@ -0,0 +1,209 @@
+package com.codeborne.selenide.proxy;
+
+import com.browserup.bup.util.HttpMessageContents;
+import com.browserup.bup.util.HttpMessageInfo;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static com.codeborne.selenide.proxy.AssetCacheRule.cache;
+import static com.codeborne.selenide.proxy.AssetCacheRule.dontCache;
+import static io.netty.handler.codec.http.HttpHeaderNames.AUTHORIZATION;
+import static io.netty.handler.codec.http.HttpHeaderNames.CACHE_CONTROL;
+import static io.netty.handler.codec.http.HttpHeaderNames.CONTENT_TYPE;
+import static io.netty.handler.codec.http.HttpHeaderNames.COOKIE;
+import static io.netty.handler.codec.http.HttpHeaderNames.ETAG;
+import static io.netty.handler.codec.http.HttpHeaderNames.IF_MODIFIED_SINCE;
+import static io.netty.handler.codec.http.HttpHeaderNames.IF_NONE_MATCH;
+import static io.netty.handler.codec.http.HttpHeaderNames.LAST_MODIFIED;
+import static io.netty.handler.codec.http.HttpHeaderNames.SET_COOKIE;
+import static io.netty.handler.codec.http.HttpHeaderNames.VARY;
+import static io.netty.handler.codec.http.HttpResponseStatus.NOT_MODIFIED;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static io.netty.handler.codec.http.HttpVersion.HTTP_1_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+class AssetCacheFilterTest implements WithAssertions {
+  private static final String URL = "http://app/assets/app.js";
+  private AssetCacheFilter filter;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    filter = new AssetCacheFilter(new AssetCache(Files.createTempDirectory("asset-cache").toFile(), 1024 * 1024));
+  }
+
+  @Test
+  void servesFreshResponseFromCache() {
+    FullHttpResponse response = response(OK, "alert(1)");
+    response.headers().set(CACHE_CONTROL, "public, max-age=3600");
+    assertThat(load(URL, response)).isNull();
+
+    HttpResponse cached = request(URL);
+
+    assertThat(cached).isNotNull();
+    assertThat(cached.status()).isEqualTo(OK);
+    assertThat(cached.headers().get(CONTENT_TYPE)).isEqualTo("application/javascript");
+    assertThat(((FullHttpResponse) cached).content().toString(UTF_8)).isEqualTo("alert(1)");
+    assertThat(filter.statistics().hits).isEqualTo(1);
+    assertThat(filter.statistics().misses).isEqualTo(1);
+    assertThat(filter.statistics().bytesFromCache).isEqualTo(8);
+    assertThat(filter.statistics().hitRate()).isEqualTo(0.5);
+  }
+
+  @Test
+  void revalidatesStaleResponseWithETag() {
+    FullHttpResponse response = response(OK, "alert(1)");
+    response.headers().set(CACHE_CONTROL, "no-cache").set(ETAG, "\"v1\"");
+    load(URL, response);
+
+    FullHttpRequest request = new DefaultFullHttpRequest(HTTP_1_1, HttpMethod.GET, URL);
+    HttpMessageInfo messageInfo = new HttpMessageInfo(request, null, false, URL, URL);
+    assertThat(filter.filterRequest(request, null, messageInfo)).isNull();
+    assertThat(request.headers().get(IF_NONE_MATCH)).isEqualTo("\"v1\"");
+
+    FullHttpResponse notModified = new DefaultFullHttpResponse(HTTP_1_1, NOT_MODIFIED);
+    notModified.headers().set(ETAG, "\"v1\"");
+    filter.filterResponse(notModified, new HttpMessageContents(notModified), messageInfo);
+
+    assertThat(notModified.status()).isEqualTo(OK);
+    assertThat(notModified.headers().get(CONTENT_TYPE)).isEqualTo("application/javascript");
+    assertThat(notModified.content().toString(UTF_8)).isEqualTo("alert(1)");
+    assertThat(filter.statistics().revalidated).isEqualTo(1);
+  }
+
+  @Test
+  void forgetsFailedRevalidations() {
+    FullHttpResponse response = response(OK, "alert(1)");
+    response.headers().set(CACHE_CONTROL, "no-cache").set(ETAG, "\"v1\"");
+    load(URL, response);
+
+    FullHttpRequest request = new DefaultFullHttpRequest(HTTP_1_1, HttpMethod.GET, URL);
+    filter.filterRequest(request, null, new HttpMessageInfo(request, null, false, URL, URL));
+    assertThat(filter.pendingRevalidations()).isEqualTo(1);
+
+    filter.requestFailed(request, "Connection failed");
+    assertThat(filter.pendingRevalidations()).isZero();
+  }
+
+  @Test
+  void doesNotCacheDynamicResponses() {
+    FullHttpResponse response = new DefaultFullHttpResponse(HTTP_1_1, OK, Unpooled.wrappedBuffer("<html/>".getBytes(UTF_8)));
+    response.headers().set(CONTENT_TYPE, "text/html").set(CACHE_CONTROL, "max-age=3600");
+    load("http://app/index.html", response);
+
+    assertThat(request("http://app/index.html")).isNull();
+    assertThat(filter.statistics().misses).isZero();
+  }
+
+  @Test
+  void doesNotCacheResponsesWithCookiesOrNoStore() {
+    FullHttpResponse withCookie = response(OK, "alert(1)");
+    withCookie.headers().set(CACHE_CONTROL, "max-age=3600").set(SET_COOKIE, "session=1");
+    load(URL, withCookie);
+    FullHttpResponse noStore = response(OK, "alert(2)");
+    noStore.headers().set(CACHE_CONTROL, "no-store");
+    load("http://app/assets/other.js", noStore);
+
+    assertThat(request(URL)).isNull();
+    assertThat(request("http://app/assets/other.js")).isNull();
+  }
+
+  @Test
+  void doesNotCachePrivateResponses() {
+    FullHttpResponse response = response(OK, "alert(1)");
+    response.headers().set(CACHE_CONTROL, "private, max-age=3600");
+    load(URL, response);
+
+    assertThat(request(URL)).isNull();
+    assertThat(filter.statistics().misses).isZero();
+  }
+
+  @Test
+  void doesNotCacheResponsesToRequestsWithCredentials() {
+    filter.addRule(cache("/assets/", 60));
+    FullHttpResponse authorized = response(OK, "alert(1)");
+    authorized.headers().set(CACHE_CONTROL, "max-age=3600");
+    loadWithHeader(URL, AUTHORIZATION.toString(), "Basic dXNlcjpwYXNz", authorized);
+    FullHttpResponse withCookie = response(OK, "alert(2)");
+    withCookie.headers().set(CACHE_CONTROL, "max-age=3600");
+    loadWithHeader("http://app/assets/other.js", COOKIE.toString(), "session=1", withCookie);
+
+    assertThat(request(URL)).isNull();
+    assertThat(request("http://app/assets/other.js")).isNull();
+    assertThat(filter.statistics().misses).isZero();
+  }
+
+  @Test
+  void revalidatesResponsesWithoutExplicitFreshness() {
+    FullHttpResponse response = response(OK, "alert(1)");
+    response.headers().set(LAST_MODIFIED, "Mon, 07 Jan 2019 10:00:00 GMT");
+    load(URL, response);
+
+    FullHttpRequest request = new DefaultFullHttpRequest(HTTP_1_1, HttpMethod.GET, URL);
+    assertThat(filter.filterRequest(request, null, new HttpMessageInfo(request, null, false, URL, URL))).isNull();
+    assertThat(request.headers().get(IF_MODIFIED_SINCE)).isEqualTo("Mon, 07 Jan 2019 10:00:00 GMT");
+  }
+
+  @Test
+  void customRulesOverrideHttpHeaders() {
+    filter.addRule(dontCache("/api/")).addRule(cache("/assets/", 60));
+    load(URL, response(OK, "alert(1)"));
+    load("http://app/api/assets/list.js", response(OK, "[]"));
+
+    assertThat(request(URL)).isNotNull();
+    assertThat(request("http://app/api/assets/list.js")).isNull();
+  }
+
+  @Test
+  void respectsVaryHeader() {
+    filter.addRule(cache("/assets/", 60));
+    FullHttpResponse response = response(OK, "alert(1)");
+    response.headers().set(VARY, "Accept-Language");
+    FullHttpRequest english = new DefaultFullHttpRequest(HTTP_1_1, HttpMethod.GET, URL);
+    english.headers().set("Accept-Language", "en");
+    filter.filterResponse(response, new HttpMessageContents(response), new HttpMessageInfo(english, null, false, URL, URL));
+
+    FullHttpRequest german = new DefaultFullHttpRequest(HTTP_1_1, HttpMethod.GET, URL);
+    german.headers().set("Accept-Language", "de");
+    assertThat(filter.filterRequest(german, null, new HttpMessageInfo(german, null, false, URL, URL))).isNull();
+    assertThat(filter.filterRequest(english, null, new HttpMessageInfo(english, null, false, URL, URL))).isNotNull();
+  }
+
+  private HttpResponse request(String url) {
+    FullHttpRequest request = new DefaultFullHttpRequest(HTTP_1_1, HttpMethod.GET, url);
+    return filter.filterRequest(request, null, new HttpMessageInfo(request, null, false, url, url));
+  }
+
+  private HttpResponse load(String url, FullHttpResponse response) {
+    FullHttpRequest request = new DefaultFullHttpRequest(HTTP_1_1, HttpMethod.GET, url);
+    HttpMessageInfo messageInfo = new HttpMessageInfo(request, null, false, url, url);
+    HttpResponse cached = filter.filterRequest(request, null, messageInfo);
+    if (cached == null) {
+      filter.filterResponse(response, new HttpMessageContents(response), messageInfo);
+    }
+    return cached;
+  }
+
+  private void loadWithHeader(String url, String header, String value, FullHttpResponse response) {
+    FullHttpRequest request = new DefaultFullHttpRequest(HTTP_1_1, HttpMethod.GET, url);
+    request.headers().set(header, value);
+    filter.filterResponse(response, new HttpMessageContents(response), new HttpMessageInfo(request, null, false, url, url));
+  }
+
+  private FullHttpResponse response(HttpResponseStatus status, String body) {
+    FullHttpResponse response = new DefaultFullHttpResponse(HTTP_1_1, status, Unpooled.wrappedBuffer(body.getBytes(UTF_8)));
+    response.headers().set(CONTENT_TYPE, "application/javascript");
+    return response;
+  }
+}
@@ -0,0 +1,116 @@
+package com.codeborne.selenide.proxy;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+
+class AssetCacheTest implements WithAssertions {
+  private File folder;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    folder = Files.createTempDirectory("asset-cache").toFile();
+  }
+
+  @Test
+  void storesResponses() throws IOException {
+    AssetCache cache = new AssetCache(folder, 1000);
+
+    cache.put(entry("http://app/app.js", 5000), "alert(1)".getBytes(UTF_8));
+
+    AssetCache.Entry entry = cache.get("http://app/app.js");
+    assertThat(entry.status).isEqualTo(200);
+    assertThat(entry.header("content-type")).isEqualTo("text/javascript");
+    assertThat(new String(cache.read(entry), UTF_8)).isEqualTo("alert(1)");
+    assertThat(cache.size()).isEqualTo(8);
+    assertThat(cache.get("http://app/other.js")).isNull();
+  }
+
+  @Test
+  void replacesResponseOfSameUrl() throws IOException {
+    AssetCache cache = new AssetCache(folder, 1000);
+
+    cache.put(entry("http://app/app.js", 5000), "alert(1)".getBytes(UTF_8));
+    cache.put(entry("http://app/app.js", 5000), "alert(22)".getBytes(UTF_8));
+
+    assertThat(new String(cache.read(cache.get("http://app/app.js")), UTF_8)).isEqualTo("alert(22)");
+    assertThat(cache.size()).isEqualTo(9);
+  }
+
+  @Test
+  void removesLeastRecentlyUsedResponsesWhenSizeIsExceeded() {
+    AssetCache cache = new AssetCache(folder, 10);
+    cache.put(entry("http://app/1.js", 5000), new byte[4]);
+    cache.put(entry("http://app/2.js", 5000), new byte[4]);
+    cache.get("http://app/1.js");
+
+    cache.put(entry("http://app/3.js", 5000), new byte[4]);
+
+    assertThat(cache.get("http://app/1.js")).isNotNull();
+    assertThat(cache.get("http://app/2.js")).isNull();
+    assertThat(cache.get("http://app/3.js")).isNotNull();
+    assertThat(cache.size()).isEqualTo(8);
+    assertThat(folder.list()).hasSize(4);
+  }
+
+  @Test
+  void doesNotStoreResponsesLargerThanCache() {
+    AssetCache cache = new AssetCache(folder, 10);
+
+    cache.put(entry("http://app/huge.js", 5000), new byte[11]);
+
+    assertThat(cache.get("http://app/huge.js")).isNull();
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void loadsResponsesStoredByPreviousRun() throws IOException {
+    new AssetCache(folder, 1000).put(new AssetCache.Entry("http://app/app.css", 200,
+      singletonList(new SimpleImmutableEntry<>("ETag", "\"v1\"")), singletonMap("accept-encoding", "gzip"), 12345),
+      "body{}".getBytes(UTF_8));
+
+    AssetCache cache = new AssetCache(folder, 1000);
+
+    AssetCache.Entry entry = cache.get("http://app/app.css");
+    assertThat(entry.header("etag")).isEqualTo("\"v1\"");
+    assertThat(entry.vary).isEqualTo(singletonMap("accept-encoding", "gzip"));
+    assertThat(entry.expiresAt).isEqualTo(12345);
+    assertThat(new String(cache.read(entry), UTF_8)).isEqualTo("body{}");
+    assertThat(cache.size()).isEqualTo(6);
+  }
+
+  @Test
+  void forgetsResponseIfItsFileHasBeenRemoved() {
+    AssetCache cache = new AssetCache(folder, 1000);
+    cache.put(entry("http://app/app.js", 5000), "alert(1)".getBytes(UTF_8));
+    for (File file : folder.listFiles()) {
+      assertThat(file.delete()).isTrue();
+    }
+
+    assertThatThrownBy(() -> cache.read(cache.get("http://app/app.js"))).isInstanceOf(IOException.class);
+    assertThat(cache.get("http://app/app.js")).isNull();
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void sharesCacheInstancePerFolder() {
+    assertThat(AssetCache.in(folder, 100)).isSameAs(AssetCache.in(new File(folder.getPath()), 100));
+  }
+
+  private AssetCache.Entry entry(String url, long expiresAt) {
+    Map<String, String> vary = emptyMap();
+    return new AssetCache.Entry(url, 200, singletonList(new SimpleImmutableEntry<>("Content-Type", "text/javascript")),
+      vary, expiresAt);
+  }
+}
@@ -0,0 +1,172 @@
+package com.codeborne.selenide.proxy;
+
+import com.browserup.bup.util.HttpMessageContents;
+import com.browserup.bup.util.HttpMessageInfo;
+import com.browserup.harreader.model.Har;
+import com.browserup.harreader.model.HarContent;
+import com.browserup.harreader.model.HarEntry;
+import com.browserup.harreader.model.HarHeader;
+import com.browserup.harreader.model.HarQueryParam;
+import com.browserup.harreader.model.HarRequest;
+import com.browserup.harreader.model.HarResponse;
+import com.browserup.harreader.model.HttpMethod;
+import com.codeborne.selenide.HarCapture;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import static io.netty.handler.codec.http.HttpHeaderNames.CONTENT_TYPE;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static io.netty.handler.codec.http.HttpVersion.HTTP_1_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+class HarRecorderTest implements WithAssertions {
+  private File folder;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    folder = Files.createTempDirectory("har").toFile();
+  }
+
+  @Test
+  void writesEntriesToFileAsSoonAsResponseIsReceived() throws IOException {
+    HarRecorder recorder = new HarRecorder(HarCapture.HEADERS, 1024, folder, "session");
+    assertThat(recorder.file()).isNull();
+
+    exchange(recorder, "http://app/api/users?page=2", "[{\"name\": \"john\"}]");
+
+    assertThat(recorder.file()).isEqualTo(new File(folder, "session.har"));
+    assertThat(new String(Files.readAllBytes(recorder.file().toPath()), UTF_8)).contains("http://app/api/users?page=2");
+
+    recorder.close();
+    List<HarEntry> entries = entries(recorder.file());
+    assertThat(entries).hasSize(1);
+    HarRequest request = entries.get(0).getRequest();
+    assertThat(request.getMethod()).isEqualTo(HttpMethod.GET);
+    assertThat(request.getUrl()).isEqualTo("http://app/api/users?page=2");
+    assertThat(request.getQueryString()).extracting(HarQueryParam::getName, HarQueryParam::getValue)
+      .containsExactly(tuple("page", "2"));
+    assertThat(request.getHeaders()).extracting(HarHeader::getName, HarHeader::getValue)
+      .containsExactly(tuple("Accept", "application/json"));
+
+    HarResponse response = entries.get(0).getResponse();
+    assertThat(response.getStatus()).isEqualTo(200);
+    assertThat(response.getHeaders()).extracting(HarHeader::getName, HarHeader::getValue)
+      .containsExactly(tuple("content-type", "application/json"));
+    assertThat(response.getContent().getSize()).isEqualTo(18L);
+    assertThat(response.getContent().getText()).isEmpty();
+  }
+
+  @Test
+  void canRecordOnlyUrls() throws IOException {
+    HarRecorder recorder = new HarRecorder(HarCapture.URLS, 1024, folder, "session");
+
+    exchange(recorder, "http://app/api/users", "[]");
+    recorder.close();
+
+    HarEntry entry = entries(recorder.file()).get(0);
+    assertThat(entry.getRequest().getHeaders()).isEmpty();
+    assertThat(entry.getResponse().getHeaders()).isEmpty();
+    assertThat(entry.getResponse().getStatus()).isEqualTo(200);
+  }
+
+  @Test
+  void truncatesRecordedBodies() throws IOException {
+    HarRecorder recorder = new HarRecorder(HarCapture.BODIES, 10, folder, "session");
+
+    exchange(recorder, "http://app/api/users", "[{\"name\": \"john\"}]");
+    recorder.close();
+
+    HarContent content = entries(recorder.file()).get(0).getResponse().getContent();
+    assertThat(content.getText()).isEqualTo("[{\"name\": ");
+    assertThat(content.getSize()).isEqualTo(18L);
+  }
+
+  @Test
+  void truncatesBodiesByBytes() throws IOException {
+    HarRecorder recorder = new HarRecorder(HarCapture.BODIES, 5, folder, "session");
+
+    exchange(recorder, "http://app/api/greeting", "привет");
+    recorder.close();
+
+    HarContent content = entries(recorder.file()).get(0).getResponse().getContent();
+    assertThat(content.getText()).isEqualTo("пр");
+    assertThat(content.getSize()).isEqualTo(12L);
+  }
+
+  @Test
+  void recordsFailedRequestsWithStatusZero() throws IOException {
+    HarRecorder recorder = new HarRecorder(HarCapture.HEADERS, 1024, folder, "session");
+    FullHttpRequest request = new DefaultFullHttpRequest(HTTP_1_1, io.netty.handler.codec.http.HttpMethod.GET, "http://unknown-host/");
+    recorder.filterRequest(request, new HttpMessageContents(request), messageInfo(request));
+
+    recorder.requestFailed(request, "Cannot resolve unknown-host:80");
+    recorder.close();
+
+    List<HarEntry> entries = entries(recorder.file());
+    assertThat(entries).hasSize(1);
+    assertThat(entries.get(0).getRequest().getUrl()).isEqualTo("http://unknown-host/");
+    assertThat(entries.get(0).getResponse().getStatus()).isEqualTo(0);
+    assertThat(entries.get(0).getResponse().getAdditional()).containsEntry("_error", "Cannot resolve unknown-host:80");
+  }
+
+  @Test
+  void startsNewFileAfterRotation() throws IOException {
+    HarRecorder recorder = new HarRecorder(HarCapture.HEADERS, 1024, folder, "session");
+    exchange(recorder, "http://app/first", "1");
+    exchange(recorder, "http://app/second", "2");
+
+    File first = recorder.rotate();
+    assertThat(recorder.rotate()).isNull();
+    exchange(recorder, "http://app/third", "3");
+    recorder.close();
+
+    assertThat(first).isEqualTo(new File(folder, "session.har"));
+    assertThat(recorder.file()).isEqualTo(new File(folder, "session-2.har"));
+    assertThat(entries(first)).hasSize(2);
+    assertThat(entries(recorder.file()).get(0).getRequest().getUrl()).isEqualTo("http://app/third");
+  }
+
+  @Test
+  void recordsOnlyRequestsWithResponses() throws IOException {
+    HarRecorder recorder = new HarRecorder(HarCapture.HEADERS, 1024, folder, "session");
+    FullHttpRequest request = new DefaultFullHttpRequest(HTTP_1_1, io.netty.handler.codec.http.HttpMethod.GET, "http://app/pending");
+    recorder.filterRequest(request, new HttpMessageContents(request), messageInfo(request));
+    exchange(recorder, "http://app/done", "");
+    recorder.close();
+
+    List<HarEntry> entries = entries(recorder.file());
+    assertThat(entries).hasSize(1);
+    assertThat(entries.get(0).getRequest().getUrl()).isEqualTo("http://app/done");
+  }
+
+  private void exchange(HarRecorder recorder, String url, String body) {
+    FullHttpRequest request = new DefaultFullHttpRequest(HTTP_1_1, io.netty.handler.codec.http.HttpMethod.GET, url);
+    request.headers().set("Accept", "application/json");
+    HttpMessageInfo messageInfo = messageInfo(request);
+    assertThat(recorder.filterRequest(request, new HttpMessageContents(request), messageInfo)).isNull();
+
+    FullHttpResponse response = new DefaultFullHttpResponse(HTTP_1_1, OK, Unpooled.copiedBuffer(body, UTF_8));
+    response.headers().set(CONTENT_TYPE, "application/json");
+    recorder.filterResponse(response, new HttpMessageContents(response), messageInfo);
+  }
+
+  private HttpMessageInfo messageInfo(FullHttpRequest request) {
+    return new HttpMessageInfo(request, null, false, request.uri(), request.uri());
+  }
+
+  private List<HarEntry> entries(File har) throws IOException {
+    return new ObjectMapper().readValue(har, Har.class).getLog().getEntries();
+  }
+}
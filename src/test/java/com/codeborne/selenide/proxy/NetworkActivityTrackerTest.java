@@ -0,0 +1,130 @@
+package com.codeborne.selenide.proxy;
+
+import com.browserup.bup.util.HttpMessageInfo;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpMethod;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.TimeoutException;
+
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static io.netty.handler.codec.http.HttpVersion.HTTP_1_1;
+
+class NetworkActivityTrackerTest implements WithAssertions {
+  private final NetworkActivityTracker tracker = new NetworkActivityTracker();
+
+  @Test
+  void returnsAfterQuietPeriodIfThereAreNoRequests() {
+    long start = System.currentTimeMillis();
+
+    tracker.waitForIdle(200, 4000, null, null);
+
+    assertThat(System.currentTimeMillis() - start).isBetween(200L, 3000L);
+  }
+
+  @Test
+  void waitsUntilPendingRequestsAreFinished() {
+    HttpMessageInfo first = request("http://app/api/users");
+    HttpMessageInfo second = request("http://app/api/orders");
+    assertThat(tracker.pendingRequests()).containsExactlyInAnyOrder("http://app/api/users", "http://app/api/orders");
+
+    long start = System.currentTimeMillis();
+    inBackground(() -> {
+      sleep(300);
+      response(first);
+      sleep(300);
+      response(second);
+    });
+    tracker.waitForIdle(100, 4000, null, null);
+
+    assertThat(System.currentTimeMillis() - start).isGreaterThanOrEqualTo(700L);
+    assertThat(tracker.pendingRequests()).isEmpty();
+  }
+
+  @Test
+  void failsIfNetworkIsNotIdleDuringTimeout() {
+    request("http://app/api/slow");
+
+    assertThatThrownBy(() -> tracker.waitForIdle(100, 300, null, null))
+      .isInstanceOf(TimeoutException.class)
+      .hasMessageStartingWith("Network is not idle after 300 ms. Pending requests: [http://app/api/slow]");
+  }
+
+  @Test
+  void ignoresExcludedRequests() {
+    request("http://app/api/poll?since=1");
+    request("http://app/ws/events");
+
+    tracker.waitForIdle(100, 2000, null, "/api/poll|/ws/");
+  }
+
+  @Test
+  void tracksOnlyIncludedRequests() {
+    request("http://analytics/collect");
+    HttpMessageInfo api = request("http://app/api/users");
+
+    assertThatThrownBy(() -> tracker.waitForIdle(100, 300, "/api/", null))
+      .isInstanceOf(TimeoutException.class)
+      .hasMessageContaining("Pending requests: [http://app/api/users]\n");
+
+    response(api);
+    tracker.waitForIdle(100, 2000, "/api/", null);
+  }
+
+  @Test
+  void requestWithoutResponseIsNotPendingAfterConnectionFailure() {
+    HttpMessageInfo unreachable = request("http://unknown-host/api/users");
+
+    tracker.requestFailed(unreachable.getOriginalRequest(), "Cannot resolve unknown-host:80");
+
+    assertThat(tracker.pendingRequests()).isEmpty();
+    tracker.waitForIdle(100, 2000, null, null);
+  }
+
+  @Test
+  void doesNotWaitForRequestsAbandonedBeforeTheWait() {
+    request("http://app/api/aborted");
+    sleep(300);
+
+    tracker.waitForIdle(100, 200, null, null);
+    assertThatThrownBy(() -> tracker.waitForIdle(100, 1000, null, null))
+      .isInstanceOf(TimeoutException.class)
+      .hasMessageContaining("Pending requests: [http://app/api/aborted]");
+  }
+
+  @Test
+  void ignoresConnectRequests() {
+    FullHttpRequest connect = new DefaultFullHttpRequest(HTTP_1_1, HttpMethod.CONNECT, "app:443");
+    tracker.filterRequest(connect, null, new HttpMessageInfo(connect, null, true, "https://app:443", "https://app:443"));
+
+    assertThat(tracker.pendingRequests()).isEmpty();
+  }
+
+  private HttpMessageInfo request(String url) {
+    FullHttpRequest request = new DefaultFullHttpRequest(HTTP_1_1, HttpMethod.GET, url);
+    HttpMessageInfo messageInfo = new HttpMessageInfo(request, null, false, url, url);
+    assertThat(tracker.filterRequest(request, null, messageInfo)).isNull();
+    return messageInfo;
+  }
+
+  private void response(HttpMessageInfo messageInfo) {
+    tracker.filterResponse(new DefaultFullHttpResponse(HTTP_1_1, OK), null, messageInfo);
+  }
+
+  private void inBackground(Runnable task) {
+    Thread thread = new Thread(task);
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  private void sleep(long milliseconds) {
+    try {
+      Thread.sleep(milliseconds);
+    }
+    catch (InterruptedException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
@@ -31,6 +31,25 @@ class SelenideProxyServerTest implements WithAssertions {
     assertThat(filter.getDownloadedFiles()).hasSize(0);
   }
 
+  @Test
+  void tracksNetworkActivity() {
+    proxyServer.start();
+
+    NetworkActivityTracker requestFilter = proxyServer.requestFilter("networkActivity");
+    NetworkActivityTracker responseFilter = proxyServer.responseFilter("networkActivity");
+    assertThat(requestFilter).isSameAs(responseFilter);
+    assertThat(requestFilter.pendingRequests()).isEmpty();
+  }
+
+  @Test
+  void notifiesFiltersAboutFailedRequests() {
+    proxyServer.start();
+
+    verify(bmp).addLastHttpFilterFactory(any(RequestFailureSource.class));
+    assertThat(proxyServer.requestFailureFilters())
+      .containsExactly(proxyServer.requestFilter("networkActivity"), proxyServer.requestFilter("har"));
+  }
+
   @Test
   void canShutdownProxyServer() {
     when(bmp.isStarted()).thenReturn(true);
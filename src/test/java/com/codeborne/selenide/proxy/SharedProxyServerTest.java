@@ -0,0 +1,133 @@
+package com.codeborne.selenide.proxy;
+
+import com.browserup.bup.BrowserUpProxy;
+import com.codeborne.selenide.SelenideConfig;
+import com.sun.net.httpserver.HttpServer;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.net.URL;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.mockito.Mockito.mock;
+
+class SharedProxyServerTest implements WithAssertions {
+  private final SelenideConfig config = new SelenideConfig().sharedProxy(true);
+  private final SharedProxyServer sharedProxy = new SharedProxyServer(null);
+  private HttpServer server;
+
+  @BeforeEach
+  void startServer() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/", exchange -> {
+      byte[] body = ("hello " + exchange.getRequestURI().getPath()).getBytes(UTF_8);
+      exchange.sendResponseHeaders(200, body.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(body);
+      }
+    });
+    server.start();
+  }
+
+  @AfterEach
+  void stopServer() {
+    server.stop(0);
+  }
+
+  @Test
+  void routesTrafficToFiltersOfSessionByPort() throws IOException {
+    SelenideProxyServer first = new SelenideProxyServer(config, null, new InetAddressResolver(), null, sharedProxy);
+    SelenideProxyServer second = new SelenideProxyServer(config, null, new InetAddressResolver(), null, sharedProxy);
+    List<String> firstUrls = recordRequests(first);
+    List<String> secondUrls = recordRequests(second);
+    first.start();
+    second.start();
+    try {
+      assertThat(first.isStarted()).isTrue();
+      assertThat(first.getProxy()).isSameAs(second.getProxy());
+      assertThat(first.createSeleniumProxy().getHttpProxy()).isNotEqualTo(second.createSeleniumProxy().getHttpProxy());
+
+      assertThat(get(first, "/one")).isEqualTo("hello /one");
+      assertThat(get(second, "/two")).isEqualTo("hello /two");
+      assertThat(get(first, "/three")).isEqualTo("hello /three");
+
+      assertThat(firstUrls).containsExactly(url("/one"), url("/three"));
+      assertThat(secondUrls).containsExactly(url("/two"));
+    }
+    finally {
+      first.shutdown();
+      second.shutdown();
+    }
+  }
+
+  @Test
+  void stopsServerWhenLastSessionIsClosed() {
+    SelenideProxyServer first = new SelenideProxyServer(config, null, new InetAddressResolver(), null, sharedProxy);
+    SelenideProxyServer second = new SelenideProxyServer(config, null, new InetAddressResolver(), null, sharedProxy);
+    first.start();
+    second.start();
+
+    first.shutdown();
+    assertThat(first.isStarted()).isFalse();
+    assertThat(sharedProxy.getProxy().isStarted()).isTrue();
+
+    second.shutdown();
+    assertThat(sharedProxy.getProxy()).isNull();
+  }
+
+  @Test
+  void proxyPortCannotBeSetForSharedProxy() {
+    SelenideProxyServer proxyServer = new SelenideProxyServer(new SelenideConfig().sharedProxy(true).proxyPort(8888),
+      null, new InetAddressResolver(), null, sharedProxy);
+
+    assertThatThrownBy(proxyServer::start)
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Cannot use proxy port 8888 with shared proxy: every browser gets its own random port of the shared proxy server");
+    assertThat(sharedProxy.getProxy()).isNull();
+  }
+
+  @Test
+  void failsIfBrowserUpDoesNotHaveLittleProxyServer() {
+    assertThatThrownBy(() -> SharedProxyServer.littleProxy(mock(BrowserUpProxy.class)))
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessageStartingWith("Cannot share proxy server")
+      .hasMessageContaining("it has no LittleProxy field 'proxyServer'");
+  }
+
+  private List<String> recordRequests(SelenideProxyServer proxyServer) {
+    List<String> urls = new CopyOnWriteArrayList<>();
+    proxyServer.addRequestFilter("recorder", (request, contents, messageInfo) -> {
+      urls.add(messageInfo.getUrl());
+      return null;
+    });
+    return urls;
+  }
+
+  private String url(String path) {
+    return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+  }
+
+  private String get(SelenideProxyServer proxyServer, String path) throws IOException {
+    String[] proxyAddress = proxyServer.createSeleniumProxy().getHttpProxy().split(":");
+    Proxy proxy = new Proxy(Proxy.Type.HTTP, new InetSocketAddress("127.0.0.1", Integer.parseInt(proxyAddress[1])));
+    HttpURLConnection connection = (HttpURLConnection) new URL(url(path)).openConnection(proxy);
+    try (InputStream in = connection.getInputStream()) {
+      byte[] buffer = new byte[1024];
+      int length = in.read(buffer);
+      return new String(buffer, 0, length, UTF_8);
+    }
+    finally {
+      connection.disconnect();
+    }
+  }
+}
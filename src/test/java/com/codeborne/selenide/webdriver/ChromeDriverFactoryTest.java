@@ -9,6 +9,7 @@ import org.openqa.selenium.Capabilities;
 import org.openqa.selenium.Proxy;
 import org.openqa.selenium.chrome.ChromeOptions;
 
+import java.io.File;
 import java.util.List;
 import java.util.Map;
 
@@ -81,6 +82,20 @@ class ChromeDriverFactoryTest implements WithAssertions {
     assertThat(prefsMap).containsEntry("key1", 1);
   }
 
+  @Test
+  void configuresDownloadsFolder() {
+    System.setProperty(CHROME_OPTIONS_PREFS, "key1=1");
+    File folder = new File("build/downloads/123").getAbsoluteFile();
+
+    ChromeOptions chromeOptions = new ChromeDriverFactory().createChromeOptions(config, proxy, folder);
+    Map<String, Object> prefsMap = getBrowserLaunchPrefs(ChromeOptions.CAPABILITY, chromeOptions);
+
+    assertThat(prefsMap)
+      .containsEntry("download.default_directory", folder.getAbsolutePath())
+      .containsEntry("download.prompt_for_download", false)
+      .containsEntry("key1", 1);
+  }
+
   @Test
   void browserBinaryCanBeSet() {
     config.browserBinary("c:/browser.exe");
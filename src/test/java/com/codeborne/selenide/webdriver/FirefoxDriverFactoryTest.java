@@ -9,6 +9,7 @@ import org.openqa.selenium.Proxy;
 import org.openqa.selenium.firefox.FirefoxOptions;
 import org.openqa.selenium.firefox.FirefoxProfile;
 
+import java.io.File;
 import java.util.List;
 import java.util.Map;
 import org.openqa.selenium.remote.DesiredCapabilities;
@@ -104,4 +105,15 @@ class FirefoxDriverFactoryTest implements WithAssertions {
     assertThat(firefoxProfile.getStringPreference("network.proxy.no_proxies_on", "localhost")).isEqualTo("");
     assertThat(firefoxProfile.getBooleanPreference("network.proxy.allow_hijacking_localhost", false)).isTrue();
   }
+
+  @Test
+  void configuresDownloadsFolder() {
+    File folder = new File("build/downloads/123").getAbsoluteFile();
+
+    FirefoxOptions options = driverFactory.createFirefoxOptions(config, proxy, folder);
+    FirefoxProfile firefoxProfile = (FirefoxProfile) options.asMap().get("firefox_profile");
+    assertThat(firefoxProfile.getStringPreference("browser.download.dir", "")).isEqualTo(folder.getAbsolutePath());
+    assertThat(firefoxProfile.getIntegerPreference("browser.download.folderList", 0)).isEqualTo(2);
+    assertThat(firefoxProfile.getStringPreference("browser.helperApps.neverAsk.saveToDisk", "")).contains("application/pdf");
+  }
 }
@@ -0,0 +1,53 @@
+package com.codeborne.selenide.webdriver;
+
+import com.codeborne.selenide.Config;
+import com.codeborne.selenide.SelenideConfig;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.Proxy;
+import org.openqa.selenium.WebDriver;
+
+import java.io.File;
+
+class WebDriverFactoryTest implements WithAssertions {
+  private final WebDriverFactory factory = new WebDriverFactory();
+
+  @Test
+  void onlyLocalChromeAndFirefoxCanSaveDownloadsToFolder() {
+    assertThat(factory.supportsDownloadsFolder(new SelenideConfig().browser("chrome"))).isTrue();
+    assertThat(factory.supportsDownloadsFolder(new SelenideConfig().browser("firefox"))).isTrue();
+    assertThat(factory.supportsDownloadsFolder(new SelenideConfig().browser("legacy_firefox"))).isTrue();
+
+    assertThat(factory.supportsDownloadsFolder(new SelenideConfig().browser("chrome").remote("http://grid:4444/wd/hub"))).isFalse();
+    assertThat(factory.supportsDownloadsFolder(new SelenideConfig().browser("edge"))).isFalse();
+    assertThat(factory.supportsDownloadsFolder(new SelenideConfig().browser("safari"))).isFalse();
+    assertThat(factory.supportsDownloadsFolder(new SelenideConfig().browser("com.company.MyDriver"))).isFalse();
+  }
+
+  @Test
+  void subclassWhichCreatesWebDriverWithoutFolderCannotSaveDownloadsToFolder() {
+    WebDriverFactory customFactory = new WebDriverFactory() {
+      @Override
+      public WebDriver createWebDriver(Config config, Proxy proxy) {
+        return null;
+      }
+    };
+    assertThat(customFactory.supportsDownloadsFolder(new SelenideConfig().browser("chrome"))).isFalse();
+
+    WebDriverFactory newCustomFactory = new WebDriverFactory() {
+      @Override
+      public WebDriver createWebDriver(Config config, Proxy proxy, File browserDownloadsFolder) {
+        return null;
+      }
+    };
+    assertThat(newCustomFactory.supportsDownloadsFolder(new SelenideConfig().browser("chrome"))).isTrue();
+  }
+
+  @Test
+  void failsIfBrowserCannotSaveDownloadsToFolder() {
+    assertThatThrownBy(() -> factory.createWebDriver(new SelenideConfig().browser("safari").driverManagerEnabled(false),
+      null, new File("build/downloads/123")))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("File download mode FOLDER is not supported for browser safari");
+  }
+}
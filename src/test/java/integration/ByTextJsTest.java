@@ -0,0 +1,114 @@
+package integration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static com.codeborne.selenide.CollectionCondition.size;
+import static com.codeborne.selenide.Condition.attribute;
+import static com.codeborne.selenide.Condition.cssClass;
+import static com.codeborne.selenide.Condition.text;
+import static com.codeborne.selenide.Condition.visible;
+import static com.codeborne.selenide.Selectors.byText;
+import static com.codeborne.selenide.Selectors.byTextJs;
+import static com.codeborne.selenide.Selectors.withText;
+import static com.codeborne.selenide.Selectors.withTextJs;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ByTextJsTest extends ITest {
+  private static final Logger log = LoggerFactory.getLogger(ByTextJsTest.class);
+
+  @BeforeEach
+  void openTestPage() {
+    openFile("page_with_selects_without_jquery.html");
+  }
+
+  @Test
+  void userCanFindElementByText() {
+    $(byTextJs("Page with selects")).shouldHave(text("Page with selects"));
+    $(byTextJs("Dropdown list")).shouldHave(text("Dropdown list"));
+    $(byTextJs("@livemail.ru")).shouldHave(text("@livemail.ru"));
+  }
+
+  @Test
+  void spacesInTextAreIgnored() {
+    $(byTextJs("L'a Baskerville")).shouldHave(text("L'a Baskerville"));
+    $(withTextJs("L'a Baskerville")).shouldHave(text("L'a Baskerville"));
+  }
+
+  @Test
+  void nonBreakableSpacesInTextAreIgnored() {
+    $(byTextJs("Hello world")).shouldHave(attribute("id", "hello-world"));
+    $(withTextJs("Hello world")).shouldHave(text("Hello world"));
+  }
+
+  @Test
+  void canFindElementByTextInsideParentElement() {
+    $("#multirowTable").findAll(byTextJs("Chack")).shouldHave(size(2));
+    $("#multirowTable tr").findAll(byTextJs("Chack")).shouldHave(size(1));
+    $("#multirowTable tr").find(byTextJs("Chack")).shouldHave(cssClass("first_row"));
+  }
+
+  @Test
+  void canFindElementContainingTextInsideParentElement() {
+    $("#multirowTable").findAll(withTextJs("Cha")).shouldHave(size(2));
+    $("#multirowTable tr").findAll(withTextJs("ack")).shouldHave(size(1));
+    $("#multirowTable tr", 1).find(withTextJs("hac")).shouldHave(cssClass("second_row"));
+  }
+
+  @Test
+  void quotesInText() {
+    $(byTextJs("Arnold \"Schwarzenegger\"")).shouldBe(visible);
+    $("#hero").find(byTextJs("Arnold \"Schwarzenegger\"")).shouldBe(visible);
+  }
+
+  @Test
+  void canBeUsedAsPlainSeleniumSelector() {
+    WebDriver webDriver = driver().getWebDriver();
+    assertThat(webDriver.findElement(byTextJs("Dropdown list")).getText()).isEqualTo("Dropdown list");
+    assertThat(webDriver.findElements(withTextJs("Chack"))).hasSameSizeAs(webDriver.findElements(withText("Chack")));
+  }
+
+  @Test
+  void findsSameElementsAsXPathOnBigPage() {
+    generateBigPage(2000);
+
+    assertThat($$(byTextJs("item 1999 text"))).hasSize(1);
+    assertThat($$(withTextJs("item 19"))).hasSameSizeAs($$(withText("item 19")));
+    $(byTextJs("item 1999 text")).shouldHave(attribute("id", "item-1999"));
+  }
+
+  @Test
+  void benchmarkAgainstXPath() {
+    generateBigPage(5000);
+    int iterations = 10;
+
+    long xpath = measure(byText("item 4999 text"), iterations);
+    long js = measure(byTextJs("item 4999 text"), iterations);
+
+    log.info("Search by text on page with {} elements: xpath {} ms, javascript {} ms ({} iterations)",
+      $$("div").size(), xpath, js, iterations);
+  }
+
+  private long measure(By selector, int iterations) {
+    long start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      $(selector).shouldHave(attribute("id", "item-4999"));
+    }
+    return (System.nanoTime() - start) / 1_000_000;
+  }
+
+  private void generateBigPage(int count) {
+    driver().executeJavaScript(
+      "var html = [];" +
+        "for (var i = 0; i < arguments[0]; i++) {" +
+        "  html.push('<div class=\"row\"><span>label ' + i + '</span>' +" +
+        "    '<p id=\"item-' + i + '\">\\n item ' + i + '\\u00a0text </p></div>');" +
+        "}" +
+        "document.body.innerHTML = html.join('');",
+      count);
+  }
+}
@@ -0,0 +1,98 @@
+package integration;
+
+import com.codeborne.selenide.ElementsContainer;
+import com.codeborne.selenide.ex.FieldsNotFilled;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.FindBy;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.codeborne.selenide.Condition.checked;
+import static com.codeborne.selenide.Condition.text;
+import static com.codeborne.selenide.Condition.value;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FillFormTest extends ITest {
+  @BeforeEach
+  void openTestPage() {
+    openFile("page_with_selects_without_jquery.html");
+  }
+
+  @Test
+  void fillsTextFieldsSelectsRadioButtonsAndCheckboxes() {
+    Map<String, Object> fields = new LinkedHashMap<>();
+    fields.put("input[name=password]", "secret");
+    fields.put("#text-area", "some text");
+    fields.put("select[name=domain]", "myrambler.ru");
+    fields.put("input[name=me]", "margarita");
+    fields.put("input[name=rememberMe]", true);
+
+    driver().fillForm(fields);
+
+    $(By.name("password")).shouldHave(value("secret"));
+    $("#text-area").shouldHave(value("some text"));
+    $(By.name("domain")).getSelectedOption().shouldHave(value("myrambler.ru"));
+    $("#selectedDomain").shouldHave(text("@myrambler.ru"));
+    $("input[name=me][value=margarita]").shouldBe(checked);
+    $(By.name("rememberMe")).shouldBe(checked);
+  }
+
+  @Test
+  void reportsAllFieldsThatCouldNotBeFilled() {
+    Map<String, Object> fields = new LinkedHashMap<>();
+    fields.put("input[name=username][readonly]", "john");
+    fields.put("input[name=password]", "secret");
+    fields.put("#hero", "batman");
+    fields.put("#missing", "anything");
+
+    assertThatThrownBy(() -> driver().fillForm(fields))
+      .isInstanceOf(FieldsNotFilled.class)
+      .hasMessageStartingWith("Failed to fill 3 of 4 fields:")
+      .hasMessageContaining("input[name=username][readonly]: Cannot change value of readonly element")
+      .hasMessageContaining("#hero: Element not found {#hero/option[value:batman]}")
+      .hasMessageContaining("#missing: Element not found {#missing}");
+
+    $(By.name("password")).shouldHave(value("secret"));
+  }
+
+  @Test
+  void retriesOnlyFieldsThatFailed() {
+    driver().executeJavaScript("setTimeout(function() {" +
+      "document.getElementById('age').insertAdjacentHTML('afterend', '<input id=\"late\"/>');}, 500);");
+    driver().executeJavaScript("document.getElementById('age').addEventListener('change', function() {" +
+      "this.setAttribute('data-changes', (parseInt(this.getAttribute('data-changes') || '0') + 1));});");
+
+    Map<String, Object> fields = new LinkedHashMap<>();
+    fields.put("#age", "21");
+    fields.put("#late", "appeared later");
+    driver().fillForm(fields);
+
+    $("#late").shouldHave(value("appeared later"));
+    assertThat($("#age").getAttribute("data-changes")).isEqualTo("1");
+  }
+
+  @Test
+  void fillsFieldsInsideOfElementsContainer() {
+    LoginPage page = driver().page(LoginPage.class);
+    Map<String, Object> fields = new LinkedHashMap<>();
+    fields.put("[name=password]", "secret");
+    fields.put("[name=rememberMe]", true);
+
+    page.form.fillForm(fields);
+
+    $(By.name("password")).shouldHave(value("secret"));
+    $(By.name("rememberMe")).shouldBe(checked);
+  }
+
+  static class LoginPage {
+    @FindBy(css = "fieldset[title='Login form']")
+    LoginForm form;
+  }
+
+  static class LoginForm extends ElementsContainer {
+  }
+}
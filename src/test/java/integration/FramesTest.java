@@ -50,6 +50,15 @@ class FramesTest extends ITest {
     $("frame").shouldHave(name("topFrame"));
   }
 
+  @Test
+  void elementsRememberTheirFrames() {
+    driver().inFrame("parentFrame", "childFrame_2").$("frame").shouldHave(name("childFrame_2_1"));
+    driver().inFrame("parentFrame").$("frame").shouldHave(name("childFrame_1"));
+    driver().inFrame().$("frame").shouldHave(name("topFrame"));
+    driver().inFrame("parentFrame").frame("childFrame_2").$$("frame").shouldHaveSize(1);
+    assertThat(driver().getCurrentFrameUrl()).isEqualTo(getBaseUrl() + "/page_with_child_frame.html");
+  }
+
   @Test
   void canSwitchBetweenFramesByTitle() {
     assertThat(driver().title()).isEqualTo("Test::frames");
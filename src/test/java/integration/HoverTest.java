@@ -1,5 +1,6 @@
 package integration;
 
+import com.codeborne.selenide.SelenideConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -18,4 +19,19 @@ class HoverTest extends ITest {
     $("h1").hover();
     $("#hoverable").shouldHave(text("It's not hover"));
   }
+
+  @Test
+  void canEmulateHoverViaJavaScript() {
+    SelenideConfig config = (SelenideConfig) driver().config();
+    config.actionsViaJs(true);
+    try {
+      $("#hoverable").hover().shouldHave(text("It's hover"));
+
+      $("h1").hover();
+      $("#hoverable").shouldHave(text("It's not hover"));
+    }
+    finally {
+      config.actionsViaJs(false);
+    }
+  }
 }
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 
 import static com.codeborne.selenide.CollectionCondition.size;
 import static com.codeborne.selenide.CollectionCondition.texts;
+import static org.assertj.core.api.Assertions.assertThat;
 
 class MultipleSelectTest extends ITest {
   private SelenideElement select = $("#character");
@@ -40,6 +41,14 @@ class MultipleSelectTest extends ITest {
       texts("Кот \"Бегемот\"", "Theodor Woland"));
   }
 
+  @Test
+  void userCanSelectOptionsByVisibleTextWithNonBreakingSpaces() {
+    select.selectOption("Коровьев Фагот");
+
+    select.getSelectedOptions().shouldHave(texts("Коровьев Фагот"));
+    assertThat(select.getSelectedText()).isEqualTo("Коровьев Фагот");
+  }
+
   @Test
   void userCanUseSetSelectedOnOptions() {
     select.$("option[value=cat]").setSelected(true);
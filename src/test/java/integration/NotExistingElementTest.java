@@ -2,12 +2,15 @@ package integration;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
 
 import static com.codeborne.selenide.Condition.attribute;
 import static com.codeborne.selenide.Condition.exist;
 import static com.codeborne.selenide.Condition.hidden;
 import static com.codeborne.selenide.Condition.text;
 import static com.codeborne.selenide.Condition.visible;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
 
 class NotExistingElementTest extends ITest {
   @BeforeEach
@@ -44,4 +47,20 @@ class NotExistingElementTest extends ITest {
   void shouldNotHaveAttributeAbc() {
     $("#not_exist").shouldNotHave(attribute("abc"));
   }
+
+  @Test
+  void absentElementIsCheckedWithoutWaitingForImplicitTimeout() {
+    driver().getWebDriver().manage().timeouts().implicitlyWait(3, SECONDS);
+    try {
+      long start = System.currentTimeMillis();
+      $("#not_exist").shouldNot(exist);
+      $("#not_exist").shouldBe(hidden);
+      $(By.name("not_exist")).shouldNotBe(visible);
+      assertThat($("#not_exist").exists()).isFalse();
+      assertThat(System.currentTimeMillis() - start).isLessThan(3000);
+    }
+    finally {
+      driver().getWebDriver().manage().timeouts().implicitlyWait(0, SECONDS);
+    }
+  }
 }
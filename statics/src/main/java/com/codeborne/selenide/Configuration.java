@@ -57,6 +57,22 @@ public class Configuration {
    */
   public static long pollingInterval = defaults.pollingInterval();
 
+  /**
+   * How often to check conditions while waiting for them (see {@link #pollingInterval}):
+   * <ul>
+   *   <li>"fixed" - check every {@code pollingInterval} ms</li>
+   *   <li>"backoff" - start with frequent checks and make them less frequent (up to {@code 4 * pollingInterval}),
+   *   with random jitter</li>
+   *   <li>"adaptive" - remember how long it usually takes to satisfy the same condition of the same element,
+   *   check frequently until that time, and less frequently after it</li>
+   *   <li>or a name of class implementing {@link PollingStrategy}</li>
+   * </ul>
+   * Can be configured either programmatically or by system property "-Dselenide.pollingStrategy=adaptive"
+   * <br>
+   * Default value: "fixed"
+   */
+  public static String pollingStrategy = defaults.pollingStrategy();
+
   /**
    * If holdBrowserOpen is true, browser window stays open after running tests. It may be useful for debugging.
    * Can be configured either programmatically or by system property "-Dselenide.holdBrowserOpen=true".
@@ -163,6 +179,16 @@ public class Configuration {
    */
   public static boolean clickViaJs = defaults.clickViaJs();
 
+  /**
+   * Perform drag and drop and hover by a single JavaScript call which dispatches DOM events
+   * (HTML5 drag and drop events, mouse events) instead of webdriver actions.
+   * Much faster, but synthetic events are not the same as real user actions: e.g. CSS ":hover" styles are not applied.
+   * Can be configured either programmatically or by system property "-Dselenide.actionsViaJs=true".
+   * <br>
+   * Default value: false
+   */
+  public static boolean actionsViaJs = defaults.actionsViaJs();
+
   /**
    * Defines if Selenide takes screenshots on failing tests.
    * Can be configured either programmatically or by system property "-Dselenide.screenshots=false".
@@ -179,6 +205,18 @@ public class Configuration {
    */
   public static boolean savePageSource = defaults.savePageSource();
 
+  /**
+   * If set to true, Selenide stores every unique screenshot and page source only once.
+   * Files with identical content are saved as hard links to a single blob in folder "reportsFolder/.blobs".
+   * Paths of screenshots in reports stay the same.
+   * <br>
+   * Useful when the same page (e.g. error page or login screen) appears in thousands of screenshots.
+   * Can be configured either programmatically or by system property "-Dselenide.deduplicateScreenshots=true".
+   * <br>
+   * Default value: false
+   */
+  public static boolean deduplicateScreenshots = defaults.deduplicateScreenshots();
+
   /**
    * Folder to store screenshots to.
    * Can be configured either programmatically or by system property "-Dselenide.reportsFolder=test-result/reports".
@@ -250,6 +288,15 @@ public class Configuration {
    */
   public static FileDownloadMode fileDownload = defaults.fileDownload();
 
+  /**
+   * Folder where browser saves downloaded files in mode {@link FileDownloadMode#FOLDER}.
+   * Every browser session gets its own subfolder.
+   * Can be configured either programmatically or by system property "-Dselenide.downloadsFolder=test-result/downloads".
+   * <br>
+   * Default value: "build/downloads"
+   */
+  public static String downloadsFolder = defaults.downloadsFolder();
+
   /**
    * If Selenide should run browser through its own proxy server.
    * It allows some additional features which are not possible with plain Selenium.
@@ -282,6 +329,59 @@ public class Configuration {
    */
   public static int proxyPort = defaults.proxyPort();
 
+  /**
+   * Max size (in megabytes) of on-disk cache of static resources (scripts, styles, fonts, images) in Selenide proxy server.
+   * Cached resources are served by proxy server without requesting application server.
+   * Used only if proxyEnabled == true.
+   * Can be configured either programmatically or by system property "-Dselenide.proxyCacheSize=200"
+   * <br>
+   * Default: 0 (meaning that cache is disabled)
+   *
+   * @see com.codeborne.selenide.proxy.AssetCacheFilter
+   */
+  public static int proxyCacheSize = defaults.proxyCacheSize();
+
+  /**
+   * Folder for on-disk cache of Selenide proxy server (see {@link #proxyCacheSize}).
+   * The folder can be shared by multiple parallel test runs.
+   * Can be configured either programmatically or by system property "-Dselenide.proxyCacheFolder=/tmp/proxy-cache"
+   * <br>
+   * Default value: "build/proxy-cache"
+   */
+  public static String proxyCacheFolder = defaults.proxyCacheFolder();
+
+  /**
+   * If true, all browsers of JVM use one Selenide proxy server (with shared thread pools) instead of starting
+   * a separate proxy server for every browser.
+   * Every browser still gets its own (random) port and its own request/response filters.
+   * Used only if proxyEnabled == true. Setting proxyPort is not allowed in this mode.
+   * Can be configured either programmatically or by system property "-Dselenide.sharedProxy=true"
+   * <br>
+   * Default: false
+   */
+  public static boolean sharedProxy = defaults.sharedProxy();
+
+  /**
+   * Record traffic of every browser to a HAR file in {@link #reportsFolder}/har.
+   * Entries are written to the file as soon as responses are received, so memory usage doesn't grow with session length.
+   * Used only if proxyEnabled == true.
+   * Can be configured either programmatically or by system property "-Dselenide.harCapture=HEADERS"
+   * <br>
+   * Default: NONE
+   *
+   * @see HarCapture
+   * @see com.codeborne.selenide.proxy.HarRecorder
+   */
+  public static HarCapture harCapture = defaults.harCapture();
+
+  /**
+   * Max size (in kilobytes) of request and response bodies recorded to HAR file (see {@link #harCapture}).
+   * Can be configured either programmatically or by system property "-Dselenide.harMaxBodySize=1024"
+   * <br>
+   * Default: 64
+   */
+  public static int harMaxBodySize = defaults.harMaxBodySize();
+
   /**
    * Controls Selenide and WebDriverManager integration.
    * When integration is enabled you don't need to download and setup any browser driver executables.
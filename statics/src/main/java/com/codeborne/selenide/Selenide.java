@@ -13,6 +13,7 @@ import java.io.IOException;
 import java.net.URL;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 
 import static com.codeborne.selenide.WebDriverRunner.getSelenideDriver;
@@ -235,6 +236,28 @@ public class Selenide {
     }
   }
 
+  /**
+   * Wait until browser has no pending requests during {@code quietPeriod} milliseconds.
+   * Unlike {@link #sleep(long)}, returns as soon as AJAX requests are finished.
+   * Requires proxy to be enabled.
+   *
+   * @see SelenideDriver#waitForNetworkIdle(long, long)
+   */
+  public static void waitForNetworkIdle(long quietPeriod, long timeout) {
+    getSelenideDriver().waitForNetworkIdle(quietPeriod, timeout);
+  }
+
+  /**
+   * Wait until browser has no pending requests with matching urls during {@code quietPeriod} milliseconds.
+   *
+   * @param includeUrls regular expression to search in url, or null to track all requests
+   * @param excludeUrls regular expression to search in url, e.g. to ignore long-polling requests, or null
+   * @see SelenideDriver#waitForNetworkIdle(long, long, String, String)
+   */
+  public static void waitForNetworkIdle(long quietPeriod, long timeout, String includeUrls, String excludeUrls) {
+    getSelenideDriver().waitForNetworkIdle(quietPeriod, timeout, includeUrls, excludeUrls);
+  }
+
   /**
    * Take the screenshot of current page and save to file fileName.html and fileName.png
    * @param fileName Name of file (without extension) to save HTML and PNG to
@@ -605,6 +628,18 @@ public class Selenide {
     return getSelenideDriver().getSelectedRadio(radioField);
   }
 
+  /**
+   * Fill many form fields with a single JavaScript call, retrying only the fields that failed.
+   * Text is then typed into text fields, or set by the same JavaScript call if {@link Configuration#fastSetValue} is enabled.
+   *
+   * @param fields values by CSS selectors of fields: text for inputs, option value for selects,
+   *               radio button value for radio groups, or boolean for checkboxes
+   * @see SelenideDriver#fillForm(java.util.Map)
+   */
+  public static void fillForm(Map<String, ?> fields) {
+    getSelenideDriver().fillForm(fields);
+  }
+
   /**
    * Accept (Click "Yes" or "Ok") in the confirmation dialog (javascript 'alert' or 'confirm').
    * @return actual dialog text
@@ -672,6 +707,20 @@ public class Selenide {
     return getSelenideDriver().modal().dismiss(expectedDialogText);
   }
 
+  /**
+   * Elements inside given (nested) frames.
+   * Unlike {@link SelenideTargetLocator#innerFrame(String...)}, elements remember their frames,
+   * and browser is switched to the frames only when needed.
+   *
+   * <p>Sample: {@code inFrame("editor", "preview").$("h1").shouldHave(text("Hello"));}</p>
+   *
+   * @param frames ids/names of frames, starting from the top-level document (none for the top-level document itself)
+   * @see SelenideFrame
+   */
+  public static SelenideFrame inFrame(String... frames) {
+    return getSelenideDriver().inFrame(frames);
+  }
+
   /**
    * Switch to window/tab/frame/parentFrame/innerFrame/alert.
    * Allows switching to window by title, index, name etc.
@@ -786,6 +835,24 @@ public class Selenide {
     return getSelenideDriver().getWebDriverLogs().logs(logType, logLevel);
   }
 
+  /**
+   * Start collecting WebDriver logs of given type in background thread.
+   * Collected entries can be read by {@link #getCollectedWebDriverLogs(String)}.
+   *
+   * @see WebDriverLogs#startCollecting(String, Level, java.util.regex.Pattern, int, long)
+   */
+  public static WebDriverLogsCollector startCollectingWebDriverLogs(String logType, Level logLevel) {
+    return getSelenideDriver().getWebDriverLogs().startCollecting(logType, logLevel);
+  }
+
+  /**
+   * @return WebDriver logs collected so far, or empty list if logs of given type are not being collected
+   * @see #startCollectingWebDriverLogs(String, Level)
+   */
+  public static List<String> getCollectedWebDriverLogs(String logType) {
+    return getSelenideDriver().getWebDriverLogs().collected(logType);
+  }
+
   /**
    * Clear browser cookies.
    *
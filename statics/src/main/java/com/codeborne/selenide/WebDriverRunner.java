@@ -8,6 +8,8 @@ import org.openqa.selenium.Proxy;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.events.WebDriverEventListener;
 
+import java.io.File;
+
 import static com.codeborne.selenide.Configuration.browser;
 import static com.codeborne.selenide.Configuration.headless;
 
@@ -98,6 +100,15 @@ public class WebDriverRunner implements Browsers {
     return webdriverContainer.getProxyServer();
   }
 
+  /**
+   * Get folder where browser saves downloaded files. It's set only if Configuration.fileDownload == FOLDER
+   *
+   * @return null if browser has not been configured to download files to a folder
+   */
+  public static File getBrowserDownloadsFolder() {
+    return webdriverContainer.getBrowserDownloadsFolder();
+  }
+
   static SelenideDriver getSelenideDriver() {
     return staticSelenideDriver;
   }
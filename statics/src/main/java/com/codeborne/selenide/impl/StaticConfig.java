@@ -4,6 +4,7 @@ import com.codeborne.selenide.AssertionMode;
 import com.codeborne.selenide.Config;
 import com.codeborne.selenide.Configuration;
 import com.codeborne.selenide.FileDownloadMode;
+import com.codeborne.selenide.HarCapture;
 import com.codeborne.selenide.SelectorMode;
 import org.openqa.selenium.remote.DesiredCapabilities;
 
@@ -31,6 +32,11 @@ public class StaticConfig implements Config {
     return Configuration.pollingInterval;
   }
 
+  @Override
+  public String pollingStrategy() {
+    return Configuration.pollingStrategy;
+  }
+
   @Override
   public boolean holdBrowserOpen() {
     return Configuration.holdBrowserOpen;
@@ -46,6 +52,11 @@ public class StaticConfig implements Config {
     return Configuration.clickViaJs;
   }
 
+  @Override
+  public boolean actionsViaJs() {
+    return Configuration.actionsViaJs;
+  }
+
   @Override
   public boolean screenshots() {
     return Configuration.screenshots;
@@ -56,6 +67,11 @@ public class StaticConfig implements Config {
     return Configuration.savePageSource;
   }
 
+  @Override
+  public boolean deduplicateScreenshots() {
+    return Configuration.deduplicateScreenshots;
+  }
+
   @Override
   public String reportsFolder() {
     return Configuration.reportsFolder;
@@ -91,6 +107,11 @@ public class StaticConfig implements Config {
     return Configuration.fileDownload;
   }
 
+  @Override
+  public String downloadsFolder() {
+    return Configuration.downloadsFolder;
+  }
+
   @Override
   public boolean proxyEnabled() {
     return Configuration.proxyEnabled;
@@ -106,6 +127,31 @@ public class StaticConfig implements Config {
     return Configuration.proxyPort;
   }
 
+  @Override
+  public int proxyCacheSize() {
+    return Configuration.proxyCacheSize;
+  }
+
+  @Override
+  public String proxyCacheFolder() {
+    return Configuration.proxyCacheFolder;
+  }
+
+  @Override
+  public boolean sharedProxy() {
+    return Configuration.sharedProxy;
+  }
+
+  @Override
+  public HarCapture harCapture() {
+    return Configuration.harCapture;
+  }
+
+  @Override
+  public int harMaxBodySize() {
+    return Configuration.harMaxBodySize;
+  }
+
   @Override
   public String browser() {
     return Configuration.browser;
@@ -1,12 +1,15 @@
 package com.codeborne.selenide.impl;
 
 import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.BrowserMetadata;
 import com.codeborne.selenide.Config;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.WebDriverRunner;
 import com.codeborne.selenide.proxy.SelenideProxyServer;
 import org.openqa.selenium.WebDriver;
 
+import java.io.File;
+
 /**
  * A `Driver` implementation which uses thread-local
  * webdriver and proxy from `WebDriverRunner`.
@@ -27,6 +30,14 @@ public class StaticDriver implements Driver {
     return new Browser(config.browser(), config.headless());
   }
 
+  /**
+   * Metadata is kept by {@link WebDriverRunner#webdriverContainer} together with webdriver of current thread.
+   */
+  @Override
+  public BrowserMetadata metadata() {
+    return WebDriverRunner.webdriverContainer.getBrowserMetadata();
+  }
+
   @Override
   public boolean hasWebDriverStarted() {
     return WebDriverRunner.hasWebDriverStarted();
@@ -42,6 +53,11 @@ public class StaticDriver implements Driver {
     return WebDriverRunner.getSelenideProxy();
   }
 
+  @Override
+  public File browserDownloadsFolder() {
+    return WebDriverRunner.getBrowserDownloadsFolder();
+  }
+
   @Override
   public WebDriver getAndCheckWebDriver() {
     return WebDriverRunner.getAndCheckWebDriver();
@@ -1,5 +1,6 @@
 package com.codeborne.selenide.impl;
 
+import com.codeborne.selenide.BrowserMetadata;
 import com.codeborne.selenide.proxy.SelenideProxyServer;
 import org.openqa.selenium.WebDriver;
 import org.slf4j.Logger;
@@ -14,12 +15,14 @@ class UnusedWebdriversCleanupThread extends Thread {
   private final Collection<Thread> allWebDriverThreads;
   private final Map<Long, WebDriver> threadWebDriver;
   private final Map<Long, SelenideProxyServer> threadProxyServer;
+  private final Map<Long, BrowserMetadata> threadMetadata;
 
   UnusedWebdriversCleanupThread(Collection<Thread> allWebDriverThreads, Map<Long, WebDriver> threadWebDriver,
-                                Map<Long, SelenideProxyServer> threadProxyServer) {
+                                Map<Long, SelenideProxyServer> threadProxyServer, Map<Long, BrowserMetadata> threadMetadata) {
     this.allWebDriverThreads = allWebDriverThreads;
     this.threadWebDriver = threadWebDriver;
     this.threadProxyServer = threadProxyServer;
+    this.threadMetadata = threadMetadata;
     setDaemon(true);
     setName("Webdrivers killer thread");
   }
@@ -50,6 +53,7 @@ class UnusedWebdriversCleanupThread extends Thread {
   private void closeWebDriver(Thread thread) {
     allWebDriverThreads.remove(thread);
     WebDriver driver = threadWebDriver.remove(thread.getId());
+    threadMetadata.remove(thread.getId());
 
     if (driver == null) {
       log.info("No webdriver found for thread: {} - nothing to close", thread.getId());
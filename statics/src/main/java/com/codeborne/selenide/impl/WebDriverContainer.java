@@ -1,16 +1,42 @@
 package com.codeborne.selenide.impl;
 
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.BrowserMetadata;
+import com.codeborne.selenide.Config;
 import com.codeborne.selenide.proxy.SelenideProxyServer;
 import org.openqa.selenium.Proxy;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.events.WebDriverEventListener;
 
+import java.io.File;
+
 public interface WebDriverContainer {
   void addListener(WebDriverEventListener listener);
   void setWebDriver(WebDriver webDriver);
   void setWebDriver(WebDriver webDriver, SelenideProxyServer selenideProxy);
   WebDriver getWebDriver();
   SelenideProxyServer getProxyServer();
+
+  /**
+   * @return folder where browser of current thread saves downloaded files (or null if not configured)
+   */
+  default File getBrowserDownloadsFolder() {
+    return null;
+  }
+
+  /**
+   * Implementations should create metadata once per webdriver and forget it when webdriver is closed.
+   *
+   * @return metadata of webdriver of current thread (or null if webdriver is not started)
+   */
+  default BrowserMetadata getBrowserMetadata() {
+    if (!hasWebDriverStarted()) {
+      return null;
+    }
+    Config config = new StaticConfig();
+    return new BrowserMetadata(new Browser(config.browser(), config.headless()), getWebDriver());
+  }
+
   void setProxy(Proxy webProxy);
   WebDriver getAndCheckWebDriver();
   void closeWindow();
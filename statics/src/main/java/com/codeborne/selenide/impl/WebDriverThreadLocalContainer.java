@@ -1,5 +1,7 @@
 package com.codeborne.selenide.impl;
 
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.BrowserMetadata;
 import com.codeborne.selenide.Config;
 import com.codeborne.selenide.drivercommands.BrowserHealthChecker;
 import com.codeborne.selenide.drivercommands.CloseDriverCommand;
@@ -14,6 +16,7 @@ import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -33,6 +36,8 @@ public class WebDriverThreadLocalContainer implements WebDriverContainer {
   private final Collection<Thread> allWebDriverThreads = new ConcurrentLinkedQueue<>();
   private final Map<Long, WebDriver> threadWebDriver = new ConcurrentHashMap<>(4);
   private final Map<Long, SelenideProxyServer> threadProxyServer = new ConcurrentHashMap<>(4);
+  private final Map<Long, File> threadDownloadsFolder = new ConcurrentHashMap<>(4);
+  private final Map<Long, BrowserMetadata> threadMetadata = new ConcurrentHashMap<>(4);
   private Proxy userProvidedProxy;
 
   private final Config config = new StaticConfig();
@@ -66,14 +71,20 @@ public class WebDriverThreadLocalContainer implements WebDriverContainer {
   public void setWebDriver(@Nonnull WebDriver webDriver, @Nullable SelenideProxyServer selenideProxy) {
     long threadId = currentThread().getId();
     threadProxyServer.remove(threadId);
+    threadDownloadsFolder.remove(threadId);
     threadWebDriver.remove(threadId);
 
     if (selenideProxy != null) {
       threadProxyServer.put(threadId, selenideProxy);
     }
+    threadMetadata.put(threadId, metadata(webDriver));
     threadWebDriver.put(threadId, webDriver);
   }
 
+  private BrowserMetadata metadata(WebDriver webDriver) {
+    return new BrowserMetadata(new Browser(config.browser(), config.headless()), webDriver);
+  }
+
   @Override
   public void setProxy(Proxy userProvidedProxy) {
     this.userProvidedProxy = userProvidedProxy;
@@ -115,10 +126,14 @@ public class WebDriverThreadLocalContainer implements WebDriverContainer {
 
   private WebDriver createDriver() {
     CreateDriverCommand.Result result = createDriverCommand.createDriver(config, factory, userProvidedProxy, listeners);
+    threadMetadata.put(currentThread().getId(), metadata(result.webDriver));
     threadWebDriver.put(currentThread().getId(), result.webDriver);
     if (result.selenideProxyServer != null) {
       threadProxyServer.put(currentThread().getId(), result.selenideProxyServer);
     }
+    if (result.browserDownloadsFolder != null) {
+      threadDownloadsFolder.put(currentThread().getId(), result.browserDownloadsFolder);
+    }
     markForAutoClose(currentThread());
     return result.webDriver;
   }
@@ -128,6 +143,19 @@ public class WebDriverThreadLocalContainer implements WebDriverContainer {
     return threadProxyServer.get(currentThread().getId());
   }
 
+  @Override
+  public File getBrowserDownloadsFolder() {
+    return threadDownloadsFolder.get(currentThread().getId());
+  }
+
+  /**
+   * Metadata is created once per webdriver and forgotten when webdriver is closed
+   */
+  @Override
+  public BrowserMetadata getBrowserMetadata() {
+    return threadMetadata.get(currentThread().getId());
+  }
+
   @Override
   public void closeWindow() {
     getWebDriver().close();
@@ -136,8 +164,10 @@ public class WebDriverThreadLocalContainer implements WebDriverContainer {
   @Override
   public void closeWebDriver() {
     WebDriver driver = threadWebDriver.remove(currentThread().getId());
+    threadMetadata.remove(currentThread().getId());
     SelenideProxyServer proxy = threadProxyServer.remove(currentThread().getId());
-    closeDriverCommand.closeAsync(config, driver, proxy);
+    File downloadsFolder = threadDownloadsFolder.remove(currentThread().getId());
+    closeDriverCommand.closeAsync(config, driver, proxy, downloadsFolder);
   }
 
   @Override
@@ -168,7 +198,7 @@ public class WebDriverThreadLocalContainer implements WebDriverContainer {
     if (!cleanupThreadStarted.get()) {
       synchronized (this) {
         if (!cleanupThreadStarted.get()) {
-          new UnusedWebdriversCleanupThread(allWebDriverThreads, threadWebDriver, threadProxyServer).start();
+          new UnusedWebdriversCleanupThread(allWebDriverThreads, threadWebDriver, threadProxyServer, threadMetadata).start();
           cleanupThreadStarted.set(true);
         }
       }
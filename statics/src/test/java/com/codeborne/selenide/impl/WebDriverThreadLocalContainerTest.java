@@ -1,5 +1,6 @@
 package com.codeborne.selenide.impl;
 
+import com.codeborne.selenide.BrowserMetadata;
 import com.codeborne.selenide.Configuration;
 import com.codeborne.selenide.WebDriverProvider;
 import com.codeborne.selenide.WebDriverRunner;
@@ -78,6 +79,23 @@ class WebDriverThreadLocalContainerTest implements WithAssertions {
     assertThat(container.hasWebDriverStarted()).isFalse();
   }
 
+  @Test
+  void keepsMetadataOfWebDriverUntilItIsClosed() {
+    assertThat(container.getBrowserMetadata()).isNull();
+
+    WebDriver webDriver = container.getAndCheckWebDriver();
+    BrowserMetadata metadata = container.getBrowserMetadata();
+    assertThat(metadata.isFor(webDriver)).isTrue();
+    assertThat(container.getBrowserMetadata()).isSameAs(metadata);
+
+    container.closeWebDriver();
+    assertThat(container.getBrowserMetadata()).isNull();
+
+    WebDriver anotherWebDriver = mock(WebDriver.class);
+    container.setWebDriver(anotherWebDriver);
+    assertThat(container.getBrowserMetadata().isFor(anotherWebDriver)).isTrue();
+  }
+
   private static class DummyProvider implements WebDriverProvider {
     @Override
     public WebDriver createDriver(DesiredCapabilities desiredCapabilities) {